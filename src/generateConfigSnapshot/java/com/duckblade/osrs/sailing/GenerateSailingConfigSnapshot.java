@@ -0,0 +1,96 @@
+package com.duckblade.osrs.sailing;
+
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import net.runelite.client.config.ConfigItem;
+
+public class GenerateSailingConfigSnapshot
+{
+
+	private static final String OUTPUT = "src/main/java/com/duckblade/osrs/sailing/SailingConfigSnapshot.java";
+
+	public static void main(String[] args) throws Exception
+	{
+		List<Method> items = Arrays.stream(SailingConfig.class.getMethods())
+			.filter(m -> m.isAnnotationPresent(ConfigItem.class))
+			.filter(m -> m.getParameterCount() == 0)
+			.sorted(Comparator.comparing(Method::getName))
+			.collect(Collectors.toList());
+
+		TreeSet<String> imports = new TreeSet<>();
+		for (Method m : items)
+		{
+			Class<?> type = m.getReturnType();
+			if (!type.isPrimitive() && type.getDeclaringClass() != SailingConfig.class && !type.getPackageName().equals("java.lang"))
+			{
+				imports.add(type.getName());
+			}
+		}
+
+		System.setOut(new PrintStream(new FileOutputStream(OUTPUT)));
+
+		System.out.println("package com.duckblade.osrs.sailing;");
+		System.out.println();
+		for (String imp : imports)
+		{
+			System.out.println("import " + imp + ";");
+		}
+		System.out.println();
+		System.out.println("/**");
+		System.out.println(" * Immutable copy of every {@link SailingConfig} item, taken once per config change");
+		System.out.println(" * so that reads don't go through the reflective config proxy.");
+		System.out.println(" * Generated by GenerateSailingConfigSnapshot, do not edit by hand.");
+		System.out.println(" */");
+		System.out.println("public final class SailingConfigSnapshot implements SailingConfig");
+		System.out.println("{");
+		System.out.println();
+
+		for (Method m : items)
+		{
+			System.out.println("\tprivate final " + typeName(m) + " " + m.getName() + ";");
+		}
+		System.out.println();
+
+		System.out.println("\tprivate SailingConfigSnapshot(SailingConfig config)");
+		System.out.println("\t{");
+		for (Method m : items)
+		{
+			System.out.println("\t\tthis." + m.getName() + " = config." + m.getName() + "();");
+		}
+		System.out.println("\t}");
+		System.out.println();
+
+		System.out.println("\tpublic static SailingConfigSnapshot of(SailingConfig config)");
+		System.out.println("\t{");
+		System.out.println("\t\treturn new SailingConfigSnapshot(config);");
+		System.out.println("\t}");
+
+		for (Method m : items)
+		{
+			System.out.println();
+			System.out.println("\t@Override");
+			System.out.println("\tpublic " + typeName(m) + " " + m.getName() + "()");
+			System.out.println("\t{");
+			System.out.println("\t\treturn " + m.getName() + ";");
+			System.out.println("\t}");
+		}
+
+		System.out.println("}");
+	}
+
+	private static String typeName(Method m)
+	{
+		Class<?> type = m.getReturnType();
+		if (type.getDeclaringClass() == SailingConfig.class)
+		{
+			return "SailingConfig." + type.getSimpleName();
+		}
+		return type.getSimpleName();
+	}
+}
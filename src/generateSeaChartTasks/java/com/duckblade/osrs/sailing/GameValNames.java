@@ -0,0 +1,139 @@
+package com.duckblade.osrs.sailing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resolves gameval ids back to their constant names, from the net.runelite.api.gameval classes when they are
+ * on the classpath and otherwise from the checked-in cache file, so generation works offline and without
+ * depending on what's published on master.
+ */
+class GameValNames
+{
+
+	static final String VARBIT = "VarbitID";
+	static final String OBJECT = "ObjectID";
+	static final String NPC = "NpcID";
+
+	private static final String GAMEVAL_PACKAGE = "net.runelite.api.gameval.";
+
+	// class -> id -> name
+	private final Map<String, Map<Integer, String>> cached = new HashMap<>();
+	private final Map<String, Map<Integer, String>> reflected = new HashMap<>();
+
+	// every id looked up, written back to the cache
+	private final Map<String, TreeMap<Integer, String>> used = new TreeMap<>();
+
+	// without reflect only the cache file is used, regardless of the classpath
+	static GameValNames load(Path cacheFile, boolean reflect) throws IOException
+	{
+		GameValNames names = new GameValNames();
+		if (Files.exists(cacheFile))
+		{
+			names.readCache(cacheFile);
+		}
+
+		if (reflect)
+		{
+			for (String clazz : List.of(VARBIT, OBJECT, NPC))
+			{
+				names.reflect(clazz);
+			}
+		}
+		return names;
+	}
+
+	boolean isReflected(String clazz)
+	{
+		return reflected.containsKey(clazz);
+	}
+
+	// null if neither the classpath nor the cache knows the id
+	String get(String clazz, int id)
+	{
+		Map<Integer, String> source = reflected.containsKey(clazz) ? reflected.get(clazz) : cached.get(clazz);
+		String name = source != null ? source.get(id) : null;
+		if (name != null)
+		{
+			used.computeIfAbsent(clazz, k -> new TreeMap<>()).put(id, name);
+		}
+		return name;
+	}
+
+	// only the ids that were used, sorted, so the file is stable between runs
+	void writeCache(Path cacheFile) throws IOException
+	{
+		StringBuilder sb = new StringBuilder("class\tid\tname\n");
+		used.forEach((clazz, ids) -> ids.forEach((id, name) ->
+			sb.append(clazz).append('\t').append(id).append('\t').append(name).append('\n')));
+		GenerateSeaChartTasks.writeIfChanged(cacheFile, sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void readCache(Path cacheFile) throws IOException
+	{
+		try (BufferedReader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8))
+		{
+			reader.readLine(); // skip header
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (line.isEmpty())
+				{
+					continue;
+				}
+
+				String[] parts = line.split("\t");
+				merge(cached.computeIfAbsent(parts[0], k -> new HashMap<>()), Integer.parseInt(parts[1]), parts[2]);
+			}
+		}
+	}
+
+	private void reflect(String clazz)
+	{
+		Class<?> c;
+		try
+		{
+			c = Class.forName(GAMEVAL_PACKAGE + clazz);
+		}
+		catch (ClassNotFoundException e)
+		{
+			return;
+		}
+
+		// getFields includes inherited constants, e.g. ObjectID extends ObjectID1
+		Map<Integer, String> values = new HashMap<>();
+		for (Field field : c.getFields())
+		{
+			int mod = field.getModifiers();
+			if (!Modifier.isStatic(mod) || !Modifier.isFinal(mod) || field.getType() != int.class)
+			{
+				continue;
+			}
+
+			try
+			{
+				merge(values, field.getInt(null), field.getName());
+			}
+			catch (IllegalAccessException e)
+			{
+				throw new IllegalStateException(e);
+			}
+		}
+		reflected.put(clazz, values);
+	}
+
+	// aliased ids keep the lexicographically smallest name so output doesn't depend on field order
+	private static void merge(Map<Integer, String> values, int id, String name)
+	{
+		values.merge(id, name, (a, b) -> a.compareTo(b) <= 0 ? a : b);
+	}
+}
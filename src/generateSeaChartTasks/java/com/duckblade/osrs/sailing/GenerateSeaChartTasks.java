@@ -1,180 +1,726 @@
 package com.duckblade.osrs.sailing;
 
-import java.io.FileOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.PrintStream;
-import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Scanner;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Regenerates SeaChartTask, MermaidTaskSolutions and the sea chart index from the tsv files in
+ * src/generateSeaChartTasks/resources. Run from the project directory by the generateSeaChartTasks gradle task,
+ * output is deterministic and files are only rewritten when their content changes.
+ * <p>
+ * With --check nothing is written, it fails if any generated file differs, resolving names from gameval_names.tsv
+ * only so the result doesn't change with the runelite release on the classpath.
+ * With --update-names only gameval_names.tsv is written, with the names used by the tasks.
+ */
 public class GenerateSeaChartTasks
 {
 
-	private static final String VARBIT_ID_URL = "https://github.com/runelite/runelite/raw/refs/heads/master/runelite-api/src/main/java/net/runelite/api/gameval/VarbitID.java";
-	private static final String OBJECT_ID_URL = "https://github.com/runelite/runelite/raw/refs/heads/master/runelite-api/src/main/java/net/runelite/api/gameval/ObjectID.java";
-	private static final String OBJECT_ID_1_URL = "https://github.com/runelite/runelite/raw/refs/heads/master/runelite-api/src/main/java/net/runelite/api/gameval/ObjectID1.java";
-	private static final String NPC_ID_URL = "https://github.com/runelite/runelite/raw/refs/heads/master/runelite-api/src/main/java/net/runelite/api/gameval/NpcID.java";
-
-	public static void main(String[] main) throws Exception
-	{
-		Map<Integer, String> varbNames = readConstants(VARBIT_ID_URL);
-		Map<Integer, String> objectNames = readConstants(OBJECT_ID_URL);
-		objectNames.putAll(readConstants(OBJECT_ID_1_URL));
-		Map<Integer, String> npcNames = readConstants(NPC_ID_URL);
-		System.setOut(new PrintStream(new FileOutputStream("src/main/java/com/duckblade/osrs/sailing/features/charting/SeaChartTask.java")));
-
-		System.out.println("package com.duckblade.osrs.sailing.features.charting;");
-		System.out.println();
-		System.out.println("import lombok.Getter;");
-		System.out.println("import lombok.RequiredArgsConstructor;");
-		System.out.println("import net.runelite.api.Client;");
-		System.out.println("import net.runelite.api.coords.WorldPoint;");
-		System.out.println("import net.runelite.api.gameval.VarbitID;");
-		System.out.println("import net.runelite.api.gameval.ObjectID;");
-		System.out.println("import net.runelite.api.gameval.NpcID;");
-		System.out.println();
-		System.out.println("@RequiredArgsConstructor");
-		System.out.println("@Getter");
-		System.out.println("public enum SeaChartTask");
-		System.out.println("{");
-		System.out.println();
-
-		var taskTypePat = Pattern.compile("GENERIC|SPYGLASS|DRINK_CRATE|CURRENT_DUCK|MERMAID_GUIDE|WEATHER");
-
-		try (Scanner scanner = new Scanner(Objects.requireNonNull(GenerateSeaChartTasks.class.getResourceAsStream("/chartables.tsv"))))
-		{
-			scanner.nextLine(); // skip header
-			while (scanner.hasNextLine())
-			{
-				String[] parts = scanner.nextLine().split("\t");
-				int taskId = Integer.parseInt(parts[0]);
-				int varb = Integer.parseInt(parts[1]);
-				int object = Integer.parseInt(parts[2]);
-				int npc = Integer.parseInt(parts[3]);
-				int x = Integer.parseInt(parts[4]);
-				int y = Integer.parseInt(parts[5]);
-				int dstX = Integer.parseInt(parts[6]);
-				int dstY = Integer.parseInt(parts[7]);
-				int level = Integer.parseInt(parts[8]);
-
-				var varbName = varbNames.get(varb);
-
-				System.out.print("\t");
-				System.out.print("TASK_");
-				System.out.print(taskId);
-				System.out.print("(");
-				System.out.print(taskId);
-				System.out.print(", ");
-				{
-					var matcher = taskTypePat.matcher(varbName);
-					if (!matcher.find())
-					{
-						System.out.println("null");
-					}
-					else
-					{
-						System.out.print("SeaChartTaskType.");
-						System.out.print(matcher.group(0));
-					}
-					System.out.print(", ");
-				}
-				System.out.print("VarbitID." + varbName);
-				System.out.print(", ");
-				if (object != -1)
-				{
-					System.out.print("ObjectID." + objectNames.get(object));
-				}
-				else
-				{
-					System.out.print("-1");
-				}
-				System.out.print(", ");
-				if (npc != -1)
-				{
-					System.out.print("NpcID." + npcNames.get(npc));
-				}
-				else
+	private static final Path RESOURCES_DIR = Paths.get("src/generateSeaChartTasks/resources");
+	private static final Path CHARTABLES_PATH = RESOURCES_DIR.resolve("chartables.tsv");
+	private static final Path MERMAID_SOLUTIONS_PATH = RESOURCES_DIR.resolve("mermaid_solutions.tsv");
+	private static final Path GAMEVAL_NAMES_PATH = RESOURCES_DIR.resolve("gameval_names.tsv");
+
+	private static final Path CHARTING_SOURCE_DIR = Paths.get("src/main/java/com/duckblade/osrs/sailing/features/charting");
+	private static final Path TASK_PATH = CHARTING_SOURCE_DIR.resolve("SeaChartTask.java");
+	private static final Path SOLUTIONS_PATH = CHARTING_SOURCE_DIR.resolve("MermaidTaskSolutions.java");
+	private static final Path REGION_PATH = CHARTING_SOURCE_DIR.resolve("SeaChartRegion.java");
+	private static final Path INDEX_PATH = Paths.get("src/main/resources/com/duckblade/osrs/sailing/features/charting/sea_chart_index.bin");
+
+	private static final Pattern TASK_TYPE_PATTERN = Pattern.compile("GENERIC|SPYGLASS|DRINK_CRATE|CURRENT_DUCK|MERMAID_GUIDE|WEATHER");
+
+	// these task types are named after the sea they're in, e.g. SAILING_CHARTING_CURRENT_DUCK_KHARIDIAN_SEA_COMPLETE
+	private static final Pattern REGION_PATTERN = Pattern.compile("^SAILING_CHARTING_(?:CURRENT_DUCK|MERMAID_GUIDE|WEATHER_TROLL)_(.+?)(?:_\\d+)?_COMPLETE$");
+	private static final Pattern SUFFIX_PATTERN = Pattern.compile("^SAILING_CHARTING_(.+?)(?:_\\d+)?_COMPLETE$");
+
+	// a few of those are named after a landmark instead, only trust a single use if it sounds like a body of water
+	private static final Pattern WATER_PATTERN = Pattern.compile("_(SEA|STRAIT|BAY|SOUND|GULF|CHANNEL|BELT|PASSAGE|BASIN)$");
+
+	// other task types only name a region as "water of place", e.g. SAILING_CHARTING_GENERIC_ROCK_BAY_OF_SARIM_COMPLETE
+	private static final Pattern WATER_OF_PATTERN = Pattern.compile("(?:^|_)((?:SEA|STRAIT|BAY|SOUND|GULF|CHANNEL|BELT|PASSAGE|BASIN)_OF_[A-Z]+)$");
+
+	// names the varbit constants can't spell, the rest are derived by displayName
+	private static final Map<String, String> REGION_NAMES = Map.of(
+		"ANGLERFISHS_LIGHT", "Anglerfish's Light",
+		"DUSKS_MAW", "Dusk's Maw",
+		"OOGLOG_CHANNEL", "Oo'glog Channel",
+		"PILGRIMS_PASSAGE", "Pilgrims' Passage",
+		"VAGABONDS_REST", "Vagabond's Rest",
+		"VS_BELT", "V's Belt",
+		"WINTERS_EDGE", "Winter's Edge",
+		"WYRMS_WATERS", "Wyrm's Waters"
+	);
+
+	// must match SeaChartIndexData
+	private static final int INDEX_MAGIC = 0x53434958;
+	private static final int INDEX_VERSION = 2;
+	private static final int INDEX_CELL_SHIFT = 4;
+
+	private static class Task
+	{
+		int taskId;
+		int varb;
+		int object;
+		int npc;
+		int x;
+		int y;
+		int dstX;
+		int dstY;
+		int level;
+
+		// filled in once names are resolved
+		String varbName;
+		String region;
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		List<String> flags = Arrays.asList(args);
+		boolean check = flags.contains("--check");
+		boolean updateNames = flags.contains("--update-names");
+
+		List<Task> tasks = readTasks();
+		validate(tasks);
+
+		GameValNames names = GameValNames.load(GAMEVAL_NAMES_PATH, !check);
+		if (!check && (!names.isReflected(GameValNames.VARBIT) || !names.isReflected(GameValNames.OBJECT) || !names.isReflected(GameValNames.NPC)))
+		{
+			System.out.println("net.runelite.api.gameval not on the classpath, using names from " + GAMEVAL_NAMES_PATH);
+		}
+
+		Map<Integer, Map<String, Integer>> solutions = readSolutions(tasks);
+
+		resolveNames(tasks, names);
+		assignRegions(tasks);
+
+		Map<Path, byte[]> outputs = new LinkedHashMap<>();
+		outputs.put(TASK_PATH, utf8(generateTasks(tasks, names)));
+		outputs.put(REGION_PATH, utf8(generateRegions(tasks)));
+		outputs.put(SOLUTIONS_PATH, utf8(generateSolutions(solutions)));
+		outputs.put(INDEX_PATH, generateIndex(tasks));
+
+		if (updateNames)
+		{
+			names.writeCache(GAMEVAL_NAMES_PATH);
+		}
+		else if (check)
+		{
+			List<String> stale = new ArrayList<>();
+			for (Map.Entry<Path, byte[]> e : outputs.entrySet())
+			{
+				if (!Files.exists(e.getKey()) || !Arrays.equals(Files.readAllBytes(e.getKey()), e.getValue()))
 				{
-					System.out.print("-1");
+					stale.add(e.getKey().toString());
 				}
-				System.out.print(", ");
-				if (x != -1 && y != -1)
+			}
+
+			if (!stale.isEmpty())
+			{
+				throw new IllegalStateException("generated files are out of date, run the generateSeaChartTasks gradle task:\n" + String.join("\n", stale));
+			}
+		}
+		else
+		{
+			for (Map.Entry<Path, byte[]> e : outputs.entrySet())
+			{
+				writeIfChanged(e.getKey(), e.getValue());
+			}
+		}
+	}
+
+	private static String generateTasks(List<Task> tasks, GameValNames names)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("package com.duckblade.osrs.sailing.features.charting;\n");
+		sb.append("\n");
+		sb.append("import lombok.Getter;\n");
+		sb.append("import lombok.RequiredArgsConstructor;\n");
+		sb.append("import net.runelite.api.Client;\n");
+		sb.append("import net.runelite.api.coords.WorldPoint;\n");
+		sb.append("import net.runelite.api.gameval.VarbitID;\n");
+		sb.append("import net.runelite.api.gameval.ObjectID;\n");
+		sb.append("import net.runelite.api.gameval.NpcID;\n");
+		sb.append("\n");
+		sb.append("@RequiredArgsConstructor\n");
+		sb.append("@Getter\n");
+		sb.append("public enum SeaChartTask\n");
+		sb.append("{\n");
+		sb.append("\n");
+
+		for (Task task : tasks)
+		{
+			Matcher matcher = TASK_TYPE_PATTERN.matcher(task.varbName);
+			matcher.find();
+			String objectName = task.object != -1 ? "ObjectID." + names.get(GameValNames.OBJECT, task.object) : "-1";
+			String npcName = task.npc != -1 ? "NpcID." + names.get(GameValNames.NPC, task.npc) : "-1";
+
+			sb.append("\tTASK_").append(task.taskId)
+				.append('(').append(task.taskId)
+				.append(", SeaChartTaskType.").append(matcher.group(0))
+				.append(", SeaChartRegion.").append(task.region)
+				.append(", VarbitID.").append(task.varbName)
+				.append(", ").append(objectName)
+				.append(", ").append(npcName)
+				.append(", ").append(worldPoint(task.x, task.y))
+				.append(", ").append(worldPoint(task.dstX, task.dstY))
+				.append(", ").append(task.level)
+				.append("),\n");
+		}
+
+		sb.append("\t;\n");
+		sb.append("\n");
+		sb.append("\tprivate final int taskId;\n");
+		sb.append("\tprivate final SeaChartTaskType type;\n");
+		sb.append("\tprivate final SeaChartRegion region;\n");
+		sb.append("\tprivate final int completionVarb;\n");
+		sb.append("\tprivate final int objectId;\n");
+		sb.append("\tprivate final int npcId;\n");
+		sb.append("\tprivate final WorldPoint location;\n");
+		sb.append("\tprivate final WorldPoint destination;\n");
+		sb.append("\tprivate final int level;\n");
+		sb.append("\n");
+		sb.append("\tpublic boolean isComplete(Client client)\n");
+		sb.append("\t{\n");
+		sb.append("\t\treturn client.getVarbitValue(getCompletionVarb()) != 0;\n");
+		sb.append("\t}\n");
+		sb.append("\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	// collects every problem before failing, so one run shows everything that needs fixing
+	private static void resolveNames(List<Task> tasks, GameValNames names)
+	{
+		TreeSet<String> missing = new TreeSet<>();
+		for (Task task : tasks)
+		{
+			task.varbName = names.get(GameValNames.VARBIT, task.varb);
+			if (task.varbName == null)
+			{
+				missing.add("task " + task.taskId + ": no VarbitID name for " + task.varb);
+			}
+			else if (!TASK_TYPE_PATTERN.matcher(task.varbName).find())
+			{
+				missing.add("task " + task.taskId + ": no task type in VarbitID." + task.varbName);
+			}
+
+			if (task.object != -1 && names.get(GameValNames.OBJECT, task.object) == null)
+			{
+				missing.add("task " + task.taskId + ": no ObjectID name for " + task.object);
+			}
+
+			if (task.npc != -1 && names.get(GameValNames.NPC, task.npc) == null)
+			{
+				missing.add("task " + task.taskId + ": no NpcID name for " + task.npc);
+			}
+		}
+
+		if (!missing.isEmpty())
+		{
+			throw new IllegalStateException("unable to resolve gameval names, add them to " + GAMEVAL_NAMES_PATH +
+				" or run with runelite-api on the classpath:\n" + String.join("\n", missing));
+		}
+	}
+
+	// regions come from the sea-named task types and "water of place" names, other tasks take the region
+	// ending their name if any, otherwise the region of the nearest task that has one
+	private static void assignRegions(List<Task> tasks)
+	{
+		Map<String, Integer> candidates = new HashMap<>();
+		for (Task task : tasks)
+		{
+			Matcher m = REGION_PATTERN.matcher(task.varbName);
+			if (m.matches())
+			{
+				candidates.merge(m.group(1), 0, Integer::sum);
+			}
+		}
+
+		for (Task task : tasks)
+		{
+			Matcher m = SUFFIX_PATTERN.matcher(task.varbName);
+			if (!m.matches())
+			{
+				continue;
+			}
+
+			for (String region : candidates.keySet())
+			{
+				if (m.group(1).endsWith("_" + region))
 				{
-					System.out.print("new WorldPoint(");
-					System.out.print(x);
-					System.out.print(", ");
-					System.out.print(y);
-					System.out.print(", 0)");
+					candidates.merge(region, 1, Integer::sum);
 				}
-				else
+			}
+		}
+
+		TreeSet<String> regions = new TreeSet<>();
+		candidates.forEach((region, uses) ->
+		{
+			if (uses >= 2 || WATER_PATTERN.matcher(region).find())
+			{
+				regions.add(region);
+			}
+		});
+
+		for (Task task : tasks)
+		{
+			Matcher m = SUFFIX_PATTERN.matcher(task.varbName);
+			Matcher water = WATER_OF_PATTERN.matcher(m.matches() ? m.group(1) : "");
+			if (water.find())
+			{
+				regions.add(water.group(1));
+			}
+		}
+
+		for (Task task : tasks)
+		{
+			Matcher m = SUFFIX_PATTERN.matcher(task.varbName);
+			String suffix = m.matches() ? m.group(1) : task.varbName;
+			for (String region : regions)
+			{
+				boolean matches = suffix.endsWith("_" + region) || suffix.equals(region);
+				if (matches && (task.region == null || region.length() > task.region.length()))
 				{
-					System.out.print("null");
+					task.region = region;
 				}
-				System.out.print(", ");
-				if (dstX != -1 && dstY != -1)
+			}
+		}
+
+		// assigned after the loop so fallbacks aren't used as the nearest task for each other
+		Map<Task, String> fallbacks = new HashMap<>();
+		List<String> problems = new ArrayList<>();
+		for (Task task : tasks)
+		{
+			if (task.region != null)
+			{
+				continue;
+			}
+
+			Task nearest = null;
+			long nearestDistance = Long.MAX_VALUE;
+			for (Task other : tasks)
+			{
+				if (other.region == null || other.x == -1 || task.x == -1)
 				{
-					System.out.print("new WorldPoint(");
-					System.out.print(dstX);
-					System.out.print(", ");
-					System.out.print(dstY);
-					System.out.print(", 0)");
+					continue;
 				}
-				else
+
+				long dx = other.x - task.x, dy = other.y - task.y;
+				long d = dx * dx + dy * dy;
+				if (d < nearestDistance)
 				{
-					System.out.print("null");
+					nearest = other;
+					nearestDistance = d;
 				}
-				System.out.print(", ");
-				System.out.print(level);
-				System.out.println("),");
+			}
+
+			if (nearest == null)
+			{
+				problems.add("task " + task.taskId + " has no region and no location");
+				continue;
+			}
+			fallbacks.put(task, nearest.region);
+		}
+
+		if (!problems.isEmpty())
+		{
+			throw new IllegalStateException("unable to assign regions:\n" + String.join("\n", problems));
+		}
+
+		fallbacks.forEach((task, region) -> task.region = region);
+	}
+
+	private static String generateRegions(List<Task> tasks)
+	{
+		TreeSet<String> regions = new TreeSet<>();
+		tasks.forEach(t -> regions.add(t.region));
+
+		// an override for a region that's no longer generated is most likely a renamed varbit
+		TreeSet<String> unused = new TreeSet<>(REGION_NAMES.keySet());
+		unused.removeAll(regions);
+		if (!unused.isEmpty())
+		{
+			throw new IllegalStateException("region name overrides for unknown regions: " + unused);
+		}
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("package com.duckblade.osrs.sailing.features.charting;\n");
+		sb.append("\n");
+		sb.append("import lombok.Getter;\n");
+		sb.append("import lombok.RequiredArgsConstructor;\n");
+		sb.append("\n");
+		sb.append("// generated by GenerateSeaChartTasks from the completion varbit names, do not edit\n");
+		sb.append("@RequiredArgsConstructor\n");
+		sb.append("@Getter\n");
+		sb.append("public enum SeaChartRegion\n");
+		sb.append("{\n");
+		sb.append("\n");
+		for (String region : regions)
+		{
+			sb.append("\t").append(region).append("(\"").append(escape(displayName(region))).append("\"),\n");
+		}
+		sb.append("\t;\n");
+		sb.append("\n");
+		sb.append("\tprivate final String name;\n");
+		sb.append("\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	// KHARIDIAN_SEA -> Kharidian Sea, BAY_OF_SARIM -> Bay of Sarim, unless overridden in REGION_NAMES
+	private static String displayName(String constant)
+	{
+		String override = REGION_NAMES.get(constant);
+		if (override != null)
+		{
+			return override;
+		}
+
+		StringBuilder sb = new StringBuilder();
+		for (String word : constant.toLowerCase().split("_"))
+		{
+			if (sb.length() > 0)
+			{
+				sb.append(' ');
+			}
+
+			if (sb.length() > 0 && (word.equals("of") || word.equals("the")))
+			{
+				sb.append(word);
+			}
+			else
+			{
+				sb.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
 			}
 		}
+		return sb.toString();
+	}
 
-		System.out.println("\t;");
-		System.out.println();
-		System.out.println("\tprivate final int taskId;");
-		System.out.println("\tprivate final SeaChartTaskType type;");
-		System.out.println("\tprivate final int completionVarb;");
-		System.out.println("\tprivate final int objectId;");
-		System.out.println("\tprivate final int npcId;");
-		System.out.println("\tprivate final WorldPoint location;");
-		System.out.println("\tprivate final WorldPoint destination;");
-		System.out.println("\tprivate final int level;");
-		System.out.println();
-		System.out.println("\tpublic boolean isComplete(Client client)");
-		System.out.println("\t{");
-		System.out.println("\t\treturn client.getVarbitValue(getCompletionVarb()) != 0;");
-		System.out.println("\t}");
-		System.out.println();
-		System.out.println("}");
+	private static String worldPoint(int x, int y)
+	{
+		return x != -1 && y != -1 ? "new WorldPoint(" + x + ", " + y + ", 0)" : "null";
 	}
 
-	private static Map<Integer, String> readConstants(String url) throws IOException
+	private static String generateSolutions(Map<Integer, Map<String, Integer>> solutions)
 	{
-		Map<Integer, String> values = new HashMap<>();
-		try (Scanner scanner = new Scanner(Objects.requireNonNull(new URL(url).openStream())))
+		StringBuilder sb = new StringBuilder();
+		sb.append("package com.duckblade.osrs.sailing.features.charting;\n");
+		sb.append("\n");
+		sb.append("import com.google.common.collect.ImmutableMap;\n");
+		sb.append("import java.util.Map;\n");
+		sb.append("\n");
+		sb.append("// generated by GenerateSeaChartTasks from mermaid_solutions.tsv, do not edit\n");
+		sb.append("final class MermaidTaskSolutions\n");
+		sb.append("{\n");
+		sb.append("\n");
+		sb.append("\tstatic final Map<SeaChartTask, Map<String, Integer>> SOLUTIONS = ImmutableMap.<SeaChartTask, Map<String, Integer>>builder()\n");
+		solutions.forEach((taskId, items) ->
 		{
-			while (scanner.hasNextLine())
+			sb.append("\t\t.put(\n");
+			sb.append("\t\t\tSeaChartTask.TASK_").append(taskId).append(",\n");
+			sb.append("\t\t\tImmutableMap.<String, Integer>builder()\n");
+			items.forEach((item, quantity) ->
+				sb.append("\t\t\t\t.put(\"").append(escape(item)).append("\", ").append(quantity).append(")\n"));
+			sb.append("\t\t\t\t.build()\n");
+			sb.append("\t\t)\n");
+		});
+		sb.append("\t\t.build();\n");
+		sb.append("\n");
+		sb.append("\tprivate MermaidTaskSolutions()\n");
+		sb.append("\t{\n");
+		sb.append("\t}\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	private static String escape(String s)
+	{
+		return s.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	private static List<Task> readTasks() throws IOException
+	{
+		List<Task> tasks = new ArrayList<>();
+		for (String[] parts : readTsv(CHARTABLES_PATH))
+		{
+			Task task = new Task();
+			task.taskId = Integer.parseInt(parts[0]);
+			task.varb = Integer.parseInt(parts[1]);
+			task.object = Integer.parseInt(parts[2]);
+			task.npc = Integer.parseInt(parts[3]);
+			task.x = Integer.parseInt(parts[4]);
+			task.y = Integer.parseInt(parts[5]);
+			task.dstX = Integer.parseInt(parts[6]);
+			task.dstY = Integer.parseInt(parts[7]);
+			task.level = Integer.parseInt(parts[8]);
+			tasks.add(task);
+		}
+		return tasks;
+	}
+
+	// task id -> item name -> quantity, in file order
+	private static Map<Integer, Map<String, Integer>> readSolutions(List<Task> tasks) throws IOException
+	{
+		Map<Integer, Map<String, Integer>> solutions = new LinkedHashMap<>();
+		List<String> problems = new ArrayList<>();
+		Map<Integer, Task> byId = new HashMap<>();
+		tasks.forEach(t -> byId.put(t.taskId, t));
+		for (String[] parts : readTsv(MERMAID_SOLUTIONS_PATH))
+		{
+			int taskId = Integer.parseInt(parts[0]);
+			if (!byId.containsKey(taskId))
 			{
-				String line = scanner.nextLine();
-				if (!line.contains("=") || line.contains("*"))
-				{
-					continue;
-				}
+				problems.add("unknown task id " + taskId);
+				continue;
+			}
 
-				String[] parts = line.split("=");
-				String name = parts[0].trim()
-					.substring("public static final int ".length());
-				String value = parts[1].trim()
-					.replace(";", "");
+			Integer prev = solutions.computeIfAbsent(taskId, k -> new LinkedHashMap<>())
+				.put(parts[1], Integer.parseInt(parts[2]));
+			if (prev != null)
+			{
+				problems.add("task " + taskId + " lists " + parts[1] + " twice");
+			}
+		}
+
+		if (!problems.isEmpty())
+		{
+			throw new IllegalStateException("mermaid_solutions.tsv is invalid:\n" + String.join("\n", problems));
+		}
+		return solutions;
+	}
 
-				values.put(Integer.parseInt(value), name);
+	// rows after the header, blank lines ignored
+	private static List<String[]> readTsv(Path path) throws IOException
+	{
+		List<String[]> rows = new ArrayList<>();
+		List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+		for (String line : lines.subList(1, lines.size()))
+		{
+			if (!line.isEmpty())
+			{
+				rows.add(line.split("\t"));
 			}
 		}
+		return rows;
+	}
+
+	static void writeIfChanged(Path path, byte[] content) throws IOException
+	{
+		if (Files.exists(path) && Arrays.equals(Files.readAllBytes(path), content))
+		{
+			return;
+		}
 
-		return values;
+		Files.createDirectories(path.toAbsolutePath().getParent());
+		Files.write(path, content);
+		System.out.println("wrote " + path);
 	}
 
+	private static byte[] utf8(String s)
+	{
+		return s.getBytes(StandardCharsets.UTF_8);
+	}
+
+	// the runtime index assumes unique ids and locations, fail here rather than mislabel tasks in game
+	private static void validate(List<Task> tasks)
+	{
+		List<String> problems = new ArrayList<>();
+		Map<Integer, Integer> taskIds = new HashMap<>();
+		Map<Integer, Integer> varbs = new HashMap<>();
+		Map<Long, Integer> locations = new HashMap<>();
+		for (int i = 0; i < tasks.size(); i++)
+		{
+			Task task = tasks.get(i);
+			Integer prev = taskIds.put(task.taskId, i);
+			if (prev != null)
+			{
+				problems.add("task id " + task.taskId + " on rows " + prev + " and " + i);
+			}
+
+			prev = varbs.put(task.varb, i);
+			if (prev != null)
+			{
+				problems.add("completion varbit " + task.varb + " on rows " + prev + " and " + i);
+			}
+
+			if (task.object == -1 && task.npc == -1)
+			{
+				problems.add("task " + task.taskId + " has neither an object nor an npc");
+			}
+
+			if (task.x == -1 || task.y == -1)
+			{
+				continue;
+			}
+
+			prev = locations.put((long) task.x << 32 | task.y, i);
+			if (prev != null)
+			{
+				problems.add("location " + task.x + "," + task.y + " on rows " + prev + " and " + i);
+			}
+		}
+
+		if (!problems.isEmpty())
+		{
+			throw new IllegalStateException("chartables.tsv is invalid:\n" + String.join("\n", problems));
+		}
+	}
+
+	// same layout as SeaChartIndexData, ordinals are row indexes
+	private static byte[] generateIndex(List<Task> tasks) throws IOException
+	{
+		int n = tasks.size();
+		int[] objectIds = new int[n];
+		int[] npcIds = new int[n];
+		for (int i = 0; i < n; i++)
+		{
+			objectIds[i] = tasks.get(i).object;
+			npcIds[i] = objectIds[i] == -1 ? tasks.get(i).npc : -1;
+		}
+
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+		int located = 0;
+		for (Task task : tasks)
+		{
+			if (task.x != -1 && task.y != -1)
+			{
+				located++;
+				minX = Math.min(minX, task.x);
+				minY = Math.min(minY, task.y);
+				maxX = Math.max(maxX, task.x);
+				maxY = Math.max(maxY, task.y);
+			}
+		}
+		if (located == 0)
+		{
+			minX = minY = maxX = maxY = 0;
+		}
+
+		int cellsX = ((maxX - minX) >> INDEX_CELL_SHIFT) + 1;
+		int cellsY = ((maxY - minY) >> INDEX_CELL_SHIFT) + 1;
+		int[] cells = new int[n];
+		Arrays.fill(cells, -1);
+		for (int i = 0; i < n; i++)
+		{
+			Task task = tasks.get(i);
+			if (task.x != -1 && task.y != -1)
+			{
+				cells[i] = ((task.y - minY) >> INDEX_CELL_SHIFT) * cellsX + ((task.x - minX) >> INDEX_CELL_SHIFT);
+			}
+		}
+		int[][] grid = groupBy(cells, cellsX * cellsY);
+
+		int[] cellXs = new int[grid[1].length];
+		int[] cellYs = new int[grid[1].length];
+		for (int i = 0; i < grid[1].length; i++)
+		{
+			cellXs[i] = tasks.get(grid[1][i]).x;
+			cellYs[i] = tasks.get(grid[1][i]).y;
+		}
+
+		int[] objectKeys = Arrays.stream(objectIds).filter(id -> id != -1).distinct().sorted().toArray();
+		int[] npcKeys = Arrays.stream(npcIds).filter(id -> id != -1).distinct().sorted().toArray();
+		int[][] objects = groupBy(keyIndexes(objectIds, objectKeys), objectKeys.length);
+		int[][] npcs = groupBy(keyIndexes(npcIds, npcKeys), npcKeys.length);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes))
+		{
+			out.writeInt(INDEX_MAGIC);
+			out.writeInt(INDEX_VERSION);
+			out.writeInt(n);
+			out.writeInt(indexHash(tasks));
+			writeArray(out, objectKeys);
+			writeArray(out, objects[0]);
+			writeArray(out, objects[1]);
+			writeArray(out, npcKeys);
+			writeArray(out, npcs[0]);
+			writeArray(out, npcs[1]);
+			out.writeInt(INDEX_CELL_SHIFT);
+			out.writeInt(minX);
+			out.writeInt(minY);
+			out.writeInt(cellsX);
+			out.writeInt(cellsY);
+			writeArray(out, grid[1]);
+			writeArray(out, cellXs);
+			writeArray(out, cellYs);
+		}
+		return bytes.toByteArray();
+	}
+
+	// must match SeaChartIndexData.hash, a missing location is (-1, -1) on both sides
+	private static int indexHash(List<Task> tasks)
+	{
+		int h = 1;
+		for (Task task : tasks)
+		{
+			boolean located = task.x != -1 && task.y != -1;
+			h = 31 * h + task.taskId;
+			h = 31 * h + task.object;
+			h = 31 * h + task.npc;
+			h = 31 * h + (located ? task.x : -1);
+			h = 31 * h + (located ? task.y : -1);
+		}
+		return h;
+	}
+
+	private static int[] keyIndexes(int[] ids, int[] keys)
+	{
+		int[] indexes = new int[ids.length];
+		for (int i = 0; i < ids.length; i++)
+		{
+			indexes[i] = ids[i] != -1 ? Arrays.binarySearch(keys, ids[i]) : -1;
+		}
+		return indexes;
+	}
+
+	// stable counting sort of row indexes by group, -1 rows are left out, returns {start offsets, rows}
+	private static int[][] groupBy(int[] groups, int groupCount)
+	{
+		int[] start = new int[groupCount + 1];
+		for (int g : groups)
+		{
+			if (g != -1)
+			{
+				start[g + 1]++;
+			}
+		}
+		for (int g = 0; g < groupCount; g++)
+		{
+			start[g + 1] += start[g];
+		}
+
+		int[] rows = new int[start[groupCount]];
+		int[] fill = Arrays.copyOf(start, start.length);
+		for (int i = 0; i < groups.length; i++)
+		{
+			if (groups[i] != -1)
+			{
+				rows[fill[groups[i]]++] = i;
+			}
+		}
+		return new int[][]{start, rows};
+	}
+
+	private static void writeArray(DataOutputStream out, int[] values) throws IOException
+	{
+		out.writeInt(values.length);
+		for (int v : values)
+		{
+			out.writeInt(v);
+		}
+	}
 }
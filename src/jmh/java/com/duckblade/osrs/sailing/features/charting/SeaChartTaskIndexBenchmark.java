@@ -0,0 +1,73 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeaChartTaskIndexBenchmark
+{
+
+	private SeaChartTaskIndex index;
+
+	private WorldPoint exact;
+	private WorldPoint nearby;
+	private WorldPoint miss;
+
+	private final SeaChartTask[] out = new SeaChartTask[4];
+
+	@Setup
+	public void setUp()
+	{
+		index = new SeaChartTaskIndex();
+		index.startUp();
+
+		exact = SeaChartTask.TASK_0.getLocation();
+		nearby = exact.dx(4).dy(-3);
+		miss = new WorldPoint(1000, 1000, 0);
+	}
+
+	@Benchmark
+	public SeaChartTask exactHit()
+	{
+		return index.findTask(exact);
+	}
+
+	@Benchmark
+	public SeaChartTask radiusScan()
+	{
+		return index.findTask(nearby, 5);
+	}
+
+	@Benchmark
+	public SeaChartTask duckScan()
+	{
+		return index.findTask(nearby, 10, t -> t.getType() == SeaChartTaskType.CURRENT_DUCK);
+	}
+
+	@Benchmark
+	public int nearestK()
+	{
+		return index.findTasks(nearby, 10, null, out);
+	}
+
+	@Benchmark
+	public SeaChartTask miss()
+	{
+		return index.findTask(miss, 5);
+	}
+}
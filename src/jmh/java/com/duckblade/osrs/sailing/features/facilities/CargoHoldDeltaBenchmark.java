@@ -0,0 +1,72 @@
+package com.duckblade.osrs.sailing.features.facilities;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// the delta mutates the hold, so each invocation works on a fresh copy, see copyOnly for that baseline
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CargoHoldDeltaBenchmark
+{
+
+	private Multiset<Integer> cargoHold;
+	private Multiset<Integer> oldInventory;
+	private Multiset<Integer> newInventory;
+
+	@Setup
+	public void setUp()
+	{
+		// a full-ish hold and inventory, half the inventory deposited and a few stacks withdrawn
+		cargoHold = HashMultiset.create();
+		for (int i = 0; i < 20; i++)
+		{
+			cargoHold.add(1000 + i, 5);
+		}
+
+		oldInventory = HashMultiset.create();
+		for (int i = 0; i < 24; i++)
+		{
+			oldInventory.add(2000 + i);
+		}
+		oldInventory.add(995, 25_000);
+
+		newInventory = HashMultiset.create(oldInventory);
+		for (int i = 0; i < 12; i++)
+		{
+			newInventory.remove(2000 + i);
+		}
+		for (int i = 0; i < 4; i++)
+		{
+			newInventory.add(1000 + i, 3);
+		}
+	}
+
+	@Benchmark
+	public Multiset<Integer> copyOnly()
+	{
+		return HashMultiset.create(cargoHold);
+	}
+
+	@Benchmark
+	public Multiset<Integer> applyInventoryDelta()
+	{
+		Multiset<Integer> hold = HashMultiset.create(cargoHold);
+		CargoHoldTracker.applyInventoryDelta(hold, oldInventory, newInventory);
+		return hold;
+	}
+}
@@ -0,0 +1,95 @@
+package com.duckblade.osrs.sailing.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// lookups use the last declared id of the last declared value, the worst case for a linear scan
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelLookupBenchmark
+{
+
+	private static final int MISSING_ID = -2;
+
+	private int hullId;
+	private int sailId;
+	private int helmId;
+	private int cargoHoldId;
+	private int portId;
+
+	@Setup
+	public void setUp()
+	{
+		hullId = last(HullTier.values()[HullTier.values().length - 1].getGameObjectIds());
+		sailId = last(SailTier.values()[SailTier.values().length - 1].getGameObjectIds());
+		helmId = last(HelmTier.values()[HelmTier.values().length - 1].getGameObjectIds());
+		cargoHoldId = last(CargoHoldTier.values()[CargoHoldTier.values().length - 1].getGameObjectIds());
+		portId = Port.values()[Port.values().length - 1].getDbRowID();
+	}
+
+	@Benchmark
+	public HullTier hullTier()
+	{
+		return HullTier.fromGameObjectId(hullId);
+	}
+
+	@Benchmark
+	public SailTier sailTier()
+	{
+		return SailTier.fromGameObjectId(sailId);
+	}
+
+	@Benchmark
+	public HelmTier helmTier()
+	{
+		return HelmTier.fromGameObjectId(helmId);
+	}
+
+	@Benchmark
+	public CargoHoldTier cargoHoldTier()
+	{
+		return CargoHoldTier.fromGameObjectId(cargoHoldId);
+	}
+
+	@Benchmark
+	public FacilityIndex.Facility facility()
+	{
+		return FacilityIndex.get(cargoHoldId);
+	}
+
+	@Benchmark
+	public HullTier hullTierMiss()
+	{
+		return HullTier.fromGameObjectId(MISSING_ID);
+	}
+
+	@Benchmark
+	public Port portById()
+	{
+		return Port.findByID(portId);
+	}
+
+	@Benchmark
+	public Port portByIdMiss()
+	{
+		return Port.findByID(MISSING_ID);
+	}
+
+	private static int last(int[] ids)
+	{
+		return ids[ids.length - 1];
+	}
+}
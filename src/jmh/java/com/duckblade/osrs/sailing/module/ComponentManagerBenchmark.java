@@ -0,0 +1,195 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.google.common.collect.ImmutableList;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.events.ConfigChanged;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 40 components shaped like the plugin's real isEnabled methods, all staying disabled
+// so no overlay/infobox/event registration happens and only revalidation is measured
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentManagerBenchmark
+{
+
+	private static final int COMPONENT_COUNT = 40;
+
+	private static final List<Consumer<SailingConfig>> READS = ImmutableList.of(
+		c ->
+		{
+			c.safeRapidsColor();
+			c.dangerousRapidsColour();
+			c.unknownRapidsColour();
+			c.highlightRapids();
+		},
+		c ->
+		{
+			c.chartingChartedColor();
+			c.chartingUnchartedColor();
+			c.chartingRequirementsUnmetColor();
+			c.showCharts();
+		},
+		c ->
+		{
+			c.cargoHoldShowCounts();
+			c.cargoHoldColourEmpty();
+		},
+		c ->
+		{
+			c.navigationOverlayMode();
+			c.navigationOverlayColour();
+		},
+		c -> c.highlightTrimmableSails(),
+		c -> c.showSpeedBoostInfoBox()
+	);
+
+	private ComponentManager componentManager;
+
+	private ConfigChanged dependentKey;
+	private ConfigChanged unreadKey;
+	private ConfigChanged profileData;
+	private ConfigChanged allKeys;
+
+	@Setup
+	public void setUp()
+	{
+		SailingConfig config = defaultsConfig();
+
+		Set<PluginLifecycleComponent> components = new LinkedHashSet<>();
+		for (int i = 0; i < COMPONENT_COUNT; i++)
+		{
+			Consumer<SailingConfig> reads = READS.get(i % READS.size());
+			components.add(new PluginLifecycleComponent()
+			{
+				@Override
+				public boolean isEnabled(SailingConfig config)
+				{
+					reads.accept(config);
+					return false;
+				}
+			});
+		}
+
+		EventBus eventBus = new EventBus();
+		ComponentProfiler profiler = new ComponentProfiler(eventBus, false);
+		componentManager = new ComponentManager(
+			eventBus,
+			null,
+			null,
+			null,
+			new GameObjectRouter(null, profiler),
+			profiler,
+			new ConfigKeyRecorder(config),
+			components
+		);
+		componentManager.onPluginStart();
+
+		dependentKey = configChanged("highlightRapids");
+		unreadKey = configChanged("lowBoatHPThreshold");
+		profileData = configChanged("cargoHoldInventory_0");
+		allKeys = configChanged(null);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		componentManager.onPluginStop();
+	}
+
+	@Benchmark
+	public void dependentKeyChanged()
+	{
+		componentManager.onConfigChanged(dependentKey);
+	}
+
+	@Benchmark
+	public void unreadKeyChanged()
+	{
+		componentManager.onConfigChanged(unreadKey);
+	}
+
+	@Benchmark
+	public void profileDataChanged()
+	{
+		componentManager.onConfigChanged(profileData);
+	}
+
+	@Benchmark
+	public void fullRevalidation()
+	{
+		componentManager.onConfigChanged(allKeys);
+	}
+
+	private static ConfigChanged configChanged(String key)
+	{
+		ConfigChanged e = new ConfigChanged();
+		e.setGroup(SailingConfig.CONFIG_GROUP);
+		e.setKey(key);
+		return e;
+	}
+
+	// a SailingConfig which answers every item with its declared default, like a fresh profile
+	private static SailingConfig defaultsConfig()
+	{
+		MethodHandles.Lookup lookup;
+		try
+		{
+			lookup = MethodHandles.privateLookupIn(SailingConfig.class, MethodHandles.lookup());
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new IllegalStateException(e);
+		}
+
+		return (SailingConfig) Proxy.newProxyInstance(
+			SailingConfig.class.getClassLoader(),
+			new Class<?>[]{SailingConfig.class},
+			(proxy, method, args) ->
+			{
+				if (method.getDeclaringClass() == Object.class)
+				{
+					switch (method.getName())
+					{
+						case "equals":
+							return proxy == args[0];
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						default:
+							return "DefaultsConfig";
+					}
+				}
+				return invokeDefault(lookup, proxy, method, args);
+			}
+		);
+	}
+
+	private static Object invokeDefault(MethodHandles.Lookup lookup, Object proxy, Method method, Object[] args) throws Throwable
+	{
+		return lookup.unreflectSpecial(method, SailingConfig.class)
+			.bindTo(proxy)
+			.invokeWithArguments(args == null ? new Object[0] : args);
+	}
+}
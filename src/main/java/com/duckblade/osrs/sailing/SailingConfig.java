@@ -294,6 +294,91 @@ public interface SailingConfig extends Config
 		return 50;
 	}
 
+	@ConfigItem(
+		keyName = "navigationWaterRouting",
+		name = "Route Arrows Around Land",
+		description = "Point charting and task arrows along a path through explored water instead of straight at the destination.",
+		section = SECTION_NAVIGATION,
+		position = 15
+	)
+	default boolean navigationWaterRouting()
+	{
+		return true;
+	}
+
+	@ConfigItem(
+		keyName = "navigationWaterRouteWorldMap",
+		name = "Show Routes on World Map",
+		description = "Draw the paths used by routed arrows on the world map.",
+		section = SECTION_NAVIGATION,
+		position = 16
+	)
+	default boolean navigationWaterRouteWorldMap()
+	{
+		return false;
+	}
+
+	@ConfigItem(
+		keyName = "navigationTrajectory",
+		name = "Predicted Path",
+		description = "Shows where your boat will be over the next few ticks, based on its recent speed and turning.",
+		section = SECTION_NAVIGATION,
+		position = 17
+	)
+	default boolean navigationTrajectory()
+	{
+		return false;
+	}
+
+	@ConfigItem(
+		keyName = "navigationTrajectoryTicks",
+		name = "Predicted Path: Ticks",
+		description = "How many ticks ahead to predict your boat's path.",
+		section = SECTION_NAVIGATION,
+		position = 18
+	)
+	@Range(min = 1, max = 10)
+	default int navigationTrajectoryTicks()
+	{
+		return 5;
+	}
+
+	@ConfigItem(
+		keyName = "navigationTrajectoryColour",
+		name = "Predicted Path: Colour",
+		description = "Colour to render the predicted path with.",
+		section = SECTION_NAVIGATION,
+		position = 19
+	)
+	default Color navigationTrajectoryColour()
+	{
+		return Color.WHITE;
+	}
+
+	@ConfigItem(
+		keyName = "navigationTrajectoryHazardColour",
+		name = "Predicted Path: Hazard Colour",
+		description = "Colour to render the predicted path with from where it runs into rapids your helm can't handle, a shipwreck or a lightning cloud.",
+		section = SECTION_NAVIGATION,
+		position = 20
+	)
+	default Color navigationTrajectoryHazardColour()
+	{
+		return Color.RED;
+	}
+
+	@ConfigItem(
+		keyName = "navigationTrajectoryHazardNotification",
+		name = "Notify Before Hazards",
+		description = "Notify when your boat's predicted path runs into rapids your helm can't handle, a shipwreck or a lightning cloud.",
+		section = SECTION_NAVIGATION,
+		position = 21
+	)
+	default Notification navigationTrajectoryHazardNotification()
+	{
+		return Notification.OFF;
+	}
+
 	@ConfigItem(
 		keyName = "highlightTrimmableSails",
 		name = "Highlight Trimmable Sails",
@@ -587,6 +672,93 @@ public interface SailingConfig extends Config
 		return true;
 	}
 
+	@ConfigItem(
+		keyName = "chartingMermaidHighlightItems",
+		name = "Mermaid Item Highlight",
+		description = "Highlight the items for the current mermaid task in the inventory and bank.",
+		section = SECTION_SEA_CHARTING,
+		position = 9
+	)
+	default boolean chartingMermaidHighlightItems()
+	{
+		return true;
+	}
+
+	@ConfigItem(
+		keyName = "chartingRoutePlanner",
+		name = "Route Planner",
+		description = "Plan a short route through nearby uncharted locations you meet the requirements for.",
+		section = SECTION_SEA_CHARTING,
+		position = 10
+	)
+	default boolean chartingRoutePlanner()
+	{
+		return false;
+	}
+
+	@ConfigItem(
+		keyName = "chartingRouteRadius",
+		name = "Route Planner Radius",
+		description = "How far from the boat, in tiles, to look for locations to route through.",
+		section = SECTION_SEA_CHARTING,
+		position = 11
+	)
+	@Range(min = 10, max = 1000)
+	default int chartingRouteRadius()
+	{
+		return 200;
+	}
+
+	@ConfigItem(
+		keyName = "chartingRouteMaxStops",
+		name = "Route Planner Stops",
+		description = "The most locations to include in a route, nearest first.",
+		section = SECTION_SEA_CHARTING,
+		position = 12
+	)
+	@Range(min = 2, max = 50)
+	default int chartingRouteMaxStops()
+	{
+		return 20;
+	}
+
+	@ConfigItem(
+		keyName = "chartingProgressPanel",
+		name = "Progress Panel",
+		description = "Add a side panel breaking down charting progress by task type and sea region.",
+		section = SECTION_SEA_CHARTING,
+		position = 13
+	)
+	default boolean chartingProgressPanel()
+	{
+		return true;
+	}
+
+	enum ChartingCompassMode
+	{
+		NONE,
+		ALL,
+		GENERIC,
+		SPYGLASS,
+		DRINK_CRATE,
+		CURRENT_DUCK,
+		MERMAID_GUIDE,
+		WEATHER,
+		;
+	}
+
+	@ConfigItem(
+		keyName = "chartingCompass",
+		name = "Compass",
+		description = "While sailing, point an arrow at the nearest uncharted location you meet the requirements for, optionally only of one type.",
+		section = SECTION_SEA_CHARTING,
+		position = 14
+	)
+	default ChartingCompassMode chartingCompass()
+	{
+		return ChartingCompassMode.NONE;
+	}
+
 	@ConfigItem(
 		keyName = "barracudaHighlightLostCrates",
 		name = "Highlight Crates",
@@ -0,0 +1,647 @@
+package com.duckblade.osrs.sailing;
+
+import java.awt.Color;
+import net.runelite.client.config.Notification;
+
+/**
+ * Immutable copy of every {@link SailingConfig} item, taken once per config change
+ * so that reads don't go through the reflective config proxy.
+ * Generated by GenerateSailingConfigSnapshot, do not edit by hand.
+ */
+public final class SailingConfigSnapshot implements SailingConfig
+{
+
+	private final boolean barracudaHidePortalTransitions;
+	private final boolean barracudaHighlightLostCrates;
+	private final Color barracudaHighlightLostCratesColour;
+	private final boolean barracudaJubblyJiveShowToadyTargets;
+	private final boolean barracudaSplitsChatMessage;
+	private final boolean barracudaSplitsOverlayPanel;
+	private final SailingConfig.BarracudaSplitsToFileMode barracudaSplitsToFile;
+	private final boolean barracudaTemporTantrumShowRumTarget;
+	private final Color cargoHoldColourEmpty;
+	private final Color cargoHoldColourFull;
+	private final boolean cargoHoldShowCounts;
+	private final Color chartingChartedColor;
+	private final SailingConfig.ChartingCompassMode chartingCompass;
+	private final boolean chartingDuckSolver;
+	private final boolean chartingMermaidHighlightItems;
+	private final boolean chartingMermaidSolver;
+	private final boolean chartingProgressPanel;
+	private final Color chartingRequirementsUnmetColor;
+	private final int chartingRouteMaxStops;
+	private final boolean chartingRoutePlanner;
+	private final int chartingRouteRadius;
+	private final Color chartingUnchartedColor;
+	private final boolean chartingWeatherSolver;
+	private final Color courierItemDropOffOverlayColor;
+	private final boolean courierItemIdentification;
+	private final Color courierItemPickupOverlayColor;
+	private final boolean courierItemShowDropOffOverlay;
+	private final boolean courierItemShowPickupOverlay;
+	private final SailingConfig.CrewmateMuteMode crewmatesMuteOverheads;
+	private final Color dangerousRapidsColour;
+	private final boolean disableSailsWhenNotAtHelm;
+	private final boolean hideStopNavigatingDuringTrials;
+	private final boolean highlightCrystalExtractorHarvestable;
+	private final Color highlightCrystalExtractorHarvestableColour;
+	private final boolean highlightCrystalExtractorInactive;
+	private final Color highlightCrystalExtractorInactiveColour;
+	private final boolean highlightLightningCloudStrikes;
+	private final boolean highlightRapids;
+	private final boolean highlightTrimmableSails;
+	private final Color lightningCloudStrikeColour;
+	private final Notification lowBoatHPNotification;
+	private final int lowBoatHPThreshold;
+	private final Color navigationOverlayColour;
+	private final boolean navigationOverlayHeading;
+	private final SailingConfig.NavigationOverlayMode navigationOverlayMode;
+	private final boolean navigationOverlaySpeed;
+	private final boolean navigationTrajectory;
+	private final Color navigationTrajectoryColour;
+	private final Color navigationTrajectoryHazardColour;
+	private final Notification navigationTrajectoryHazardNotification;
+	private final int navigationTrajectoryTicks;
+	private final SailingConfig.TrueTileMode navigationTrueTileIndicator;
+	private final Color navigationTrueTileIndicatorColor;
+	private final boolean navigationWaterRouteWorldMap;
+	private final boolean navigationWaterRouting;
+	private final Notification notifyCastawaySpawn;
+	private final Notification notifyClueCasketSpawn;
+	private final Notification notifyClueTurtleSpawn;
+	private final Notification notifyCrystalExtractorHarvestable;
+	private final Notification notifyGiantClamSpawn;
+	private final Notification notifyLostShipmentSpawn;
+	private final Notification notifyMysteriousGlowSpawn;
+	private final Notification notifyOceanManSpawn;
+	private final boolean prioritizeCargoHold;
+	private final boolean reverseBeep;
+	private final int reverseBeepVolume;
+	private final Color safeRapidsColor;
+	private final SailingConfig.SailHighlightMode sailHighlightMode;
+	private final Color salvagingHighLevelWrecksColour;
+	private final boolean salvagingHighlightActiveWrecks;
+	private final Color salvagingHighlightActiveWrecksColour;
+	private final boolean salvagingHighlightHighLevelWrecks;
+	private final boolean salvagingHighlightInactiveWrecks;
+	private final Color salvagingHighlightInactiveWrecksColour;
+	private final SailingConfig.ShowChartsMode showCharts;
+	private final SailingConfig.ShowChartsMode showChartsOnMap;
+	private final boolean showSpeedBoostInfoBox;
+	private final Color unknownRapidsColour;
+
+	private SailingConfigSnapshot(SailingConfig config)
+	{
+		this.barracudaHidePortalTransitions = config.barracudaHidePortalTransitions();
+		this.barracudaHighlightLostCrates = config.barracudaHighlightLostCrates();
+		this.barracudaHighlightLostCratesColour = config.barracudaHighlightLostCratesColour();
+		this.barracudaJubblyJiveShowToadyTargets = config.barracudaJubblyJiveShowToadyTargets();
+		this.barracudaSplitsChatMessage = config.barracudaSplitsChatMessage();
+		this.barracudaSplitsOverlayPanel = config.barracudaSplitsOverlayPanel();
+		this.barracudaSplitsToFile = config.barracudaSplitsToFile();
+		this.barracudaTemporTantrumShowRumTarget = config.barracudaTemporTantrumShowRumTarget();
+		this.cargoHoldColourEmpty = config.cargoHoldColourEmpty();
+		this.cargoHoldColourFull = config.cargoHoldColourFull();
+		this.cargoHoldShowCounts = config.cargoHoldShowCounts();
+		this.chartingChartedColor = config.chartingChartedColor();
+		this.chartingCompass = config.chartingCompass();
+		this.chartingDuckSolver = config.chartingDuckSolver();
+		this.chartingMermaidHighlightItems = config.chartingMermaidHighlightItems();
+		this.chartingMermaidSolver = config.chartingMermaidSolver();
+		this.chartingProgressPanel = config.chartingProgressPanel();
+		this.chartingRequirementsUnmetColor = config.chartingRequirementsUnmetColor();
+		this.chartingRouteMaxStops = config.chartingRouteMaxStops();
+		this.chartingRoutePlanner = config.chartingRoutePlanner();
+		this.chartingRouteRadius = config.chartingRouteRadius();
+		this.chartingUnchartedColor = config.chartingUnchartedColor();
+		this.chartingWeatherSolver = config.chartingWeatherSolver();
+		this.courierItemDropOffOverlayColor = config.courierItemDropOffOverlayColor();
+		this.courierItemIdentification = config.courierItemIdentification();
+		this.courierItemPickupOverlayColor = config.courierItemPickupOverlayColor();
+		this.courierItemShowDropOffOverlay = config.courierItemShowDropOffOverlay();
+		this.courierItemShowPickupOverlay = config.courierItemShowPickupOverlay();
+		this.crewmatesMuteOverheads = config.crewmatesMuteOverheads();
+		this.dangerousRapidsColour = config.dangerousRapidsColour();
+		this.disableSailsWhenNotAtHelm = config.disableSailsWhenNotAtHelm();
+		this.hideStopNavigatingDuringTrials = config.hideStopNavigatingDuringTrials();
+		this.highlightCrystalExtractorHarvestable = config.highlightCrystalExtractorHarvestable();
+		this.highlightCrystalExtractorHarvestableColour = config.highlightCrystalExtractorHarvestableColour();
+		this.highlightCrystalExtractorInactive = config.highlightCrystalExtractorInactive();
+		this.highlightCrystalExtractorInactiveColour = config.highlightCrystalExtractorInactiveColour();
+		this.highlightLightningCloudStrikes = config.highlightLightningCloudStrikes();
+		this.highlightRapids = config.highlightRapids();
+		this.highlightTrimmableSails = config.highlightTrimmableSails();
+		this.lightningCloudStrikeColour = config.lightningCloudStrikeColour();
+		this.lowBoatHPNotification = config.lowBoatHPNotification();
+		this.lowBoatHPThreshold = config.lowBoatHPThreshold();
+		this.navigationOverlayColour = config.navigationOverlayColour();
+		this.navigationOverlayHeading = config.navigationOverlayHeading();
+		this.navigationOverlayMode = config.navigationOverlayMode();
+		this.navigationOverlaySpeed = config.navigationOverlaySpeed();
+		this.navigationTrajectory = config.navigationTrajectory();
+		this.navigationTrajectoryColour = config.navigationTrajectoryColour();
+		this.navigationTrajectoryHazardColour = config.navigationTrajectoryHazardColour();
+		this.navigationTrajectoryHazardNotification = config.navigationTrajectoryHazardNotification();
+		this.navigationTrajectoryTicks = config.navigationTrajectoryTicks();
+		this.navigationTrueTileIndicator = config.navigationTrueTileIndicator();
+		this.navigationTrueTileIndicatorColor = config.navigationTrueTileIndicatorColor();
+		this.navigationWaterRouteWorldMap = config.navigationWaterRouteWorldMap();
+		this.navigationWaterRouting = config.navigationWaterRouting();
+		this.notifyCastawaySpawn = config.notifyCastawaySpawn();
+		this.notifyClueCasketSpawn = config.notifyClueCasketSpawn();
+		this.notifyClueTurtleSpawn = config.notifyClueTurtleSpawn();
+		this.notifyCrystalExtractorHarvestable = config.notifyCrystalExtractorHarvestable();
+		this.notifyGiantClamSpawn = config.notifyGiantClamSpawn();
+		this.notifyLostShipmentSpawn = config.notifyLostShipmentSpawn();
+		this.notifyMysteriousGlowSpawn = config.notifyMysteriousGlowSpawn();
+		this.notifyOceanManSpawn = config.notifyOceanManSpawn();
+		this.prioritizeCargoHold = config.prioritizeCargoHold();
+		this.reverseBeep = config.reverseBeep();
+		this.reverseBeepVolume = config.reverseBeepVolume();
+		this.safeRapidsColor = config.safeRapidsColor();
+		this.sailHighlightMode = config.sailHighlightMode();
+		this.salvagingHighLevelWrecksColour = config.salvagingHighLevelWrecksColour();
+		this.salvagingHighlightActiveWrecks = config.salvagingHighlightActiveWrecks();
+		this.salvagingHighlightActiveWrecksColour = config.salvagingHighlightActiveWrecksColour();
+		this.salvagingHighlightHighLevelWrecks = config.salvagingHighlightHighLevelWrecks();
+		this.salvagingHighlightInactiveWrecks = config.salvagingHighlightInactiveWrecks();
+		this.salvagingHighlightInactiveWrecksColour = config.salvagingHighlightInactiveWrecksColour();
+		this.showCharts = config.showCharts();
+		this.showChartsOnMap = config.showChartsOnMap();
+		this.showSpeedBoostInfoBox = config.showSpeedBoostInfoBox();
+		this.unknownRapidsColour = config.unknownRapidsColour();
+	}
+
+	public static SailingConfigSnapshot of(SailingConfig config)
+	{
+		return new SailingConfigSnapshot(config);
+	}
+
+	@Override
+	public boolean barracudaHidePortalTransitions()
+	{
+		return barracudaHidePortalTransitions;
+	}
+
+	@Override
+	public boolean barracudaHighlightLostCrates()
+	{
+		return barracudaHighlightLostCrates;
+	}
+
+	@Override
+	public Color barracudaHighlightLostCratesColour()
+	{
+		return barracudaHighlightLostCratesColour;
+	}
+
+	@Override
+	public boolean barracudaJubblyJiveShowToadyTargets()
+	{
+		return barracudaJubblyJiveShowToadyTargets;
+	}
+
+	@Override
+	public boolean barracudaSplitsChatMessage()
+	{
+		return barracudaSplitsChatMessage;
+	}
+
+	@Override
+	public boolean barracudaSplitsOverlayPanel()
+	{
+		return barracudaSplitsOverlayPanel;
+	}
+
+	@Override
+	public SailingConfig.BarracudaSplitsToFileMode barracudaSplitsToFile()
+	{
+		return barracudaSplitsToFile;
+	}
+
+	@Override
+	public boolean barracudaTemporTantrumShowRumTarget()
+	{
+		return barracudaTemporTantrumShowRumTarget;
+	}
+
+	@Override
+	public Color cargoHoldColourEmpty()
+	{
+		return cargoHoldColourEmpty;
+	}
+
+	@Override
+	public Color cargoHoldColourFull()
+	{
+		return cargoHoldColourFull;
+	}
+
+	@Override
+	public boolean cargoHoldShowCounts()
+	{
+		return cargoHoldShowCounts;
+	}
+
+	@Override
+	public Color chartingChartedColor()
+	{
+		return chartingChartedColor;
+	}
+
+	@Override
+	public SailingConfig.ChartingCompassMode chartingCompass()
+	{
+		return chartingCompass;
+	}
+
+	@Override
+	public boolean chartingDuckSolver()
+	{
+		return chartingDuckSolver;
+	}
+
+	@Override
+	public boolean chartingMermaidHighlightItems()
+	{
+		return chartingMermaidHighlightItems;
+	}
+
+	@Override
+	public boolean chartingMermaidSolver()
+	{
+		return chartingMermaidSolver;
+	}
+
+	@Override
+	public boolean chartingProgressPanel()
+	{
+		return chartingProgressPanel;
+	}
+
+	@Override
+	public Color chartingRequirementsUnmetColor()
+	{
+		return chartingRequirementsUnmetColor;
+	}
+
+	@Override
+	public int chartingRouteMaxStops()
+	{
+		return chartingRouteMaxStops;
+	}
+
+	@Override
+	public boolean chartingRoutePlanner()
+	{
+		return chartingRoutePlanner;
+	}
+
+	@Override
+	public int chartingRouteRadius()
+	{
+		return chartingRouteRadius;
+	}
+
+	@Override
+	public Color chartingUnchartedColor()
+	{
+		return chartingUnchartedColor;
+	}
+
+	@Override
+	public boolean chartingWeatherSolver()
+	{
+		return chartingWeatherSolver;
+	}
+
+	@Override
+	public Color courierItemDropOffOverlayColor()
+	{
+		return courierItemDropOffOverlayColor;
+	}
+
+	@Override
+	public boolean courierItemIdentification()
+	{
+		return courierItemIdentification;
+	}
+
+	@Override
+	public Color courierItemPickupOverlayColor()
+	{
+		return courierItemPickupOverlayColor;
+	}
+
+	@Override
+	public boolean courierItemShowDropOffOverlay()
+	{
+		return courierItemShowDropOffOverlay;
+	}
+
+	@Override
+	public boolean courierItemShowPickupOverlay()
+	{
+		return courierItemShowPickupOverlay;
+	}
+
+	@Override
+	public SailingConfig.CrewmateMuteMode crewmatesMuteOverheads()
+	{
+		return crewmatesMuteOverheads;
+	}
+
+	@Override
+	public Color dangerousRapidsColour()
+	{
+		return dangerousRapidsColour;
+	}
+
+	@Override
+	public boolean disableSailsWhenNotAtHelm()
+	{
+		return disableSailsWhenNotAtHelm;
+	}
+
+	@Override
+	public boolean hideStopNavigatingDuringTrials()
+	{
+		return hideStopNavigatingDuringTrials;
+	}
+
+	@Override
+	public boolean highlightCrystalExtractorHarvestable()
+	{
+		return highlightCrystalExtractorHarvestable;
+	}
+
+	@Override
+	public Color highlightCrystalExtractorHarvestableColour()
+	{
+		return highlightCrystalExtractorHarvestableColour;
+	}
+
+	@Override
+	public boolean highlightCrystalExtractorInactive()
+	{
+		return highlightCrystalExtractorInactive;
+	}
+
+	@Override
+	public Color highlightCrystalExtractorInactiveColour()
+	{
+		return highlightCrystalExtractorInactiveColour;
+	}
+
+	@Override
+	public boolean highlightLightningCloudStrikes()
+	{
+		return highlightLightningCloudStrikes;
+	}
+
+	@Override
+	public boolean highlightRapids()
+	{
+		return highlightRapids;
+	}
+
+	@Override
+	public boolean highlightTrimmableSails()
+	{
+		return highlightTrimmableSails;
+	}
+
+	@Override
+	public Color lightningCloudStrikeColour()
+	{
+		return lightningCloudStrikeColour;
+	}
+
+	@Override
+	public Notification lowBoatHPNotification()
+	{
+		return lowBoatHPNotification;
+	}
+
+	@Override
+	public int lowBoatHPThreshold()
+	{
+		return lowBoatHPThreshold;
+	}
+
+	@Override
+	public Color navigationOverlayColour()
+	{
+		return navigationOverlayColour;
+	}
+
+	@Override
+	public boolean navigationOverlayHeading()
+	{
+		return navigationOverlayHeading;
+	}
+
+	@Override
+	public SailingConfig.NavigationOverlayMode navigationOverlayMode()
+	{
+		return navigationOverlayMode;
+	}
+
+	@Override
+	public boolean navigationOverlaySpeed()
+	{
+		return navigationOverlaySpeed;
+	}
+
+	@Override
+	public boolean navigationTrajectory()
+	{
+		return navigationTrajectory;
+	}
+
+	@Override
+	public Color navigationTrajectoryColour()
+	{
+		return navigationTrajectoryColour;
+	}
+
+	@Override
+	public Color navigationTrajectoryHazardColour()
+	{
+		return navigationTrajectoryHazardColour;
+	}
+
+	@Override
+	public Notification navigationTrajectoryHazardNotification()
+	{
+		return navigationTrajectoryHazardNotification;
+	}
+
+	@Override
+	public int navigationTrajectoryTicks()
+	{
+		return navigationTrajectoryTicks;
+	}
+
+	@Override
+	public SailingConfig.TrueTileMode navigationTrueTileIndicator()
+	{
+		return navigationTrueTileIndicator;
+	}
+
+	@Override
+	public Color navigationTrueTileIndicatorColor()
+	{
+		return navigationTrueTileIndicatorColor;
+	}
+
+	@Override
+	public boolean navigationWaterRouteWorldMap()
+	{
+		return navigationWaterRouteWorldMap;
+	}
+
+	@Override
+	public boolean navigationWaterRouting()
+	{
+		return navigationWaterRouting;
+	}
+
+	@Override
+	public Notification notifyCastawaySpawn()
+	{
+		return notifyCastawaySpawn;
+	}
+
+	@Override
+	public Notification notifyClueCasketSpawn()
+	{
+		return notifyClueCasketSpawn;
+	}
+
+	@Override
+	public Notification notifyClueTurtleSpawn()
+	{
+		return notifyClueTurtleSpawn;
+	}
+
+	@Override
+	public Notification notifyCrystalExtractorHarvestable()
+	{
+		return notifyCrystalExtractorHarvestable;
+	}
+
+	@Override
+	public Notification notifyGiantClamSpawn()
+	{
+		return notifyGiantClamSpawn;
+	}
+
+	@Override
+	public Notification notifyLostShipmentSpawn()
+	{
+		return notifyLostShipmentSpawn;
+	}
+
+	@Override
+	public Notification notifyMysteriousGlowSpawn()
+	{
+		return notifyMysteriousGlowSpawn;
+	}
+
+	@Override
+	public Notification notifyOceanManSpawn()
+	{
+		return notifyOceanManSpawn;
+	}
+
+	@Override
+	public boolean prioritizeCargoHold()
+	{
+		return prioritizeCargoHold;
+	}
+
+	@Override
+	public boolean reverseBeep()
+	{
+		return reverseBeep;
+	}
+
+	@Override
+	public int reverseBeepVolume()
+	{
+		return reverseBeepVolume;
+	}
+
+	@Override
+	public Color safeRapidsColor()
+	{
+		return safeRapidsColor;
+	}
+
+	@Override
+	public SailingConfig.SailHighlightMode sailHighlightMode()
+	{
+		return sailHighlightMode;
+	}
+
+	@Override
+	public Color salvagingHighLevelWrecksColour()
+	{
+		return salvagingHighLevelWrecksColour;
+	}
+
+	@Override
+	public boolean salvagingHighlightActiveWrecks()
+	{
+		return salvagingHighlightActiveWrecks;
+	}
+
+	@Override
+	public Color salvagingHighlightActiveWrecksColour()
+	{
+		return salvagingHighlightActiveWrecksColour;
+	}
+
+	@Override
+	public boolean salvagingHighlightHighLevelWrecks()
+	{
+		return salvagingHighlightHighLevelWrecks;
+	}
+
+	@Override
+	public boolean salvagingHighlightInactiveWrecks()
+	{
+		return salvagingHighlightInactiveWrecks;
+	}
+
+	@Override
+	public Color salvagingHighlightInactiveWrecksColour()
+	{
+		return salvagingHighlightInactiveWrecksColour;
+	}
+
+	@Override
+	public SailingConfig.ShowChartsMode showCharts()
+	{
+		return showCharts;
+	}
+
+	@Override
+	public SailingConfig.ShowChartsMode showChartsOnMap()
+	{
+		return showChartsOnMap;
+	}
+
+	@Override
+	public boolean showSpeedBoostInfoBox()
+	{
+		return showSpeedBoostInfoBox;
+	}
+
+	@Override
+	public Color unknownRapidsColour()
+	{
+		return unknownRapidsColour;
+	}
+}
@@ -1,17 +1,15 @@
 package com.duckblade.osrs.sailing.features.barracudatrials;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
-import net.runelite.api.events.GameTick;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.gameval.InterfaceID;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.Subscribe;
@@ -25,9 +23,7 @@ public class HidePortalTransitions
 
 	private final Client client;
 	private final ClientThread clientThread;
-
-	// fixes a jarring half-snap during course start
-	private boolean wasInTrial;
+	private final SailingState sailingState;
 
 	@Override
 	public boolean isEnabled(SailingConfig config)
@@ -35,22 +31,13 @@ public class HidePortalTransitions
 		return config.barracudaHidePortalTransitions();
 	}
 
-	@Subscribe
-	public void onGameTick(GameTick e)
-	{
-		// not using onVarbitChanged due to event ordering
-		wasInTrial = client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL) != 0;
-	}
-
 	@Subscribe
 	public void onWidgetLoaded(WidgetLoaded e)
 	{
-		if (!SailingUtil.isSailing(client))
-		{
-			return;
-		}
-
-		if (!wasInTrial)
+		// uses the trial flag from the last tick rather than the live varbit due to event ordering,
+		// fixes a jarring half-snap during course start
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		if (!state.isSailing() || !state.isTickInTrial())
 		{
 			return;
 		}
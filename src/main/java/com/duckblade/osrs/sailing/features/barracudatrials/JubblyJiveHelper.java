@@ -1,7 +1,10 @@
 package com.duckblade.osrs.sailing.features.barracudatrials;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.ProjectionCache;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.features.util.SceneBuckets;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -18,13 +21,10 @@ import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.ObjectID;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
@@ -66,16 +66,23 @@ public class JubblyJiveHelper
 		.build();
 
 	private final Client client;
+	private final SailingState sailingState;
+	private final GameObjectRouter gameObjectRouter;
+	private final ProjectionCache projectionCache;
 
 	// realized version of OUTCROP_WIDGET_CHILDREN_IDS
 	private final Map<GameObject, Integer> outcrops = new HashMap<>();
+	private final SceneBuckets<GameObject> outcropBuckets = new SceneBuckets<>(GameObject::getWorldLocation);
 
 	private boolean active;
 
 	@Inject
-	public JubblyJiveHelper(Client client)
+	public JubblyJiveHelper(Client client, SailingState sailingState, GameObjectRouter gameObjectRouter, ProjectionCache projectionCache)
 	{
 		this.client = client;
+		this.sailingState = sailingState;
+		this.gameObjectRouter = gameObjectRouter;
+		this.projectionCache = projectionCache;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -87,12 +94,19 @@ public class JubblyJiveHelper
 		return config.barracudaJubblyJiveShowToadyTargets();
 	}
 
+	@Override
+	public void startUp()
+	{
+		gameObjectRouter.register(this, OUTCROP_WIDGET_CHILDREN_IDS.keySet(), this::onOutcropSpawned, this::onOutcropDespawned);
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick e)
 	{
-		boolean nowActive = client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL) != 0 &&
-			SailingUtil.isSailing(client) &&
-			BarracudaTrial.JUBBLY_JIVE.getArea().contains(SailingUtil.getTopLevelWorldPoint(client));
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		boolean nowActive = state.isInTrial() &&
+			state.isSailing() &&
+			BarracudaTrial.JUBBLY_JIVE.getArea().contains(state.getTopLevelWorldPoint());
 
 		if (active != nowActive)
 		{
@@ -101,21 +115,16 @@ public class JubblyJiveHelper
 		}
 	}
 
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
+	private void onOutcropSpawned(GameObject o)
 	{
-		GameObject o = e.getGameObject();
-		Integer childIndex = OUTCROP_WIDGET_CHILDREN_IDS.get(o.getId());
-		if (childIndex != null)
-		{
-			outcrops.put(o, childIndex);
-		}
+		outcrops.put(o, OUTCROP_WIDGET_CHILDREN_IDS.get(o.getId()));
+		outcropBuckets.add(o);
 	}
 
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
+	private void onOutcropDespawned(GameObject o)
 	{
-		outcrops.remove(e.getGameObject());
+		outcrops.remove(o);
+		outcropBuckets.remove(o);
 	}
 
 	@Subscribe
@@ -124,6 +133,7 @@ public class JubblyJiveHelper
 		if (e.getWorldView().isTopLevel())
 		{
 			outcrops.clear();
+			outcropBuckets.clear();
 		}
 	}
 
@@ -141,22 +151,22 @@ public class JubblyJiveHelper
 			return null;
 		}
 
-		for (Map.Entry<GameObject, Integer> o : outcrops.entrySet())
-		{
-			GameObject obj = o.getKey();
-			int childIx = o.getValue();
+		// if we're on the final jubbly, only render the outcrops in front of the jubbly
+		int hiddenUpTo = getJubbliesRemaining() == 1 ? getJubblyLocation() : -1;
 
-			// if we're on the final jubbly, only render the outcrops in front of the jubbly
-			if (getJubbliesRemaining() == 1 && childIx <= getJubblyLocation())
+		projectionCache.forEachVisible(outcropBuckets, 2, obj ->
+		{
+			int childIx = outcrops.get(obj);
+			if (childIx <= hiddenUpTo)
 			{
-				continue;
+				return;
 			}
 
 			// annoyingly these are dynamic children
 			Widget stateWidget = widget.getChild(childIx);
 			if (stateWidget == null || SPRITE_IDS_OUTCROP_FULL.contains(stateWidget.getSpriteId()))
 			{
-				continue;
+				return;
 			}
 
 			Shape convexHull = obj.getConvexHull();
@@ -168,7 +178,7 @@ public class JubblyJiveHelper
 				graphics.setColor(OUTCROP_HIGHLIGHT_COLOURS.get(obj.getId()));
 				graphics.draw(convexHull);
 			}
-		}
+		});
 
 		return null;
 	}
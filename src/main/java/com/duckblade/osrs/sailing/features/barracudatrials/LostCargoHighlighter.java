@@ -1,13 +1,15 @@
 package com.duckblade.osrs.sailing.features.barracudatrials;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.util.ProjectionCache;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SceneBuckets;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.util.HashSet;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -15,9 +17,6 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.ObjectComposition;
-import net.runelite.api.Perspective;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.client.eventbus.Subscribe;
@@ -225,14 +224,18 @@ public class LostCargoHighlighter
 	);
 
 	private final Client client;
+	private final GameObjectRouter gameObjectRouter;
+	private final ProjectionCache projectionCache;
 
-	private final Set<GameObject> lostCargo = new HashSet<>();
+	private final SceneBuckets<GameObject> lostCargo = new SceneBuckets<>(GameObject::getWorldLocation);
 	private Color crateColour;
 
 	@Inject
-	public LostCargoHighlighter(Client client)
+	public LostCargoHighlighter(Client client, GameObjectRouter gameObjectRouter, ProjectionCache projectionCache)
 	{
 		this.client = client;
+		this.gameObjectRouter = gameObjectRouter;
+		this.projectionCache = projectionCache;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -245,6 +248,12 @@ public class LostCargoHighlighter
 		return config.barracudaHighlightLostCrates();
 	}
 
+	@Override
+	public void startUp()
+	{
+		gameObjectRouter.register(this, LOST_CARGO_IDS, lostCargo::add, lostCargo::remove);
+	}
+
 	@Override
 	public void shutDown()
 	{
@@ -260,37 +269,21 @@ public class LostCargoHighlighter
 		}
 	}
 
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
-	{
-		GameObject o = e.getGameObject();
-		if (LOST_CARGO_IDS.contains(o.getId()))
-		{
-			lostCargo.add(o);
-		}
-	}
-
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
-	{
-		lostCargo.remove(e.getGameObject());
-	}
-
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		for (GameObject o : lostCargo)
+		projectionCache.forEachVisible(lostCargo, 3, o ->
 		{
 			ObjectComposition def = SailingUtil.getTransformedObject(client, o);
 			if (def != null)
 			{
-				var poly = Perspective.getCanvasTileAreaPoly(client, o.getLocalLocation(), 5);
+				var poly = projectionCache.getTileAreaPoly(o.getLocalLocation(), 5);
 				if (poly != null)
 				{
 					OverlayUtil.renderPolygon(g, poly, crateColour);
 				}
 			}
-		}
+		});
 
 		return null;
 	}
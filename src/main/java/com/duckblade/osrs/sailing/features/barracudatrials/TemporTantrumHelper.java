@@ -1,7 +1,8 @@
 package com.duckblade.osrs.sailing.features.barracudatrials;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -13,13 +14,10 @@ import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.ObjectID;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
@@ -38,6 +36,8 @@ public class TemporTantrumHelper
 	private static final Color COLOUR_RUM = new Color(0xB24727);
 
 	private final Client client;
+	private final SailingState sailingState;
+	private final GameObjectRouter gameObjectRouter;
 
 	private boolean active;
 
@@ -45,9 +45,11 @@ public class TemporTantrumHelper
 	private GameObject dropOff;
 
 	@Inject
-	public TemporTantrumHelper(Client client)
+	public TemporTantrumHelper(Client client, SailingState sailingState, GameObjectRouter gameObjectRouter)
 	{
 		this.client = client;
+		this.sailingState = sailingState;
+		this.gameObjectRouter = gameObjectRouter;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -59,12 +61,42 @@ public class TemporTantrumHelper
 		return config.barracudaTemporTantrumShowRumTarget();
 	}
 
+	@Override
+	public void startUp()
+	{
+		gameObjectRouter.register(
+			this,
+			new int[]{ObjectID.SAILING_BT_TEMPOR_TANTRUM_SOUTH_LOC_PARENT},
+			o -> pickUp = o,
+			o ->
+			{
+				if (o == pickUp)
+				{
+					pickUp = null;
+				}
+			}
+		);
+		gameObjectRouter.register(
+			this,
+			new int[]{ObjectID.SAILING_BT_TEMPOR_TANTRUM_NORTH_LOC_PARENT},
+			o -> dropOff = o,
+			o ->
+			{
+				if (o == dropOff)
+				{
+					dropOff = null;
+				}
+			}
+		);
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick e)
 	{
-		boolean nowActive = client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL) != 0 &&
-			SailingUtil.isSailing(client) &&
-			BarracudaTrial.TEMPOR_TANTRUM.getArea().contains(SailingUtil.getTopLevelWorldPoint(client));
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		boolean nowActive = state.isInTrial() &&
+			state.isSailing() &&
+			BarracudaTrial.TEMPOR_TANTRUM.getArea().contains(state.getTopLevelWorldPoint());
 
 		if (active != nowActive)
 		{
@@ -73,33 +105,6 @@ public class TemporTantrumHelper
 		}
 	}
 
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
-	{
-		GameObject o = e.getGameObject();
-		if (o.getId() == ObjectID.SAILING_BT_TEMPOR_TANTRUM_SOUTH_LOC_PARENT)
-		{
-			pickUp = o;
-		}
-		if (o.getId() == ObjectID.SAILING_BT_TEMPOR_TANTRUM_NORTH_LOC_PARENT)
-		{
-			dropOff = o;
-		}
-	}
-
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
-	{
-		if (e.getGameObject() == pickUp)
-		{
-			pickUp = null;
-		}
-		if (e.getGameObject() == dropOff)
-		{
-			dropOff = null;
-		}
-	}
-
 	@Subscribe
 	public void onWorldViewUnloaded(WorldViewUnloaded e)
 	{
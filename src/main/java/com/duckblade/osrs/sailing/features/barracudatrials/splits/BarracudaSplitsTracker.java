@@ -2,7 +2,7 @@ package com.duckblade.osrs.sailing.features.barracudatrials.splits;
 
 import com.duckblade.osrs.sailing.features.barracudatrials.BarracudaDifficulty;
 import com.duckblade.osrs.sailing.features.barracudatrials.BarracudaTrial;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,6 +31,7 @@ public class BarracudaSplitsTracker
 
 	private final Client client;
 	private final EventBus eventBus;
+	private final SailingState sailingState;
 
 	@Getter
 	private final List<BarracudaSplit> splits = new ArrayList<>();
@@ -60,7 +61,8 @@ public class BarracudaSplitsTracker
 	@Subscribe
 	public void onGameTick(GameTick e)
 	{
-		if (!SailingUtil.isSailing(client))
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		if (!state.isSailing())
 		{
 			return;
 		}
@@ -71,7 +73,7 @@ public class BarracudaSplitsTracker
 			splits.clear();
 			inRun = true;
 
-			trial = BarracudaTrial.byLocation(SailingUtil.getTopLevelWorldPoint(client));
+			trial = BarracudaTrial.byLocation(state.getTopLevelWorldPoint());
 			difficulty = BarracudaDifficulty.current(client);
 			if (trial == null || difficulty == null)
 			{
@@ -0,0 +1,149 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Charted and available task counts by {@link SeaChartTaskType} and {@link SeaChartRegion},
+ * adjusted one task at a time as its completion or requirement state changes.
+ * Available means uncharted with the level and quest requirements met.
+ * Not thread safe, read through {@link #copy()} from other threads.
+ */
+class ChartProgressAggregates
+{
+
+	private static final SeaChartTask[] TASKS = SeaChartTask.values();
+	private static final int TYPES = SeaChartTaskType.values().length;
+	private static final int REGIONS = SeaChartRegion.values().length;
+
+	private final BitSet complete;
+	private final BitSet available;
+
+	private final int[] typeTotal;
+	private final int[] typeComplete;
+	private final int[] typeAvailable;
+
+	private final int[] regionTotal;
+	private final int[] regionComplete;
+	private final int[] regionAvailable;
+
+	ChartProgressAggregates()
+	{
+		complete = new BitSet(TASKS.length);
+		available = new BitSet(TASKS.length);
+
+		typeTotal = new int[TYPES];
+		typeComplete = new int[TYPES];
+		typeAvailable = new int[TYPES];
+		regionTotal = new int[REGIONS];
+		regionComplete = new int[REGIONS];
+		regionAvailable = new int[REGIONS];
+
+		for (SeaChartTask task : TASKS)
+		{
+			typeTotal[task.getType().ordinal()]++;
+			regionTotal[task.getRegion().ordinal()]++;
+		}
+	}
+
+	private ChartProgressAggregates(ChartProgressAggregates other)
+	{
+		complete = (BitSet) other.complete.clone();
+		available = (BitSet) other.available.clone();
+
+		typeTotal = other.typeTotal.clone();
+		typeComplete = other.typeComplete.clone();
+		typeAvailable = other.typeAvailable.clone();
+		regionTotal = other.regionTotal.clone();
+		regionComplete = other.regionComplete.clone();
+		regionAvailable = other.regionAvailable.clone();
+	}
+
+	ChartProgressAggregates copy()
+	{
+		return new ChartProgressAggregates(this);
+	}
+
+	// returns whether any count changed
+	boolean update(SeaChartTask task, boolean isComplete, boolean hasRequirements)
+	{
+		int i = task.ordinal();
+		boolean isAvailable = !isComplete && hasRequirements;
+		int dComplete = delta(complete.get(i), isComplete);
+		int dAvailable = delta(available.get(i), isAvailable);
+		if (dComplete == 0 && dAvailable == 0)
+		{
+			return false;
+		}
+
+		complete.set(i, isComplete);
+		available.set(i, isAvailable);
+
+		int type = task.getType().ordinal(), region = task.getRegion().ordinal();
+		typeComplete[type] += dComplete;
+		typeAvailable[type] += dAvailable;
+		regionComplete[region] += dComplete;
+		regionAvailable[region] += dAvailable;
+		return true;
+	}
+
+	void clear()
+	{
+		complete.clear();
+		available.clear();
+		Arrays.fill(typeComplete, 0);
+		Arrays.fill(typeAvailable, 0);
+		Arrays.fill(regionComplete, 0);
+		Arrays.fill(regionAvailable, 0);
+	}
+
+	int getTotal()
+	{
+		return TASKS.length;
+	}
+
+	int getComplete()
+	{
+		return complete.cardinality();
+	}
+
+	int getAvailable()
+	{
+		return available.cardinality();
+	}
+
+	int getTotal(SeaChartTaskType type)
+	{
+		return typeTotal[type.ordinal()];
+	}
+
+	int getComplete(SeaChartTaskType type)
+	{
+		return typeComplete[type.ordinal()];
+	}
+
+	int getAvailable(SeaChartTaskType type)
+	{
+		return typeAvailable[type.ordinal()];
+	}
+
+	int getTotal(SeaChartRegion region)
+	{
+		return regionTotal[region.ordinal()];
+	}
+
+	int getComplete(SeaChartRegion region)
+	{
+		return regionComplete[region.ordinal()];
+	}
+
+	int getAvailable(SeaChartRegion region)
+	{
+		return regionAvailable[region.ordinal()];
+	}
+
+	private static int delta(boolean was, boolean is)
+	{
+		return was == is ? 0 : is ? 1 : -1;
+	}
+}
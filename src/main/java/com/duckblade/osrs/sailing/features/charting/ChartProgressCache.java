@@ -0,0 +1,246 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import com.duckblade.osrs.sailing.features.util.IntObjectMap;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Quest;
+import net.runelite.api.QuestState;
+import net.runelite.api.Skill;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.gameval.VarPlayerID;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Completion and requirement state of every {@link SeaChartTask}, as bits by task ordinal.
+ * Filled on login and kept up to date from varbit, quest and stat changes,
+ * so overlays don't read varbits or run quest state scripts per frame.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class ChartProgressCache
+	implements PluginLifecycleComponent
+{
+
+	private static final SeaChartTask[] TASKS = SeaChartTask.values();
+
+	private final Client client;
+	private final ClientThread clientThread;
+	private final EventBus eventBus;
+	private final SeaChartTaskIndex taskIndex;
+
+	private final BitSet complete = new BitSet(TASKS.length);
+	private final BitSet requirementsMet = new BitSet(TASKS.length);
+
+	private final IntObjectMap<SeaChartTask> tasksByVarb = new IntObjectMap<>(TASKS.length);
+	private final Map<Quest, BitSet> tasksByQuest = new EnumMap<>(Quest.class);
+	private final Set<Quest> finishedQuests = EnumSet.noneOf(Quest.class);
+	private int sailingLevel;
+
+	// LOGGED_IN also fires after every scene load, only the first one after logging in or hopping reloads everything
+	private boolean needsRefresh;
+
+	@Override
+	public void startUp()
+	{
+		for (SeaChartTask task : TASKS)
+		{
+			tasksByVarb.put(task.getCompletionVarb(), task);
+			tasksByQuest.computeIfAbsent(taskIndex.getTaskQuestRequirement(task), k -> new BitSet(TASKS.length))
+				.set(task.ordinal());
+		}
+
+		needsRefresh = true;
+		clientThread.invokeLater(this::refreshAll);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		tasksByVarb.clear();
+		tasksByQuest.clear();
+		clear();
+	}
+
+	public boolean isComplete(SeaChartTask task)
+	{
+		return complete.get(task.ordinal());
+	}
+
+	public boolean hasRequirements(SeaChartTask task)
+	{
+		return requirementsMet.get(task.ordinal());
+	}
+
+	public int getCompletedCount()
+	{
+		return complete.cardinality();
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged e)
+	{
+		switch (e.getGameState())
+		{
+			case LOGGED_IN:
+				if (needsRefresh)
+				{
+					refreshAll();
+				}
+				break;
+
+			case LOGIN_SCREEN:
+			case HOPPING:
+				needsRefresh = true;
+				post(clear());
+				break;
+		}
+	}
+
+	@Subscribe
+	public void onVarbitChanged(VarbitChanged e)
+	{
+		if (e.getVarpId() == VarPlayerID.QP)
+		{
+			// a quest state changed, only the tasks gated on that quest can change
+			BitSet candidates = new BitSet(TASKS.length);
+			for (Quest quest : refreshQuests())
+			{
+				candidates.or(tasksByQuest.get(quest));
+			}
+			post(refreshRequirements(candidates));
+		}
+
+		SeaChartTask task = tasksByVarb.get(e.getVarbitId());
+		if (task != null && complete.get(task.ordinal()) != (e.getValue() != 0))
+		{
+			complete.set(task.ordinal(), e.getValue() != 0);
+
+			BitSet changed = new BitSet(TASKS.length);
+			changed.set(task.ordinal());
+			post(changed);
+		}
+	}
+
+	@Subscribe
+	public void onStatChanged(StatChanged e)
+	{
+		if (e.getSkill() != Skill.SAILING)
+		{
+			return;
+		}
+
+		int level = client.getRealSkillLevel(Skill.SAILING);
+		if (level == sailingLevel)
+		{
+			return;
+		}
+
+		// only tasks whose level threshold was crossed can change
+		int low = Math.min(level, sailingLevel), high = Math.max(level, sailingLevel);
+		sailingLevel = level;
+
+		BitSet candidates = new BitSet(TASKS.length);
+		for (SeaChartTask task : TASKS)
+		{
+			if (task.getLevel() > low && task.getLevel() <= high)
+			{
+				candidates.set(task.ordinal());
+			}
+		}
+		post(refreshRequirements(candidates));
+	}
+
+	private void refreshAll()
+	{
+		if (client.getGameState() != GameState.LOGGED_IN)
+		{
+			return;
+		}
+		needsRefresh = false;
+
+		BitSet changed = (BitSet) complete.clone();
+		for (SeaChartTask task : TASKS)
+		{
+			complete.set(task.ordinal(), task.isComplete(client));
+		}
+		changed.xor(complete);
+
+		sailingLevel = client.getRealSkillLevel(Skill.SAILING);
+		refreshQuests();
+
+		BitSet all = new BitSet(TASKS.length);
+		all.set(0, TASKS.length);
+		changed.or(refreshRequirements(all));
+
+		log.debug("charting progress loaded, {}/{} complete, {} available, {} changed", complete.cardinality(), TASKS.length, requirementsMet.cardinality(), changed.cardinality());
+		post(changed);
+	}
+
+	// returns the required quests which changed state
+	private Set<Quest> refreshQuests()
+	{
+		Set<Quest> changed = EnumSet.noneOf(Quest.class);
+		for (Quest quest : tasksByQuest.keySet())
+		{
+			boolean finished = quest.getState(client) == QuestState.FINISHED;
+			if (finished ? finishedQuests.add(quest) : finishedQuests.remove(quest))
+			{
+				changed.add(quest);
+			}
+		}
+		return changed;
+	}
+
+	// re-evaluates requirements for the candidate tasks, returns those that flipped
+	private BitSet refreshRequirements(BitSet candidates)
+	{
+		BitSet changed = new BitSet(TASKS.length);
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1))
+		{
+			SeaChartTask task = TASKS[i];
+			boolean met = finishedQuests.contains(taskIndex.getTaskQuestRequirement(task)) && sailingLevel >= task.getLevel();
+			if (met != requirementsMet.get(i))
+			{
+				requirementsMet.set(i, met);
+				changed.set(i);
+			}
+		}
+		return changed;
+	}
+
+	// returns the tasks that had any bit set
+	private BitSet clear()
+	{
+		BitSet changed = (BitSet) complete.clone();
+		changed.or(requirementsMet);
+
+		complete.clear();
+		requirementsMet.clear();
+		finishedQuests.clear();
+		sailingLevel = 0;
+		return changed;
+	}
+
+	private void post(BitSet changed)
+	{
+		if (!changed.isEmpty())
+		{
+			eventBus.post(new ChartProgressChanged(changed));
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.util.BitSet;
+import lombok.Value;
+
+/**
+ * Posted by the {@link ChartProgressCache} after its bits change.
+ */
+@Value
+public class ChartProgressChanged
+{
+
+	// ordinals of the tasks whose completion or requirement bits flipped, don't modify
+	BitSet tasks;
+
+}
@@ -0,0 +1,204 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.swing.SwingUtilities;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.ClientToolbar;
+import net.runelite.client.ui.NavigationButton;
+import net.runelite.client.util.ImageUtil;
+
+/**
+ * Side panel breaking charting progress down by task type and sea region.
+ * Counts are adjusted from {@link ChartProgressChanged} one task at a time,
+ * and the closest available task is only looked up while the panel is open.
+ */
+@Singleton
+public class ChartProgressPanelManager
+	implements PluginLifecycleComponent
+{
+
+	private static final SeaChartTask[] TASKS = SeaChartTask.values();
+
+	// how far the boat moves before the closest task is looked up again
+	private static final int CLOSEST_REFRESH_DISTANCE = 8;
+
+	private final Client client;
+	private final ClientThread clientThread;
+	private final ClientToolbar clientToolbar;
+	private final SeaChartTaskIndex taskIndex;
+	private final ChartProgressCache progressCache;
+	private final SailingState sailingState;
+
+	private final ChartProgressAggregates progress = new ChartProgressAggregates();
+
+	private SeaChartProgressPanel panel;
+	private NavigationButton navigationButton;
+
+	private volatile boolean panelActive;
+
+	// client thread only
+	private boolean dirty;
+	private WorldPoint closestFrom;
+	private SeaChartTask closest;
+
+	@Inject
+	public ChartProgressPanelManager(
+		Client client,
+		ClientThread clientThread,
+		ClientToolbar clientToolbar,
+		SeaChartTaskIndex taskIndex,
+		ChartProgressCache progressCache,
+		SailingState sailingState
+	)
+	{
+		this.client = client;
+		this.clientThread = clientThread;
+		this.clientToolbar = clientToolbar;
+		this.taskIndex = taskIndex;
+		this.progressCache = progressCache;
+		this.sailingState = sailingState;
+	}
+
+	@Override
+	public boolean isEnabled(SailingConfig config)
+	{
+		return config.chartingProgressPanel();
+	}
+
+	@Override
+	public void startUp()
+	{
+		panel = new SeaChartProgressPanel(this::setPanelActive);
+
+		BufferedImage icon = ImageUtil.loadImageResource(ChartProgressPanelManager.class, "generic.png");
+		navigationButton = NavigationButton.builder()
+			.tooltip("Sea Charting")
+			.icon(icon)
+			.priority(8)
+			.panel(panel)
+			.build();
+		clientToolbar.addNavigation(navigationButton);
+
+		// the cache may have loaded before this component started, after this only changes are applied
+		clientThread.invokeLater(() ->
+		{
+			if (client.getGameState() == GameState.LOGGED_IN)
+			{
+				BitSet all = new BitSet(TASKS.length);
+				all.set(0, TASKS.length);
+				apply(all);
+			}
+		});
+	}
+
+	@Override
+	public void shutDown()
+	{
+		clientToolbar.removeNavigation(navigationButton);
+		navigationButton = null;
+		panel = null;
+		panelActive = false;
+
+		progress.clear();
+		dirty = false;
+		closestFrom = null;
+		closest = null;
+	}
+
+	@Subscribe
+	public void onChartProgressChanged(ChartProgressChanged e)
+	{
+		apply(e.getTasks());
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick e)
+	{
+		if (panelActive)
+		{
+			SailingState.Snapshot state = sailingState.getSnapshot();
+			WorldPoint boat = state.isSailing() ? state.getTopLevelWorldPoint() : null;
+			if (boat == null)
+			{
+				if (closestFrom != null)
+				{
+					setClosest(null, null);
+				}
+			}
+			else if (dirty || closestFrom == null || closestFrom.distanceTo2D(boat) >= CLOSEST_REFRESH_DISTANCE)
+			{
+				setClosest(boat, taskIndex.findNearest(boat, this::isAvailable));
+			}
+		}
+
+		if (dirty && panel != null)
+		{
+			dirty = false;
+			SeaChartProgressPanel target = panel;
+			ChartProgressAggregates copy = progress.copy();
+			String closestText = describeClosest();
+			SwingUtilities.invokeLater(() -> target.update(copy, closestText));
+		}
+	}
+
+	private void apply(BitSet changed)
+	{
+		for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1))
+		{
+			SeaChartTask task = TASKS[i];
+			if (progress.update(task, progressCache.isComplete(task), progressCache.hasRequirements(task)))
+			{
+				dirty = true;
+			}
+		}
+	}
+
+	private void setPanelActive(boolean active)
+	{
+		panelActive = active;
+		if (active)
+		{
+			// look the closest task up again on the next tick, the boat may have moved while closed
+			clientThread.invokeLater(() ->
+			{
+				closestFrom = null;
+				dirty = true;
+			});
+		}
+	}
+
+	// the distance shown changes too, so always refresh the panel
+	private void setClosest(WorldPoint from, SeaChartTask task)
+	{
+		closestFrom = from;
+		closest = task;
+		dirty = true;
+	}
+
+	private boolean isAvailable(SeaChartTask task)
+	{
+		return !progressCache.isComplete(task) && progressCache.hasRequirements(task);
+	}
+
+	private String describeClosest()
+	{
+		if (closest == null || closestFrom == null)
+		{
+			return null;
+		}
+
+		return closest.getType().getName() + ", " + closest.getRegion().getName() +
+			" (" + closest.getLocation().distanceTo2D(closestFrom) + " tiles)";
+	}
+}
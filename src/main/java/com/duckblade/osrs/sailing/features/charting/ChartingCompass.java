@@ -0,0 +1,135 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.navigation.WaterRouter;
+import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.SailingGraphicsUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPosition;
+
+/**
+ * Points an arrow from the boat at the nearest uncharted task whose requirements are met.
+ * The nearest task is looked up in the {@link SeaChartTaskIndex} grid only when the boat moves onto
+ * another tile or charting progress changes, rendering just draws the cached target.
+ */
+@Singleton
+public class ChartingCompass
+	extends Overlay
+	implements PluginLifecycleComponent
+{
+
+	private final Client client;
+	private final SeaChartTaskIndex taskIndex;
+	private final ChartProgressCache progressCache;
+	private final BoatTracker boatTracker;
+	private final SailingState sailingState;
+	private final WaterRouter waterRouter;
+
+	// null for any type
+	private SeaChartTaskType type;
+	private Color color;
+
+	private WorldPoint searchedFrom;
+	private boolean stale;
+	private SeaChartTask target;
+
+	@Inject
+	public ChartingCompass(
+		Client client,
+		SeaChartTaskIndex taskIndex,
+		ChartProgressCache progressCache,
+		BoatTracker boatTracker,
+		SailingState sailingState,
+		WaterRouter waterRouter
+	)
+	{
+		this.client = client;
+		this.taskIndex = taskIndex;
+		this.progressCache = progressCache;
+		this.boatTracker = boatTracker;
+		this.sailingState = sailingState;
+		this.waterRouter = waterRouter;
+
+		setPosition(OverlayPosition.DYNAMIC);
+		setLayer(OverlayLayer.ABOVE_SCENE);
+	}
+
+	@Override
+	public boolean isEnabled(SailingConfig config)
+	{
+		SailingConfig.ChartingCompassMode mode = config.chartingCompass();
+		type = mode == SailingConfig.ChartingCompassMode.NONE || mode == SailingConfig.ChartingCompassMode.ALL
+			? null
+			: SeaChartTaskType.valueOf(mode.name());
+		color = config.chartingUnchartedColor();
+		stale = true;
+		return mode != SailingConfig.ChartingCompassMode.NONE;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		searchedFrom = null;
+		target = null;
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick e)
+	{
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		WorldPoint boat = state.getTopLevelWorldPoint();
+		if (!state.isSailing() || boat == null)
+		{
+			searchedFrom = null;
+			target = null;
+			return;
+		}
+
+		if (!stale && boat.equals(searchedFrom))
+		{
+			return;
+		}
+
+		searchedFrom = boat;
+		stale = false;
+		target = taskIndex.findNearest(boat, this::isTarget);
+	}
+
+	@Subscribe
+	public void onChartProgressChanged(ChartProgressChanged e)
+	{
+		stale = true;
+	}
+
+	@Override
+	public Dimension render(Graphics2D g)
+	{
+		SeaChartTask task = target;
+		if (task == null || !sailingState.getSnapshot().isSailing())
+		{
+			return null;
+		}
+
+		SailingGraphicsUtil.renderBoatArrowTowardPoint(g, client, boatTracker, waterRouter.nextWaypoint(task.getLocation()), color);
+		return null;
+	}
+
+	private boolean isTarget(SeaChartTask task)
+	{
+		return (type == null || task.getType() == type) &&
+			!progressCache.isComplete(task) &&
+			progressCache.hasRequirements(task);
+	}
+}
@@ -0,0 +1,377 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.navigation.WaterRouter;
+import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.SailingGraphicsUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.worldmap.WorldMapPointManager;
+
+/**
+ * Plans a short visiting order through the nearby charting tasks that are still available,
+ * shown as numbered world map points and an arrow from the boat to the next stop.
+ * Solving runs on the executor, completed stops are dropped from the existing route and only re-optimised.
+ */
+@Slf4j
+@Singleton
+public class ChartingRoutePlanner
+	extends Overlay
+	implements PluginLifecycleComponent
+{
+
+	private static final long SOLVE_BUDGET_MS = 50;
+	private static final long IMPROVE_BUDGET_MS = 10;
+
+	private final Client client;
+	private final ClientThread clientThread;
+	private final ScheduledExecutorService executor;
+	private final WorldMapPointManager worldMapPointManager;
+	private final SeaChartTaskIndex taskIndex;
+	private final ChartProgressCache progressCache;
+	private final BoatTracker boatTracker;
+	private final SailingState sailingState;
+	private final WaterRouter waterRouter;
+
+	private int radius;
+	private int maxStops;
+
+	// only touched on the client thread, solver jobs work on their own copies
+	private Route route;
+	private boolean replan;
+	private int generation;
+	private boolean solving;
+
+	private final List<ChartingRouteWorldMapPoint> mapPoints = new ArrayList<>();
+
+	// a solved visiting order, dist is indexed by stop with 0 as the start point
+	private static class Route
+	{
+		final WorldPoint origin;
+		final SeaChartTask[] stops;
+		final int[][] dist;
+		final int[] order;
+
+		Route(WorldPoint origin, SeaChartTask[] stops, int[][] dist, int[] order)
+		{
+			this.origin = origin;
+			this.stops = stops;
+			this.dist = dist;
+			this.order = order;
+		}
+
+		SeaChartTask next()
+		{
+			return order.length > 0 ? stops[order[0] - 1] : null;
+		}
+
+		Route without(BitSet removed)
+		{
+			int[] kept = new int[order.length];
+			int n = 0;
+			for (int stop : order)
+			{
+				if (!removed.get(stops[stop - 1].ordinal()))
+				{
+					kept[n++] = stop;
+				}
+			}
+			return new Route(origin, stops, dist, Arrays.copyOf(kept, n));
+		}
+
+		// the same stops measured from start, origin is kept as where the stops were searched from
+		Route from(WorldPoint start)
+		{
+			int[] fromStart = new int[stops.length + 1];
+			for (int i = 0; i < stops.length; i++)
+			{
+				fromStart[i + 1] = chebyshev(start, stops[i].getLocation());
+			}
+			return new Route(origin, stops, ChartingRouteSolver.withStart(dist, fromStart), order);
+		}
+	}
+
+	@Inject
+	public ChartingRoutePlanner(
+		Client client,
+		ClientThread clientThread,
+		ScheduledExecutorService executor,
+		WorldMapPointManager worldMapPointManager,
+		SeaChartTaskIndex taskIndex,
+		ChartProgressCache progressCache,
+		BoatTracker boatTracker,
+		SailingState sailingState,
+		WaterRouter waterRouter
+	)
+	{
+		this.client = client;
+		this.clientThread = clientThread;
+		this.executor = executor;
+		this.worldMapPointManager = worldMapPointManager;
+		this.taskIndex = taskIndex;
+		this.progressCache = progressCache;
+		this.boatTracker = boatTracker;
+		this.sailingState = sailingState;
+		this.waterRouter = waterRouter;
+
+		setPosition(OverlayPosition.DYNAMIC);
+		setLayer(OverlayLayer.ABOVE_SCENE);
+	}
+
+	@Override
+	public boolean isEnabled(SailingConfig config)
+	{
+		int radius = config.chartingRouteRadius();
+		int maxStops = config.chartingRouteMaxStops();
+		if (radius != this.radius || maxStops != this.maxStops)
+		{
+			this.radius = radius;
+			this.maxStops = maxStops;
+			replan = true;
+		}
+		return config.chartingRoutePlanner();
+	}
+
+	@Override
+	public void startUp()
+	{
+		replan = true;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		// drops any in-flight solve
+		generation++;
+		solving = false;
+		route = null;
+		clientThread.invokeLater(this::clearMapPoints);
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick e)
+	{
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		WorldPoint boat = state.getTopLevelWorldPoint();
+		if (!state.isSailing() || boat == null || solving)
+		{
+			return;
+		}
+
+		// sailed far enough from where the route was planned that other tasks are likely closer
+		if (route != null && route.origin.distanceTo2D(boat) > radius / 2)
+		{
+			replan = true;
+		}
+
+		if (replan || route == null)
+		{
+			solve(boat);
+		}
+	}
+
+	@Subscribe
+	public void onChartProgressChanged(ChartProgressChanged e)
+	{
+		if (route == null)
+		{
+			return;
+		}
+
+		BitSet removed = new BitSet();
+		WorldPoint completedAt = null;
+		BitSet changed = e.getTasks();
+		for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1))
+		{
+			SeaChartTask task = SeaChartTask.values()[i];
+			if (!isAvailable(task))
+			{
+				removed.set(i);
+				completedAt = task.getLocation();
+			}
+			else if (task.getLocation() != null && task.getLocation().distanceTo2D(route.origin) <= radius)
+			{
+				// newly available nearby, e.g. after a level up
+				replan = true;
+			}
+		}
+
+		if (!removed.isEmpty())
+		{
+			// the rest of the route starts from the boat now, or the stop just done if that's unknown
+			WorldPoint boat = sailingState.getSnapshot().getTopLevelWorldPoint();
+			WorldPoint start = boat != null ? boat : completedAt;
+			Route trimmed = start != null ? route.without(removed).from(start) : route.without(removed);
+			setRoute(trimmed);
+			improve(trimmed);
+		}
+	}
+
+	@Override
+	public Dimension render(Graphics2D g)
+	{
+		SeaChartTask next = route != null ? route.next() : null;
+		if (next == null || sailingState.getSnapshot().getBoat() == null)
+		{
+			return null;
+		}
+
+		SailingGraphicsUtil.renderBoatArrowTowardPoint(g, client, boatTracker, waterRouter.nextWaypoint(next.getLocation()), Color.ORANGE);
+		return null;
+	}
+
+	private boolean isAvailable(SeaChartTask task)
+	{
+		return !progressCache.isComplete(task) && progressCache.hasRequirements(task);
+	}
+
+	private void solve(WorldPoint origin)
+	{
+		SeaChartTask[] found = new SeaChartTask[maxStops];
+		int n = taskIndex.findTasks(origin, radius, this::isAvailable, found);
+		SeaChartTask[] stops = Arrays.copyOf(found, n);
+
+		replan = false;
+		solving = true;
+		int gen = ++generation;
+		executor.execute(() ->
+		{
+			long start = System.nanoTime();
+			int[][] dist = distances(origin, stops);
+			int[] order = ChartingRouteSolver.nearestNeighbour(dist);
+			ChartingRouteSolver.improve(order, dist, start + TimeUnit.MILLISECONDS.toNanos(SOLVE_BUDGET_MS));
+			log.debug("planned charting route through {} stops in {}us, length {}", stops.length, (System.nanoTime() - start) / 1000, ChartingRouteSolver.cost(order, dist));
+
+			Route solved = new Route(origin, stops, dist, order);
+			clientThread.invokeLater(() ->
+			{
+				if (gen == generation)
+				{
+					solving = false;
+					setRoute(dropUnavailable(solved));
+				}
+			});
+		});
+	}
+
+	// re-optimises a trimmed route in place of solving again
+	private void improve(Route trimmed)
+	{
+		if (solving || trimmed.order.length < 2)
+		{
+			return;
+		}
+
+		solving = true;
+		int gen = ++generation;
+		executor.execute(() ->
+		{
+			int[] order = trimmed.order.clone();
+			if (!ChartingRouteSolver.improve(order, trimmed.dist, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(IMPROVE_BUDGET_MS)))
+			{
+				clientThread.invokeLater(() ->
+				{
+					if (gen == generation)
+					{
+						solving = false;
+					}
+				});
+				return;
+			}
+
+			Route improved = new Route(trimmed.origin, trimmed.stops, trimmed.dist, order);
+			clientThread.invokeLater(() ->
+			{
+				if (gen == generation)
+				{
+					solving = false;
+					setRoute(dropUnavailable(improved));
+				}
+			});
+		});
+	}
+
+	// stops can complete while a job is running, and the trim for them is skipped while solving
+	private Route dropUnavailable(Route route)
+	{
+		BitSet removed = new BitSet();
+		for (int stop : route.order)
+		{
+			SeaChartTask task = route.stops[stop - 1];
+			if (!isAvailable(task))
+			{
+				removed.set(task.ordinal());
+			}
+		}
+		return removed.isEmpty() ? route : route.without(removed);
+	}
+
+	private void setRoute(Route route)
+	{
+		this.route = route;
+
+		clearMapPoints();
+		for (int i = 0; i < route.order.length; i++)
+		{
+			ChartingRouteWorldMapPoint point = new ChartingRouteWorldMapPoint(route.stops[route.order[i] - 1], i + 1);
+			mapPoints.add(point);
+			worldMapPointManager.add(point);
+		}
+	}
+
+	private void clearMapPoints()
+	{
+		mapPoints.forEach(worldMapPointManager::remove);
+		mapPoints.clear();
+	}
+
+	// chebyshev tiles, which is how far a boat sails without obstacles in the way
+	private static int[][] distances(WorldPoint origin, SeaChartTask[] stops)
+	{
+		int n = stops.length + 1;
+		int[] xs = new int[n];
+		int[] ys = new int[n];
+		xs[0] = origin.getX();
+		ys[0] = origin.getY();
+		for (int i = 1; i < n; i++)
+		{
+			xs[i] = stops[i - 1].getLocation().getX();
+			ys[i] = stops[i - 1].getLocation().getY();
+		}
+
+		int[][] dist = new int[n][n];
+		for (int i = 0; i < n; i++)
+		{
+			for (int j = i + 1; j < n; j++)
+			{
+				dist[i][j] = dist[j][i] = Math.max(Math.abs(xs[i] - xs[j]), Math.abs(ys[i] - ys[j]));
+			}
+		}
+		return dist;
+	}
+
+	private static int chebyshev(WorldPoint a, WorldPoint b)
+	{
+		return Math.max(Math.abs(a.getX() - b.getX()), Math.abs(a.getY() - b.getY()));
+	}
+}
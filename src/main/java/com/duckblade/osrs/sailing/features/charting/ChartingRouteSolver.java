@@ -0,0 +1,183 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+/**
+ * Open-path ordering over a distance matrix, starting from node 0 and visiting every other node once.
+ * Nearest neighbour for the initial order, then 2-opt and Or-opt moves until no move helps or the deadline passes.
+ */
+final class ChartingRouteSolver
+{
+
+	private static final int OR_OPT_MAX_SEGMENT = 3;
+
+	private ChartingRouteSolver()
+	{
+	}
+
+	static int[] nearestNeighbour(int[][] dist)
+	{
+		int n = dist.length - 1;
+		int[] order = new int[n];
+		boolean[] visited = new boolean[dist.length];
+		visited[0] = true;
+
+		int current = 0;
+		for (int i = 0; i < n; i++)
+		{
+			int best = -1;
+			for (int j = 1; j < dist.length; j++)
+			{
+				if (!visited[j] && (best == -1 || dist[current][j] < dist[current][best]))
+				{
+					best = j;
+				}
+			}
+
+			order[i] = best;
+			visited[best] = true;
+			current = best;
+		}
+
+		return order;
+	}
+
+	// a copy of dist with node 0 moved, fromStart[i] being the distance from the new start to node i
+	static int[][] withStart(int[][] dist, int[] fromStart)
+	{
+		int[][] moved = new int[dist.length][];
+		for (int i = 0; i < dist.length; i++)
+		{
+			moved[i] = dist[i].clone();
+			moved[i][0] = fromStart[i];
+		}
+		moved[0] = fromStart.clone();
+		moved[0][0] = 0;
+		return moved;
+	}
+
+	static int cost(int[] order, int[][] dist)
+	{
+		int cost = 0;
+		int prev = 0;
+		for (int node : order)
+		{
+			cost += dist[prev][node];
+			prev = node;
+		}
+		return cost;
+	}
+
+	// improves order in place, returns whether anything changed
+	static boolean improve(int[] order, int[][] dist, long deadlineNanos)
+	{
+		boolean changed = false;
+		int[] segment = new int[OR_OPT_MAX_SEGMENT];
+		boolean improved = true;
+		while (improved && System.nanoTime() < deadlineNanos)
+		{
+			improved = twoOpt(order, dist, deadlineNanos);
+			improved |= orOpt(order, dist, segment, deadlineNanos);
+			changed |= improved;
+		}
+		return changed;
+	}
+
+	// reverses order[i..j] wherever that shortens the path
+	private static boolean twoOpt(int[] order, int[][] dist, long deadlineNanos)
+	{
+		int n = order.length;
+		boolean improved = false;
+		for (int i = 0; i < n - 1 && System.nanoTime() < deadlineNanos; i++)
+		{
+			for (int j = i + 1; j < n; j++)
+			{
+				int prev = i == 0 ? 0 : order[i - 1];
+				int delta = dist[prev][order[j]] - dist[prev][order[i]];
+				if (j + 1 < n)
+				{
+					int next = order[j + 1];
+					delta += dist[order[i]][next] - dist[order[j]][next];
+				}
+
+				if (delta < 0)
+				{
+					reverse(order, i, j);
+					improved = true;
+				}
+			}
+		}
+		return improved;
+	}
+
+	// moves runs of up to OR_OPT_MAX_SEGMENT stops to a cheaper gap elsewhere in the path
+	private static boolean orOpt(int[] order, int[][] dist, int[] segment, long deadlineNanos)
+	{
+		int n = order.length;
+		boolean improved = false;
+		for (int len = 1; len <= OR_OPT_MAX_SEGMENT; len++)
+		{
+			for (int i = 0; i + len <= n && System.nanoTime() < deadlineNanos; i++)
+			{
+				int first = order[i];
+				int last = order[i + len - 1];
+				int prev = i == 0 ? 0 : order[i - 1];
+				int next = i + len < n ? order[i + len] : -1;
+				int removeGain = dist[prev][first] + (next != -1 ? dist[last][next] - dist[prev][next] : 0);
+
+				// gap between order[k] and order[k + 1], k == -1 being the start node
+				int bestK = Integer.MIN_VALUE;
+				int bestDelta = 0;
+				for (int k = -1; k < n; k++)
+				{
+					if (k >= i - 1 && k < i + len)
+					{
+						continue;
+					}
+
+					int a = k == -1 ? 0 : order[k];
+					int b = k + 1 < n ? order[k + 1] : -1;
+					int insertCost = dist[a][first] + (b != -1 ? dist[last][b] - dist[a][b] : 0);
+					int delta = insertCost - removeGain;
+					if (delta < bestDelta)
+					{
+						bestDelta = delta;
+						bestK = k;
+					}
+				}
+
+				if (bestK != Integer.MIN_VALUE)
+				{
+					move(order, i, len, bestK, segment);
+					improved = true;
+				}
+			}
+		}
+		return improved;
+	}
+
+	private static void move(int[] order, int i, int len, int k, int[] segment)
+	{
+		System.arraycopy(order, i, segment, 0, len);
+		if (k < i)
+		{
+			// shift order[k + 1..i - 1] right to open the gap after k
+			System.arraycopy(order, k + 1, order, k + 1 + len, i - (k + 1));
+			System.arraycopy(segment, 0, order, k + 1, len);
+		}
+		else
+		{
+			// shift order[i + len..k] left, the segment lands just before what was order[k + 1]
+			System.arraycopy(order, i + len, order, i, k - (i + len) + 1);
+			System.arraycopy(segment, 0, order, k - len + 1, len);
+		}
+	}
+
+	private static void reverse(int[] order, int i, int j)
+	{
+		for (; i < j; i++, j--)
+		{
+			int t = order[i];
+			order[i] = order[j];
+			order[j] = t;
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import net.runelite.client.ui.overlay.worldmap.WorldMapPoint;
+
+public class ChartingRouteWorldMapPoint extends WorldMapPoint
+{
+
+	private static final int ICON_SIZE = 18;
+
+	public ChartingRouteWorldMapPoint(SeaChartTask task, int stop)
+	{
+		super(task.getLocation(), numberIcon(stop));
+
+		setName("Route stop " + stop + " (" + task.getType().getName() + ")");
+		setSnapToEdge(stop == 1);
+		setJumpOnClick(true);
+	}
+
+	private static BufferedImage numberIcon(int stop)
+	{
+		BufferedImage image = new BufferedImage(ICON_SIZE, ICON_SIZE, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		g.setColor(Color.ORANGE);
+		g.fillOval(0, 0, ICON_SIZE - 1, ICON_SIZE - 1);
+		g.setColor(Color.BLACK);
+		g.drawOval(0, 0, ICON_SIZE - 1, ICON_SIZE - 1);
+
+		String text = String.valueOf(stop);
+		g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 11));
+		FontMetrics fm = g.getFontMetrics();
+		g.drawString(text, (ICON_SIZE - fm.stringWidth(text)) / 2, (ICON_SIZE - fm.getHeight()) / 2 + fm.getAscent());
+		g.dispose();
+		return image;
+	}
+}
@@ -1,13 +1,16 @@
 package com.duckblade.osrs.sailing.features.charting;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.navigation.WaterRouter;
 import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.ProjectionCache;
 import com.duckblade.osrs.sailing.features.util.SailingGraphicsUtil;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.awt.Polygon;
 import java.awt.image.BufferedImage;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -45,12 +48,15 @@ public class CurrentDuckTaskTracker
 	private final WorldMapPointManager worldMapPointManager;
 	private final SeaChartTaskIndex taskIndex;
 	private final BoatTracker boatTracker;
+	private final SailingState sailingState;
+	private final WaterRouter waterRouter;
+	private final ProjectionCache projectionCache;
 
 	private BufferedImage sprite;
 	private SeaChartTask activeTask;
 
 	@Inject
-	public CurrentDuckTaskTracker(Client client, ChatMessageManager chatMessageManager, ItemManager itemManager, WorldMapPointManager worldMapPointManager, SeaChartTaskIndex taskIndex, BoatTracker boatTracker)
+	public CurrentDuckTaskTracker(Client client, ChatMessageManager chatMessageManager, ItemManager itemManager, WorldMapPointManager worldMapPointManager, SeaChartTaskIndex taskIndex, BoatTracker boatTracker, SailingState sailingState, WaterRouter waterRouter, ProjectionCache projectionCache)
 	{
 		this.client = client;
 		this.chatMessageManager = chatMessageManager;
@@ -58,6 +64,9 @@ public class CurrentDuckTaskTracker
 		this.worldMapPointManager = worldMapPointManager;
 		this.taskIndex = taskIndex;
 		this.boatTracker = boatTracker;
+		this.sailingState = sailingState;
+		this.waterRouter = waterRouter;
+		this.projectionCache = projectionCache;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -84,14 +93,15 @@ public class CurrentDuckTaskTracker
 	@Subscribe
 	public void onChatMessage(ChatMessage event)
 	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE || !SailingUtil.isSailing(client))
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		if (event.getType() != ChatMessageType.GAMEMESSAGE || !state.isSailing())
 		{
 			return;
 		}
 
 		if (event.getMessage().contains(MSG_DUCK_BEGIN))
 		{
-			WorldPoint playerLoc = SailingUtil.getTopLevelWorldPoint(client);
+			WorldPoint playerLoc = state.getTopLevelWorldPoint();
 			SeaChartTask task = taskIndex.findTask(playerLoc, 10, t -> t.getObjectId() == ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK);
 			if (task != null)
 			{
@@ -157,16 +167,21 @@ public class CurrentDuckTaskTracker
 		LocalPoint destLp = LocalPoint.fromWorld(client.getTopLevelWorldView(), dest);
 		if (destLp != null)
 		{
-			OverlayUtil.renderTileOverlay(client, graphics, destLp, sprite, Color.GREEN);
+			Polygon poly = projectionCache.getTileAreaPoly(destLp, 1);
+			if (poly != null)
+			{
+				OverlayUtil.renderPolygon(graphics, poly, Color.GREEN);
+			}
+			OverlayUtil.renderImageLocation(client, graphics, destLp, sprite, 0);
 		}
 
-		if (SailingUtil.isSailing(client))
+		if (sailingState.getSnapshot().isSailing())
 		{
 			SailingGraphicsUtil.renderBoatArrowTowardPoint(
 				graphics,
 				client,
 				boatTracker,
-				dest,
+				waterRouter.nextWaypoint(dest),
 				Color.ORANGE
 			);
 			return null;
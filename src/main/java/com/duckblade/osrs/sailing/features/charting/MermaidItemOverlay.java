@@ -0,0 +1,57 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.widgets.WidgetItem;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.ui.overlay.WidgetItemOverlay;
+
+// outlines the items of the active mermaid solution in the inventory and bank
+@Singleton
+public class MermaidItemOverlay
+	extends WidgetItemOverlay
+	implements PluginLifecycleComponent
+{
+
+	private static final Color MISSING_COLOR = Color.YELLOW;
+	private static final Color HELD_COLOR = Color.GREEN;
+
+	private final ItemManager itemManager;
+	private final MermaidTaskSolver mermaidTaskSolver;
+
+	@Inject
+	public MermaidItemOverlay(ItemManager itemManager, MermaidTaskSolver mermaidTaskSolver)
+	{
+		this.itemManager = itemManager;
+		this.mermaidTaskSolver = mermaidTaskSolver;
+
+		showOnInventory();
+		showOnBank();
+	}
+
+	@Override
+	public boolean isEnabled(SailingConfig config)
+	{
+		return config.chartingMermaidSolver() && config.chartingMermaidHighlightItems();
+	}
+
+	@Override
+	public void renderItemOverlay(Graphics2D graphics, int itemId, WidgetItem widgetItem)
+	{
+		if (!mermaidTaskSolver.isRequired(itemId))
+		{
+			return;
+		}
+
+		Color color = mermaidTaskSolver.isMissing(itemId) ? MISSING_COLOR : HELD_COLOR;
+		Rectangle bounds = widgetItem.getCanvasBounds();
+		BufferedImage outline = itemManager.getItemOutline(itemId, widgetItem.getQuantity(), color);
+		graphics.drawImage(outline, (int) bounds.getX(), (int) bounds.getY(), null);
+	}
+}
@@ -0,0 +1,141 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import com.duckblade.osrs.sailing.features.util.IntObjectMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * The items of one mermaid solution, counted against the inventory by item id.
+ * Solutions are keyed by display name, so each item id is matched against them by name once
+ * and remembered, after which lookups and counting only touch ids.
+ * Not thread safe, used from the client thread.
+ */
+class MermaidSolutionItems
+{
+
+	private static final Integer NOT_REQUIRED = -1;
+
+	private final String[] names;
+	private final int[] required;
+	private final int[] held;
+
+	private final Map<String, Integer> indexesByName;
+	private final IntFunction<String> itemNames;
+
+	// item id -> index into names, or NOT_REQUIRED
+	private final IntObjectMap<Integer> indexes = new IntObjectMap<>();
+
+	MermaidSolutionItems(Map<String, Integer> solution, IntFunction<String> itemNames)
+	{
+		this.itemNames = itemNames;
+
+		int n = solution.size();
+		names = new String[n];
+		required = new int[n];
+		held = new int[n];
+		indexesByName = new HashMap<>(n * 2);
+
+		int i = 0;
+		for (Map.Entry<String, Integer> e : solution.entrySet())
+		{
+			names[i] = e.getKey();
+			required[i] = e.getValue();
+			indexesByName.put(e.getKey(), i);
+			i++;
+		}
+	}
+
+	int size()
+	{
+		return names.length;
+	}
+
+	String getName(int index)
+	{
+		return names[index];
+	}
+
+	int getRequired(int index)
+	{
+		return required[index];
+	}
+
+	int getHeld(int index)
+	{
+		return held[index];
+	}
+
+	int getMissing(int index)
+	{
+		return Math.max(0, required[index] - held[index]);
+	}
+
+	boolean isRequired(int itemId)
+	{
+		return indexOf(itemId) != -1;
+	}
+
+	// true if any part of the solution still needs the item
+	boolean isMissing(int itemId)
+	{
+		int index = indexOf(itemId);
+		return index != -1 && held[index] < required[index];
+	}
+
+	// counts from scratch, e.g. when the solution is first shown
+	void reset(int[] itemIds, int[] quantities)
+	{
+		Arrays.fill(held, 0);
+		for (int i = 0; i < itemIds.length; i++)
+		{
+			add(itemIds[i], quantities[i]);
+		}
+	}
+
+	// applies only the slots that changed between two snapshots of the same container
+	void update(int[] oldIds, int[] oldQuantities, int[] newIds, int[] newQuantities)
+	{
+		int slots = Math.max(oldIds.length, newIds.length);
+		for (int i = 0; i < slots; i++)
+		{
+			int oldId = i < oldIds.length ? oldIds[i] : -1;
+			int oldQuantity = i < oldIds.length ? oldQuantities[i] : 0;
+			int newId = i < newIds.length ? newIds[i] : -1;
+			int newQuantity = i < newIds.length ? newQuantities[i] : 0;
+			if (oldId == newId && oldQuantity == newQuantity)
+			{
+				continue;
+			}
+
+			add(oldId, -oldQuantity);
+			add(newId, newQuantity);
+		}
+	}
+
+	private void add(int itemId, int quantity)
+	{
+		int index = indexOf(itemId);
+		if (index != -1)
+		{
+			held[index] += quantity;
+		}
+	}
+
+	private int indexOf(int itemId)
+	{
+		if (itemId == -1)
+		{
+			return -1;
+		}
+
+		Integer index = indexes.get(itemId);
+		if (index == null)
+		{
+			index = indexesByName.getOrDefault(itemNames.apply(itemId), NOT_REQUIRED);
+			indexes.put(itemId, index);
+		}
+		return index;
+	}
+}
@@ -1,11 +1,13 @@
 package com.duckblade.osrs.sailing.features.charting;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.util.IntObjectMap;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.util.List;
@@ -15,12 +17,17 @@ import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Actor;
 import net.runelite.api.Client;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
 import net.runelite.api.NPC;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.gameval.NpcID;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.components.LayoutableRenderableEntity;
@@ -44,395 +51,34 @@ public class MermaidTaskSolver
 	);
 
 	@VisibleForTesting
-	static final Map<SeaChartTask, Map<String, Integer>> SOLUTIONS = ImmutableMap.<SeaChartTask, Map<String, Integer>>builder()
-		.put(
-			SeaChartTask.TASK_12,
-			ImmutableMap.<String, Integer>builder()
-				.put("Willow stock", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_44,
-			ImmutableMap.<String, Integer>builder()
-				.put("Pie dish", 1)
-				.put("Pot of flour", 1)
-				.put("Cooking apple", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_45,
-			ImmutableMap.<String, Integer>builder()
-				.put("Iron med helm", 1)
-				.put("Bronze chainbody", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_46,
-			ImmutableMap.<String, Integer>builder()
-				.put("Cabbage seeds", 5)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_47,
-			ImmutableMap.<String, Integer>builder()
-				.put("Watermelon", 10)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_48,
-			ImmutableMap.<String, Integer>builder()
-				.put("Vial", 1)
-				.put("Avantoe", 1)
-				.put("Snape grass", 1)
-				.put("Caviar", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_49,
-			ImmutableMap.<String, Integer>builder()
-				.put("Harralander potion (unf)", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_50,
-			ImmutableMap.<String, Integer>builder()
-				.put("Papaya fruit", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_51,
-			ImmutableMap.<String, Integer>builder()
-				.put("Ashes", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_52,
-			ImmutableMap.<String, Integer>builder()
-				.put("Bucket of sap", 1)
-				.put("Raw slimy eel", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_53,
-			ImmutableMap.<String, Integer>builder()
-				.put("Barley", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_125,
-			ImmutableMap.<String, Integer>builder()
-				.put("Earth impling jar", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_127,
-			ImmutableMap.<String, Integer>builder()
-				.put("Cabbage", 1)
-				.put("Onion", 1)
-				.put("Tomato", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_126,
-			ImmutableMap.<String, Integer>builder()
-				.put("Coal", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_128,
-			ImmutableMap.<String, Integer>builder()
-				.put("Kwuarm", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_129,
-			ImmutableMap.<String, Integer>builder()
-				.put("Dwellberries", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_152,
-			ImmutableMap.<String, Integer>builder()
-				.put("Black flowers", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_153,
-			ImmutableMap.<String, Integer>builder()
-				.put("Butterfly jar", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_154,
-			ImmutableMap.<String, Integer>builder()
-				.put("Calquat keg", 2)
-				.put("Ale yeast", 1)
-				.put("Oak roots", 1)
-				.put("Barley malt", 2)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_155,
-			ImmutableMap.<String, Integer>builder()
-				.put("Vial", 1)
-				.put("Coconut", 1)
-				.put("Toadflax", 1)
-				.put("Yew roots", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_156,
-			ImmutableMap.<String, Integer>builder()
-				.put("Soiled page", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_170,
-			ImmutableMap.<String, Integer>builder()
-				.put("Thatch spar dense", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_171,
-			ImmutableMap.<String, Integer>builder()
-				.put("Gold ore", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_172,
-			ImmutableMap.<String, Integer>builder()
-				.put("Malicious ashes", 2)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_192,
-			ImmutableMap.<String, Integer>builder()
-				.put("Sandwich lady bottom", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_241,
-			ImmutableMap.<String, Integer>builder()
-				.put("Kharyrll teleport", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_242,
-			ImmutableMap.<String, Integer>builder()
-				.put("Raw cod", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_243,
-			ImmutableMap.<String, Integer>builder()
-				.put("Bronze limbs", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_244,
-			ImmutableMap.<String, Integer>builder()
-				.put("Onion", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_245,
-			ImmutableMap.<String, Integer>builder()
-				.put("Torstol", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_246,
-			ImmutableMap.<String, Integer>builder()
-				.put("Needle", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_247,
-			ImmutableMap.<String, Integer>builder()
-				.put("Clockwork", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_248,
-			ImmutableMap.<String, Integer>builder()
-				.put("Shield left half", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_249,
-			ImmutableMap.<String, Integer>builder()
-				.put("Vial of blood", 1)
-				.put("Cadantine", 1)
-				.put("Wine of zamorak", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_250,
-			ImmutableMap.<String, Integer>builder()
-				.put("Dragon bitter", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_251,
-			ImmutableMap.<String, Integer>builder()
-				.put("Rain bow", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_252,
-			ImmutableMap.<String, Integer>builder()
-				.put("Royal crown", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_271,
-			ImmutableMap.<String, Integer>builder()
-				.put("Nose peg", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_272,
-			ImmutableMap.<String, Integer>builder()
-				.put("Charcoal", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_273,
-			ImmutableMap.<String, Integer>builder()
-				.put("Woad leaf", 2)
-				.put("Onion", 2)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_274,
-			ImmutableMap.<String, Integer>builder()
-				.put("Swamp weed", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_307,
-			ImmutableMap.<String, Integer>builder()
-				.put("Stripy feather", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_308,
-			ImmutableMap.<String, Integer>builder()
-				.put("Equa leaves", 1)
-				.put("Batta tin", 1)
-				.put("Tomato", 2)
-				.put("Cheese", 1)
-				.put("Dwellberries", 1)
-				.put("Onion", 1)
-				.put("Cabbage", 1)
-				.put("Gianne dough", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_309,
-			ImmutableMap.<String, Integer>builder()
-				.put("Lime", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_310,
-			ImmutableMap.<String, Integer>builder()
-				.put("Fedora", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_311,
-			ImmutableMap.<String, Integer>builder()
-				.put("Common tench", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_312,
-			ImmutableMap.<String, Integer>builder()
-				.put("Plank", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_313,
-			ImmutableMap.<String, Integer>builder()
-				.put("Ghrazi rapier", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_321,
-			ImmutableMap.<String, Integer>builder()
-				.put("Silver ore", 1)
-				.put("Chisel", 1)
-				.put("Uncut jade", 1)
-				.put("Ring mould", 1)
-				.put("Cosmic rune", 1)
-				.put("Air rune", 3)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_322,
-			ImmutableMap.<String, Integer>builder()
-				.put("Potato", 1)
-				.put("Potato cactus", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_323,
-			ImmutableMap.<String, Integer>builder()
-				.put("Sandstone (10kg)", 1)
-				.put("Sandstone (2kg)", 1)
-				.put("Sandstone (1kg)", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_324,
-			ImmutableMap.<String, Integer>builder()
-				.put("Dark bow tie", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_325,
-			ImmutableMap.<String, Integer>builder()
-				.put("Double eye patch", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_326,
-			ImmutableMap.<String, Integer>builder()
-				.put("Bucket helm (g)", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_348,
-			ImmutableMap.<String, Integer>builder()
-				.put("Ring mould", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_349,
-			ImmutableMap.<String, Integer>builder()
-				.put("Bob's blue shirt", 1)
-				.put("Bob's purple shirt", 1)
-				.build()
-		)
-		.put(
-			SeaChartTask.TASK_350,
-			ImmutableMap.<String, Integer>builder()
-				.put("Tarromin", 1)
-				.build()
-		)
-		.build();
+	static final Map<SeaChartTask, Map<String, Integer>> SOLUTIONS = MermaidTaskSolutions.SOLUTIONS;
+
+	private static final Color MISSING_COLOR = Color.RED;
+	private static final Color HELD_COLOR = Color.GREEN;
+
+	private static final int[] EMPTY = new int[0];
 
 	private final Client client;
+	private final ItemManager itemManager;
+	private final SailingState sailingState;
 	private final SeaChartTaskIndex taskIndex;
 
+	// item names don't change, shared between solutions
+	private final IntObjectMap<String> itemNames = new IntObjectMap<>();
+
+	// last inventory contents, diffed against on each change
+	private int[] inventoryIds = EMPTY;
+	private int[] inventoryQuantities = EMPTY;
+
 	private SeaChartTask task;
-	private Map<String, Integer> solution;
+	private MermaidSolutionItems solution;
 
 	@Inject
-	public MermaidTaskSolver(Client client, SeaChartTaskIndex taskIndex)
+	public MermaidTaskSolver(Client client, ItemManager itemManager, SailingState sailingState, SeaChartTaskIndex taskIndex)
 	{
 		this.client = client;
+		this.itemManager = itemManager;
+		this.sailingState = sailingState;
 		this.taskIndex = taskIndex;
 
 		setPreferredPosition(OverlayPosition.ABOVE_CHATBOX_RIGHT);
@@ -448,6 +94,18 @@ public class MermaidTaskSolver
 	public void shutDown()
 	{
 		reset();
+		itemNames.clear();
+	}
+
+	// for the item overlay, called on the client thread while rendering
+	boolean isRequired(int itemId)
+	{
+		return solution != null && solution.isRequired(itemId);
+	}
+
+	boolean isMissing(int itemId)
+	{
+		return solution != null && solution.isMissing(itemId);
 	}
 
 	@Subscribe
@@ -458,17 +116,12 @@ public class MermaidTaskSolver
 			return;
 		}
 
+		// items are usually fetched from a bank a sail away, so the solution is kept until the task completes
+		// or another mermaid is spoken to rather than dropped by distance
 		if (task.isComplete(client))
 		{
 			log.debug("task {} completed, clearing", task.getTaskId());
 			reset();
-			return;
-		}
-
-		if (!SailingUtil.isSailing(client) || task.getLocation().distanceTo(SailingUtil.getTopLevelWorldPoint(client)) > 25)
-		{
-			log.debug("cancelling in progress task {} due to distance", task.getTaskId());
-			reset();
 		}
 	}
 
@@ -480,15 +133,15 @@ public class MermaidTaskSolver
 			return;
 		}
 
-		reset();
-
 		Actor target = e.getTarget();
 		if (!(target instanceof NPC) || !MERMAID_IDS.contains(((NPC) target).getId()))
 		{
 			return;
 		}
 
-		WorldPoint playerLoc = SailingUtil.getTopLevelWorldPoint(client);
+		reset();
+
+		WorldPoint playerLoc = sailingState.getSnapshot().getTopLevelWorldPoint();
 		SeaChartTask maybeTask = taskIndex.findTask((NPC) target);
 		if (maybeTask == null)
 		{
@@ -497,27 +150,81 @@ public class MermaidTaskSolver
 		}
 		task = maybeTask;
 
-		solution = SOLUTIONS.get(maybeTask);
-		if (solution == null)
+		Map<String, Integer> items = SOLUTIONS.get(maybeTask);
+		if (items == null)
 		{
 			log.warn("no solution found for task {}", task.getTaskId());
 			reset();
 			return;
 		}
 
-		log.debug("solution for task {} is {}", task.getTaskId(), solution);
+		// the inventory may have loaded before this component started, so count from the container itself once
+		readInventory(client.getItemContainer(InventoryID.INV));
+		solution = new MermaidSolutionItems(items, this::getItemName);
+		solution.reset(inventoryIds, inventoryQuantities);
+
+		log.debug("solution for task {} is {}", task.getTaskId(), items);
+	}
+
+	@Subscribe
+	public void onItemContainerChanged(ItemContainerChanged e)
+	{
+		if (e.getContainerId() != InventoryID.INV || solution == null)
+		{
+			return;
+		}
+
+		int[] oldIds = inventoryIds;
+		int[] oldQuantities = inventoryQuantities;
+		readInventory(e.getItemContainer());
+		solution.update(oldIds, oldQuantities, inventoryIds, inventoryQuantities);
+	}
+
+	private void readInventory(ItemContainer container)
+	{
+		if (container == null)
+		{
+			inventoryIds = EMPTY;
+			inventoryQuantities = EMPTY;
+			return;
+		}
+
+		Item[] items = container.getItems();
+		int[] ids = new int[items.length];
+		int[] quantities = new int[items.length];
+		for (int i = 0; i < items.length; i++)
+		{
+			ids[i] = items[i] != null ? items[i].getId() : -1;
+			quantities[i] = items[i] != null ? items[i].getQuantity() : 0;
+		}
+		inventoryIds = ids;
+		inventoryQuantities = quantities;
+	}
+
+	private String getItemName(int itemId)
+	{
+		String name = itemNames.get(itemId);
+		if (name == null)
+		{
+			name = itemManager.getItemComposition(itemId).getName();
+			itemNames.put(itemId, name);
+		}
+		return name;
 	}
 
 	private void reset()
 	{
 		task = null;
 		solution = null;
+		inventoryIds = EMPTY;
+		inventoryQuantities = EMPTY;
 	}
 
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		if (solution == null || !SailingUtil.isSailing(client))
+		// the panel is only useful at the mermaid, items are highlighted in the bank by MermaidItemOverlay
+		if (solution == null || !sailingState.getSnapshot().isSailing())
 		{
 			return null;
 		}
@@ -527,11 +234,13 @@ public class MermaidTaskSolver
 			.text("Mermaid Puzzle Solution")
 			.build());
 
-		for (Map.Entry<String, Integer> e : solution.entrySet())
+		for (int i = 0; i < solution.size(); i++)
 		{
+			int missing = solution.getMissing(i);
 			children.add(LineComponent.builder()
-				.left(e.getKey())
-				.right(String.valueOf(e.getValue()))
+				.left(solution.getName(i))
+				.right(missing > 0 ? "need " + missing : String.valueOf(solution.getRequired(i)))
+				.rightColor(missing > 0 ? MISSING_COLOR : HELD_COLOR)
 				.build());
 		}
 
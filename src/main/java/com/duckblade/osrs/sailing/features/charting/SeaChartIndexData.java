@@ -0,0 +1,254 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Lookup tables for {@link SeaChartTaskIndex}, precomputed by GenerateSeaChartTasks into {@link #RESOURCE}
+ * so startup is a single read instead of hashing every task.
+ * <p>
+ * Big-endian ints: {@link #MAGIC}, {@link #VERSION}, the task count, the {@link #hash} of the tasks it was built from,
+ * then the object id table, the npc id table and the grid. Arrays are written as their length followed by their values.
+ * Id tables are sorted keys with start offsets into task ordinals, so the tasks for keys[i]
+ * are tasks[start[i]..start[i + 1]). The grid's entries are stored sorted by cell as {@link SeaChartTaskGrid} expects,
+ * and the per-cell offsets (mostly empty sea) are rebuilt from their locations when read.
+ * Ordinals keep declaration order within each key and cell.
+ */
+final class SeaChartIndexData
+{
+
+	static final String RESOURCE = "sea_chart_index.bin";
+
+	static final int MAGIC = 0x53434958; // SCIX
+	static final int VERSION = 2;
+
+	static final int CELL_SHIFT = 4;
+
+	final int taskCount;
+	final int taskHash;
+
+	final int[] objectKeys;
+	final int[] objectStart;
+	final int[] objectTasks;
+
+	final int[] npcKeys;
+	final int[] npcStart;
+	final int[] npcTasks;
+
+	final int cellShift;
+	final int minX;
+	final int minY;
+	final int cellsX;
+	final int cellsY;
+	final int[] cellStart;
+	final int[] cellTasks;
+	final int[] cellXs;
+	final int[] cellYs;
+
+	private SeaChartIndexData(IntBuffer in)
+	{
+		taskCount = in.get();
+		taskHash = in.get();
+		objectKeys = array(in);
+		objectStart = array(in);
+		objectTasks = array(in);
+		npcKeys = array(in);
+		npcStart = array(in);
+		npcTasks = array(in);
+		cellShift = in.get();
+		minX = in.get();
+		minY = in.get();
+		cellsX = in.get();
+		cellsY = in.get();
+		cellTasks = array(in);
+		cellXs = array(in);
+		cellYs = array(in);
+
+		cellStart = new int[cellsX * cellsY + 1];
+		for (int i = 0; i < cellTasks.length; i++)
+		{
+			cellStart[((cellYs[i] - minY) >> cellShift) * cellsX + ((cellXs[i] - minX) >> cellShift) + 1]++;
+		}
+		for (int c = 0; c < cellsX * cellsY; c++)
+		{
+			cellStart[c + 1] += cellStart[c];
+		}
+	}
+
+	private SeaChartIndexData(int taskCount, int taskHash, int[][] objects, int[][] npcs, int cellShift, int minX, int minY, int cellsX, int cellsY, int[][] cells)
+	{
+		this.taskCount = taskCount;
+		this.taskHash = taskHash;
+		this.objectKeys = objects[0];
+		this.objectStart = objects[1];
+		this.objectTasks = objects[2];
+		this.npcKeys = npcs[0];
+		this.npcStart = npcs[1];
+		this.npcTasks = npcs[2];
+		this.cellShift = cellShift;
+		this.minX = minX;
+		this.minY = minY;
+		this.cellsX = cellsX;
+		this.cellsY = cellsY;
+		this.cellStart = cells[0];
+		this.cellTasks = cells[1];
+		this.cellXs = cells[2];
+		this.cellYs = cells[3];
+	}
+
+	/**
+	 * @return the tables, or null if the stream isn't an index for the current {@link SeaChartTask}s
+	 */
+	static SeaChartIndexData read(InputStream in) throws IOException
+	{
+		IntBuffer ints = ByteBuffer.wrap(in.readAllBytes()).asIntBuffer();
+		if (ints.remaining() < 4 || ints.get() != MAGIC || ints.get() != VERSION)
+		{
+			return null;
+		}
+
+		try
+		{
+			SeaChartIndexData data = new SeaChartIndexData(ints);
+			SeaChartTask[] tasks = SeaChartTask.values();
+			return data.taskCount == tasks.length && data.taskHash == hash(tasks) ? data : null;
+		}
+		catch (RuntimeException e)
+		{
+			throw new IOException("malformed sea chart index", e);
+		}
+	}
+
+	// same tables computed at runtime, for when the resource is missing or stale
+	static SeaChartIndexData build(SeaChartTask[] tasks)
+	{
+		int[] objectIds = new int[tasks.length];
+		int[] npcIds = new int[tasks.length];
+		for (int i = 0; i < tasks.length; i++)
+		{
+			objectIds[i] = tasks[i].getObjectId();
+			npcIds[i] = objectIds[i] == -1 ? tasks[i].getNpcId() : -1;
+		}
+
+		int count = 0;
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+		for (SeaChartTask task : tasks)
+		{
+			WorldPoint wp = task.getLocation();
+			if (wp != null)
+			{
+				count++;
+				minX = Math.min(minX, wp.getX());
+				minY = Math.min(minY, wp.getY());
+				maxX = Math.max(maxX, wp.getX());
+				maxY = Math.max(maxY, wp.getY());
+			}
+		}
+		if (count == 0)
+		{
+			minX = minY = maxX = maxY = 0;
+		}
+
+		int cellsX = ((maxX - minX) >> CELL_SHIFT) + 1;
+		int cellsY = ((maxY - minY) >> CELL_SHIFT) + 1;
+
+		// counting sort into cells, keeping declaration order within each cell
+		int[] cellStart = new int[cellsX * cellsY + 1];
+		for (SeaChartTask task : tasks)
+		{
+			WorldPoint wp = task.getLocation();
+			if (wp != null)
+			{
+				cellStart[((wp.getY() - minY) >> CELL_SHIFT) * cellsX + ((wp.getX() - minX) >> CELL_SHIFT) + 1]++;
+			}
+		}
+		for (int c = 0; c < cellsX * cellsY; c++)
+		{
+			cellStart[c + 1] += cellStart[c];
+		}
+
+		int[] cellTasks = new int[count];
+		int[] cellXs = new int[count];
+		int[] cellYs = new int[count];
+		int[] fill = Arrays.copyOf(cellStart, cellStart.length);
+		for (int t = 0; t < tasks.length; t++)
+		{
+			WorldPoint wp = tasks[t].getLocation();
+			if (wp != null)
+			{
+				int i = fill[((wp.getY() - minY) >> CELL_SHIFT) * cellsX + ((wp.getX() - minX) >> CELL_SHIFT)]++;
+				cellTasks[i] = t;
+				cellXs[i] = wp.getX();
+				cellYs[i] = wp.getY();
+			}
+		}
+
+		return new SeaChartIndexData(
+			tasks.length,
+			hash(tasks),
+			idTable(objectIds),
+			idTable(npcIds),
+			CELL_SHIFT, minX, minY, cellsX, cellsY,
+			new int[][]{cellStart, cellTasks, cellXs, cellYs}
+		);
+	}
+
+	/**
+	 * Covers everything the tables are built from, so an index generated before a task's ids or location changed
+	 * is rebuilt even though the task count still matches. GenerateSeaChartTasks computes the same hash over its rows.
+	 */
+	static int hash(SeaChartTask[] tasks)
+	{
+		int h = 1;
+		for (SeaChartTask task : tasks)
+		{
+			WorldPoint wp = task.getLocation();
+			h = 31 * h + task.getTaskId();
+			h = 31 * h + task.getObjectId();
+			h = 31 * h + task.getNpcId();
+			h = 31 * h + (wp != null ? wp.getX() : -1);
+			h = 31 * h + (wp != null ? wp.getY() : -1);
+		}
+		return h;
+	}
+
+	// keys, start offsets and ordinals for every id other than -1
+	private static int[][] idTable(int[] ids)
+	{
+		int[] keys = Arrays.stream(ids).filter(id -> id != -1).distinct().sorted().toArray();
+		int[] start = new int[keys.length + 1];
+		for (int id : ids)
+		{
+			if (id != -1)
+			{
+				start[Arrays.binarySearch(keys, id) + 1]++;
+			}
+		}
+		for (int k = 0; k < keys.length; k++)
+		{
+			start[k + 1] += start[k];
+		}
+
+		int[] tasks = new int[start[keys.length]];
+		int[] fill = Arrays.copyOf(start, start.length);
+		for (int t = 0; t < ids.length; t++)
+		{
+			if (ids[t] != -1)
+			{
+				tasks[fill[Arrays.binarySearch(keys, ids[t])]++] = t;
+			}
+		}
+		return new int[][]{keys, start, tasks};
+	}
+
+	private static int[] array(IntBuffer in)
+	{
+		int[] values = new int[in.get()];
+		in.get(values);
+		return values;
+	}
+}
@@ -2,17 +2,12 @@ package com.duckblade.osrs.sailing.features.charting;
 
 import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
-import com.google.common.collect.ImmutableMap;
 import java.awt.image.BufferedImage;
-import java.util.Map;
+import java.util.BitSet;
 import java.util.stream.Stream;
 import javax.inject.Inject;
 import lombok.RequiredArgsConstructor;
-import net.runelite.api.Client;
-import net.runelite.api.GameState;
-import net.runelite.api.events.GameStateChanged;
-import net.runelite.api.events.VarbitChanged;
-import net.runelite.api.gameval.VarPlayerID;
+import net.runelite.api.events.GameTick;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
@@ -36,18 +31,26 @@ public class SeaChartMapPointManager implements PluginLifecycleComponent
 	private static final BufferedImage MAP_WEATHER = ImageUtil.loadImageResource(SeaChartMapPointManager.class, "weather.png");
 	private static final BufferedImage MAP_WEATHER_COMPLETE = ImageUtil.loadImageResource(SeaChartMapPointManager.class, "weather_complete.png");
 
-	private final Map<Integer, ChartMapPoint> taskByVarb = Stream.of(SeaChartTask.values())
-		.collect(ImmutableMap.toImmutableMap(SeaChartTask::getCompletionVarb, ChartMapPoint::new));
+	// points are reconciled on the next ticks, at most this many per tick,
+	// so login or a mode change doesn't touch every point in one go on the client thread
+	private static final int RECONCILE_PER_TICK = 40;
+
+	private final ChartMapPoint[] points = Stream.of(SeaChartTask.values())
+		.map(ChartMapPoint::new)
+		.toArray(ChartMapPoint[]::new);
+
+	private final BitSet dirty = new BitSet(points.length);
 
 	private class ChartMapPoint extends WorldMapPoint
 	{
 		SeaChartTask task;
 		boolean added = false;
+		boolean iconComplete = false;
 
 		ChartMapPoint(SeaChartTask task)
 		{
 			super(WorldMapPoint.builder()
-				.image(getIcon(task))
+				.image(getIcon(task, false))
 				.worldPoint(task.getLocation())
 				.tooltip("Charting spot (" + task.getType().getName() + ")"));
 			this.task = task;
@@ -55,8 +58,14 @@ public class SeaChartMapPointManager implements PluginLifecycleComponent
 
 		void reconcile()
 		{
-			boolean show = !mode.isHidden(task.isComplete(client), taskIndex.hasTaskRequirement(task));
-			setImage(getIcon(task));
+			boolean completed = progressCache.isComplete(task);
+			if (completed != iconComplete)
+			{
+				setImage(getIcon(task, completed));
+				iconComplete = completed;
+			}
+
+			boolean show = !mode.isHidden(completed, progressCache.hasRequirements(task));
 			if (added != show)
 			{
 				if (show)
@@ -73,10 +82,9 @@ public class SeaChartMapPointManager implements PluginLifecycleComponent
 		}
 	}
 
-	private final Client client;
 	private final ClientThread clientThread;
 	private final WorldMapPointManager worldMapPointManager;
-	private final SeaChartTaskIndex taskIndex;
+	private final ChartProgressCache progressCache;
 
 	private SailingConfig.ShowChartsMode mode;
 
@@ -90,7 +98,7 @@ public class SeaChartMapPointManager implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		reconcileAll();
+		dirty.set(0, points.length);
 	}
 
 	@Subscribe
@@ -99,38 +107,32 @@ public class SeaChartMapPointManager implements PluginLifecycleComponent
 		if (SailingConfig.CONFIG_GROUP.equals(ev.getGroup())
 			&& SailingConfig.SHOW_CHARTS_ON_MAP.equals(ev.getKey()))
 		{
-			this.reconcileAll();
+			dirty.set(0, points.length);
 		}
 	}
 
 	@Subscribe
-	private void onGameStateChanged(GameStateChanged ev)
+	private void onChartProgressChanged(ChartProgressChanged ev)
 	{
-		if (ev.getGameState() == GameState.LOGGED_IN)
-		{
-			reconcileAll();
-		}
+		dirty.or(ev.getTasks());
 	}
 
 	@Subscribe
-	private void onVarbitChanged(VarbitChanged ev)
+	private void onGameTick(GameTick ev)
 	{
-		if (ev.getVarpId() == VarPlayerID.QP)
-		{
-			// a quest state changed
-			reconcileAll();
-		}
-
-		var t = taskByVarb.get(ev.getVarbitId());
-		if (t != null)
+		int i = dirty.nextSetBit(0);
+		for (int n = 0; i >= 0 && n < RECONCILE_PER_TICK; n++)
 		{
-			t.reconcile();
+			dirty.clear(i);
+			points[i].reconcile();
+			i = dirty.nextSetBit(i + 1);
 		}
 	}
 
 	@Override
 	public void shutDown()
 	{
+		dirty.clear();
 		clientThread.invokeLater(() ->
 		{
 			worldMapPointManager.removeIf(p ->
@@ -146,25 +148,8 @@ public class SeaChartMapPointManager implements PluginLifecycleComponent
 		});
 	}
 
-	private void reconcileAll()
-	{
-		if (client.getGameState() != GameState.LOGGED_IN)
-		{
-			return;
-		}
-
-		clientThread.invoke(() ->
-		{
-			for (var e : taskByVarb.values())
-			{
-				e.reconcile();
-			}
-		});
-	}
-
-	private BufferedImage getIcon(SeaChartTask task)
+	private static BufferedImage getIcon(SeaChartTask task, boolean completed)
 	{
-		boolean completed = client != null && task.isComplete(client);
 		switch (task.getType())
 		{
 			case SPYGLASS:
@@ -1,6 +1,9 @@
 package com.duckblade.osrs.sailing.features.charting;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.util.ProjectionCache;
+import com.duckblade.osrs.sailing.features.util.SceneBuckets;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -16,10 +19,7 @@ import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.GameState;
 import net.runelite.api.NPC;
-import net.runelite.api.Perspective;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
@@ -41,13 +41,17 @@ public class SeaChartOverlay
 
 	private final Client client;
 	private final ItemManager itemManager;
-	private final SailingConfig config;
 	private final SeaChartTaskIndex taskIndex;
+	private final ChartProgressCache progressCache;
 	private final WeatherTaskTracker weatherTaskTracker;
+	private final GameObjectRouter gameObjectRouter;
+	private final ProjectionCache projectionCache;
 
 	private final Map<GameObject, SeaChartTask> chartObjects = new HashMap<>();
+	private final SceneBuckets<GameObject> chartObjectBuckets = new SceneBuckets<>(GameObject::getWorldLocation);
 	private final Map<NPC, SeaChartTask> chartNpcs = new HashMap<>();
 
+	private SailingConfig.ShowChartsMode mode;
 	private Color colorCharted;
 	private Color colorUncharted;
 	private Color colorRequirementsUnmet;
@@ -56,16 +60,20 @@ public class SeaChartOverlay
 	public SeaChartOverlay(
 		Client client,
 		ItemManager itemManager,
-		SailingConfig config,
 		SeaChartTaskIndex taskIndex,
-		WeatherTaskTracker weatherTaskTracker
+		ChartProgressCache progressCache,
+		WeatherTaskTracker weatherTaskTracker,
+		GameObjectRouter gameObjectRouter,
+		ProjectionCache projectionCache
 	)
 	{
 		this.client = client;
 		this.itemManager = itemManager;
-		this.config = config;
 		this.taskIndex = taskIndex;
+		this.progressCache = progressCache;
 		this.weatherTaskTracker = weatherTaskTracker;
+		this.gameObjectRouter = gameObjectRouter;
+		this.projectionCache = projectionCache;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -77,52 +85,53 @@ public class SeaChartOverlay
 		colorCharted = config.chartingChartedColor();
 		colorUncharted = config.chartingUnchartedColor();
 		colorRequirementsUnmet = config.chartingRequirementsUnmetColor();
-		return config.showCharts() != SailingConfig.ShowChartsMode.NONE;
+		mode = config.showCharts();
+		return mode != SailingConfig.ShowChartsMode.NONE;
+	}
+
+	@Override
+	public void startUp()
+	{
+		gameObjectRouter.register(this, taskIndex.getTaskObjectIds(), this::onChartObjectSpawned, this::onChartObjectDespawned);
 	}
 
 	public void shutDown()
 	{
 		chartNpcs.clear();
 		chartObjects.clear();
+		chartObjectBuckets.clear();
 	}
 
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		SailingConfig.ShowChartsMode mode = config.showCharts();
-		if (mode == SailingConfig.ShowChartsMode.NONE)
+		projectionCache.forEachVisible(chartObjectBuckets, 2, obj ->
 		{
-			return null;
-		}
+			SeaChartTask task = chartObjects.get(obj);
 
-		for (Map.Entry<GameObject, SeaChartTask> tracked : chartObjects.entrySet())
-		{
-			GameObject obj = tracked.getKey();
-			SeaChartTask task = tracked.getValue();
-
-			boolean completed = task.isComplete(client);
-			boolean meetsRequirements = taskIndex.hasTaskRequirement(task);
+			boolean completed = progressCache.isComplete(task);
+			boolean meetsRequirements = progressCache.hasRequirements(task);
 			if (mode.isHidden(completed, meetsRequirements))
 			{
-				continue;
+				return;
 			}
 
-			Polygon poly = obj.getCanvasTilePoly();
+			Polygon poly = projectionCache.getTilePoly(obj);
 			if (poly != null)
 			{
 				Color color = getColor(completed, meetsRequirements);
 				OverlayUtil.renderPolygon(g, poly, color);
 			}
 			OverlayUtil.renderImageLocation(client, g, obj.getLocalLocation(), taskIndex.getTaskSprite(task), 0);
-		}
+		});
 
 		for (Map.Entry<NPC, SeaChartTask> tracked : chartNpcs.entrySet())
 		{
 			NPC npc = tracked.getKey();
 			SeaChartTask task = tracked.getValue();
 
-			boolean completed = task.isComplete(client);
-			boolean meetsRequirements = taskIndex.hasTaskRequirement(task);
+			boolean completed = progressCache.isComplete(task);
+			boolean meetsRequirements = progressCache.hasRequirements(task);
 			if (mode.isHidden(completed, meetsRequirements))
 			{
 				continue;
@@ -147,7 +156,7 @@ public class SeaChartOverlay
 				return;
 			}
 
-			Polygon poly = Perspective.getCanvasTilePoly(client, lp, 0);
+			Polygon poly = projectionCache.getTileAreaPoly(lp, 1);
 			if (poly == null)
 			{
 				return;
@@ -159,21 +168,20 @@ public class SeaChartOverlay
 		}
 	}
 
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
+	private void onChartObjectSpawned(GameObject o)
 	{
-		GameObject o = e.getGameObject();
 		SeaChartTask task = taskIndex.findTask(o);
 		if (task != null)
 		{
 			chartObjects.put(o, task);
+			chartObjectBuckets.add(o);
 		}
 	}
 
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
+	private void onChartObjectDespawned(GameObject o)
 	{
-		chartObjects.remove(e.getGameObject());
+		chartObjects.remove(o);
+		chartObjectBuckets.remove(o);
 	}
 
 	@Subscribe
@@ -199,6 +207,7 @@ public class SeaChartOverlay
 		if (e.getWorldView().isTopLevel())
 		{
 			chartObjects.clear();
+			chartObjectBuckets.clear();
 		}
 	}
 
@@ -0,0 +1,159 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.util.function.Consumer;
+import javax.swing.BorderFactory;
+import javax.swing.BoxLayout;
+import javax.swing.JCheckBox;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.border.EmptyBorder;
+import net.runelite.client.ui.ColorScheme;
+import net.runelite.client.ui.FontManager;
+import net.runelite.client.ui.PluginPanel;
+
+// side panel for the ChartProgressPanelManager, only touched on the EDT
+class SeaChartProgressPanel extends PluginPanel
+{
+
+	private static final SeaChartTaskType[] TYPES = SeaChartTaskType.values();
+	private static final SeaChartRegion[] REGIONS = SeaChartRegion.values();
+
+	// told when the panel is opened or closed, so the closest task is only looked up while visible
+	private final Consumer<Boolean> onActiveChanged;
+
+	private final JLabel charted = new JLabel();
+	private final JLabel available = new JLabel();
+	private final JLabel closest = new JLabel();
+	private final JCheckBox onlyAvailable = new JCheckBox("Only regions with available tasks");
+
+	private final Row[] typeRows = new Row[TYPES.length];
+	private final Row[] regionRows = new Row[REGIONS.length];
+
+	private ChartProgressAggregates progress;
+
+	SeaChartProgressPanel(Consumer<Boolean> onActiveChanged)
+	{
+		this.onActiveChanged = onActiveChanged;
+
+		setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+		setBorder(new EmptyBorder(10, 10, 10, 10));
+
+		JLabel title = new JLabel("Sea Charting");
+		title.setFont(FontManager.getRunescapeBoldFont());
+		title.setForeground(Color.WHITE);
+		add(title);
+		add(charted);
+		add(available);
+		add(closest);
+
+		JPanel types = section("By type");
+		for (SeaChartTaskType type : TYPES)
+		{
+			typeRows[type.ordinal()] = new Row(types, type.getName());
+		}
+
+		onlyAvailable.setBackground(ColorScheme.DARK_GRAY_COLOR);
+		onlyAvailable.addActionListener(e -> refresh());
+		add(onlyAvailable);
+
+		JPanel regions = section("By region");
+		for (SeaChartRegion region : REGIONS)
+		{
+			regionRows[region.ordinal()] = new Row(regions, region.getName());
+		}
+
+		update(new ChartProgressAggregates(), null);
+	}
+
+	@Override
+	public void onActivate()
+	{
+		onActiveChanged.accept(true);
+	}
+
+	@Override
+	public void onDeactivate()
+	{
+		onActiveChanged.accept(false);
+	}
+
+	// progress is a copy owned by the panel
+	void update(ChartProgressAggregates progress, String closestTask)
+	{
+		this.progress = progress;
+		closest.setText("Closest: " + (closestTask != null ? closestTask : "-"));
+		refresh();
+	}
+
+	private void refresh()
+	{
+		charted.setText("Charted: " + progress.getComplete() + " / " + progress.getTotal());
+		available.setText("Available: " + progress.getAvailable());
+
+		for (SeaChartTaskType type : TYPES)
+		{
+			typeRows[type.ordinal()].set(progress.getComplete(type), progress.getTotal(type), progress.getAvailable(type));
+		}
+
+		for (SeaChartRegion region : REGIONS)
+		{
+			Row row = regionRows[region.ordinal()];
+			int regionAvailable = progress.getAvailable(region);
+			row.set(progress.getComplete(region), progress.getTotal(region), regionAvailable);
+			row.panel.setVisible(!onlyAvailable.isSelected() || regionAvailable > 0);
+		}
+
+		revalidate();
+		repaint();
+	}
+
+	private JPanel section(String name)
+	{
+		JLabel header = new JLabel(name);
+		header.setFont(FontManager.getRunescapeBoldFont());
+		header.setBorder(new EmptyBorder(10, 0, 4, 0));
+		add(header);
+
+		// box layout so rows hidden by the filter don't leave gaps
+		JPanel rows = new JPanel();
+		rows.setLayout(new BoxLayout(rows, BoxLayout.Y_AXIS));
+		rows.setBackground(ColorScheme.DARK_GRAY_COLOR);
+		add(rows);
+		return rows;
+	}
+
+	private static class Row
+	{
+
+		private final JPanel panel = new JPanel(new BorderLayout());
+		private final JLabel name;
+		private final JLabel counts = new JLabel();
+
+		Row(JPanel parent, String name)
+		{
+			this.name = new JLabel(name);
+			panel.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+			panel.setBorder(BorderFactory.createCompoundBorder(
+				BorderFactory.createMatteBorder(0, 0, 2, 0, ColorScheme.DARK_GRAY_COLOR),
+				BorderFactory.createEmptyBorder(2, 6, 2, 6)
+			));
+			panel.add(this.name, BorderLayout.WEST);
+			panel.add(counts, BorderLayout.EAST);
+			parent.add(panel);
+		}
+
+		void set(int complete, int total, int available)
+		{
+			counts.setText(complete + "/" + total + (available > 0 ? " (" + available + " available)" : ""));
+			counts.setToolTipText(available + " uncharted with the level and quest requirements met");
+
+			Color color = complete == total ? ColorScheme.PROGRESS_COMPLETE_COLOR
+				: available > 0 ? Color.WHITE
+				: ColorScheme.LIGHT_GRAY_COLOR;
+			name.setForeground(color);
+			counts.setForeground(color);
+		}
+	}
+}
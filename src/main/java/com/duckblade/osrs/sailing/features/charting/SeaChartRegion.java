@@ -0,0 +1,86 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// generated by GenerateSeaChartTasks from the completion varbit names, do not edit
+@RequiredArgsConstructor
+@Getter
+public enum SeaChartRegion
+{
+
+	ANGLERFISHS_LIGHT("Anglerfish's Light"),
+	ARROW_PASSAGE("Arrow Passage"),
+	AUREUM_COAST("Aureum Coast"),
+	BACKWATER("Backwater"),
+	BARRACUDA_BELT("Barracuda Belt"),
+	BAY_OF_ELIDINIS("Bay of Elidinis"),
+	BAY_OF_SARIM("Bay of Sarim"),
+	BREAKBONE_STRAIT("Breakbone Strait"),
+	BRIMHAVEN_PASSAGE("Brimhaven Passage"),
+	CATHERBY_BAY("Catherby Bay"),
+	CRABCLAW_BAY("Crabclaw Bay"),
+	CRYSTAL_SEA("Crystal Sea"),
+	DUSKS_MAW("Dusk's Maw"),
+	EVERWINTER_SEA("Everwinter Sea"),
+	FELDIP_GULF("Feldip Gulf"),
+	FORTIS_BAY("Fortis Bay"),
+	FREMENNIK_STRAIT("Fremennik Strait"),
+	FREMENSUND("Fremensund"),
+	GRANDROOT_BAY("Grandroot Bay"),
+	GREAT_CONCH("Great Conch"),
+	GREAT_SOUND("Great Sound"),
+	GULF_OF_KOUREND("Gulf of Kourend"),
+	GUTANOTH_BAY("Gutanoth Bay"),
+	HOSIDIAN_SEA("Hosidian Sea"),
+	IDESTIA_STRAIT("Idestia Strait"),
+	KANNSKI_TIDES("Kannski Tides"),
+	KHARAZI_STRAIT("Kharazi Strait"),
+	KHARIDIAN_SEA("Kharidian Sea"),
+	LITUS_LUCIS("Litus Lucis"),
+	LUMBRIDGE_BASIN("Lumbridge Basin"),
+	LUNAR_BAY("Lunar Bay"),
+	LUNAR_SEA("Lunar Sea"),
+	MENAPHITE_SEA("Menaphite Sea"),
+	MISTY_SEA("Misty Sea"),
+	MOONSHADOW("Moonshadow"),
+	MUDSKIPPER_SOUND("Mudskipper Sound"),
+	MYTHIC_SEA("Mythic Sea"),
+	OOGLOG_CHANNEL("Oo'glog Channel"),
+	PEARL_BANK("Pearl Bank"),
+	PILGRIMS_PASSAGE("Pilgrims' Passage"),
+	PISCATORIS_SEA("Piscatoris Sea"),
+	PORTH_GWENITH("Porth Gwenith"),
+	PORTH_NEIGWL("Porth Neigwl"),
+	RAINBOW_REEF("Rainbow Reef"),
+	RED_REEF("Red Reef"),
+	RIMMINGTON_STRAIT("Rimmington Strait"),
+	SAPPHIRE_SEA("Sapphire Sea"),
+	SEA_OF_SHELLS("Sea of Shells"),
+	SEA_OF_SOULS("Sea of Souls"),
+	SHIVERWAKE_EXPANSE("Shiverwake Expanse"),
+	SOUL_BAY("Soul Bay"),
+	SOUTHERN_EXPANSE("Southern Expanse"),
+	STONEHEART_SEA("Stoneheart Sea"),
+	STORM_TEMPOR("Storm Tempor"),
+	STRAIT_OF_KHAZARD("Strait of Khazard"),
+	SUNSET_BAY("Sunset Bay"),
+	THE_EVERDEEP("The Everdeep"),
+	THE_LONELY_SEA("The Lonely Sea"),
+	THE_SIMIAN_SEA("The Simian Sea"),
+	THE_SKULLHORDE("The Skullhorde"),
+	TIRANNWN_BIGHT("Tirannwn Bight"),
+	TORTUGAN_SEA("Tortugan Sea"),
+	TURTLE_BELT("Turtle Belt"),
+	VAGABONDS_REST("Vagabond's Rest"),
+	VS_BELT("V's Belt"),
+	WEISSMERE("Weissmere"),
+	WEISS_MELT("Weiss Melt"),
+	WESTERN_GATE("Western Gate"),
+	WINTERS_EDGE("Winter's Edge"),
+	WYRMS_WATERS("Wyrm's Waters"),
+	;
+
+	private final String name;
+
+}
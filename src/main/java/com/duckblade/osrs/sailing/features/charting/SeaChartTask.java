@@ -13,368 +13,369 @@ import net.runelite.api.gameval.NpcID;
 public enum SeaChartTask
 {
 
-	TASK_0(0, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_BOARD_PORT_SARIM_COMPLETE, ObjectID.PORT_TASK_BOARD_PORT_SARIM, -1, new WorldPoint(3030, 3197, 0), null, 1),
-	TASK_1(1, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SALVAGE_STATION_PORT_SARIM_COMPLETE, ObjectID.SAILING_PORT_SALVAGING_STATION_PORT_SARIM, -1, new WorldPoint(3029, 3205, 0), null, 1),
-	TASK_2(2, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_WIZARDS_TOWER_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3104, 3181, 0), null, 1),
-	TASK_3(3, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FAIRY_RING_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3082, 3201, 0), new WorldPoint(3033, 3152, 0), 22),
-	TASK_4(4, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ROCK_BAY_OF_SARIM_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROCK_BAY_OF_SARIM, -1, new WorldPoint(3079, 3231, 0), null, 1),
-	TASK_5(5, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ROWBOAT_BAY_OF_SARIM_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROWBOAT_BAY_OF_SARIM, -1, new WorldPoint(3126, 3202, 0), null, 1),
-	TASK_6(6, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_CRUNCH_POSTER_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRUNCH_POSTER, -1, new WorldPoint(2944, 3138, 0), null, 1),
-	TASK_7(7, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_GLIDER_KHARIDIAN_SEA_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_GLIDER_KHARIDIAN_SEA, -1, new WorldPoint(2987, 3010, 0), null, 1),
-	TASK_8(8, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ROWBOAT_MUDSKIPPER_SOUND_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROWBOAT_MUDSKIPPER_SOUND, -1, new WorldPoint(3054, 3051, 0), null, 1),
-	TASK_9(9, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_MUSA_POINT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2890, 3121, 0), new WorldPoint(2967, 3065, 0), 22),
-	TASK_10(10, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_SHIPYARD_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3008, 3049, 0), null, 1),
-	TASK_11(11, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_PRYING_TIMES_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3013, 2998, 0), null, 12),
-	TASK_12(12, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_KHARIDIAN_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2988, 2949, 0), null, 38),
-	TASK_13(13, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_KHARIDIAN_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3145, 2963, 0), new WorldPoint(3049, 2962, 0), 22),
-	TASK_14(14, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_THE_PANDEMONIUM_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3045, 2995, 0), null, 1),
-	TASK_15(15, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_PANDEMONIUM_2_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_PANDEMONIUM_2, -1, new WorldPoint(2973, 2994, 0), null, 1),
-	TASK_16(16, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_PANDEMONIUM_3_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_PANDEMONIUM_3, -1, new WorldPoint(3143, 2979, 0), null, 1),
-	TASK_17(17, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_CORPSE_LUMBRIDGE_BASIN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CORPSE_LUMBRIDGE_BASIN, -1, new WorldPoint(3133, 3053, 0), null, 1),
-	TASK_18(18, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ROCK_LUMBRIDGE_BASIN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROCK_LUMBRIDGE_BASIN, -1, new WorldPoint(3182, 3136, 0), null, 1),
-	TASK_19(19, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_LUMBRIDGE_MINE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3145, 3134, 0), null, 1),
-	TASK_20(20, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_LUMBRIDGE_BASIN_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3209, 3134, 0), new WorldPoint(3158, 3020, 0), 22),
-	TASK_21(21, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ROCK_RIMMINGTON_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROCK_RIMMINGTON_STRAIT, -1, new WorldPoint(2905, 3281, 0), null, 1),
-	TASK_22(22, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_DRAGON_STATUE_RIMMINGTON_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DRAGON_STATUE_RIMMINGTON_STRAIT, -1, new WorldPoint(2873, 3260, 0), null, 1),
-	TASK_23(23, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_KARAMJA_VOLCANO_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2839, 3210, 0), null, 1),
-	TASK_24(24, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_RIMMINGTON_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2902, 3317, 0), new WorldPoint(2872, 3273, 0), 22),
-	TASK_25(25, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_THORNS_CATHERBY_BAY_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_THORNS_CATHERBY_BAY, -1, new WorldPoint(2897, 3335, 0), null, 1),
-	TASK_26(26, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_MEGASHRIMP_CATHERBY_BAY_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_MEGASHRIMP_CATHERBY_BAY, -1, new WorldPoint(2760, 3364, 0), null, 1),
-	TASK_27(27, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_KEEP_LE_FAYE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2784, 3401, 0), null, 1),
-	TASK_28(28, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_CATHERBY_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2835, 3417, 0), new WorldPoint(2802, 3322, 0), 22),
-	TASK_29(29, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_WRECK_BRIMHAVEN_PASSAGE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_WRECK_BRIMHAVEN_PASSAGE, -1, new WorldPoint(2741, 3270, 0), null, 1),
-	TASK_30(30, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_BOTTLE_BRIMHAVEN_PASSAGE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BOTTLE_BRIMHAVEN_PASSAGE, -1, new WorldPoint(2769, 3267, 0), null, 1),
-	TASK_31(31, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_FISHING_PLATFORM_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2779, 3265, 0), null, 1),
-	TASK_32(32, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_BRIMHAVEN_PASSAGE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2648, 3244, 0), new WorldPoint(2743, 3215, 0), 22),
-	TASK_33(33, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ROWBOAT_PORT_KHAZARD_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROWBOAT_STRAIT_OF_KHAZARD, -1, new WorldPoint(2702, 3151, 0), null, 1),
-	TASK_34(34, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ROCK_STRAIT_OF_KHAZARD_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROCK_STRAIT_OF_KHAZARD, -1, new WorldPoint(2720, 3103, 0), null, 1),
-	TASK_35(35, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SIGN_STRAIT_OF_KHAZARD_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SIGN_STRAIT_OF_KHAZARD, -1, new WorldPoint(2681, 3134, 0), null, 1),
-	TASK_36(36, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_TWO_TOWERS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2664, 3219, 0), null, 1),
-	TASK_37(37, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_STRAIT_OF_KHAZARD_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2664, 3172, 0), new WorldPoint(2640, 3095, 0), 22),
-	TASK_38(38, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SMUGGLED_RUM_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2994, 3134, 0), null, 12),
-	TASK_39(39, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SORODAMIN_BRU_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3277, 3135, 0), null, 12),
-	TASK_40(40, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_MARROW_WINE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2869, 3378, 0), null, 12),
-	TASK_41(41, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SLUG_BALM_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2674, 3103, 0), null, 12),
-	TASK_42(42, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_RIMMINGTON_STRAIT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2912, 3213, 0), new WorldPoint(2840, 3315, 0), 57),
-	TASK_43(43, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_STRAIT_OF_KHAZARD_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2656, 3195, 0), new WorldPoint(2742, 3100, 0), 57),
-	TASK_44(44, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_MUDSKIPPER_SOUND_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2979, 3085, 0), null, 38),
-	TASK_45(45, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_CATHERBY_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2873, 3397, 0), null, 38),
-	TASK_46(46, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_STRAIT_OF_KHAZARD_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2757, 3138, 0), null, 38),
-	TASK_47(47, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_RED_REEF_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2788, 2548, 0), null, 38),
-	TASK_48(48, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_BARRACUDA_HQ_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2276, 2598, 0), null, 38),
-	TASK_49(49, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_ARROW_PASSAGE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2917, 2765, 0), null, 38),
-	TASK_50(50, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_TURTLE_BELT_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(3014, 2556, 0), null, 38),
-	TASK_51(51, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_GREAT_CONCH_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(3282, 2445, 0), null, 38),
-	TASK_52(52, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_RAINBOW_REEF_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2256, 2312, 0), null, 72),
-	TASK_53(53, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_ANGLERFISHS_LIGHT_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2766, 2382, 0), null, 38),
-	TASK_54(54, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_THE_SKULLHORDE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2542, 2541, 0), new WorldPoint(2732, 2641, 0), 57),
-	TASK_55(55, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_BARRACUDA_BELT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2082, 2590, 0), new WorldPoint(2154, 2440, 0), 57),
-	TASK_56(56, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_ARROW_PASSAGE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2903, 2698, 0), new WorldPoint(2869, 2805, 0), 57),
-	TASK_57(57, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_STORM_TEMPOR_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2979, 2905, 0), new WorldPoint(3062, 2862, 0), 57),
-	TASK_58(58, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_GREAT_CONCH_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(3321, 2327, 0), new WorldPoint(3177, 2456, 0), 57),
-	TASK_59(59, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_ANGLERFISHS_LIGHT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2864, 2311, 0), new WorldPoint(2789, 2193, 0), 57),
-	TASK_60(60, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SPINNERS_GASP_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2677, 2654, 0), null, 12),
-	TASK_61(61, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_BARRACUDA_BREW_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2282, 2506, 0), null, 12),
-	TASK_62(62, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_BANANA_DAIQUIRI_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2816, 2733, 0), null, 12),
-	TASK_63(63, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_KHARAZI_COOLER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2888, 2857, 0), null, 12),
-	TASK_64(64, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_DOGNOSE_DRAUGHT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3046, 2665, 0), null, 12),
-	TASK_65(65, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_WAY_HOME_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3098, 2458, 0), null, 12),
-	TASK_66(66, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_PLATINUM_RUM_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2205, 2303, 0), null, 72),
-	TASK_67(67, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_LIGHT_DARK_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2840, 2280, 0), null, 12),
-	TASK_68(68, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_THE_SIMIAN_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2691, 2703, 0), new WorldPoint(2807, 2700, 0), 22),
-	TASK_69(69, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_PEST_ISLAND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2665, 2560, 0), new WorldPoint(2654, 2610, 0), 22),
-	TASK_70(70, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_KHARAZI_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2767, 2895, 0), new WorldPoint(2764, 2994, 0), 22),
-	TASK_71(71, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_RED_REEF_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2902, 2548, 0), new WorldPoint(2906, 2494, 0), 22),
-	TASK_72(72, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_STORM_TEMPOR_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3001, 2847, 0), new WorldPoint(3058, 2833, 0), 24),
-	TASK_73(73, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_GREAT_CONCH_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3204, 2367, 0), new WorldPoint(3279, 2398, 0), 22),
-	TASK_74(74, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_RAINBOW_REEF_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2335, 2286, 0), new WorldPoint(2330, 2285, 0), 72),
-	TASK_75(75, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_THE_LONELY_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2624, 2415, 0), new WorldPoint(2534, 2515, 0), 22),
-	TASK_76(76, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_VOID_KNIGHTS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2654, 2682, 0), null, 1),
-	TASK_77(77, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_MONKEY_TEMPLE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2828, 2785, 0), null, 1),
-	TASK_78(78, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_KHARAZI_CAVE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2945, 2878, 0), null, 24),
-	TASK_79(79, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_DOGNOSE_ISLAND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3050, 2656, 0), null, 40),
-	TASK_80(80, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_UNKAH_SHIP_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3144, 2854, 0), null, 24),
-	TASK_81(81, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_TORTUGAN_VILLAGE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3187, 2430, 0), null, 45),
-	TASK_82(82, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_CONCH_MOUNTAIN_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3154, 2548, 0), null, 1),
-	TASK_83(83, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_ANGLERFISHS_LIGHTHOUSE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2895, 2326, 0), null, 1),
-	TASK_84(84, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ATOLL_CAPE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ATOLL_CAPE, -1, new WorldPoint(2681, 2714, 0), null, 1),
-	TASK_85(85, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_BANANA_BOAT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BANANA_BOAT, -1, new WorldPoint(2693, 2793, 0), null, 1),
-	TASK_86(86, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_DEAD_SHIFTER_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DEAD_SHIFTER, -1, new WorldPoint(2804, 2460, 0), null, 1),
-	TASK_87(87, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_PEST_SHIPWRECK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_PEST_SHIPWRECK, -1, new WorldPoint(2587, 2593, 0), null, 1),
-	TASK_88(88, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_BARRACUDA_ROPE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BARRACUDA_ROPE, -1, new WorldPoint(2149, 2615, 0), null, 1),
-	TASK_89(89, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_BARRACUDA_PORTION_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BARRACUDA_PORTION, -1, new WorldPoint(2281, 2447, 0), null, 1),
-	TASK_90(90, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_GLIDER_KHARAZI_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_GLIDER_KHARAZI_STRAIT, -1, new WorldPoint(2781, 2815, 0), null, 1),
-	TASK_91(91, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SEA_MONKEYS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SEA_MONKEYS, -1, new WorldPoint(2881, 2750, 0), null, 1),
-	TASK_92(92, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_MAP_BOTTLE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_MAP_BOTTLE, -1, new WorldPoint(2798, 2891, 0), null, 1),
-	TASK_93(93, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_RAPIDLESS_RAPID_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_RAPIDLESS_RAPID, -1, new WorldPoint(2843, 2837, 0), null, 1),
-	TASK_94(94, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_TREASURE_CHEST_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_TREASURE_CHEST, -1, new WorldPoint(3075, 2601, 0), null, 1),
-	TASK_95(95, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_CRAB_STATUE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRAB_STATUE, -1, new WorldPoint(2066, 2608, 0), null, 1),
-	TASK_96(96, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_DESERT_TROUT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DESERT_TROUT, -1, new WorldPoint(3033, 2796, 0), null, 24),
-	TASK_97(97, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_LIGHTNING_ROD_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_LIGHTNING_ROD, -1, new WorldPoint(3065, 2885, 0), null, 24),
-	TASK_98(98, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_MINOR_CONCH_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_MINOR_CONCH, -1, new WorldPoint(3284, 2514, 0), null, 1),
-	TASK_99(99, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_CRAB_APPLE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRAB_APPLE, -1, new WorldPoint(3216, 2466, 0), null, 45),
-	TASK_100(100, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_GNOME_BALL_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_GNOME_BALL, -1, new WorldPoint(2336, 2267, 0), null, 72),
-	TASK_101(101, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_EDGE_BOAT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_EDGE_BOAT, -1, new WorldPoint(2334, 2118, 0), null, 72),
-	TASK_102(102, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_DRAGON_SCALES_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DRAGON_SCALES, -1, new WorldPoint(2634, 2392, 0), null, 1),
-	TASK_103(103, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_LARGE_LIGHT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_LARGE_LIGHT, -1, new WorldPoint(2719, 2296, 0), null, 1),
-	TASK_104(104, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_GUTANOTH_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2638, 3009, 0), new WorldPoint(2618, 2879, 0), 57),
-	TASK_105(105, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_BREAKBONE_STRAIT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2335, 2921, 0), new WorldPoint(2473, 2725, 0), 57),
-	TASK_106(106, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_SOUL_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2140, 2806, 0), new WorldPoint(2021, 2681, 0), 57),
-	TASK_107(107, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_ZUL_EGIL_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2149, 3068, 0), new WorldPoint(2253, 2987, 0), 66),
-	TASK_108(108, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_OGRE_ISLAND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2597, 3027, 0), null, 1),
-	TASK_109(109, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_COVE_THRONE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2605, 2867, 0), null, 1),
-	TASK_110(110, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_MYTHS_GUILD_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2429, 2852, 0), null, 40),
-	TASK_111(111, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_CAPE_SOUL_ISLAND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2342, 2768, 0), null, 61),
-	TASK_112(112, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_TOAD_PONDS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2399, 3027, 0), null, 40),
-	TASK_113(113, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_RUINED_TOWER_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2128, 2983, 0), null, 1),
-	TASK_114(114, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_ZUL_ANDRA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2199, 3036, 0), null, 40),
-	TASK_115(115, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_OGRE_PRAYER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2624, 3069, 0), null, 12),
-	TASK_116(116, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_POINT_PUNCH_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2691, 2940, 0), null, 12),
-	TASK_117(117, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_OOGLUG_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2595, 2787, 0), null, 12),
-	TASK_118(118, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_MYTHS_MIXER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2556, 2664, 0), null, 12),
-	TASK_119(119, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_GOLDLESS_ALE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2334, 2781, 0), null, 40),
-	TASK_120(120, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_DESTRUCTORS_COCKTAIL_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2318, 2966, 0), null, 40),
-	TASK_121(121, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_ZOGRES_KISS_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2476, 2969, 0), null, 40),
-	TASK_122(122, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_CREATORS_COCKTAIL_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2086, 2882, 0), null, 12),
-	TASK_123(123, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SOUL_BOTTLE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2221, 2765, 0), null, 12),
-	TASK_124(124, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_ZUL_RYE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2279, 3036, 0), null, 40),
-	TASK_125(125, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_GUTANOTH_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2676, 3035, 0), null, 38),
-	TASK_126(126, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_OOGLOG_CHANNEL_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2529, 2829, 0), null, 38),
-	TASK_127(127, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_MYTHIC_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2446, 2784, 0), null, 40),
-	TASK_128(128, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_BACKWATER_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2469, 3006, 0), null, 40),
-	TASK_129(129, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SOUL_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2012, 2874, 0), null, 38),
-	TASK_130(130, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FELDIP_GULF_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2645, 2974, 0), new WorldPoint(2749, 2971, 0), 22),
-	TASK_131(131, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_MYTHIC_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2495, 2708, 0), new WorldPoint(2533, 2736, 0), 40),
-	TASK_132(132, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_BREAKBONE_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2340, 2896, 0), new WorldPoint(2456, 2895, 0), 40),
-	TASK_133(133, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_SOUL_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2080, 2859, 0), new WorldPoint(2102, 2816, 0), 22),
-	TASK_134(134, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_BACKWATER_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2318, 3057, 0), new WorldPoint(2233, 3028, 0), 40),
-	TASK_135(135, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_OGRE_BOAT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_OGRE_BOAT, -1, new WorldPoint(2633, 3039, 0), null, 1),
-	TASK_136(136, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_FELDIP_RIDGE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_FELDIP_RIDGE, -1, new WorldPoint(2695, 2981, 0), null, 1),
-	TASK_137(137, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_DEAD_MONSTER_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DEAD_MONSTER, -1, new WorldPoint(2634, 2882, 0), null, 1),
-	TASK_138(138, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ABANDONED_CAMP_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ABANDONED_CAMP, -1, new WorldPoint(2476, 2707, 0), null, 51),
-	TASK_139(139, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SOUL_SHIPWRECK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SOUL_SHIPWRECK, -1, new WorldPoint(2289, 2712, 0), null, 1),
-	TASK_140(140, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ARMY_ATTIRE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ARMY_ATTIRE, -1, new WorldPoint(2460, 2881, 0), null, 40),
-	TASK_141(141, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_DISEASED_CORAL_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DISEASED_CORAL, -1, new WorldPoint(2300, 3043, 0), null, 40),
-	TASK_142(142, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SNAKE_EGGS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SNAKE_EGGS, -1, new WorldPoint(1996, 2947, 0), null, 1),
-	TASK_143(143, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_LARGE_JELLYFISH_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_LARGE_JELLYFISH, -1, new WorldPoint(2089, 2797, 0), null, 1),
-	TASK_144(144, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_POISON_SPILL_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_POISON_SPILL, -1, new WorldPoint(2165, 3030, 0), null, 40),
-	TASK_145(145, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_TIRANNWN_BIGHT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2130, 3395, 0), new WorldPoint(2041, 3328, 0), 66),
-	TASK_146(146, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_PORTH_NEIGWL_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2118, 3159, 0), new WorldPoint(2028, 3220, 0), 66),
-	TASK_147(147, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_WESTERN_GATE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1978, 3106, 0), new WorldPoint(1951, 3046, 0), 22),
-	TASK_148(148, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_PORTH_NEIGWL_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2071, 3186, 0), new WorldPoint(2161, 3150, 0), 66),
-	TASK_149(149, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_TIRANNWN_BIGHT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2165, 3260, 0), new WorldPoint(2163, 3367, 0), 66),
-	TASK_150(150, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_TYRAS_CAMP_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2160, 3155, 0), null, 66),
-	TASK_151(151, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_PRIFDDINAS_GATE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2163, 3318, 0), null, 66),
-	TASK_152(152, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_WESTERN_GATE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2041, 3023, 0), null, 38),
-	TASK_153(153, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_CRYSTAL_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(1979, 3211, 0), null, 38),
-	TASK_154(154, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_PORTH_NEIGWL_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2113, 3123, 0), null, 66),
-	TASK_155(155, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SAPPHIRE_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(1762, 2611, 0), null, 38),
-	TASK_156(156, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_TIRANNWN_BIGHT_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2120, 3345, 0), null, 66),
-	TASK_157(157, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SHARHAIS_PURSE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SHARHAIS_PURSE, -1, new WorldPoint(1947, 2985, 0), null, 1),
-	TASK_158(158, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ELVEN_SHIP_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ELVEN_SHIP, -1, new WorldPoint(1980, 3232, 0), null, 1),
-	TASK_159(159, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_HALBERD_POLES_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_HALBERD_POLES, -1, new WorldPoint(2118, 3158, 0), null, 66),
-	TASK_160(160, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_RIVER_MINE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_RIVER_MINE, -1, new WorldPoint(2157, 3274, 0), null, 66),
-	TASK_161(161, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_HALF_BUILT_SHIP_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_HALF_BUILT_SHIP, -1, new WorldPoint(2026, 3669, 0), null, 1),
-	TASK_162(162, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_MANGO_GIN_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1993, 2972, 0), null, 12),
-	TASK_163(163, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SNAKE_GRAVY_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2008, 3261, 0), null, 12),
-	TASK_164(164, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_CRYSTAL_WATER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2161, 3203, 0), null, 66),
-	TASK_165(165, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_UNDERGROUND_MILK_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2206, 3484, 0), null, 66),
-	TASK_166(166, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_ELVEN_WINE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2120, 3418, 0), null, 66),
-	TASK_167(167, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_VAGABONDS_REST_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2280, 3518, 0), new WorldPoint(2118, 3587, 0), 66),
-	TASK_168(168, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_PILGRIMS_PASSAGE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1867, 3458, 0), new WorldPoint(1852, 3532, 0), 57),
-	TASK_169(169, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_WINTERS_EDGE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1817, 3965, 0), new WorldPoint(1866, 3826, 0), 78),
-	TASK_170(170, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_PORTH_GWENITH_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2283, 3459, 0), null, 66),
-	TASK_171(171, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_PISCATORIS_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2236, 3593, 0), null, 66),
-	TASK_172(172, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_GULF_OF_KOUREND_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(1851, 3668, 0), null, 38),
-	TASK_173(173, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_PORTH_GWENITH_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2220, 3429, 0), new WorldPoint(2205, 3462, 0), 66),
-	TASK_174(174, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_PILGRIMS_PASSAGE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1871, 3430, 0), new WorldPoint(1791, 3414, 0), 22),
-	TASK_175(175, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_GULF_OF_KOUREND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1813, 3664, 0), new WorldPoint(1831, 3697, 0), 22),
-	TASK_176(176, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_WINTERS_EDGE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1866, 3911, 0), new WorldPoint(2054, 3889, 0), 78),
-	TASK_177(177, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_FISHING_COLONY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2303, 3700, 0), null, 1),
-	TASK_178(178, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_TITHE_FARM_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1861, 3528, 0), null, 1),
-	TASK_179(179, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_PORT_PISCARILIUS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1846, 3769, 0), null, 1),
-	TASK_180(180, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_RIVER_OF_SOULS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1793, 3978, 0), null, 78),
-	TASK_181(181, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SEA_SPRAY_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2079, 3655, 0), null, 12),
-	TASK_182(182, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_BANKERS_DRAUGHT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1887, 3556, 0), null, 12),
-	TASK_183(183, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_HEADLESS_UNICORNMAN_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1934, 3742, 0), null, 12),
-	TASK_184(184, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SOUL_JUICE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1898, 4069, 0), null, 78),
-	TASK_185(185, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_CRYSTAL_DINGHY_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRYSTAL_DINGHY, -1, new WorldPoint(2210, 3445, 0), null, 66),
-	TASK_186(186, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_HUNTER_OUTFITS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_HUNTER_OUTFITS, -1, new WorldPoint(2133, 3589, 0), null, 66),
-	TASK_187(187, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_KRAKEN_SLIME_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_KRAKEN_SLIME, -1, new WorldPoint(2300, 3662, 0), null, 1),
-	TASK_188(188, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_DISCARDED_PLOUGH_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DISCARDED_PLOUGH, -1, new WorldPoint(1855, 3586, 0), null, 1),
-	TASK_189(189, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_BROKEN_CRANE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BROKEN_CRANE, -1, new WorldPoint(1847, 3796, 0), null, 1),
-	TASK_190(190, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_TOAD_SPAWN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_TOAD_SPAWN, -1, new WorldPoint(1762, 4005, 0), null, 78),
-	TASK_191(191, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_MENAPHOS_PYRAMID_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3145, 2734, 0), null, 1),
-	TASK_192(192, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_MENAPHITE_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(3044, 2722, 0), null, 38),
-	TASK_193(193, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SAND_PIT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SAND_PIT, -1, new WorldPoint(3143, 2770, 0), null, 1),
-	TASK_194(194, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_MENAPHITE_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3185, 2654, 0), new WorldPoint(3146, 2599, 0), 22),
-	TASK_195(195, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_CROCODILE_TEARS_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3190, 2706, 0), null, 12),
-	TASK_196(196, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_CRAB_EYES_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRAB_EYES, -1, new WorldPoint(2587, 3657, 0), null, 1),
-	TASK_197(197, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_TREE_ROOTS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_TREE_ROOTS, -1, new WorldPoint(2479, 3546, 0), null, 1),
-	TASK_198(198, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_GHRIM_SIGN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_GHRIM_SIGN, -1, new WorldPoint(2528, 3818, 0), null, 1),
-	TASK_199(199, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_NEDS_BOOK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_NEDS_BOOK, -1, new WorldPoint(2383, 3769, 0), null, 1),
-	TASK_200(200, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_KEBBIT_BURROW_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_KEBBIT_BURROW, -1, new WorldPoint(2726, 3855, 0), null, 78),
-	TASK_201(201, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_MAGIC_WARDS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_MAGIC_WARDS, -1, new WorldPoint(2225, 3892, 0), null, 1),
-	TASK_202(202, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_DEAD_LIVID_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DEAD_LIVID, -1, new WorldPoint(2083, 3953, 0), null, 78),
-	TASK_203(203, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_LUNAR_BROOMS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_LUNAR_BROOMS, -1, new WorldPoint(2144, 4067, 0), null, 78),
-	TASK_204(204, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_FEARLESS_FREMENNIK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_FEARLESS_FREMENNIK, -1, new WorldPoint(2426, 3961, 0), null, 78),
-	TASK_205(205, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_DISCARDED_SLED_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DISCARDED_SLED, -1, new WorldPoint(2783, 3882, 0), null, 78),
-	TASK_206(206, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SHARK_CORPSE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SHARK_CORPSE, -1, new WorldPoint(2587, 3919, 0), null, 78),
-	TASK_207(207, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_KGP_PERISCOPE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_KGP_PERISCOPE, -1, new WorldPoint(2709, 4124, 0), null, 78),
-	TASK_208(208, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ICE_SHIP_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ICE_SHIP, -1, new WorldPoint(2902, 3965, 0), null, 78),
-	TASK_209(209, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FREMENSUND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2561, 3626, 0), new WorldPoint(2484, 3628, 0), 22),
-	TASK_210(210, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_GRANDROOT_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2369, 3507, 0), new WorldPoint(2404, 3591, 0), 22),
-	TASK_211(211, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_VS_BELT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2428, 3831, 0), new WorldPoint(2520, 3771, 0), 22),
-	TASK_212(212, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FREMENNIK_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2305, 3795, 0), new WorldPoint(2340, 3875, 0), 22),
-	TASK_213(213, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_IDESTIA_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2695, 3828, 0), new WorldPoint(2716, 3757, 0), 22),
-	TASK_214(214, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_LUNAR_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2159, 3849, 0), new WorldPoint(2202, 3799, 0), 22),
-	TASK_215(215, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_EVERWINTER_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1792, 4137, 0), new WorldPoint(1783, 4086, 0), 78),
-	TASK_216(216, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_KANNSKI_TIDES_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2316, 3903, 0), new WorldPoint(2277, 4028, 0), 78),
-	TASK_217(217, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_WEISSMERE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2833, 3960, 0), new WorldPoint(2801, 3887, 0), 78),
-	TASK_218(218, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_STONEHEART_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2433, 4006, 0), new WorldPoint(2459, 3996, 0), 78),
-	TASK_219(219, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_WEISS_MELT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2880, 3985, 0), new WorldPoint(2919, 4058, 0), 78),
-	TASK_220(220, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_FREMENSUND_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2594, 3644, 0), new WorldPoint(2513, 3738, 0), 57),
-	TASK_221(221, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_GRANDROOT_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2498, 3546, 0), new WorldPoint(2439, 3625, 0), 57),
-	TASK_222(222, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_FREMENNIK_STRAIT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2341, 3790, 0), new WorldPoint(2426, 3841, 0), 57),
-	TASK_223(223, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_IDESTIA_STRAIT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2600, 3910, 0), new WorldPoint(2625, 3795, 0), 78),
-	TASK_224(224, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_EVERWINTER_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1959, 4065, 0), new WorldPoint(2045, 4128, 0), 78),
-	TASK_225(225, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_STONEHEART_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2447, 3995, 0), new WorldPoint(2371, 4058, 0), 78),
-	TASK_226(226, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_SHIVERWAKE_EXPANSE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2793, 4020, 0), new WorldPoint(2784, 4108, 0), 78),
-	TASK_227(227, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_WEISS_MELT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2951, 3962, 0), new WorldPoint(2866, 4020, 0), 78),
-	TASK_228(228, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_FREMENSUND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2636, 3707, 0), null, 1),
-	TASK_229(229, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_GRANDROOT_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2504, 3612, 0), null, 1),
-	TASK_230(230, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_VS_BELT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2477, 3862, 0), null, 1),
-	TASK_231(231, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_FREMENNIK_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2366, 3777, 0), null, 1),
-	TASK_232(232, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_IDESTIA_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2636, 3874, 0), null, 1),
-	TASK_233(233, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_LUNAR_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2160, 3901, 0), null, 1),
-	TASK_234(234, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_WINTERS_EDGE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2051, 3913, 0), null, 1),
-	TASK_235(235, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_LUNAR_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2237, 4064, 0), null, 78),
-	TASK_236(236, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_KANNSKI_TIDES_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2351, 3904, 0), null, 78),
-	TASK_237(237, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_WEISSMERE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2781, 3987, 0), null, 78),
-	TASK_238(238, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_STONEHEART_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2620, 4059, 0), null, 78),
-	TASK_239(239, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_SHIVERWAKE_EXPANSE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2879, 4078, 0), null, 78),
-	TASK_240(240, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_WEISS_MELT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2990, 3971, 0), null, 78),
-	TASK_241(241, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_FREMENSUND_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2518, 3690, 0), null, 38),
-	TASK_242(242, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_GRANDROOT_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2513, 3571, 0), null, 38),
-	TASK_243(243, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_VS_BELT_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2505, 3892, 0), null, 78),
-	TASK_244(244, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_IDESTIA_STRAIT_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2664, 3954, 0), null, 78),
-	TASK_245(245, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_LUNAR_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2221, 3833, 0), null, 38),
-	TASK_246(246, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_WINTERS_EDGE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(1970, 3966, 0), null, 78),
-	TASK_247(247, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_LUNAR_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2061, 4118, 0), null, 78),
-	TASK_248(248, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_EVERWINTER_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(1823, 4018, 0), null, 78),
-	TASK_249(249, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_KANNSKI_TIDES_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2357, 3977, 0), null, 78),
-	TASK_250(250, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_WEISSMERE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2816, 3975, 0), null, 78),
-	TASK_251(251, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_STONEHEART_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2475, 4133, 0), null, 78),
-	TASK_252(252, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SHIVERWAKE_EXPANSE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2824, 4092, 0), null, 78),
-	TASK_253(253, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_FISHIER_STOUT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2689, 3732, 0), null, 12),
-	TASK_254(254, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_TOAD_CIDER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2453, 3597, 0), null, 12),
-	TASK_255(255, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_BLUE_LAGOON_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2474, 3798, 0), null, 12),
-	TASK_256(256, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_FISHTONGUE_TONIC_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2273, 3745, 0), null, 12),
-	TASK_257(257, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_ENDLESS_NIGHT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2651, 3811, 0), null, 12),
-	TASK_258(258, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_EXILES_WELCOME_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2142, 3874, 0), null, 12),
-	TASK_259(259, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SUQAH_COLA_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2113, 4142, 0), null, 78),
-	TASK_260(260, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_WINTER_SUN_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1757, 4150, 0), null, 78),
-	TASK_261(261, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_BLACK_LOBSTER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2359, 3878, 0), null, 12),
-	TASK_262(262, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_DWARVERN_WIZARD_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2775, 3935, 0), null, 78),
-	TASK_263(263, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_KGP_MARTINI_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2612, 4146, 0), null, 78),
-	TASK_264(264, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_CORPSE_REVIVER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2785, 4046, 0), null, 78),
-	TASK_265(265, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_WEISS_MELTWATER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2912, 4154, 0), null, 78),
-	TASK_266(266, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_TURTLE_BELT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2947, 2584, 0), new WorldPoint(2969, 2610, 0), 22),
-	TASK_267(267, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_BAY_OF_ELIDINIS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3248, 2703, 0), new WorldPoint(3275, 2748, 0), 22),
-	TASK_268(268, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_TORTUGAN_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3279, 2463, 0), new WorldPoint(3403, 2509, 0), 22),
-	TASK_269(269, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_PEARL_BANK_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3337, 2179, 0), new WorldPoint(3414, 2134, 0), 22),
-	TASK_270(270, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_TORTUGAN_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3261, 2506, 0), null, 1),
-	TASK_271(271, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SEA_OF_SHELLS_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2963, 2203, 0), null, 38),
-	TASK_272(272, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_BAY_OF_ELIDINIS_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(3338, 2622, 0), null, 38),
-	TASK_273(273, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_PEARL_BANK_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(3276, 2130, 0), null, 38),
-	TASK_274(274, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_THE_LONELY_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2528, 2149, 0), null, 38),
-	TASK_275(275, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_BIRD_NEST_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BIRD_NEST, -1, new WorldPoint(2963, 2264, 0), null, 47),
-	TASK_276(276, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_GOLEM_CORPSE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_GOLEM_CORPSE, -1, new WorldPoint(3243, 2702, 0), null, 1),
-	TASK_277(277, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SHIP_BOTTLE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SHIP_BOTTLE, -1, new WorldPoint(3375, 2135, 0), null, 1),
-	TASK_278(278, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_REDDEST_RUM_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2778, 2523, 0), null, 12),
-	TASK_279(279, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_LIFE_WATER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3239, 2598, 0), null, 12),
-	TASK_280(280, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_POSSIBLE_ALBUMEN_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3301, 2146, 0), null, 12),
-	TASK_281(281, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_ALONE_AT_SEA_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2522, 2248, 0), null, 12),
-	TASK_282(282, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_AUREUM_COAST_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1779, 2940, 0), new WorldPoint(1802, 2808, 0), 57),
-	TASK_283(283, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_THE_EVERDEEP_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1928, 2791, 0), new WorldPoint(1895, 2665, 0), 57),
-	TASK_284(284, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_SOUTHERN_EXPANSE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1881, 2445, 0), new WorldPoint(1813, 2191, 0), 72),
-	TASK_285(285, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_FORTIS_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1823, 3046, 0), null, 1),
-	TASK_286(286, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_AUREUM_COAST_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1737, 2907, 0), null, 1),
-	TASK_287(287, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_WYRMS_WATERS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1634, 2883, 0), null, 1),
-	TASK_288(288, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_THE_EVERDEEP_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1943, 2737, 0), null, 1),
-	TASK_289(289, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_SAPPHIRE_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1796, 2664, 0), null, 1),
-	TASK_290(290, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_ALCO_SOL_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1826, 2957, 0), null, 12),
-	TASK_291(291, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_PORTAL_PERRY_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1762, 2854, 0), null, 12),
-	TASK_292(292, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_CONGRATULATION_WINE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1570, 2808, 0), null, 12),
-	TASK_293(293, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_FISH_STOUTIER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2387, 2477, 0), null, 12),
-	TASK_294(294, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_CRYSTAL_VODKA_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1854, 2771, 0), null, 12),
-	TASK_295(295, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_COMP_KVASS_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1675, 2478, 0), null, 12),
-	TASK_296(296, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_PUZZLERS_POTEEN_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1821, 2439, 0), null, 72),
-	TASK_297(297, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SEAGULL_NEST_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SEAGULL_NEST, -1, new WorldPoint(1896, 2994, 0), null, 1),
-	TASK_298(298, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_WRECK_WEIGHT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_WRECK_WEIGHT, -1, new WorldPoint(1845, 2824, 0), null, 1),
-	TASK_299(299, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_ATOLL_DICTIONARY_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ATOLL_DICTIONARY, -1, new WorldPoint(1593, 2755, 0), null, 1),
-	TASK_300(300, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SCARY_SHADOW_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SCARY_SHADOW, -1, new WorldPoint(1976, 2680, 0), null, 1),
-	TASK_301(301, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SEA_SAPPHIRES_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SEA_SAPPHIRES, -1, new WorldPoint(1762, 2580, 0), null, 1),
-	TASK_302(302, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_NOTHING_SIGN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_NOTHING_SIGN, -1, new WorldPoint(1828, 2138, 0), null, 72),
-	TASK_303(303, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FORTIS_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1779, 2988, 0), new WorldPoint(1900, 2984, 0), 22),
-	TASK_304(304, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_WYRMS_WATERS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1543, 2785, 0), new WorldPoint(1583, 2773, 0), 22),
-	TASK_305(305, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_THE_SKULLHORDE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2488, 2530, 0), new WorldPoint(2367, 2521, 0), 22),
-	TASK_306(306, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_SAPPHIRE_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1745, 2662, 0), new WorldPoint(1695, 2662, 0), 22),
-	TASK_307(307, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_FORTIS_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(1898, 3048, 0), null, 38),
-	TASK_308(308, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_AUREUM_COAST_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(1889, 2882, 0), null, 38),
-	TASK_309(309, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_WYRMS_WATERS_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(1711, 2818, 0), null, 38),
-	TASK_310(310, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_THE_SKULLHORDE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2460, 2449, 0), null, 38),
-	TASK_311(311, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SEA_OF_SOULS_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2118, 2716, 0), null, 38),
-	TASK_312(312, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_THE_EVERDEEP_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(1942, 2650, 0), null, 38),
-	TASK_313(313, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SOUTHERN_EXPANSE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2057, 2317, 0), null, 72),
-	TASK_314(314, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_CRABCLAW_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1651, 3461, 0), new WorldPoint(1579, 3365, 0), 57),
-	TASK_315(315, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_LITUS_LUCIS_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1714, 3193, 0), new WorldPoint(1895, 3178, 0), 57),
-	TASK_316(316, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_GREAT_SOUND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1413, 3394, 0), null, 1),
-	TASK_317(317, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_CRABCLAW_BAY_1_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1600, 3310, 0), null, 1),
-	TASK_318(318, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_CRABCLAW_BAY_2_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1744, 3405, 0), null, 1),
-	TASK_319(319, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_CRYSTAL_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1886, 3266, 0), null, 1),
-	TASK_320(320, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_VAGABONDS_REST_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2101, 3702, 0), null, 1),
-	TASK_321(321, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_CRABCLAW_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(1681, 3380, 0), null, 38),
-	TASK_322(322, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_HOSIDIAN_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(1969, 3597, 0), null, 38),
-	TASK_323(323, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_PILGRIMS_PASSAGE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(1880, 3372, 0), null, 38),
-	TASK_324(324, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_LITUS_LUCIS_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(1821, 3166, 0), null, 38),
-	TASK_325(325, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_VAGABONDS_REST_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2018, 3705, 0), null, 38),
-	TASK_326(326, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_MOONSHADOW_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2044, 3792, 0), null, 38),
-	TASK_327(327, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_GREAT_SOUND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1384, 3465, 0), new WorldPoint(1492, 3448, 0), 22),
-	TASK_328(328, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_LITUS_LUCIS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1721, 3237, 0), new WorldPoint(1785, 3197, 0), 22),
-	TASK_329(329, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_CRYSTAL_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1920, 3296, 0), new WorldPoint(2059, 3299, 0), 22),
-	TASK_330(330, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_MOONSHADOW_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2122, 3796, 0), new WorldPoint(2167, 3682, 0), 22),
-	TASK_331(331, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_WILD_WHISKY_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1437, 3430, 0), null, 12),
-	TASK_332(332, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_ROBERTS_PORT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1926, 3394, 0), null, 12),
-	TASK_333(333, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SEA_SHANDY_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1783, 3252, 0), null, 12),
-	TASK_334(334, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_MONKFISH_STOUT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2248, 3744, 0), null, 12),
-	TASK_335(335, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_LUNARSHINE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2030, 3829, 0), null, 12),
-	TASK_336(336, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_BEGINNING_SIGN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BEGINNING_SIGN, -1, new WorldPoint(1529, 3405, 0), null, 1),
-	TASK_337(337, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_BARRACUDA_ADVERT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BARRACUDA_ADVERT, -1, new WorldPoint(1656, 3304, 0), null, 1),
-	TASK_338(338, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_SABOTAGED_MOORING_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SABOTAGED_MOORING, -1, new WorldPoint(1789, 3401, 0), null, 1),
-	TASK_339(339, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_CHINCHOMPA_TABLE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CHINCHOMPA_TABLE, -1, new WorldPoint(1887, 3424, 0), null, 1),
-	TASK_340(340, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_KRAKEN_SKELETON_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_KRAKEN_SKELETON, -1, new WorldPoint(1871, 3177, 0), null, 1),
-	TASK_341(341, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_JAIL_BOOK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_JAIL_BOOK, -1, new WorldPoint(1890, 3271, 0), null, 1),
-	TASK_342(342, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_LUNAR_WRECK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_LUNAR_WRECK, -1, new WorldPoint(2170, 3773, 0), null, 1),
-	TASK_343(343, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_SUNSET_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1470, 2980, 0), null, 1),
-	TASK_344(344, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_MISTY_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1387, 2840, 0), null, 1),
-	TASK_345(345, SeaChartTaskType.WEATHER, VarbitID.SAILING_CHARTING_WEATHER_TROLL_DUSKS_MAW_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1188, 2822, 0), new WorldPoint(1184, 3000, 0), 57),
-	TASK_346(346, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_SUNSET_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1422, 3046, 0), new WorldPoint(1387, 3148, 0), 22),
-	TASK_347(347, SeaChartTaskType.CURRENT_DUCK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_DUSKS_MAW_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1259, 2876, 0), new WorldPoint(1104, 2900, 0), 22),
-	TASK_348(348, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SUNSET_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(1575, 2942, 0), null, 38),
-	TASK_349(349, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_MISTY_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(1322, 2628, 0), null, 38),
-	TASK_350(350, SeaChartTaskType.MERMAID_GUIDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_DUSKS_MAW_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(1314, 2931, 0), null, 38),
-	TASK_351(351, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_PROP_WRECK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_PROP_WRECK, -1, new WorldPoint(1448, 2896, 0), null, 1),
-	TASK_352(352, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_FISHING_NETS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_FISHING_NETS, -1, new WorldPoint(1439, 2716, 0), null, 1),
-	TASK_353(353, SeaChartTaskType.GENERIC, VarbitID.SAILING_CHARTING_GENERIC_CRAB_HOLE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRAB_HOLE, -1, new WorldPoint(1232, 3005, 0), null, 1),
-	TASK_354(354, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_DRUNK_IMPLING_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1426, 2865, 0), null, 12),
-	TASK_355(355, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_MYSTERY_CIDER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1561, 2655, 0), null, 12),
-	TASK_356(356, SeaChartTaskType.DRINK_CRATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_SAILING_CAT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1050, 2886, 0), null, 12),
-	TASK_357(357, SeaChartTaskType.SPYGLASS, VarbitID.SAILING_CHARTING_SPYGLASS_CHARTING_TUTOR_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3051, 9388, 0), null, 1),
+	TASK_0(0, SeaChartTaskType.GENERIC, SeaChartRegion.BAY_OF_SARIM, VarbitID.SAILING_CHARTING_GENERIC_BOARD_PORT_SARIM_COMPLETE, ObjectID.PORT_TASK_BOARD_PORT_SARIM, -1, new WorldPoint(3030, 3197, 0), null, 1),
+	TASK_1(1, SeaChartTaskType.GENERIC, SeaChartRegion.BAY_OF_SARIM, VarbitID.SAILING_CHARTING_GENERIC_SALVAGE_STATION_PORT_SARIM_COMPLETE, ObjectID.SAILING_PORT_SALVAGING_STATION_PORT_SARIM, -1, new WorldPoint(3029, 3205, 0), null, 1),
+	TASK_2(2, SeaChartTaskType.SPYGLASS, SeaChartRegion.BAY_OF_SARIM, VarbitID.SAILING_CHARTING_SPYGLASS_WIZARDS_TOWER_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3104, 3181, 0), null, 1),
+	TASK_3(3, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.BAY_OF_SARIM, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FAIRY_RING_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3082, 3201, 0), new WorldPoint(3033, 3152, 0), 22),
+	TASK_4(4, SeaChartTaskType.GENERIC, SeaChartRegion.BAY_OF_SARIM, VarbitID.SAILING_CHARTING_GENERIC_ROCK_BAY_OF_SARIM_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROCK_BAY_OF_SARIM, -1, new WorldPoint(3079, 3231, 0), null, 1),
+	TASK_5(5, SeaChartTaskType.GENERIC, SeaChartRegion.BAY_OF_SARIM, VarbitID.SAILING_CHARTING_GENERIC_ROWBOAT_BAY_OF_SARIM_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROWBOAT_BAY_OF_SARIM, -1, new WorldPoint(3126, 3202, 0), null, 1),
+	TASK_6(6, SeaChartTaskType.GENERIC, SeaChartRegion.MUDSKIPPER_SOUND, VarbitID.SAILING_CHARTING_GENERIC_CRUNCH_POSTER_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRUNCH_POSTER, -1, new WorldPoint(2944, 3138, 0), null, 1),
+	TASK_7(7, SeaChartTaskType.GENERIC, SeaChartRegion.KHARIDIAN_SEA, VarbitID.SAILING_CHARTING_GENERIC_GLIDER_KHARIDIAN_SEA_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_GLIDER_KHARIDIAN_SEA, -1, new WorldPoint(2987, 3010, 0), null, 1),
+	TASK_8(8, SeaChartTaskType.GENERIC, SeaChartRegion.MUDSKIPPER_SOUND, VarbitID.SAILING_CHARTING_GENERIC_ROWBOAT_MUDSKIPPER_SOUND_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROWBOAT_MUDSKIPPER_SOUND, -1, new WorldPoint(3054, 3051, 0), null, 1),
+	TASK_9(9, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.RIMMINGTON_STRAIT, VarbitID.SAILING_CHARTING_CURRENT_DUCK_MUSA_POINT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2890, 3121, 0), new WorldPoint(2967, 3065, 0), 22),
+	TASK_10(10, SeaChartTaskType.SPYGLASS, SeaChartRegion.KHARIDIAN_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_SHIPYARD_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3008, 3049, 0), null, 1),
+	TASK_11(11, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.KHARIDIAN_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_PRYING_TIMES_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3013, 2998, 0), null, 12),
+	TASK_12(12, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.KHARIDIAN_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_KHARIDIAN_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2988, 2949, 0), null, 38),
+	TASK_13(13, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.KHARIDIAN_SEA, VarbitID.SAILING_CHARTING_CURRENT_DUCK_KHARIDIAN_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3145, 2963, 0), new WorldPoint(3049, 2962, 0), 22),
+	TASK_14(14, SeaChartTaskType.SPYGLASS, SeaChartRegion.MUDSKIPPER_SOUND, VarbitID.SAILING_CHARTING_SPYGLASS_THE_PANDEMONIUM_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3045, 2995, 0), null, 1),
+	TASK_15(15, SeaChartTaskType.GENERIC, SeaChartRegion.KHARIDIAN_SEA, VarbitID.SAILING_CHARTING_GENERIC_PANDEMONIUM_2_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_PANDEMONIUM_2, -1, new WorldPoint(2973, 2994, 0), null, 1),
+	TASK_16(16, SeaChartTaskType.GENERIC, SeaChartRegion.KHARIDIAN_SEA, VarbitID.SAILING_CHARTING_GENERIC_PANDEMONIUM_3_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_PANDEMONIUM_3, -1, new WorldPoint(3143, 2979, 0), null, 1),
+	TASK_17(17, SeaChartTaskType.GENERIC, SeaChartRegion.LUMBRIDGE_BASIN, VarbitID.SAILING_CHARTING_GENERIC_CORPSE_LUMBRIDGE_BASIN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CORPSE_LUMBRIDGE_BASIN, -1, new WorldPoint(3133, 3053, 0), null, 1),
+	TASK_18(18, SeaChartTaskType.GENERIC, SeaChartRegion.LUMBRIDGE_BASIN, VarbitID.SAILING_CHARTING_GENERIC_ROCK_LUMBRIDGE_BASIN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROCK_LUMBRIDGE_BASIN, -1, new WorldPoint(3182, 3136, 0), null, 1),
+	TASK_19(19, SeaChartTaskType.SPYGLASS, SeaChartRegion.LUMBRIDGE_BASIN, VarbitID.SAILING_CHARTING_SPYGLASS_LUMBRIDGE_MINE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3145, 3134, 0), null, 1),
+	TASK_20(20, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.LUMBRIDGE_BASIN, VarbitID.SAILING_CHARTING_CURRENT_DUCK_LUMBRIDGE_BASIN_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3209, 3134, 0), new WorldPoint(3158, 3020, 0), 22),
+	TASK_21(21, SeaChartTaskType.GENERIC, SeaChartRegion.RIMMINGTON_STRAIT, VarbitID.SAILING_CHARTING_GENERIC_ROCK_RIMMINGTON_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROCK_RIMMINGTON_STRAIT, -1, new WorldPoint(2905, 3281, 0), null, 1),
+	TASK_22(22, SeaChartTaskType.GENERIC, SeaChartRegion.RIMMINGTON_STRAIT, VarbitID.SAILING_CHARTING_GENERIC_DRAGON_STATUE_RIMMINGTON_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DRAGON_STATUE_RIMMINGTON_STRAIT, -1, new WorldPoint(2873, 3260, 0), null, 1),
+	TASK_23(23, SeaChartTaskType.SPYGLASS, SeaChartRegion.RIMMINGTON_STRAIT, VarbitID.SAILING_CHARTING_SPYGLASS_KARAMJA_VOLCANO_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2839, 3210, 0), null, 1),
+	TASK_24(24, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.RIMMINGTON_STRAIT, VarbitID.SAILING_CHARTING_CURRENT_DUCK_RIMMINGTON_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2902, 3317, 0), new WorldPoint(2872, 3273, 0), 22),
+	TASK_25(25, SeaChartTaskType.GENERIC, SeaChartRegion.CATHERBY_BAY, VarbitID.SAILING_CHARTING_GENERIC_THORNS_CATHERBY_BAY_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_THORNS_CATHERBY_BAY, -1, new WorldPoint(2897, 3335, 0), null, 1),
+	TASK_26(26, SeaChartTaskType.GENERIC, SeaChartRegion.CATHERBY_BAY, VarbitID.SAILING_CHARTING_GENERIC_MEGASHRIMP_CATHERBY_BAY_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_MEGASHRIMP_CATHERBY_BAY, -1, new WorldPoint(2760, 3364, 0), null, 1),
+	TASK_27(27, SeaChartTaskType.SPYGLASS, SeaChartRegion.CATHERBY_BAY, VarbitID.SAILING_CHARTING_SPYGLASS_KEEP_LE_FAYE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2784, 3401, 0), null, 1),
+	TASK_28(28, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.CATHERBY_BAY, VarbitID.SAILING_CHARTING_CURRENT_DUCK_CATHERBY_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2835, 3417, 0), new WorldPoint(2802, 3322, 0), 22),
+	TASK_29(29, SeaChartTaskType.GENERIC, SeaChartRegion.BRIMHAVEN_PASSAGE, VarbitID.SAILING_CHARTING_GENERIC_WRECK_BRIMHAVEN_PASSAGE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_WRECK_BRIMHAVEN_PASSAGE, -1, new WorldPoint(2741, 3270, 0), null, 1),
+	TASK_30(30, SeaChartTaskType.GENERIC, SeaChartRegion.BRIMHAVEN_PASSAGE, VarbitID.SAILING_CHARTING_GENERIC_BOTTLE_BRIMHAVEN_PASSAGE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BOTTLE_BRIMHAVEN_PASSAGE, -1, new WorldPoint(2769, 3267, 0), null, 1),
+	TASK_31(31, SeaChartTaskType.SPYGLASS, SeaChartRegion.BRIMHAVEN_PASSAGE, VarbitID.SAILING_CHARTING_SPYGLASS_FISHING_PLATFORM_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2779, 3265, 0), null, 1),
+	TASK_32(32, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.BRIMHAVEN_PASSAGE, VarbitID.SAILING_CHARTING_CURRENT_DUCK_BRIMHAVEN_PASSAGE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2648, 3244, 0), new WorldPoint(2743, 3215, 0), 22),
+	TASK_33(33, SeaChartTaskType.GENERIC, SeaChartRegion.STRAIT_OF_KHAZARD, VarbitID.SAILING_CHARTING_GENERIC_ROWBOAT_PORT_KHAZARD_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROWBOAT_STRAIT_OF_KHAZARD, -1, new WorldPoint(2702, 3151, 0), null, 1),
+	TASK_34(34, SeaChartTaskType.GENERIC, SeaChartRegion.STRAIT_OF_KHAZARD, VarbitID.SAILING_CHARTING_GENERIC_ROCK_STRAIT_OF_KHAZARD_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ROCK_STRAIT_OF_KHAZARD, -1, new WorldPoint(2720, 3103, 0), null, 1),
+	TASK_35(35, SeaChartTaskType.GENERIC, SeaChartRegion.STRAIT_OF_KHAZARD, VarbitID.SAILING_CHARTING_GENERIC_SIGN_STRAIT_OF_KHAZARD_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SIGN_STRAIT_OF_KHAZARD, -1, new WorldPoint(2681, 3134, 0), null, 1),
+	TASK_36(36, SeaChartTaskType.SPYGLASS, SeaChartRegion.STRAIT_OF_KHAZARD, VarbitID.SAILING_CHARTING_SPYGLASS_TWO_TOWERS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2664, 3219, 0), null, 1),
+	TASK_37(37, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.STRAIT_OF_KHAZARD, VarbitID.SAILING_CHARTING_CURRENT_DUCK_STRAIT_OF_KHAZARD_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2664, 3172, 0), new WorldPoint(2640, 3095, 0), 22),
+	TASK_38(38, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.MUDSKIPPER_SOUND, VarbitID.SAILING_CHARTING_DRINK_CRATE_SMUGGLED_RUM_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2994, 3134, 0), null, 12),
+	TASK_39(39, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.LUMBRIDGE_BASIN, VarbitID.SAILING_CHARTING_DRINK_CRATE_SORODAMIN_BRU_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3277, 3135, 0), null, 12),
+	TASK_40(40, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.CATHERBY_BAY, VarbitID.SAILING_CHARTING_DRINK_CRATE_MARROW_WINE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2869, 3378, 0), null, 12),
+	TASK_41(41, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.STRAIT_OF_KHAZARD, VarbitID.SAILING_CHARTING_DRINK_CRATE_SLUG_BALM_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2674, 3103, 0), null, 12),
+	TASK_42(42, SeaChartTaskType.WEATHER, SeaChartRegion.RIMMINGTON_STRAIT, VarbitID.SAILING_CHARTING_WEATHER_TROLL_RIMMINGTON_STRAIT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2912, 3213, 0), new WorldPoint(2840, 3315, 0), 57),
+	TASK_43(43, SeaChartTaskType.WEATHER, SeaChartRegion.STRAIT_OF_KHAZARD, VarbitID.SAILING_CHARTING_WEATHER_TROLL_STRAIT_OF_KHAZARD_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2656, 3195, 0), new WorldPoint(2742, 3100, 0), 57),
+	TASK_44(44, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.MUDSKIPPER_SOUND, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_MUDSKIPPER_SOUND_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2979, 3085, 0), null, 38),
+	TASK_45(45, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.CATHERBY_BAY, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_CATHERBY_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2873, 3397, 0), null, 38),
+	TASK_46(46, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.STRAIT_OF_KHAZARD, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_STRAIT_OF_KHAZARD_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2757, 3138, 0), null, 38),
+	TASK_47(47, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.RED_REEF, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_RED_REEF_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2788, 2548, 0), null, 38),
+	TASK_48(48, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.BARRACUDA_BELT, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_BARRACUDA_HQ_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2276, 2598, 0), null, 38),
+	TASK_49(49, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.ARROW_PASSAGE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_ARROW_PASSAGE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2917, 2765, 0), null, 38),
+	TASK_50(50, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.TURTLE_BELT, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_TURTLE_BELT_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(3014, 2556, 0), null, 38),
+	TASK_51(51, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.GREAT_CONCH, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_GREAT_CONCH_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(3282, 2445, 0), null, 38),
+	TASK_52(52, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.RAINBOW_REEF, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_RAINBOW_REEF_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2256, 2312, 0), null, 72),
+	TASK_53(53, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.ANGLERFISHS_LIGHT, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_ANGLERFISHS_LIGHT_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2766, 2382, 0), null, 38),
+	TASK_54(54, SeaChartTaskType.WEATHER, SeaChartRegion.THE_SKULLHORDE, VarbitID.SAILING_CHARTING_WEATHER_TROLL_THE_SKULLHORDE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2542, 2541, 0), new WorldPoint(2732, 2641, 0), 57),
+	TASK_55(55, SeaChartTaskType.WEATHER, SeaChartRegion.BARRACUDA_BELT, VarbitID.SAILING_CHARTING_WEATHER_TROLL_BARRACUDA_BELT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2082, 2590, 0), new WorldPoint(2154, 2440, 0), 57),
+	TASK_56(56, SeaChartTaskType.WEATHER, SeaChartRegion.ARROW_PASSAGE, VarbitID.SAILING_CHARTING_WEATHER_TROLL_ARROW_PASSAGE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2903, 2698, 0), new WorldPoint(2869, 2805, 0), 57),
+	TASK_57(57, SeaChartTaskType.WEATHER, SeaChartRegion.STORM_TEMPOR, VarbitID.SAILING_CHARTING_WEATHER_TROLL_STORM_TEMPOR_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2979, 2905, 0), new WorldPoint(3062, 2862, 0), 57),
+	TASK_58(58, SeaChartTaskType.WEATHER, SeaChartRegion.GREAT_CONCH, VarbitID.SAILING_CHARTING_WEATHER_TROLL_GREAT_CONCH_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(3321, 2327, 0), new WorldPoint(3177, 2456, 0), 57),
+	TASK_59(59, SeaChartTaskType.WEATHER, SeaChartRegion.ANGLERFISHS_LIGHT, VarbitID.SAILING_CHARTING_WEATHER_TROLL_ANGLERFISHS_LIGHT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2864, 2311, 0), new WorldPoint(2789, 2193, 0), 57),
+	TASK_60(60, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.THE_SIMIAN_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_SPINNERS_GASP_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2677, 2654, 0), null, 12),
+	TASK_61(61, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.THE_SKULLHORDE, VarbitID.SAILING_CHARTING_DRINK_CRATE_BARRACUDA_BREW_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2282, 2506, 0), null, 12),
+	TASK_62(62, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.KHARAZI_STRAIT, VarbitID.SAILING_CHARTING_DRINK_CRATE_BANANA_DAIQUIRI_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2816, 2733, 0), null, 12),
+	TASK_63(63, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.ARROW_PASSAGE, VarbitID.SAILING_CHARTING_DRINK_CRATE_KHARAZI_COOLER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2888, 2857, 0), null, 12),
+	TASK_64(64, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.MENAPHITE_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_DOGNOSE_DRAUGHT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3046, 2665, 0), null, 12),
+	TASK_65(65, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.TURTLE_BELT, VarbitID.SAILING_CHARTING_DRINK_CRATE_WAY_HOME_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3098, 2458, 0), null, 12),
+	TASK_66(66, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.RAINBOW_REEF, VarbitID.SAILING_CHARTING_DRINK_CRATE_PLATINUM_RUM_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2205, 2303, 0), null, 72),
+	TASK_67(67, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.ANGLERFISHS_LIGHT, VarbitID.SAILING_CHARTING_DRINK_CRATE_LIGHT_DARK_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2840, 2280, 0), null, 12),
+	TASK_68(68, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.THE_SIMIAN_SEA, VarbitID.SAILING_CHARTING_CURRENT_DUCK_THE_SIMIAN_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2691, 2703, 0), new WorldPoint(2807, 2700, 0), 22),
+	TASK_69(69, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.RED_REEF, VarbitID.SAILING_CHARTING_CURRENT_DUCK_PEST_ISLAND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2665, 2560, 0), new WorldPoint(2654, 2610, 0), 22),
+	TASK_70(70, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.KHARAZI_STRAIT, VarbitID.SAILING_CHARTING_CURRENT_DUCK_KHARAZI_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2767, 2895, 0), new WorldPoint(2764, 2994, 0), 22),
+	TASK_71(71, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.RED_REEF, VarbitID.SAILING_CHARTING_CURRENT_DUCK_RED_REEF_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2902, 2548, 0), new WorldPoint(2906, 2494, 0), 22),
+	TASK_72(72, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.STORM_TEMPOR, VarbitID.SAILING_CHARTING_CURRENT_DUCK_STORM_TEMPOR_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3001, 2847, 0), new WorldPoint(3058, 2833, 0), 24),
+	TASK_73(73, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.GREAT_CONCH, VarbitID.SAILING_CHARTING_CURRENT_DUCK_GREAT_CONCH_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3204, 2367, 0), new WorldPoint(3279, 2398, 0), 22),
+	TASK_74(74, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.RAINBOW_REEF, VarbitID.SAILING_CHARTING_CURRENT_DUCK_RAINBOW_REEF_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2335, 2286, 0), new WorldPoint(2330, 2285, 0), 72),
+	TASK_75(75, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.THE_LONELY_SEA, VarbitID.SAILING_CHARTING_CURRENT_DUCK_THE_LONELY_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2624, 2415, 0), new WorldPoint(2534, 2515, 0), 22),
+	TASK_76(76, SeaChartTaskType.SPYGLASS, SeaChartRegion.THE_SIMIAN_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_VOID_KNIGHTS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2654, 2682, 0), null, 1),
+	TASK_77(77, SeaChartTaskType.SPYGLASS, SeaChartRegion.KHARAZI_STRAIT, VarbitID.SAILING_CHARTING_SPYGLASS_MONKEY_TEMPLE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2828, 2785, 0), null, 1),
+	TASK_78(78, SeaChartTaskType.SPYGLASS, SeaChartRegion.STORM_TEMPOR, VarbitID.SAILING_CHARTING_SPYGLASS_KHARAZI_CAVE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2945, 2878, 0), null, 24),
+	TASK_79(79, SeaChartTaskType.SPYGLASS, SeaChartRegion.MENAPHITE_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_DOGNOSE_ISLAND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3050, 2656, 0), null, 40),
+	TASK_80(80, SeaChartTaskType.SPYGLASS, SeaChartRegion.KHARIDIAN_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_UNKAH_SHIP_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3144, 2854, 0), null, 24),
+	TASK_81(81, SeaChartTaskType.SPYGLASS, SeaChartRegion.GREAT_CONCH, VarbitID.SAILING_CHARTING_SPYGLASS_TORTUGAN_VILLAGE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3187, 2430, 0), null, 45),
+	TASK_82(82, SeaChartTaskType.SPYGLASS, SeaChartRegion.MENAPHITE_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_CONCH_MOUNTAIN_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3154, 2548, 0), null, 1),
+	TASK_83(83, SeaChartTaskType.SPYGLASS, SeaChartRegion.ANGLERFISHS_LIGHT, VarbitID.SAILING_CHARTING_SPYGLASS_ANGLERFISHS_LIGHTHOUSE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2895, 2326, 0), null, 1),
+	TASK_84(84, SeaChartTaskType.GENERIC, SeaChartRegion.THE_SIMIAN_SEA, VarbitID.SAILING_CHARTING_GENERIC_ATOLL_CAPE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ATOLL_CAPE, -1, new WorldPoint(2681, 2714, 0), null, 1),
+	TASK_85(85, SeaChartTaskType.GENERIC, SeaChartRegion.THE_SIMIAN_SEA, VarbitID.SAILING_CHARTING_GENERIC_BANANA_BOAT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BANANA_BOAT, -1, new WorldPoint(2693, 2793, 0), null, 1),
+	TASK_86(86, SeaChartTaskType.GENERIC, SeaChartRegion.ANGLERFISHS_LIGHT, VarbitID.SAILING_CHARTING_GENERIC_DEAD_SHIFTER_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DEAD_SHIFTER, -1, new WorldPoint(2804, 2460, 0), null, 1),
+	TASK_87(87, SeaChartTaskType.GENERIC, SeaChartRegion.THE_SKULLHORDE, VarbitID.SAILING_CHARTING_GENERIC_PEST_SHIPWRECK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_PEST_SHIPWRECK, -1, new WorldPoint(2587, 2593, 0), null, 1),
+	TASK_88(88, SeaChartTaskType.GENERIC, SeaChartRegion.BARRACUDA_BELT, VarbitID.SAILING_CHARTING_GENERIC_BARRACUDA_ROPE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BARRACUDA_ROPE, -1, new WorldPoint(2149, 2615, 0), null, 1),
+	TASK_89(89, SeaChartTaskType.GENERIC, SeaChartRegion.RAINBOW_REEF, VarbitID.SAILING_CHARTING_GENERIC_BARRACUDA_PORTION_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BARRACUDA_PORTION, -1, new WorldPoint(2281, 2447, 0), null, 1),
+	TASK_90(90, SeaChartTaskType.GENERIC, SeaChartRegion.KHARAZI_STRAIT, VarbitID.SAILING_CHARTING_GENERIC_GLIDER_KHARAZI_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_GLIDER_KHARAZI_STRAIT, -1, new WorldPoint(2781, 2815, 0), null, 1),
+	TASK_91(91, SeaChartTaskType.GENERIC, SeaChartRegion.ARROW_PASSAGE, VarbitID.SAILING_CHARTING_GENERIC_SEA_MONKEYS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SEA_MONKEYS, -1, new WorldPoint(2881, 2750, 0), null, 1),
+	TASK_92(92, SeaChartTaskType.GENERIC, SeaChartRegion.KHARAZI_STRAIT, VarbitID.SAILING_CHARTING_GENERIC_MAP_BOTTLE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_MAP_BOTTLE, -1, new WorldPoint(2798, 2891, 0), null, 1),
+	TASK_93(93, SeaChartTaskType.GENERIC, SeaChartRegion.KHARAZI_STRAIT, VarbitID.SAILING_CHARTING_GENERIC_RAPIDLESS_RAPID_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_RAPIDLESS_RAPID, -1, new WorldPoint(2843, 2837, 0), null, 1),
+	TASK_94(94, SeaChartTaskType.GENERIC, SeaChartRegion.TURTLE_BELT, VarbitID.SAILING_CHARTING_GENERIC_TREASURE_CHEST_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_TREASURE_CHEST, -1, new WorldPoint(3075, 2601, 0), null, 1),
+	TASK_95(95, SeaChartTaskType.GENERIC, SeaChartRegion.BARRACUDA_BELT, VarbitID.SAILING_CHARTING_GENERIC_CRAB_STATUE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRAB_STATUE, -1, new WorldPoint(2066, 2608, 0), null, 1),
+	TASK_96(96, SeaChartTaskType.GENERIC, SeaChartRegion.STORM_TEMPOR, VarbitID.SAILING_CHARTING_GENERIC_DESERT_TROUT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DESERT_TROUT, -1, new WorldPoint(3033, 2796, 0), null, 24),
+	TASK_97(97, SeaChartTaskType.GENERIC, SeaChartRegion.STORM_TEMPOR, VarbitID.SAILING_CHARTING_GENERIC_LIGHTNING_ROD_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_LIGHTNING_ROD, -1, new WorldPoint(3065, 2885, 0), null, 24),
+	TASK_98(98, SeaChartTaskType.GENERIC, SeaChartRegion.TORTUGAN_SEA, VarbitID.SAILING_CHARTING_GENERIC_MINOR_CONCH_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_MINOR_CONCH, -1, new WorldPoint(3284, 2514, 0), null, 1),
+	TASK_99(99, SeaChartTaskType.GENERIC, SeaChartRegion.TORTUGAN_SEA, VarbitID.SAILING_CHARTING_GENERIC_CRAB_APPLE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRAB_APPLE, -1, new WorldPoint(3216, 2466, 0), null, 45),
+	TASK_100(100, SeaChartTaskType.GENERIC, SeaChartRegion.RAINBOW_REEF, VarbitID.SAILING_CHARTING_GENERIC_GNOME_BALL_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_GNOME_BALL, -1, new WorldPoint(2336, 2267, 0), null, 72),
+	TASK_101(101, SeaChartTaskType.GENERIC, SeaChartRegion.RAINBOW_REEF, VarbitID.SAILING_CHARTING_GENERIC_EDGE_BOAT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_EDGE_BOAT, -1, new WorldPoint(2334, 2118, 0), null, 72),
+	TASK_102(102, SeaChartTaskType.GENERIC, SeaChartRegion.THE_LONELY_SEA, VarbitID.SAILING_CHARTING_GENERIC_DRAGON_SCALES_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DRAGON_SCALES, -1, new WorldPoint(2634, 2392, 0), null, 1),
+	TASK_103(103, SeaChartTaskType.GENERIC, SeaChartRegion.ANGLERFISHS_LIGHT, VarbitID.SAILING_CHARTING_GENERIC_LARGE_LIGHT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_LARGE_LIGHT, -1, new WorldPoint(2719, 2296, 0), null, 1),
+	TASK_104(104, SeaChartTaskType.WEATHER, SeaChartRegion.GUTANOTH_BAY, VarbitID.SAILING_CHARTING_WEATHER_TROLL_GUTANOTH_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2638, 3009, 0), new WorldPoint(2618, 2879, 0), 57),
+	TASK_105(105, SeaChartTaskType.WEATHER, SeaChartRegion.BREAKBONE_STRAIT, VarbitID.SAILING_CHARTING_WEATHER_TROLL_BREAKBONE_STRAIT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2335, 2921, 0), new WorldPoint(2473, 2725, 0), 57),
+	TASK_106(106, SeaChartTaskType.WEATHER, SeaChartRegion.SOUL_BAY, VarbitID.SAILING_CHARTING_WEATHER_TROLL_SOUL_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2140, 2806, 0), new WorldPoint(2021, 2681, 0), 57),
+	TASK_107(107, SeaChartTaskType.WEATHER, SeaChartRegion.PORTH_NEIGWL, VarbitID.SAILING_CHARTING_WEATHER_TROLL_ZUL_EGIL_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2149, 3068, 0), new WorldPoint(2253, 2987, 0), 66),
+	TASK_108(108, SeaChartTaskType.SPYGLASS, SeaChartRegion.GUTANOTH_BAY, VarbitID.SAILING_CHARTING_SPYGLASS_OGRE_ISLAND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2597, 3027, 0), null, 1),
+	TASK_109(109, SeaChartTaskType.SPYGLASS, SeaChartRegion.OOGLOG_CHANNEL, VarbitID.SAILING_CHARTING_SPYGLASS_COVE_THRONE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2605, 2867, 0), null, 1),
+	TASK_110(110, SeaChartTaskType.SPYGLASS, SeaChartRegion.MYTHIC_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_MYTHS_GUILD_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2429, 2852, 0), null, 40),
+	TASK_111(111, SeaChartTaskType.SPYGLASS, SeaChartRegion.MYTHIC_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_CAPE_SOUL_ISLAND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2342, 2768, 0), null, 61),
+	TASK_112(112, SeaChartTaskType.SPYGLASS, SeaChartRegion.BACKWATER, VarbitID.SAILING_CHARTING_SPYGLASS_TOAD_PONDS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2399, 3027, 0), null, 40),
+	TASK_113(113, SeaChartTaskType.SPYGLASS, SeaChartRegion.WESTERN_GATE, VarbitID.SAILING_CHARTING_SPYGLASS_RUINED_TOWER_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2128, 2983, 0), null, 1),
+	TASK_114(114, SeaChartTaskType.SPYGLASS, SeaChartRegion.BACKWATER, VarbitID.SAILING_CHARTING_SPYGLASS_ZUL_ANDRA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2199, 3036, 0), null, 40),
+	TASK_115(115, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.GUTANOTH_BAY, VarbitID.SAILING_CHARTING_DRINK_CRATE_OGRE_PRAYER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2624, 3069, 0), null, 12),
+	TASK_116(116, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.FELDIP_GULF, VarbitID.SAILING_CHARTING_DRINK_CRATE_POINT_PUNCH_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2691, 2940, 0), null, 12),
+	TASK_117(117, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.OOGLOG_CHANNEL, VarbitID.SAILING_CHARTING_DRINK_CRATE_OOGLUG_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2595, 2787, 0), null, 12),
+	TASK_118(118, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.MYTHIC_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_MYTHS_MIXER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2556, 2664, 0), null, 12),
+	TASK_119(119, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.MYTHIC_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_GOLDLESS_ALE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2334, 2781, 0), null, 40),
+	TASK_120(120, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.BREAKBONE_STRAIT, VarbitID.SAILING_CHARTING_DRINK_CRATE_DESTRUCTORS_COCKTAIL_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2318, 2966, 0), null, 40),
+	TASK_121(121, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.BACKWATER, VarbitID.SAILING_CHARTING_DRINK_CRATE_ZOGRES_KISS_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2476, 2969, 0), null, 40),
+	TASK_122(122, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.SOUL_BAY, VarbitID.SAILING_CHARTING_DRINK_CRATE_CREATORS_COCKTAIL_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2086, 2882, 0), null, 12),
+	TASK_123(123, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.SOUL_BAY, VarbitID.SAILING_CHARTING_DRINK_CRATE_SOUL_BOTTLE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2221, 2765, 0), null, 12),
+	TASK_124(124, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.BACKWATER, VarbitID.SAILING_CHARTING_DRINK_CRATE_ZUL_RYE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2279, 3036, 0), null, 40),
+	TASK_125(125, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.GUTANOTH_BAY, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_GUTANOTH_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2676, 3035, 0), null, 38),
+	TASK_126(126, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.OOGLOG_CHANNEL, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_OOGLOG_CHANNEL_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2529, 2829, 0), null, 38),
+	TASK_127(127, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.MYTHIC_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_MYTHIC_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2446, 2784, 0), null, 40),
+	TASK_128(128, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.BACKWATER, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_BACKWATER_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2469, 3006, 0), null, 40),
+	TASK_129(129, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.SOUL_BAY, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SOUL_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2012, 2874, 0), null, 38),
+	TASK_130(130, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.FELDIP_GULF, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FELDIP_GULF_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2645, 2974, 0), new WorldPoint(2749, 2971, 0), 22),
+	TASK_131(131, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.MYTHIC_SEA, VarbitID.SAILING_CHARTING_CURRENT_DUCK_MYTHIC_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2495, 2708, 0), new WorldPoint(2533, 2736, 0), 40),
+	TASK_132(132, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.BREAKBONE_STRAIT, VarbitID.SAILING_CHARTING_CURRENT_DUCK_BREAKBONE_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2340, 2896, 0), new WorldPoint(2456, 2895, 0), 40),
+	TASK_133(133, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.SOUL_BAY, VarbitID.SAILING_CHARTING_CURRENT_DUCK_SOUL_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2080, 2859, 0), new WorldPoint(2102, 2816, 0), 22),
+	TASK_134(134, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.BACKWATER, VarbitID.SAILING_CHARTING_CURRENT_DUCK_BACKWATER_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2318, 3057, 0), new WorldPoint(2233, 3028, 0), 40),
+	TASK_135(135, SeaChartTaskType.GENERIC, SeaChartRegion.GUTANOTH_BAY, VarbitID.SAILING_CHARTING_GENERIC_OGRE_BOAT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_OGRE_BOAT, -1, new WorldPoint(2633, 3039, 0), null, 1),
+	TASK_136(136, SeaChartTaskType.GENERIC, SeaChartRegion.FELDIP_GULF, VarbitID.SAILING_CHARTING_GENERIC_FELDIP_RIDGE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_FELDIP_RIDGE, -1, new WorldPoint(2695, 2981, 0), null, 1),
+	TASK_137(137, SeaChartTaskType.GENERIC, SeaChartRegion.FELDIP_GULF, VarbitID.SAILING_CHARTING_GENERIC_DEAD_MONSTER_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DEAD_MONSTER, -1, new WorldPoint(2634, 2882, 0), null, 1),
+	TASK_138(138, SeaChartTaskType.GENERIC, SeaChartRegion.MYTHIC_SEA, VarbitID.SAILING_CHARTING_GENERIC_ABANDONED_CAMP_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ABANDONED_CAMP, -1, new WorldPoint(2476, 2707, 0), null, 51),
+	TASK_139(139, SeaChartTaskType.GENERIC, SeaChartRegion.SEA_OF_SOULS, VarbitID.SAILING_CHARTING_GENERIC_SOUL_SHIPWRECK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SOUL_SHIPWRECK, -1, new WorldPoint(2289, 2712, 0), null, 1),
+	TASK_140(140, SeaChartTaskType.GENERIC, SeaChartRegion.OOGLOG_CHANNEL, VarbitID.SAILING_CHARTING_GENERIC_ARMY_ATTIRE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ARMY_ATTIRE, -1, new WorldPoint(2460, 2881, 0), null, 40),
+	TASK_141(141, SeaChartTaskType.GENERIC, SeaChartRegion.BACKWATER, VarbitID.SAILING_CHARTING_GENERIC_DISEASED_CORAL_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DISEASED_CORAL, -1, new WorldPoint(2300, 3043, 0), null, 40),
+	TASK_142(142, SeaChartTaskType.GENERIC, SeaChartRegion.SOUL_BAY, VarbitID.SAILING_CHARTING_GENERIC_SNAKE_EGGS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SNAKE_EGGS, -1, new WorldPoint(1996, 2947, 0), null, 1),
+	TASK_143(143, SeaChartTaskType.GENERIC, SeaChartRegion.SOUL_BAY, VarbitID.SAILING_CHARTING_GENERIC_LARGE_JELLYFISH_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_LARGE_JELLYFISH, -1, new WorldPoint(2089, 2797, 0), null, 1),
+	TASK_144(144, SeaChartTaskType.GENERIC, SeaChartRegion.PORTH_NEIGWL, VarbitID.SAILING_CHARTING_GENERIC_POISON_SPILL_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_POISON_SPILL, -1, new WorldPoint(2165, 3030, 0), null, 40),
+	TASK_145(145, SeaChartTaskType.WEATHER, SeaChartRegion.TIRANNWN_BIGHT, VarbitID.SAILING_CHARTING_WEATHER_TROLL_TIRANNWN_BIGHT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2130, 3395, 0), new WorldPoint(2041, 3328, 0), 66),
+	TASK_146(146, SeaChartTaskType.WEATHER, SeaChartRegion.PORTH_NEIGWL, VarbitID.SAILING_CHARTING_WEATHER_TROLL_PORTH_NEIGWL_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2118, 3159, 0), new WorldPoint(2028, 3220, 0), 66),
+	TASK_147(147, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.WESTERN_GATE, VarbitID.SAILING_CHARTING_CURRENT_DUCK_WESTERN_GATE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1978, 3106, 0), new WorldPoint(1951, 3046, 0), 22),
+	TASK_148(148, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.PORTH_NEIGWL, VarbitID.SAILING_CHARTING_CURRENT_DUCK_PORTH_NEIGWL_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2071, 3186, 0), new WorldPoint(2161, 3150, 0), 66),
+	TASK_149(149, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.TIRANNWN_BIGHT, VarbitID.SAILING_CHARTING_CURRENT_DUCK_TIRANNWN_BIGHT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2165, 3260, 0), new WorldPoint(2163, 3367, 0), 66),
+	TASK_150(150, SeaChartTaskType.SPYGLASS, SeaChartRegion.PORTH_NEIGWL, VarbitID.SAILING_CHARTING_SPYGLASS_TYRAS_CAMP_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2160, 3155, 0), null, 66),
+	TASK_151(151, SeaChartTaskType.SPYGLASS, SeaChartRegion.TIRANNWN_BIGHT, VarbitID.SAILING_CHARTING_SPYGLASS_PRIFDDINAS_GATE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2163, 3318, 0), null, 66),
+	TASK_152(152, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.WESTERN_GATE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_WESTERN_GATE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2041, 3023, 0), null, 38),
+	TASK_153(153, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.CRYSTAL_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_CRYSTAL_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(1979, 3211, 0), null, 38),
+	TASK_154(154, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.PORTH_NEIGWL, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_PORTH_NEIGWL_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2113, 3123, 0), null, 66),
+	TASK_155(155, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.SAPPHIRE_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SAPPHIRE_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(1762, 2611, 0), null, 38),
+	TASK_156(156, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.TIRANNWN_BIGHT, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_TIRANNWN_BIGHT_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2120, 3345, 0), null, 66),
+	TASK_157(157, SeaChartTaskType.GENERIC, SeaChartRegion.FORTIS_BAY, VarbitID.SAILING_CHARTING_GENERIC_SHARHAIS_PURSE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SHARHAIS_PURSE, -1, new WorldPoint(1947, 2985, 0), null, 1),
+	TASK_158(158, SeaChartTaskType.GENERIC, SeaChartRegion.CRYSTAL_SEA, VarbitID.SAILING_CHARTING_GENERIC_ELVEN_SHIP_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ELVEN_SHIP, -1, new WorldPoint(1980, 3232, 0), null, 1),
+	TASK_159(159, SeaChartTaskType.GENERIC, SeaChartRegion.PORTH_NEIGWL, VarbitID.SAILING_CHARTING_GENERIC_HALBERD_POLES_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_HALBERD_POLES, -1, new WorldPoint(2118, 3158, 0), null, 66),
+	TASK_160(160, SeaChartTaskType.GENERIC, SeaChartRegion.TIRANNWN_BIGHT, VarbitID.SAILING_CHARTING_GENERIC_RIVER_MINE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_RIVER_MINE, -1, new WorldPoint(2157, 3274, 0), null, 66),
+	TASK_161(161, SeaChartTaskType.GENERIC, SeaChartRegion.VAGABONDS_REST, VarbitID.SAILING_CHARTING_GENERIC_HALF_BUILT_SHIP_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_HALF_BUILT_SHIP, -1, new WorldPoint(2026, 3669, 0), null, 1),
+	TASK_162(162, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.WESTERN_GATE, VarbitID.SAILING_CHARTING_DRINK_CRATE_MANGO_GIN_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1993, 2972, 0), null, 12),
+	TASK_163(163, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.CRYSTAL_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_SNAKE_GRAVY_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2008, 3261, 0), null, 12),
+	TASK_164(164, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.TIRANNWN_BIGHT, VarbitID.SAILING_CHARTING_DRINK_CRATE_CRYSTAL_WATER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2161, 3203, 0), null, 66),
+	TASK_165(165, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.PORTH_GWENITH, VarbitID.SAILING_CHARTING_DRINK_CRATE_UNDERGROUND_MILK_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2206, 3484, 0), null, 66),
+	TASK_166(166, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.TIRANNWN_BIGHT, VarbitID.SAILING_CHARTING_DRINK_CRATE_ELVEN_WINE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2120, 3418, 0), null, 66),
+	TASK_167(167, SeaChartTaskType.WEATHER, SeaChartRegion.VAGABONDS_REST, VarbitID.SAILING_CHARTING_WEATHER_TROLL_VAGABONDS_REST_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2280, 3518, 0), new WorldPoint(2118, 3587, 0), 66),
+	TASK_168(168, SeaChartTaskType.WEATHER, SeaChartRegion.PILGRIMS_PASSAGE, VarbitID.SAILING_CHARTING_WEATHER_TROLL_PILGRIMS_PASSAGE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1867, 3458, 0), new WorldPoint(1852, 3532, 0), 57),
+	TASK_169(169, SeaChartTaskType.WEATHER, SeaChartRegion.WINTERS_EDGE, VarbitID.SAILING_CHARTING_WEATHER_TROLL_WINTERS_EDGE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1817, 3965, 0), new WorldPoint(1866, 3826, 0), 78),
+	TASK_170(170, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.PORTH_GWENITH, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_PORTH_GWENITH_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2283, 3459, 0), null, 66),
+	TASK_171(171, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.PISCATORIS_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_PISCATORIS_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2236, 3593, 0), null, 66),
+	TASK_172(172, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.GULF_OF_KOUREND, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_GULF_OF_KOUREND_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(1851, 3668, 0), null, 38),
+	TASK_173(173, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.PORTH_GWENITH, VarbitID.SAILING_CHARTING_CURRENT_DUCK_PORTH_GWENITH_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2220, 3429, 0), new WorldPoint(2205, 3462, 0), 66),
+	TASK_174(174, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.PILGRIMS_PASSAGE, VarbitID.SAILING_CHARTING_CURRENT_DUCK_PILGRIMS_PASSAGE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1871, 3430, 0), new WorldPoint(1791, 3414, 0), 22),
+	TASK_175(175, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.GULF_OF_KOUREND, VarbitID.SAILING_CHARTING_CURRENT_DUCK_GULF_OF_KOUREND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1813, 3664, 0), new WorldPoint(1831, 3697, 0), 22),
+	TASK_176(176, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.WINTERS_EDGE, VarbitID.SAILING_CHARTING_CURRENT_DUCK_WINTERS_EDGE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1866, 3911, 0), new WorldPoint(2054, 3889, 0), 78),
+	TASK_177(177, SeaChartTaskType.SPYGLASS, SeaChartRegion.FREMENNIK_STRAIT, VarbitID.SAILING_CHARTING_SPYGLASS_FISHING_COLONY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2303, 3700, 0), null, 1),
+	TASK_178(178, SeaChartTaskType.SPYGLASS, SeaChartRegion.PILGRIMS_PASSAGE, VarbitID.SAILING_CHARTING_SPYGLASS_TITHE_FARM_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1861, 3528, 0), null, 1),
+	TASK_179(179, SeaChartTaskType.SPYGLASS, SeaChartRegion.GULF_OF_KOUREND, VarbitID.SAILING_CHARTING_SPYGLASS_PORT_PISCARILIUS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1846, 3769, 0), null, 1),
+	TASK_180(180, SeaChartTaskType.SPYGLASS, SeaChartRegion.WINTERS_EDGE, VarbitID.SAILING_CHARTING_SPYGLASS_RIVER_OF_SOULS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1793, 3978, 0), null, 78),
+	TASK_181(181, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.VAGABONDS_REST, VarbitID.SAILING_CHARTING_DRINK_CRATE_SEA_SPRAY_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2079, 3655, 0), null, 12),
+	TASK_182(182, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.HOSIDIAN_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_BANKERS_DRAUGHT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1887, 3556, 0), null, 12),
+	TASK_183(183, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.VAGABONDS_REST, VarbitID.SAILING_CHARTING_DRINK_CRATE_HEADLESS_UNICORNMAN_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1934, 3742, 0), null, 12),
+	TASK_184(184, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.EVERWINTER_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_SOUL_JUICE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1898, 4069, 0), null, 78),
+	TASK_185(185, SeaChartTaskType.GENERIC, SeaChartRegion.PORTH_GWENITH, VarbitID.SAILING_CHARTING_GENERIC_CRYSTAL_DINGHY_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRYSTAL_DINGHY, -1, new WorldPoint(2210, 3445, 0), null, 66),
+	TASK_186(186, SeaChartTaskType.GENERIC, SeaChartRegion.PISCATORIS_SEA, VarbitID.SAILING_CHARTING_GENERIC_HUNTER_OUTFITS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_HUNTER_OUTFITS, -1, new WorldPoint(2133, 3589, 0), null, 66),
+	TASK_187(187, SeaChartTaskType.GENERIC, SeaChartRegion.PISCATORIS_SEA, VarbitID.SAILING_CHARTING_GENERIC_KRAKEN_SLIME_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_KRAKEN_SLIME, -1, new WorldPoint(2300, 3662, 0), null, 1),
+	TASK_188(188, SeaChartTaskType.GENERIC, SeaChartRegion.GULF_OF_KOUREND, VarbitID.SAILING_CHARTING_GENERIC_DISCARDED_PLOUGH_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DISCARDED_PLOUGH, -1, new WorldPoint(1855, 3586, 0), null, 1),
+	TASK_189(189, SeaChartTaskType.GENERIC, SeaChartRegion.WINTERS_EDGE, VarbitID.SAILING_CHARTING_GENERIC_BROKEN_CRANE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BROKEN_CRANE, -1, new WorldPoint(1847, 3796, 0), null, 1),
+	TASK_190(190, SeaChartTaskType.GENERIC, SeaChartRegion.EVERWINTER_SEA, VarbitID.SAILING_CHARTING_GENERIC_TOAD_SPAWN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_TOAD_SPAWN, -1, new WorldPoint(1762, 4005, 0), null, 78),
+	TASK_191(191, SeaChartTaskType.SPYGLASS, SeaChartRegion.MENAPHITE_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_MENAPHOS_PYRAMID_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3145, 2734, 0), null, 1),
+	TASK_192(192, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.MENAPHITE_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_MENAPHITE_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(3044, 2722, 0), null, 38),
+	TASK_193(193, SeaChartTaskType.GENERIC, SeaChartRegion.MENAPHITE_SEA, VarbitID.SAILING_CHARTING_GENERIC_SAND_PIT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SAND_PIT, -1, new WorldPoint(3143, 2770, 0), null, 1),
+	TASK_194(194, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.MENAPHITE_SEA, VarbitID.SAILING_CHARTING_CURRENT_DUCK_MENAPHITE_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3185, 2654, 0), new WorldPoint(3146, 2599, 0), 22),
+	TASK_195(195, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.MENAPHITE_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_CROCODILE_TEARS_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3190, 2706, 0), null, 12),
+	TASK_196(196, SeaChartTaskType.GENERIC, SeaChartRegion.FREMENSUND, VarbitID.SAILING_CHARTING_GENERIC_CRAB_EYES_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRAB_EYES, -1, new WorldPoint(2587, 3657, 0), null, 1),
+	TASK_197(197, SeaChartTaskType.GENERIC, SeaChartRegion.GRANDROOT_BAY, VarbitID.SAILING_CHARTING_GENERIC_TREE_ROOTS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_TREE_ROOTS, -1, new WorldPoint(2479, 3546, 0), null, 1),
+	TASK_198(198, SeaChartTaskType.GENERIC, SeaChartRegion.VS_BELT, VarbitID.SAILING_CHARTING_GENERIC_GHRIM_SIGN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_GHRIM_SIGN, -1, new WorldPoint(2528, 3818, 0), null, 1),
+	TASK_199(199, SeaChartTaskType.GENERIC, SeaChartRegion.FREMENNIK_STRAIT, VarbitID.SAILING_CHARTING_GENERIC_NEDS_BOOK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_NEDS_BOOK, -1, new WorldPoint(2383, 3769, 0), null, 1),
+	TASK_200(200, SeaChartTaskType.GENERIC, SeaChartRegion.IDESTIA_STRAIT, VarbitID.SAILING_CHARTING_GENERIC_KEBBIT_BURROW_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_KEBBIT_BURROW, -1, new WorldPoint(2726, 3855, 0), null, 78),
+	TASK_201(201, SeaChartTaskType.GENERIC, SeaChartRegion.LUNAR_BAY, VarbitID.SAILING_CHARTING_GENERIC_MAGIC_WARDS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_MAGIC_WARDS, -1, new WorldPoint(2225, 3892, 0), null, 1),
+	TASK_202(202, SeaChartTaskType.GENERIC, SeaChartRegion.WINTERS_EDGE, VarbitID.SAILING_CHARTING_GENERIC_DEAD_LIVID_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DEAD_LIVID, -1, new WorldPoint(2083, 3953, 0), null, 78),
+	TASK_203(203, SeaChartTaskType.GENERIC, SeaChartRegion.LUNAR_SEA, VarbitID.SAILING_CHARTING_GENERIC_LUNAR_BROOMS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_LUNAR_BROOMS, -1, new WorldPoint(2144, 4067, 0), null, 78),
+	TASK_204(204, SeaChartTaskType.GENERIC, SeaChartRegion.STONEHEART_SEA, VarbitID.SAILING_CHARTING_GENERIC_FEARLESS_FREMENNIK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_FEARLESS_FREMENNIK, -1, new WorldPoint(2426, 3961, 0), null, 78),
+	TASK_205(205, SeaChartTaskType.GENERIC, SeaChartRegion.WEISSMERE, VarbitID.SAILING_CHARTING_GENERIC_DISCARDED_SLED_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_DISCARDED_SLED, -1, new WorldPoint(2783, 3882, 0), null, 78),
+	TASK_206(206, SeaChartTaskType.GENERIC, SeaChartRegion.IDESTIA_STRAIT, VarbitID.SAILING_CHARTING_GENERIC_SHARK_CORPSE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SHARK_CORPSE, -1, new WorldPoint(2587, 3919, 0), null, 78),
+	TASK_207(207, SeaChartTaskType.GENERIC, SeaChartRegion.STONEHEART_SEA, VarbitID.SAILING_CHARTING_GENERIC_KGP_PERISCOPE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_KGP_PERISCOPE, -1, new WorldPoint(2709, 4124, 0), null, 78),
+	TASK_208(208, SeaChartTaskType.GENERIC, SeaChartRegion.WEISS_MELT, VarbitID.SAILING_CHARTING_GENERIC_ICE_SHIP_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ICE_SHIP, -1, new WorldPoint(2902, 3965, 0), null, 78),
+	TASK_209(209, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.FREMENSUND, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FREMENSUND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2561, 3626, 0), new WorldPoint(2484, 3628, 0), 22),
+	TASK_210(210, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.GRANDROOT_BAY, VarbitID.SAILING_CHARTING_CURRENT_DUCK_GRANDROOT_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2369, 3507, 0), new WorldPoint(2404, 3591, 0), 22),
+	TASK_211(211, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.VS_BELT, VarbitID.SAILING_CHARTING_CURRENT_DUCK_VS_BELT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2428, 3831, 0), new WorldPoint(2520, 3771, 0), 22),
+	TASK_212(212, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.FREMENNIK_STRAIT, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FREMENNIK_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2305, 3795, 0), new WorldPoint(2340, 3875, 0), 22),
+	TASK_213(213, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.IDESTIA_STRAIT, VarbitID.SAILING_CHARTING_CURRENT_DUCK_IDESTIA_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2695, 3828, 0), new WorldPoint(2716, 3757, 0), 22),
+	TASK_214(214, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.LUNAR_BAY, VarbitID.SAILING_CHARTING_CURRENT_DUCK_LUNAR_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2159, 3849, 0), new WorldPoint(2202, 3799, 0), 22),
+	TASK_215(215, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.EVERWINTER_SEA, VarbitID.SAILING_CHARTING_CURRENT_DUCK_EVERWINTER_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1792, 4137, 0), new WorldPoint(1783, 4086, 0), 78),
+	TASK_216(216, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.KANNSKI_TIDES, VarbitID.SAILING_CHARTING_CURRENT_DUCK_KANNSKI_TIDES_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2316, 3903, 0), new WorldPoint(2277, 4028, 0), 78),
+	TASK_217(217, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.WEISSMERE, VarbitID.SAILING_CHARTING_CURRENT_DUCK_WEISSMERE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2833, 3960, 0), new WorldPoint(2801, 3887, 0), 78),
+	TASK_218(218, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.STONEHEART_SEA, VarbitID.SAILING_CHARTING_CURRENT_DUCK_STONEHEART_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2433, 4006, 0), new WorldPoint(2459, 3996, 0), 78),
+	TASK_219(219, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.WEISS_MELT, VarbitID.SAILING_CHARTING_CURRENT_DUCK_WEISS_MELT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2880, 3985, 0), new WorldPoint(2919, 4058, 0), 78),
+	TASK_220(220, SeaChartTaskType.WEATHER, SeaChartRegion.FREMENSUND, VarbitID.SAILING_CHARTING_WEATHER_TROLL_FREMENSUND_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2594, 3644, 0), new WorldPoint(2513, 3738, 0), 57),
+	TASK_221(221, SeaChartTaskType.WEATHER, SeaChartRegion.GRANDROOT_BAY, VarbitID.SAILING_CHARTING_WEATHER_TROLL_GRANDROOT_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2498, 3546, 0), new WorldPoint(2439, 3625, 0), 57),
+	TASK_222(222, SeaChartTaskType.WEATHER, SeaChartRegion.FREMENNIK_STRAIT, VarbitID.SAILING_CHARTING_WEATHER_TROLL_FREMENNIK_STRAIT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2341, 3790, 0), new WorldPoint(2426, 3841, 0), 57),
+	TASK_223(223, SeaChartTaskType.WEATHER, SeaChartRegion.IDESTIA_STRAIT, VarbitID.SAILING_CHARTING_WEATHER_TROLL_IDESTIA_STRAIT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2600, 3910, 0), new WorldPoint(2625, 3795, 0), 78),
+	TASK_224(224, SeaChartTaskType.WEATHER, SeaChartRegion.EVERWINTER_SEA, VarbitID.SAILING_CHARTING_WEATHER_TROLL_EVERWINTER_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1959, 4065, 0), new WorldPoint(2045, 4128, 0), 78),
+	TASK_225(225, SeaChartTaskType.WEATHER, SeaChartRegion.STONEHEART_SEA, VarbitID.SAILING_CHARTING_WEATHER_TROLL_STONEHEART_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2447, 3995, 0), new WorldPoint(2371, 4058, 0), 78),
+	TASK_226(226, SeaChartTaskType.WEATHER, SeaChartRegion.SHIVERWAKE_EXPANSE, VarbitID.SAILING_CHARTING_WEATHER_TROLL_SHIVERWAKE_EXPANSE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2793, 4020, 0), new WorldPoint(2784, 4108, 0), 78),
+	TASK_227(227, SeaChartTaskType.WEATHER, SeaChartRegion.WEISS_MELT, VarbitID.SAILING_CHARTING_WEATHER_TROLL_WEISS_MELT_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(2951, 3962, 0), new WorldPoint(2866, 4020, 0), 78),
+	TASK_228(228, SeaChartTaskType.SPYGLASS, SeaChartRegion.FREMENSUND, VarbitID.SAILING_CHARTING_SPYGLASS_FREMENSUND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2636, 3707, 0), null, 1),
+	TASK_229(229, SeaChartTaskType.SPYGLASS, SeaChartRegion.GRANDROOT_BAY, VarbitID.SAILING_CHARTING_SPYGLASS_GRANDROOT_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2504, 3612, 0), null, 1),
+	TASK_230(230, SeaChartTaskType.SPYGLASS, SeaChartRegion.VS_BELT, VarbitID.SAILING_CHARTING_SPYGLASS_VS_BELT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2477, 3862, 0), null, 1),
+	TASK_231(231, SeaChartTaskType.SPYGLASS, SeaChartRegion.FREMENNIK_STRAIT, VarbitID.SAILING_CHARTING_SPYGLASS_FREMENNIK_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2366, 3777, 0), null, 1),
+	TASK_232(232, SeaChartTaskType.SPYGLASS, SeaChartRegion.IDESTIA_STRAIT, VarbitID.SAILING_CHARTING_SPYGLASS_IDESTIA_STRAIT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2636, 3874, 0), null, 1),
+	TASK_233(233, SeaChartTaskType.SPYGLASS, SeaChartRegion.LUNAR_BAY, VarbitID.SAILING_CHARTING_SPYGLASS_LUNAR_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2160, 3901, 0), null, 1),
+	TASK_234(234, SeaChartTaskType.SPYGLASS, SeaChartRegion.WINTERS_EDGE, VarbitID.SAILING_CHARTING_SPYGLASS_WINTERS_EDGE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2051, 3913, 0), null, 1),
+	TASK_235(235, SeaChartTaskType.SPYGLASS, SeaChartRegion.LUNAR_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_LUNAR_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2237, 4064, 0), null, 78),
+	TASK_236(236, SeaChartTaskType.SPYGLASS, SeaChartRegion.KANNSKI_TIDES, VarbitID.SAILING_CHARTING_SPYGLASS_KANNSKI_TIDES_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2351, 3904, 0), null, 78),
+	TASK_237(237, SeaChartTaskType.SPYGLASS, SeaChartRegion.WEISSMERE, VarbitID.SAILING_CHARTING_SPYGLASS_WEISSMERE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2781, 3987, 0), null, 78),
+	TASK_238(238, SeaChartTaskType.SPYGLASS, SeaChartRegion.STONEHEART_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_STONEHEART_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2620, 4059, 0), null, 78),
+	TASK_239(239, SeaChartTaskType.SPYGLASS, SeaChartRegion.SHIVERWAKE_EXPANSE, VarbitID.SAILING_CHARTING_SPYGLASS_SHIVERWAKE_EXPANSE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2879, 4078, 0), null, 78),
+	TASK_240(240, SeaChartTaskType.SPYGLASS, SeaChartRegion.WEISS_MELT, VarbitID.SAILING_CHARTING_SPYGLASS_WEISS_MELT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2990, 3971, 0), null, 78),
+	TASK_241(241, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.FREMENSUND, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_FREMENSUND_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2518, 3690, 0), null, 38),
+	TASK_242(242, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.GRANDROOT_BAY, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_GRANDROOT_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2513, 3571, 0), null, 38),
+	TASK_243(243, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.VS_BELT, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_VS_BELT_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2505, 3892, 0), null, 78),
+	TASK_244(244, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.IDESTIA_STRAIT, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_IDESTIA_STRAIT_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2664, 3954, 0), null, 78),
+	TASK_245(245, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.LUNAR_BAY, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_LUNAR_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2221, 3833, 0), null, 38),
+	TASK_246(246, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.WINTERS_EDGE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_WINTERS_EDGE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(1970, 3966, 0), null, 78),
+	TASK_247(247, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.LUNAR_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_LUNAR_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2061, 4118, 0), null, 78),
+	TASK_248(248, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.EVERWINTER_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_EVERWINTER_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(1823, 4018, 0), null, 78),
+	TASK_249(249, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.KANNSKI_TIDES, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_KANNSKI_TIDES_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2357, 3977, 0), null, 78),
+	TASK_250(250, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.WEISSMERE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_WEISSMERE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2816, 3975, 0), null, 78),
+	TASK_251(251, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.STONEHEART_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_STONEHEART_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2475, 4133, 0), null, 78),
+	TASK_252(252, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.SHIVERWAKE_EXPANSE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SHIVERWAKE_EXPANSE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(2824, 4092, 0), null, 78),
+	TASK_253(253, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.FREMENSUND, VarbitID.SAILING_CHARTING_DRINK_CRATE_FISHIER_STOUT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2689, 3732, 0), null, 12),
+	TASK_254(254, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.GRANDROOT_BAY, VarbitID.SAILING_CHARTING_DRINK_CRATE_TOAD_CIDER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2453, 3597, 0), null, 12),
+	TASK_255(255, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.VS_BELT, VarbitID.SAILING_CHARTING_DRINK_CRATE_BLUE_LAGOON_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2474, 3798, 0), null, 12),
+	TASK_256(256, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.FREMENNIK_STRAIT, VarbitID.SAILING_CHARTING_DRINK_CRATE_FISHTONGUE_TONIC_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2273, 3745, 0), null, 12),
+	TASK_257(257, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.IDESTIA_STRAIT, VarbitID.SAILING_CHARTING_DRINK_CRATE_ENDLESS_NIGHT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2651, 3811, 0), null, 12),
+	TASK_258(258, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.LUNAR_BAY, VarbitID.SAILING_CHARTING_DRINK_CRATE_EXILES_WELCOME_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2142, 3874, 0), null, 12),
+	TASK_259(259, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.LUNAR_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_SUQAH_COLA_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2113, 4142, 0), null, 78),
+	TASK_260(260, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.EVERWINTER_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_WINTER_SUN_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1757, 4150, 0), null, 78),
+	TASK_261(261, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.KANNSKI_TIDES, VarbitID.SAILING_CHARTING_DRINK_CRATE_BLACK_LOBSTER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2359, 3878, 0), null, 12),
+	TASK_262(262, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.WEISSMERE, VarbitID.SAILING_CHARTING_DRINK_CRATE_DWARVERN_WIZARD_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2775, 3935, 0), null, 78),
+	TASK_263(263, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.STONEHEART_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_KGP_MARTINI_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2612, 4146, 0), null, 78),
+	TASK_264(264, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.SHIVERWAKE_EXPANSE, VarbitID.SAILING_CHARTING_DRINK_CRATE_CORPSE_REVIVER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2785, 4046, 0), null, 78),
+	TASK_265(265, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.SHIVERWAKE_EXPANSE, VarbitID.SAILING_CHARTING_DRINK_CRATE_WEISS_MELTWATER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2912, 4154, 0), null, 78),
+	TASK_266(266, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.TURTLE_BELT, VarbitID.SAILING_CHARTING_CURRENT_DUCK_TURTLE_BELT_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2947, 2584, 0), new WorldPoint(2969, 2610, 0), 22),
+	TASK_267(267, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.BAY_OF_ELIDINIS, VarbitID.SAILING_CHARTING_CURRENT_DUCK_BAY_OF_ELIDINIS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3248, 2703, 0), new WorldPoint(3275, 2748, 0), 22),
+	TASK_268(268, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.TORTUGAN_SEA, VarbitID.SAILING_CHARTING_CURRENT_DUCK_TORTUGAN_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3279, 2463, 0), new WorldPoint(3403, 2509, 0), 22),
+	TASK_269(269, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.PEARL_BANK, VarbitID.SAILING_CHARTING_CURRENT_DUCK_PEARL_BANK_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(3337, 2179, 0), new WorldPoint(3414, 2134, 0), 22),
+	TASK_270(270, SeaChartTaskType.SPYGLASS, SeaChartRegion.TORTUGAN_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_TORTUGAN_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3261, 2506, 0), null, 1),
+	TASK_271(271, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.SEA_OF_SHELLS, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SEA_OF_SHELLS_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2963, 2203, 0), null, 38),
+	TASK_272(272, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.BAY_OF_ELIDINIS, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_BAY_OF_ELIDINIS_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(3338, 2622, 0), null, 38),
+	TASK_273(273, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.PEARL_BANK, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_PEARL_BANK_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(3276, 2130, 0), null, 38),
+	TASK_274(274, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.THE_LONELY_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_THE_LONELY_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2528, 2149, 0), null, 38),
+	TASK_275(275, SeaChartTaskType.GENERIC, SeaChartRegion.SEA_OF_SHELLS, VarbitID.SAILING_CHARTING_GENERIC_BIRD_NEST_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BIRD_NEST, -1, new WorldPoint(2963, 2264, 0), null, 47),
+	TASK_276(276, SeaChartTaskType.GENERIC, SeaChartRegion.BAY_OF_ELIDINIS, VarbitID.SAILING_CHARTING_GENERIC_GOLEM_CORPSE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_GOLEM_CORPSE, -1, new WorldPoint(3243, 2702, 0), null, 1),
+	TASK_277(277, SeaChartTaskType.GENERIC, SeaChartRegion.PEARL_BANK, VarbitID.SAILING_CHARTING_GENERIC_SHIP_BOTTLE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SHIP_BOTTLE, -1, new WorldPoint(3375, 2135, 0), null, 1),
+	TASK_278(278, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.RED_REEF, VarbitID.SAILING_CHARTING_DRINK_CRATE_REDDEST_RUM_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2778, 2523, 0), null, 12),
+	TASK_279(279, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.MENAPHITE_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_LIFE_WATER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3239, 2598, 0), null, 12),
+	TASK_280(280, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.PEARL_BANK, VarbitID.SAILING_CHARTING_DRINK_CRATE_POSSIBLE_ALBUMEN_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(3301, 2146, 0), null, 12),
+	TASK_281(281, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.THE_LONELY_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_ALONE_AT_SEA_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2522, 2248, 0), null, 12),
+	TASK_282(282, SeaChartTaskType.WEATHER, SeaChartRegion.AUREUM_COAST, VarbitID.SAILING_CHARTING_WEATHER_TROLL_AUREUM_COAST_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1779, 2940, 0), new WorldPoint(1802, 2808, 0), 57),
+	TASK_283(283, SeaChartTaskType.WEATHER, SeaChartRegion.THE_EVERDEEP, VarbitID.SAILING_CHARTING_WEATHER_TROLL_THE_EVERDEEP_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1928, 2791, 0), new WorldPoint(1895, 2665, 0), 57),
+	TASK_284(284, SeaChartTaskType.WEATHER, SeaChartRegion.SOUTHERN_EXPANSE, VarbitID.SAILING_CHARTING_WEATHER_TROLL_SOUTHERN_EXPANSE_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1881, 2445, 0), new WorldPoint(1813, 2191, 0), 72),
+	TASK_285(285, SeaChartTaskType.SPYGLASS, SeaChartRegion.FORTIS_BAY, VarbitID.SAILING_CHARTING_SPYGLASS_FORTIS_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1823, 3046, 0), null, 1),
+	TASK_286(286, SeaChartTaskType.SPYGLASS, SeaChartRegion.AUREUM_COAST, VarbitID.SAILING_CHARTING_SPYGLASS_AUREUM_COAST_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1737, 2907, 0), null, 1),
+	TASK_287(287, SeaChartTaskType.SPYGLASS, SeaChartRegion.WYRMS_WATERS, VarbitID.SAILING_CHARTING_SPYGLASS_WYRMS_WATERS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1634, 2883, 0), null, 1),
+	TASK_288(288, SeaChartTaskType.SPYGLASS, SeaChartRegion.THE_EVERDEEP, VarbitID.SAILING_CHARTING_SPYGLASS_THE_EVERDEEP_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1943, 2737, 0), null, 1),
+	TASK_289(289, SeaChartTaskType.SPYGLASS, SeaChartRegion.SAPPHIRE_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_SAPPHIRE_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1796, 2664, 0), null, 1),
+	TASK_290(290, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.AUREUM_COAST, VarbitID.SAILING_CHARTING_DRINK_CRATE_ALCO_SOL_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1826, 2957, 0), null, 12),
+	TASK_291(291, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.AUREUM_COAST, VarbitID.SAILING_CHARTING_DRINK_CRATE_PORTAL_PERRY_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1762, 2854, 0), null, 12),
+	TASK_292(292, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.WYRMS_WATERS, VarbitID.SAILING_CHARTING_DRINK_CRATE_CONGRATULATION_WINE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1570, 2808, 0), null, 12),
+	TASK_293(293, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.THE_SKULLHORDE, VarbitID.SAILING_CHARTING_DRINK_CRATE_FISH_STOUTIER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2387, 2477, 0), null, 12),
+	TASK_294(294, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.THE_EVERDEEP, VarbitID.SAILING_CHARTING_DRINK_CRATE_CRYSTAL_VODKA_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1854, 2771, 0), null, 12),
+	TASK_295(295, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.SAPPHIRE_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_COMP_KVASS_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1675, 2478, 0), null, 12),
+	TASK_296(296, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.SOUTHERN_EXPANSE, VarbitID.SAILING_CHARTING_DRINK_CRATE_PUZZLERS_POTEEN_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1821, 2439, 0), null, 72),
+	TASK_297(297, SeaChartTaskType.GENERIC, SeaChartRegion.FORTIS_BAY, VarbitID.SAILING_CHARTING_GENERIC_SEAGULL_NEST_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SEAGULL_NEST, -1, new WorldPoint(1896, 2994, 0), null, 1),
+	TASK_298(298, SeaChartTaskType.GENERIC, SeaChartRegion.AUREUM_COAST, VarbitID.SAILING_CHARTING_GENERIC_WRECK_WEIGHT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_WRECK_WEIGHT, -1, new WorldPoint(1845, 2824, 0), null, 1),
+	TASK_299(299, SeaChartTaskType.GENERIC, SeaChartRegion.WYRMS_WATERS, VarbitID.SAILING_CHARTING_GENERIC_ATOLL_DICTIONARY_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_ATOLL_DICTIONARY, -1, new WorldPoint(1593, 2755, 0), null, 1),
+	TASK_300(300, SeaChartTaskType.GENERIC, SeaChartRegion.THE_EVERDEEP, VarbitID.SAILING_CHARTING_GENERIC_SCARY_SHADOW_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SCARY_SHADOW, -1, new WorldPoint(1976, 2680, 0), null, 1),
+	TASK_301(301, SeaChartTaskType.GENERIC, SeaChartRegion.SAPPHIRE_SEA, VarbitID.SAILING_CHARTING_GENERIC_SEA_SAPPHIRES_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SEA_SAPPHIRES, -1, new WorldPoint(1762, 2580, 0), null, 1),
+	TASK_302(302, SeaChartTaskType.GENERIC, SeaChartRegion.SOUTHERN_EXPANSE, VarbitID.SAILING_CHARTING_GENERIC_NOTHING_SIGN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_NOTHING_SIGN, -1, new WorldPoint(1828, 2138, 0), null, 72),
+	TASK_303(303, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.FORTIS_BAY, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FORTIS_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1779, 2988, 0), new WorldPoint(1900, 2984, 0), 22),
+	TASK_304(304, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.WYRMS_WATERS, VarbitID.SAILING_CHARTING_CURRENT_DUCK_WYRMS_WATERS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1543, 2785, 0), new WorldPoint(1583, 2773, 0), 22),
+	TASK_305(305, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.THE_SKULLHORDE, VarbitID.SAILING_CHARTING_CURRENT_DUCK_THE_SKULLHORDE_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2488, 2530, 0), new WorldPoint(2367, 2521, 0), 22),
+	TASK_306(306, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.SAPPHIRE_SEA, VarbitID.SAILING_CHARTING_CURRENT_DUCK_SAPPHIRE_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1745, 2662, 0), new WorldPoint(1695, 2662, 0), 22),
+	TASK_307(307, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.FORTIS_BAY, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_FORTIS_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(1898, 3048, 0), null, 38),
+	TASK_308(308, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.AUREUM_COAST, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_AUREUM_COAST_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(1889, 2882, 0), null, 38),
+	TASK_309(309, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.WYRMS_WATERS, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_WYRMS_WATERS_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(1711, 2818, 0), null, 38),
+	TASK_310(310, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.THE_SKULLHORDE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_THE_SKULLHORDE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(2460, 2449, 0), null, 38),
+	TASK_311(311, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.SEA_OF_SOULS, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SEA_OF_SOULS_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(2118, 2716, 0), null, 38),
+	TASK_312(312, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.THE_EVERDEEP, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_THE_EVERDEEP_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(1942, 2650, 0), null, 38),
+	TASK_313(313, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.SOUTHERN_EXPANSE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SOUTHERN_EXPANSE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2057, 2317, 0), null, 72),
+	TASK_314(314, SeaChartTaskType.WEATHER, SeaChartRegion.CRABCLAW_BAY, VarbitID.SAILING_CHARTING_WEATHER_TROLL_CRABCLAW_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1651, 3461, 0), new WorldPoint(1579, 3365, 0), 57),
+	TASK_315(315, SeaChartTaskType.WEATHER, SeaChartRegion.LITUS_LUCIS, VarbitID.SAILING_CHARTING_WEATHER_TROLL_LITUS_LUCIS_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1714, 3193, 0), new WorldPoint(1895, 3178, 0), 57),
+	TASK_316(316, SeaChartTaskType.SPYGLASS, SeaChartRegion.GREAT_SOUND, VarbitID.SAILING_CHARTING_SPYGLASS_GREAT_SOUND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1413, 3394, 0), null, 1),
+	TASK_317(317, SeaChartTaskType.SPYGLASS, SeaChartRegion.CRABCLAW_BAY, VarbitID.SAILING_CHARTING_SPYGLASS_CRABCLAW_BAY_1_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1600, 3310, 0), null, 1),
+	TASK_318(318, SeaChartTaskType.SPYGLASS, SeaChartRegion.CRABCLAW_BAY, VarbitID.SAILING_CHARTING_SPYGLASS_CRABCLAW_BAY_2_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1744, 3405, 0), null, 1),
+	TASK_319(319, SeaChartTaskType.SPYGLASS, SeaChartRegion.CRYSTAL_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_CRYSTAL_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1886, 3266, 0), null, 1),
+	TASK_320(320, SeaChartTaskType.SPYGLASS, SeaChartRegion.VAGABONDS_REST, VarbitID.SAILING_CHARTING_SPYGLASS_VAGABONDS_REST_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(2101, 3702, 0), null, 1),
+	TASK_321(321, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.CRABCLAW_BAY, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_CRABCLAW_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(1681, 3380, 0), null, 38),
+	TASK_322(322, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.HOSIDIAN_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_HOSIDIAN_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(1969, 3597, 0), null, 38),
+	TASK_323(323, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.PILGRIMS_PASSAGE, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_PILGRIMS_PASSAGE_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(1880, 3372, 0), null, 38),
+	TASK_324(324, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.LITUS_LUCIS, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_LITUS_LUCIS_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(1821, 3166, 0), null, 38),
+	TASK_325(325, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.VAGABONDS_REST, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_VAGABONDS_REST_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_3, new WorldPoint(2018, 3705, 0), null, 38),
+	TASK_326(326, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.MOONSHADOW, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_MOONSHADOW_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_4, new WorldPoint(2044, 3792, 0), null, 38),
+	TASK_327(327, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.GREAT_SOUND, VarbitID.SAILING_CHARTING_CURRENT_DUCK_GREAT_SOUND_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1384, 3465, 0), new WorldPoint(1492, 3448, 0), 22),
+	TASK_328(328, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.LITUS_LUCIS, VarbitID.SAILING_CHARTING_CURRENT_DUCK_LITUS_LUCIS_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1721, 3237, 0), new WorldPoint(1785, 3197, 0), 22),
+	TASK_329(329, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.CRYSTAL_SEA, VarbitID.SAILING_CHARTING_CURRENT_DUCK_CRYSTAL_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1920, 3296, 0), new WorldPoint(2059, 3299, 0), 22),
+	TASK_330(330, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.MOONSHADOW, VarbitID.SAILING_CHARTING_CURRENT_DUCK_MOONSHADOW_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(2122, 3796, 0), new WorldPoint(2167, 3682, 0), 22),
+	TASK_331(331, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.GREAT_SOUND, VarbitID.SAILING_CHARTING_DRINK_CRATE_WILD_WHISKY_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1437, 3430, 0), null, 12),
+	TASK_332(332, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.PILGRIMS_PASSAGE, VarbitID.SAILING_CHARTING_DRINK_CRATE_ROBERTS_PORT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1926, 3394, 0), null, 12),
+	TASK_333(333, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.LITUS_LUCIS, VarbitID.SAILING_CHARTING_DRINK_CRATE_SEA_SHANDY_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1783, 3252, 0), null, 12),
+	TASK_334(334, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.FREMENNIK_STRAIT, VarbitID.SAILING_CHARTING_DRINK_CRATE_MONKFISH_STOUT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2248, 3744, 0), null, 12),
+	TASK_335(335, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.MOONSHADOW, VarbitID.SAILING_CHARTING_DRINK_CRATE_LUNARSHINE_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(2030, 3829, 0), null, 12),
+	TASK_336(336, SeaChartTaskType.GENERIC, SeaChartRegion.GREAT_SOUND, VarbitID.SAILING_CHARTING_GENERIC_BEGINNING_SIGN_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BEGINNING_SIGN, -1, new WorldPoint(1529, 3405, 0), null, 1),
+	TASK_337(337, SeaChartTaskType.GENERIC, SeaChartRegion.CRABCLAW_BAY, VarbitID.SAILING_CHARTING_GENERIC_BARRACUDA_ADVERT_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_BARRACUDA_ADVERT, -1, new WorldPoint(1656, 3304, 0), null, 1),
+	TASK_338(338, SeaChartTaskType.GENERIC, SeaChartRegion.CRABCLAW_BAY, VarbitID.SAILING_CHARTING_GENERIC_SABOTAGED_MOORING_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_SABOTAGED_MOORING, -1, new WorldPoint(1789, 3401, 0), null, 1),
+	TASK_339(339, SeaChartTaskType.GENERIC, SeaChartRegion.PILGRIMS_PASSAGE, VarbitID.SAILING_CHARTING_GENERIC_CHINCHOMPA_TABLE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CHINCHOMPA_TABLE, -1, new WorldPoint(1887, 3424, 0), null, 1),
+	TASK_340(340, SeaChartTaskType.GENERIC, SeaChartRegion.LITUS_LUCIS, VarbitID.SAILING_CHARTING_GENERIC_KRAKEN_SKELETON_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_KRAKEN_SKELETON, -1, new WorldPoint(1871, 3177, 0), null, 1),
+	TASK_341(341, SeaChartTaskType.GENERIC, SeaChartRegion.CRYSTAL_SEA, VarbitID.SAILING_CHARTING_GENERIC_JAIL_BOOK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_JAIL_BOOK, -1, new WorldPoint(1890, 3271, 0), null, 1),
+	TASK_342(342, SeaChartTaskType.GENERIC, SeaChartRegion.MOONSHADOW, VarbitID.SAILING_CHARTING_GENERIC_LUNAR_WRECK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_LUNAR_WRECK, -1, new WorldPoint(2170, 3773, 0), null, 1),
+	TASK_343(343, SeaChartTaskType.SPYGLASS, SeaChartRegion.SUNSET_BAY, VarbitID.SAILING_CHARTING_SPYGLASS_SUNSET_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1470, 2980, 0), null, 1),
+	TASK_344(344, SeaChartTaskType.SPYGLASS, SeaChartRegion.MISTY_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_MISTY_SEA_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(1387, 2840, 0), null, 1),
+	TASK_345(345, SeaChartTaskType.WEATHER, SeaChartRegion.DUSKS_MAW, VarbitID.SAILING_CHARTING_WEATHER_TROLL_DUSKS_MAW_COMPLETE, -1, NpcID.SAILING_CHARTING_WEATHER_TROLL, new WorldPoint(1188, 2822, 0), new WorldPoint(1184, 3000, 0), 57),
+	TASK_346(346, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.SUNSET_BAY, VarbitID.SAILING_CHARTING_CURRENT_DUCK_SUNSET_BAY_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1422, 3046, 0), new WorldPoint(1387, 3148, 0), 22),
+	TASK_347(347, SeaChartTaskType.CURRENT_DUCK, SeaChartRegion.DUSKS_MAW, VarbitID.SAILING_CHARTING_CURRENT_DUCK_DUSKS_MAW_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_DUCK, -1, new WorldPoint(1259, 2876, 0), new WorldPoint(1104, 2900, 0), 22),
+	TASK_348(348, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.SUNSET_BAY, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_SUNSET_BAY_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_5, new WorldPoint(1575, 2942, 0), null, 38),
+	TASK_349(349, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.MISTY_SEA, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_MISTY_SEA_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_1, new WorldPoint(1322, 2628, 0), null, 38),
+	TASK_350(350, SeaChartTaskType.MERMAID_GUIDE, SeaChartRegion.DUSKS_MAW, VarbitID.SAILING_CHARTING_MERMAID_GUIDE_DUSKS_MAW_COMPLETE, -1, NpcID.SAILING_CHARTING_MERMAID_GUIDE_2, new WorldPoint(1314, 2931, 0), null, 38),
+	TASK_351(351, SeaChartTaskType.GENERIC, SeaChartRegion.MISTY_SEA, VarbitID.SAILING_CHARTING_GENERIC_PROP_WRECK_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_PROP_WRECK, -1, new WorldPoint(1448, 2896, 0), null, 1),
+	TASK_352(352, SeaChartTaskType.GENERIC, SeaChartRegion.WYRMS_WATERS, VarbitID.SAILING_CHARTING_GENERIC_FISHING_NETS_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_FISHING_NETS, -1, new WorldPoint(1439, 2716, 0), null, 1),
+	TASK_353(353, SeaChartTaskType.GENERIC, SeaChartRegion.DUSKS_MAW, VarbitID.SAILING_CHARTING_GENERIC_CRAB_HOLE_COMPLETE, ObjectID.SAILING_CHARTING_GENERIC_CRAB_HOLE, -1, new WorldPoint(1232, 3005, 0), null, 1),
+	TASK_354(354, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.MISTY_SEA, VarbitID.SAILING_CHARTING_DRINK_CRATE_DRUNK_IMPLING_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1426, 2865, 0), null, 12),
+	TASK_355(355, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.WYRMS_WATERS, VarbitID.SAILING_CHARTING_DRINK_CRATE_MYSTERY_CIDER_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1561, 2655, 0), null, 12),
+	TASK_356(356, SeaChartTaskType.DRINK_CRATE, SeaChartRegion.DUSKS_MAW, VarbitID.SAILING_CHARTING_DRINK_CRATE_SAILING_CAT_COMPLETE, ObjectID.SAILING_CHARTING_DRINK_CRATE, -1, new WorldPoint(1050, 2886, 0), null, 12),
+	TASK_357(357, SeaChartTaskType.SPYGLASS, SeaChartRegion.STONEHEART_SEA, VarbitID.SAILING_CHARTING_SPYGLASS_CHARTING_TUTOR_COMPLETE, ObjectID.SAILING_CHARTING_HINT_MARKER_SPYGLASS, -1, new WorldPoint(3051, 9388, 0), null, 1),
 	;
 
 	private final int taskId;
 	private final SeaChartTaskType type;
+	private final SeaChartRegion region;
 	private final int completionVarb;
 	private final int objectId;
 	private final int npcId;
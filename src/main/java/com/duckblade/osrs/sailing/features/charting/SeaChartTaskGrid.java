@@ -0,0 +1,210 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.util.function.Predicate;
+
+/**
+ * Fixed bucketed grid over sea chart task locations, stored as flat arrays sorted by cell
+ * (cellStart[c]..cellStart[c + 1] are the entries of cell c) so queries don't allocate.
+ * Distances are chebyshev for inclusion (a square around the query point) and squared euclidean for ordering,
+ * with ties going to the earlier declared task. Planes are ignored, every task is on the surface.
+ */
+final class SeaChartTaskGrid
+{
+
+	private final int cellShift;
+	private final int minX;
+	private final int minY;
+	private final int cellsX;
+	private final int cellsY;
+
+	private final int[] cellStart;
+	private final int[] xs;
+	private final int[] ys;
+	private final SeaChartTask[] tasks;
+
+	// scratch for k-nearest queries
+	private int[] bestDistances = new int[0];
+
+	SeaChartTaskGrid(SeaChartTask[] source)
+	{
+		this(SeaChartIndexData.build(source), source);
+	}
+
+	// source is indexed by the ordinals in data
+	SeaChartTaskGrid(SeaChartIndexData data, SeaChartTask[] source)
+	{
+		cellShift = data.cellShift;
+		minX = data.minX;
+		minY = data.minY;
+		cellsX = data.cellsX;
+		cellsY = data.cellsY;
+		cellStart = data.cellStart;
+		xs = data.cellXs;
+		ys = data.cellYs;
+
+		tasks = new SeaChartTask[data.cellTasks.length];
+		for (int i = 0; i < tasks.length; i++)
+		{
+			tasks[i] = source[data.cellTasks[i]];
+		}
+	}
+
+	int size()
+	{
+		return tasks.length;
+	}
+
+	SeaChartTask get(int x, int y)
+	{
+		if (!inBounds(x, y))
+		{
+			return null;
+		}
+
+		int c = cellOf(x, y);
+		for (int i = cellStart[c]; i < cellStart[c + 1]; i++)
+		{
+			if (xs[i] == x && ys[i] == y)
+			{
+				return tasks[i];
+			}
+		}
+		return null;
+	}
+
+	SeaChartTask nearest(int x, int y, int distance, Predicate<SeaChartTask> filter)
+	{
+		SeaChartTask best = null;
+		int bestDistance = Integer.MAX_VALUE;
+
+		int cx0 = cellX(x - distance), cx1 = cellX(x + distance);
+		int cy0 = cellY(y - distance), cy1 = cellY(y + distance);
+		for (int cy = cy0; cy <= cy1; cy++)
+		{
+			for (int cx = cx0; cx <= cx1; cx++)
+			{
+				int c = cy * cellsX + cx;
+				for (int i = cellStart[c]; i < cellStart[c + 1]; i++)
+				{
+					int dx = xs[i] - x, dy = ys[i] - y;
+					if (Math.abs(dx) > distance || Math.abs(dy) > distance)
+					{
+						continue;
+					}
+
+					int d = dx * dx + dy * dy;
+					if (closer(d, tasks[i], bestDistance, best) && (filter == null || filter.test(tasks[i])))
+					{
+						best = tasks[i];
+						bestDistance = d;
+					}
+				}
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * The nearest match by euclidean distance, searching squares growing by a factor of 4 from minDistance
+	 * up to maxDistance. A match in a square's corner can be further than one just outside its edge,
+	 * so a match beyond the searched distance is confirmed with a square reaching out to it.
+	 */
+	SeaChartTask nearestWithin(int x, int y, int minDistance, int maxDistance, Predicate<SeaChartTask> filter)
+	{
+		for (int distance = minDistance; distance <= maxDistance; distance *= 4)
+		{
+			SeaChartTask task = nearest(x, y, distance, filter);
+			if (task == null)
+			{
+				continue;
+			}
+
+			int dx = task.getLocation().getX() - x, dy = task.getLocation().getY() - y;
+			int reach = (int) Math.ceil(Math.sqrt((double) dx * dx + (double) dy * dy));
+			return reach > distance ? nearest(x, y, reach, filter) : task;
+		}
+		return null;
+	}
+
+	// fills out with up to out.length matches nearest first, returns how many were found
+	int nearest(int x, int y, int distance, Predicate<SeaChartTask> filter, SeaChartTask[] out)
+	{
+		int k = out.length;
+		if (k == 0)
+		{
+			return 0;
+		}
+		if (bestDistances.length < k)
+		{
+			bestDistances = new int[k];
+		}
+
+		int found = 0;
+		int cx0 = cellX(x - distance), cx1 = cellX(x + distance);
+		int cy0 = cellY(y - distance), cy1 = cellY(y + distance);
+		for (int cy = cy0; cy <= cy1; cy++)
+		{
+			for (int cx = cx0; cx <= cx1; cx++)
+			{
+				int c = cy * cellsX + cx;
+				for (int i = cellStart[c]; i < cellStart[c + 1]; i++)
+				{
+					int dx = xs[i] - x, dy = ys[i] - y;
+					if (Math.abs(dx) > distance || Math.abs(dy) > distance)
+					{
+						continue;
+					}
+
+					int d = dx * dx + dy * dy;
+					if (found == k && !closer(d, tasks[i], bestDistances[k - 1], out[k - 1]))
+					{
+						continue;
+					}
+					if (filter != null && !filter.test(tasks[i]))
+					{
+						continue;
+					}
+
+					// insertion into the sorted prefix, dropping the furthest when full
+					int j = found < k ? found++ : k - 1;
+					while (j > 0 && closer(d, tasks[i], bestDistances[j - 1], out[j - 1]))
+					{
+						out[j] = out[j - 1];
+						bestDistances[j] = bestDistances[j - 1];
+						j--;
+					}
+					out[j] = tasks[i];
+					bestDistances[j] = d;
+				}
+			}
+		}
+
+		return found;
+	}
+
+	private static boolean closer(int d, SeaChartTask task, int otherD, SeaChartTask other)
+	{
+		return d < otherD || (d == otherD && other != null && task.ordinal() < other.ordinal());
+	}
+
+	private boolean inBounds(int x, int y)
+	{
+		return x >= minX && y >= minY && (x - minX) >> cellShift < cellsX && (y - minY) >> cellShift < cellsY;
+	}
+
+	private int cellOf(int x, int y)
+	{
+		return ((y - minY) >> cellShift) * cellsX + ((x - minX) >> cellShift);
+	}
+
+	private int cellX(int x)
+	{
+		return Math.max(0, Math.min(cellsX - 1, (x - minX) >> cellShift));
+	}
+
+	private int cellY(int y)
+	{
+		return Math.max(0, Math.min(cellsY - 1, (y - minY) >> cellShift));
+	}
+}
@@ -2,10 +2,9 @@ package com.duckblade.osrs.sailing.features.charting;
 
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.function.Predicate;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -14,8 +13,6 @@ import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.NPC;
 import net.runelite.api.Quest;
-import net.runelite.api.QuestState;
-import net.runelite.api.Skill;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.game.ItemManager;
 
@@ -27,139 +24,152 @@ public class SeaChartTaskIndex implements PluginLifecycleComponent
 	private static final int SEARCH_DIST_GAME_OBJECT = 5;
 	private static final int SEARCH_DIST_NPC = 5;
 
+	// searched in growing squares, nearby tasks are found without scanning the whole grid
+	private static final int NEAREST_MIN_DIST = 64;
+	private static final int NEAREST_MAX_DIST = 4096;
+
 	@Inject
 	private Client client;
 
 	@Inject
 	private ItemManager itemManager;
 
-	private final Map<WorldPoint, SeaChartTask> tasksByLocation = new HashMap<>();
-	private final Map<Integer, List<SeaChartTask>> tasksByGameObject = new HashMap<>();
-	private final Map<Integer, List<SeaChartTask>> tasksByNpc = new HashMap<>();
+	private static final SeaChartTask[] TASKS = SeaChartTask.values();
+	private static final SeaChartIndexData EMPTY = SeaChartIndexData.build(new SeaChartTask[0]);
+
+	// immutable once loaded, kept across restarts of the plugin
+	private SeaChartIndexData data = EMPTY;
+	private SeaChartTaskGrid grid = new SeaChartTaskGrid(EMPTY, TASKS);
 
 	public void startUp()
 	{
-		for (SeaChartTask task : SeaChartTask.values())
-		{
-			if (task.getLocation() != null)
-			{
-				tasksByLocation.put(task.getLocation(), task);
-			}
-			if (task.getObjectId() != -1)
-			{
-				tasksByGameObject.computeIfAbsent(task.getObjectId(), (k) -> new ArrayList<>(1)).add(task);
-			}
-			else if (task.getNpcId() != -1)
-			{
-				tasksByNpc.computeIfAbsent(task.getNpcId(), (k) -> new ArrayList<>(1)).add(task);
-			}
-		}
+		ensureLoaded();
 	}
 
-	public void shutDown()
+	// other components may ask for object ids in their own startUp, before ours
+	private void ensureLoaded()
 	{
-		tasksByLocation.clear();
-		tasksByGameObject.clear();
-		tasksByNpc.clear();
+		if (data == EMPTY)
+		{
+			data = load();
+			grid = new SeaChartTaskGrid(data, TASKS);
+		}
 	}
 
-	public SeaChartTask findTask(GameObject obj)
+	private static SeaChartIndexData load()
 	{
-		List<SeaChartTask> tasks = tasksByGameObject.get(obj.getId());
-		if (tasks == null || tasks.isEmpty())
+		try (InputStream in = SeaChartTaskIndex.class.getResourceAsStream(SeaChartIndexData.RESOURCE))
 		{
-			return null;
+			SeaChartIndexData loaded = in != null ? SeaChartIndexData.read(in) : null;
+			if (loaded != null)
+			{
+				return loaded;
+			}
+			log.warn("Sea chart index resource is missing or out of date, rerun GenerateSeaChartTasks");
 		}
-		if (tasks.size() == 1)
+		catch (IOException e)
 		{
-			return tasks.get(0);
+			log.warn("Failed to read sea chart index resource", e);
 		}
+		return SeaChartIndexData.build(TASKS);
+	}
 
-		WorldPoint wp = obj.getWorldLocation();
-		SeaChartTask task = tasksByLocation.get(wp);
-		if (task != null)
-		{
-			return task;
-		}
+	public int[] getTaskObjectIds()
+	{
+		ensureLoaded();
+		return data.objectKeys.clone();
+	}
 
-		task = findTask(wp);
-		if (task != null)
+	public SeaChartTask findTask(GameObject obj)
+	{
+		int key = Arrays.binarySearch(data.objectKeys, obj.getId());
+		if (key < 0)
 		{
-			return task;
+			return null;
 		}
 
-		task = findTask(wp, SEARCH_DIST_GAME_OBJECT, t -> t.getObjectId() == obj.getId());
-		if (task != null)
+		SeaChartTask task = nearest(data.objectTasks, data.objectStart[key], data.objectStart[key + 1], obj.getWorldLocation(), SEARCH_DIST_GAME_OBJECT);
+		if (task == null)
 		{
-			log.debug("scan found task for game object {} @ {} = task {}", obj.getId(), obj.getWorldLocation(), task.getTaskId());
-			return task;
+			log.warn("No task found for game object {} @ {}", obj.getId(), obj.getWorldLocation());
 		}
-
-		log.warn("No task found for game object {} @ {}", obj.getId(), obj.getWorldLocation());
-		return null;
+		return task;
 	}
 
 	public SeaChartTask findTask(NPC npc)
 	{
-		List<SeaChartTask> tasks = tasksByNpc.get(npc.getId());
-		if (tasks == null || tasks.isEmpty())
+		int key = Arrays.binarySearch(data.npcKeys, npc.getId());
+		if (key < 0)
 		{
 			return null;
 		}
-		if (tasks.size() == 1)
-		{
-			return tasks.get(0);
-		}
-
-		WorldPoint wp = npc.getWorldLocation();
-		SeaChartTask task = tasksByLocation.get(wp);
-		if (task != null)
-		{
-			return task;
-		}
 
-		task = findTask(wp);
-		if (task != null)
+		SeaChartTask task = nearest(data.npcTasks, data.npcStart[key], data.npcStart[key + 1], npc.getWorldLocation(), SEARCH_DIST_NPC);
+		if (task == null)
 		{
-			return task;
+			log.warn("No task found for npc {} @ {}", npc.getId(), npc.getWorldLocation());
 		}
-
-		task = findTask(wp, SEARCH_DIST_NPC, t -> t.getNpcId() == npc.getId());
-		if (task != null)
-		{
-			log.debug("scan found task for npc {} @ {} = task {}", npc.getId(), npc.getWorldLocation(), task.getTaskId());
-			return task;
-		}
-
-		log.warn("No task found for npc {} @ {}", npc.getId(), npc.getWorldLocation());
-		return null;
+		return task;
 	}
 
 	public SeaChartTask findTask(WorldPoint wp)
 	{
-		return findTask(wp, 1);
+		SeaChartTask task = grid.get(wp.getX(), wp.getY());
+		return task != null ? task : grid.nearest(wp.getX(), wp.getY(), 1, null);
 	}
 
 	public SeaChartTask findTask(WorldPoint wp, int distance)
 	{
-		return findTask(wp, distance, t -> true);
+		return grid.nearest(wp.getX(), wp.getY(), distance, null);
 	}
 
+	// the nearest matching task within distance tiles on each axis
 	public SeaChartTask findTask(WorldPoint wp, int distance, Predicate<SeaChartTask> filter)
 	{
-		for (int x = -distance; x <= distance; x++)
+		return grid.nearest(wp.getX(), wp.getY(), distance, filter);
+	}
+
+	// the nearest matching task anywhere within NEAREST_MAX_DIST tiles on each axis
+	public SeaChartTask findNearest(WorldPoint wp, Predicate<SeaChartTask> filter)
+	{
+		return grid.nearestWithin(wp.getX(), wp.getY(), NEAREST_MIN_DIST, NEAREST_MAX_DIST, filter);
+	}
+
+	// fills out with up to out.length matching tasks nearest first, returns how many were found
+	public int findTasks(WorldPoint wp, int distance, Predicate<SeaChartTask> filter, SeaChartTask[] out)
+	{
+		return grid.nearest(wp.getX(), wp.getY(), distance, filter, out);
+	}
+
+	// tasks sharing an object/npc id (spyglasses, ducks, crates) are told apart by location,
+	// the candidate list for an id is short enough to check directly
+	private static SeaChartTask nearest(int[] ordinals, int from, int to, WorldPoint wp, int distance)
+	{
+		if (to - from == 1)
+		{
+			return TASKS[ordinals[from]];
+		}
+
+		SeaChartTask best = null;
+		int bestDistance = Integer.MAX_VALUE;
+		for (int i = from; i < to; i++)
 		{
-			for (int y = -distance; y <= distance; y++)
+			SeaChartTask task = TASKS[ordinals[i]];
+			WorldPoint location = task.getLocation();
+			if (location == null)
 			{
-				SeaChartTask nearby = tasksByLocation.get(new WorldPoint(wp.getX() + x, wp.getY() + y, 0));
-				if (nearby != null && filter.test(nearby))
-				{
-					return nearby;
-				}
+				continue;
 			}
-		}
 
-		return null;
+			int dx = location.getX() - wp.getX(), dy = location.getY() - wp.getY();
+			int d = dx * dx + dy * dy;
+			if (Math.abs(dx) <= distance && Math.abs(dy) <= distance && d < bestDistance)
+			{
+				best = task;
+				bestDistance = d;
+			}
+		}
+		return best;
 	}
 
 	public BufferedImage getTaskSprite(SeaChartTask task)
@@ -181,15 +191,4 @@ public class SeaChartTaskIndex implements PluginLifecycleComponent
 				return Quest.PANDEMONIUM;
 		}
 	}
-
-	public boolean hasTaskRequirement(SeaChartTask task)
-	{
-		var questRequirement = getTaskQuestRequirement(task);
-		if (questRequirement.getState(client) != QuestState.FINISHED)
-		{
-			return false;
-		}
-
-		return client.getRealSkillLevel(Skill.SAILING) >= task.getLevel();
-	}
 }
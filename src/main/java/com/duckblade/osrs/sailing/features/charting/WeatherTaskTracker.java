@@ -1,6 +1,7 @@
 package com.duckblade.osrs.sailing.features.charting;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.navigation.WaterRouter;
 import com.duckblade.osrs.sailing.features.util.BoatTracker;
 import com.duckblade.osrs.sailing.features.util.SailingGraphicsUtil;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
@@ -42,6 +43,10 @@ public class WeatherTaskTracker
 	private final WorldMapPointManager worldMapPointManager;
 	private final SeaChartTaskIndex taskIndex;
 	private final BoatTracker boatTracker;
+	private final WaterRouter waterRouter;
+
+	private BufferedImage emptyDeviceIcon;
+	private BufferedImage fullDeviceIcon;
 
 	@Getter
 	private SeaChartTask activeTask;
@@ -55,13 +60,14 @@ public class WeatherTaskTracker
 	private int lastState = -1;
 
 	@Inject
-	public WeatherTaskTracker(Client client, ItemManager itemManager, WorldMapPointManager worldMapPointManager, SeaChartTaskIndex taskIndex, BoatTracker boatTracker)
+	public WeatherTaskTracker(Client client, ItemManager itemManager, WorldMapPointManager worldMapPointManager, SeaChartTaskIndex taskIndex, BoatTracker boatTracker, WaterRouter waterRouter)
 	{
 		this.client = client;
 		this.itemManager = itemManager;
 		this.worldMapPointManager = worldMapPointManager;
 		this.taskIndex = taskIndex;
 		this.boatTracker = boatTracker;
+		this.waterRouter = waterRouter;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -73,6 +79,13 @@ public class WeatherTaskTracker
 		return config.chartingWeatherSolver();
 	}
 
+	@Override
+	public void startUp()
+	{
+		emptyDeviceIcon = itemManager.getImage(ItemID.SAILING_CHARTING_WEATHER_STATION_EMPTY);
+		fullDeviceIcon = itemManager.getImage(ItemID.SAILING_CHARTING_WEATHER_STATION_FULL);
+	}
+
 	public void shutDown()
 	{
 		activeTask = null;
@@ -132,16 +145,14 @@ public class WeatherTaskTracker
 			activeTask = potentialTask;
 			potentialTask = null;
 
-			BufferedImage mapIcon = itemManager.getImage(ItemID.SAILING_CHARTING_WEATHER_STATION_EMPTY);
-			worldMapPointManager.add(new WeatherChartingWorldMapPoint(activeTask.getDestination(), mapIcon, "Use device here"));
+			worldMapPointManager.add(new WeatherChartingWorldMapPoint(activeTask.getDestination(), emptyDeviceIcon, "Use device here"));
 		}
 		else if (activeTask != null && lastState == ItemID.SAILING_CHARTING_WEATHER_STATION_EMPTY && newState == ItemID.SAILING_CHARTING_WEATHER_STATION_FULL)
 		{
 			taskComplete = true;
 
-			BufferedImage mapIcon = itemManager.getImage(ItemID.SAILING_CHARTING_WEATHER_STATION_FULL);
 			worldMapPointManager.removeIf(it -> it instanceof WeatherChartingWorldMapPoint);
-			worldMapPointManager.add(new WeatherChartingWorldMapPoint(activeTask.getLocation(), mapIcon, "Return device here"));
+			worldMapPointManager.add(new WeatherChartingWorldMapPoint(activeTask.getLocation(), fullDeviceIcon, "Return device here"));
 		}
 		else if (activeTask != null && (lastState == ItemID.SAILING_CHARTING_WEATHER_STATION_EMPTY || lastState == ItemID.SAILING_CHARTING_WEATHER_STATION_FULL) && newState == -1)
 		{
@@ -167,7 +178,7 @@ public class WeatherTaskTracker
 			g,
 			client,
 			boatTracker,
-			dest,
+			waterRouter.nextWaypoint(dest),
 			Color.ORANGE
 		);
 
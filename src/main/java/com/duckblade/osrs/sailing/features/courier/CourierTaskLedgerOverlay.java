@@ -25,18 +25,18 @@ public class CourierTaskLedgerOverlay
 	implements PluginLifecycleComponent
 {
 
-	private final SailingConfig config;
 	private final CourierTaskTracker taskTracker;
 
+	private boolean showPickup;
+	private boolean showDropOff;
 	private Color ledgerPickupColour;
 	private Color ledgerDropOffColour;
 
 	@Inject
-	public CourierTaskLedgerOverlay(SailingConfig config, CourierTaskTracker taskTracker)
+	public CourierTaskLedgerOverlay(CourierTaskTracker taskTracker)
 	{
 		super();
 		this.taskTracker = taskTracker;
-		this.config = config;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -47,7 +47,9 @@ public class CourierTaskLedgerOverlay
 	{
 		ledgerPickupColour = config.courierItemPickupOverlayColor();
 		ledgerDropOffColour = config.courierItemDropOffOverlayColor();
-		return config.courierItemShowDropOffOverlay() || config.courierItemShowPickupOverlay();
+		showPickup = config.courierItemShowPickupOverlay();
+		showDropOff = config.courierItemShowDropOffOverlay();
+		return showDropOff || showPickup;
 	}
 
 	@Override
@@ -68,14 +70,14 @@ public class CourierTaskLedgerOverlay
 
 		List<CourierTask> pickupTasks = taskTracker.getPickupTasksForPort(activePort);
 		boolean allCargoRetrieved = pickupTasks.stream().allMatch(CourierTask::hasRetrievedAllCargo);
-		if (!allCargoRetrieved && config.courierItemShowPickupOverlay())
+		if (!allCargoRetrieved && showPickup)
 		{
 			OverlayUtil.renderPolygon(graphics, hull, ledgerPickupColour);
 		}
 
 		List<CourierTask> dropOffTasks = taskTracker.getDropOffTasksForPort(activePort);
 		boolean allCargoDelivered = dropOffTasks.stream().allMatch(CourierTask::hasDeliveredAllCargo);
-		if (!allCargoDelivered && config.courierItemShowDropOffOverlay())
+		if (!allCargoDelivered && showDropOff)
 		{
 			OverlayUtil.renderPolygon(graphics, hull, ledgerDropOffColour);
 		}
@@ -3,6 +3,7 @@ package com.duckblade.osrs.sailing.features.courier;
 import com.duckblade.osrs.sailing.features.util.CourierTaskUtil;
 import com.duckblade.osrs.sailing.model.CourierTask;
 import com.duckblade.osrs.sailing.model.Port;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -16,8 +17,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.DBTableID;
@@ -33,6 +32,7 @@ public class CourierTaskTracker
 	private static final Set<Integer> LEDGER_TABLE_IDS = Arrays.stream(Port.values()).map(Port::getLedgerTableID).collect(Collectors.toSet());
 
 	private final Client client;
+	private final GameObjectRouter gameObjectRouter;
 
 	@Getter
 	private final Set<CourierTask> tasks = new HashSet<>();
@@ -43,6 +43,12 @@ public class CourierTaskTracker
 	@Getter
 	private Port activePort;
 
+	@Override
+	public void startUp()
+	{
+		gameObjectRouter.register(this, LEDGER_TABLE_IDS, this::onLedgerSpawned, this::onLedgerDespawned);
+	}
+
 	public void shutDown()
 	{
 		activePort = null;
@@ -50,27 +56,17 @@ public class CourierTaskTracker
 		tasks.clear();
 	}
 
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
+	private void onLedgerSpawned(GameObject o)
 	{
-		int id = e.getGameObject().getId();
-		if (LEDGER_TABLE_IDS.contains(id))
-		{
-			log.debug("Found ledger table at {}", e.getGameObject().getLocalLocation());
-			activeLedger = e.getGameObject();
-			activePort = Port.findByLedgerTableID(id);
-		}
+		log.debug("Found ledger table at {}", o.getLocalLocation());
+		activeLedger = o;
+		activePort = Port.findByLedgerTableID(o.getId());
 	}
 
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
+	private void onLedgerDespawned(GameObject o)
 	{
-		int id = e.getGameObject().getId();
-		if (LEDGER_TABLE_IDS.contains(id))
-		{
-			activeLedger = null;
-			activePort = null;
-		}
+		activeLedger = null;
+		activePort = null;
 	}
 
 	@Subscribe
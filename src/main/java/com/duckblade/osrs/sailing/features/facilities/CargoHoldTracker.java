@@ -2,8 +2,7 @@ package com.duckblade.osrs.sailing.features.facilities;
 
 import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.features.courier.CourierTaskTracker;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.model.Boat;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.base.Joiner;
@@ -99,7 +98,7 @@ public class CargoHoldTracker
 
 	private final Client client;
 	private final ConfigManager configManager;
-	private final BoatTracker boatTracker;
+	private final SailingState sailingState;
 	private final CourierTaskTracker courierTaskTracker;
 
 	// boat slot -> item id+count
@@ -120,11 +119,11 @@ public class CargoHoldTracker
 	private boolean pendingJenkinsAction;
 
 	@Inject
-	public CargoHoldTracker(Client client, ConfigManager configManager, BoatTracker boatTracker, CourierTaskTracker courierTaskTracker)
+	public CargoHoldTracker(Client client, ConfigManager configManager, SailingState sailingState, CourierTaskTracker courierTaskTracker)
 	{
 		this.client = client;
 		this.configManager = configManager;
-		this.boatTracker = boatTracker;
+		this.sailingState = sailingState;
 		this.courierTaskTracker = courierTaskTracker;
 
 		setPosition(OverlayPosition.DYNAMIC);
@@ -163,12 +162,12 @@ public class CargoHoldTracker
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!overlayEnabled || !SailingUtil.isSailing(client))
+		if (!overlayEnabled)
 		{
 			return null;
 		}
 
-		Boat boat = boatTracker.getBoat();
+		Boat boat = sailingState.getSnapshot().getBoat();
 		GameObject cargoHold = boat != null ? boat.getCargoHold() : null;
 		if (cargoHold == null)
 		{
@@ -198,9 +197,10 @@ public class CargoHoldTracker
 	public void onOverheadTextChanged(OverheadTextChanged e)
 	{
 		Actor actor = e.getActor();
+		SailingState.Snapshot state = sailingState.getSnapshot();
 		if (!(actor instanceof NPC) ||
-			!SailingUtil.isSailing(client) ||
-			actor.getWorldView() != client.getLocalPlayer().getWorldView())
+			!state.isSailing() ||
+			actor.getWorldView().getId() != state.getWorldViewId())
 		{
 			return;
 		}
@@ -310,17 +310,23 @@ public class CargoHoldTracker
 		Multiset<Integer> newInventory = getInventoryMap();
 		log.trace("new inventory {}", newInventory);
 
+		applyInventoryDelta(cargoHoldToUpdate, oldInventory, newInventory);
+
+		log.debug("updated cargo hold from inventory delta {}", cargoHoldToUpdate);
+		writeToConfig();
+	}
+
+	// package-private for benchmarks
+	static void applyInventoryDelta(Multiset<Integer> cargoHold, Multiset<Integer> oldInventory, Multiset<Integer> newInventory)
+	{
 		Multiset<Integer> withdrawn = Multisets.difference(newInventory, oldInventory); // items found in inv that weren't in prior snapshot
 		log.trace("withdrawn: {}", withdrawn);
 
 		Multiset<Integer> deposited = Multisets.difference(oldInventory, newInventory); // items missing from inv that were in prior snapshot
 		log.trace("deposited: {}", deposited);
 
-		Multisets.removeOccurrences(cargoHoldToUpdate, withdrawn);
-		deposited.entrySet().forEach(entry -> cargoHoldToUpdate.add(entry.getElement(), entry.getCount()));
-
-		log.debug("updated cargo hold from inventory delta {}", cargoHoldToUpdate);
-		writeToConfig();
+		Multisets.removeOccurrences(cargoHold, withdrawn);
+		deposited.entrySet().forEach(entry -> cargoHold.add(entry.getElement(), entry.getCount()));
 	}
 
 	@Subscribe
@@ -356,6 +362,12 @@ public class CargoHoldTracker
 		}
 	}
 
+	// package-private for tests
+	Multiset<Integer> getCargoHold(int boatSlot)
+	{
+		return ImmutableMultiset.copyOf(cargoHold(boatSlot));
+	}
+
 	private void resetInventoryDeltaState()
 	{
 		pendingInventoryAction = 0;
@@ -386,7 +398,7 @@ public class CargoHoldTracker
 
 	private int maxCapacity()
 	{
-		Boat boat = boatTracker.getBoat();
+		Boat boat = sailingState.getSnapshot().getBoat();
 		if (boat == null)
 		{
 			return -1;
@@ -1,7 +1,8 @@
 package com.duckblade.osrs.sailing.features.facilities;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -12,12 +13,9 @@ import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.Client;
 import net.runelite.api.DynamicObject;
 import net.runelite.api.GameObject;
 import net.runelite.api.Renderable;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.client.Notifier;
@@ -36,9 +34,14 @@ public class CrystalExtractorHighlight
 {
 
 	private static final int ANIMATION_CRYSTAL_EXTRACTOR_CRYSTAL_HARVESTABLE = 13177;
+	private static final int[] EXTRACTOR_IDS = {
+		ObjectID.SAILING_CRYSTAL_EXTRACTOR_ACTIVATED,
+		ObjectID.SAILING_CRYSTAL_EXTRACTOR_DEACTIVATED,
+	};
 
-	private final Client client;
+	private final SailingState sailingState;
 	private final Notifier notifier;
+	private final GameObjectRouter gameObjectRouter;
 
 	private final Map<Integer, GameObject> extractors = new HashMap<>();
 
@@ -52,10 +55,11 @@ public class CrystalExtractorHighlight
 	private boolean notified = false;
 
 	@Inject
-	public CrystalExtractorHighlight(Client client, Notifier notifier)
+	public CrystalExtractorHighlight(SailingState sailingState, Notifier notifier, GameObjectRouter gameObjectRouter)
 	{
-		this.client = client;
+		this.sailingState = sailingState;
 		this.notifier = notifier;
+		this.gameObjectRouter = gameObjectRouter;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -75,30 +79,20 @@ public class CrystalExtractorHighlight
 	}
 
 	@Override
-	public void shutDown()
+	public void startUp()
 	{
-		extractors.clear();
-	}
-
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
-	{
-		GameObject go = e.getGameObject();
-		if (go.getId() == ObjectID.SAILING_CRYSTAL_EXTRACTOR_ACTIVATED ||
-			go.getId() == ObjectID.SAILING_CRYSTAL_EXTRACTOR_DEACTIVATED)
-		{
-			extractors.put(go.getWorldView().getId(), go);
-		}
+		gameObjectRouter.register(
+			this,
+			EXTRACTOR_IDS,
+			o -> extractors.put(o.getWorldView().getId(), o),
+			o -> extractors.remove(o.getWorldView().getId())
+		);
 	}
 
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
+	@Override
+	public void shutDown()
 	{
-		if (e.getGameObject().getId() == ObjectID.SAILING_CRYSTAL_EXTRACTOR_ACTIVATED ||
-			e.getGameObject().getId() == ObjectID.SAILING_CRYSTAL_EXTRACTOR_DEACTIVATED)
-		{
-			extractors.remove(e.getGameObject().getWorldView().getId());
-		}
+		extractors.clear();
 	}
 
 	@Subscribe
@@ -110,13 +104,13 @@ public class CrystalExtractorHighlight
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!SailingUtil.isSailing(client))
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		if (!state.isSailing())
 		{
 			return null;
 		}
 
-		int wvId = client.getLocalPlayer().getWorldView().getId();
-		GameObject extractor = extractors.get(wvId);
+		GameObject extractor = extractors.get(state.getWorldViewId());
 		Shape hull = extractor != null ? extractor.getConvexHull() : null;
 		if (extractor == null || hull == null)
 		{
@@ -1,8 +1,7 @@
 package com.duckblade.osrs.sailing.features.facilities;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.model.Boat;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.awt.Color;
@@ -12,7 +11,6 @@ import java.awt.Shape;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -26,22 +24,18 @@ public class LuffOverlay
 	extends Overlay
 	implements PluginLifecycleComponent
 {
-	private final Client client;
-	private final SailingConfig config;
-	private final BoatTracker boatTracker;
+	private final SailingState sailingState;
 	private final ModelOutlineRenderer modelOutlineRenderer;
 
+	private SailingConfig.SailHighlightMode mode;
+
 	@Inject
 	public LuffOverlay(
-			Client client,
-			SailingConfig config,
-			BoatTracker boatTracker,
+			SailingState sailingState,
 			ModelOutlineRenderer modelOutlineRenderer
 	)
 	{
-		this.client = client;
-		this.config = config;
-		this.boatTracker = boatTracker;
+		this.sailingState = sailingState;
 		this.modelOutlineRenderer = modelOutlineRenderer;
 
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -51,18 +45,14 @@ public class LuffOverlay
 	@Override
 	public boolean isEnabled(SailingConfig config)
 	{
+		mode = config.sailHighlightMode();
 		return config.highlightTrimmableSails();
 	}
 
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!SailingUtil.isSailing(client) || !config.highlightTrimmableSails())
-		{
-			return null;
-		}
-
-		Boat boat = boatTracker.getBoat();
+		Boat boat = sailingState.getSnapshot().getBoat();
 		GameObject sailPattern = boat != null ? boat.getSailPattern() : null;
 
 		if (sailPattern == null)
@@ -76,8 +66,6 @@ public class LuffOverlay
 			return null;
 		}
 
-		SailingConfig.SailHighlightMode mode = config.sailHighlightMode();
-
 		if (mode == SailingConfig.SailHighlightMode.AREA)
 		{
 			Shape hull = sailPattern.getConvexHull();
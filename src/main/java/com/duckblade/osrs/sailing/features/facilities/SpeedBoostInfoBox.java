@@ -2,11 +2,10 @@ package com.duckblade.osrs.sailing.features.facilities;
 
 import com.duckblade.osrs.sailing.SailingConfig;
 import com.duckblade.osrs.sailing.SailingPlugin;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.model.Boat;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import net.runelite.api.ChatMessageType;
-import net.runelite.api.Client;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameTick;
 import net.runelite.client.eventbus.Subscribe;
@@ -27,19 +26,17 @@ public class SpeedBoostInfoBox
 	private static final String CHAT_LUFF_SAIL = "You trim the sails, catching the wind for a burst of speed!";
 	private static final String CHAT_LUFF_STORED = "You release the wind mote for a burst of speed!";
 
-	private final Client client;
-	private final BoatTracker boatTracker;
+	private final SailingState sailingState;
 
 	private int speedBoostDuration;
 
 	@Inject
-	public SpeedBoostInfoBox(SailingPlugin plugin, Client client, SpriteManager spriteManager, BoatTracker boatTracker)
+	public SpeedBoostInfoBox(SailingPlugin plugin, SpriteManager spriteManager, SailingState sailingState)
 	{
 		super(null, plugin);
 		spriteManager.getSpriteAsync(ICON_ID_LUFF, 0, this);
 
-		this.client = client;
-		this.boatTracker = boatTracker;
+		this.sailingState = sailingState;
 	}
 
 	@Override
@@ -57,7 +54,8 @@ public class SpeedBoostInfoBox
 	@Subscribe
 	public void onChatMessage(ChatMessage e)
 	{
-		if (!SailingUtil.isSailing(client) ||
+		Boat boat = sailingState.getSnapshot().getBoat();
+		if (boat == null ||
 			(e.getType() != ChatMessageType.GAMEMESSAGE && e.getType() != ChatMessageType.SPAM))
 		{
 			return;
@@ -67,7 +65,7 @@ public class SpeedBoostInfoBox
 		if (CHAT_LUFF_SAIL.equals(msg) || CHAT_LUFF_STORED.equals(msg))
 		{
 			// offset by 1, onGameTick fires _after_ onChatMessage
-			speedBoostDuration = boatTracker.getBoat().getSpeedBoostDuration() + 1;
+			speedBoostDuration = boat.getSpeedBoostDuration() + 1;
 		}
 	}
 
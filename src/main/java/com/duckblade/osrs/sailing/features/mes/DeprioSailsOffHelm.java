@@ -1,7 +1,7 @@
 package com.duckblade.osrs.sailing.features.mes;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -13,7 +13,6 @@ import net.runelite.api.Client;
 import net.runelite.api.Menu;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.events.PostMenuSort;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.client.eventbus.Subscribe;
 
 @Slf4j
@@ -31,6 +30,7 @@ public class DeprioSailsOffHelm
 			.reversed();
 
 	private final Client client;
+	private final SailingState sailingState;
 
 	@Override
 	public boolean isEnabled(SailingConfig config)
@@ -41,14 +41,14 @@ public class DeprioSailsOffHelm
 	@Subscribe(priority = -1)
 	public void onPostMenuSort(PostMenuSort e)
 	{
-		if (!SailingUtil.isSailing(client))
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		if (!state.isSailing())
 		{
 			return;
 		}
 
-		// todo getSailingFacility
 		// todo crewmate support?
-		if (client.getVarbitValue(VarbitID.SAILING_BOAT_FACILITY_LOCKEDIN) == FACILITY_HELM)
+		if (state.getFacilityLockedIn() == FACILITY_HELM)
 		{
 			// at helm
 			return;
@@ -1,14 +1,13 @@
 package com.duckblade.osrs.sailing.features.mes;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.Client;
 import net.runelite.api.events.MenuEntryAdded;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.client.eventbus.Subscribe;
 
 @Slf4j
@@ -20,7 +19,7 @@ public class HideStopNavigatingDuringTrials implements PluginLifecycleComponent
 	private static final String OPTION_STOP_NAVIGATING = "Stop-navigating";
 	private static final String OPTION_ESCAPE = "Escape";
 
-	private final Client client;
+	private final SailingState sailingState;
 
 	@Override
 	public boolean isEnabled(SailingConfig config)
@@ -31,7 +30,7 @@ public class HideStopNavigatingDuringTrials implements PluginLifecycleComponent
 	@Subscribe
 	public void onMenuEntryAdded(MenuEntryAdded e)
 	{
-		if (client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL) == 0)
+		if (!sailingState.getSnapshot().isInTrial())
 		{
 			return;
 		}
@@ -1,7 +1,7 @@
 package com.duckblade.osrs.sailing.features.mes;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.model.CargoHoldTier;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.util.Arrays;
@@ -17,7 +17,6 @@ import net.runelite.api.Menu;
 import net.runelite.api.MenuAction;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.events.PostMenuSort;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.client.eventbus.Subscribe;
 
 @Slf4j
@@ -37,6 +36,7 @@ public class PrioritizeCargoHold
 		Comparator.comparing((me) -> CARGO_HOLD_IDS.contains(me.getIdentifier()) && me.getType() != MenuAction.EXAMINE_OBJECT);
 
 	private final Client client;
+	private final SailingState sailingState;
 
 	@Override
 	public boolean isEnabled(SailingConfig config)
@@ -47,13 +47,14 @@ public class PrioritizeCargoHold
 	@Subscribe(priority = -100)
 	public void onPostMenuSort(PostMenuSort e)
 	{
-		if (!SailingUtil.isSailing(client))
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		if (!state.isSailing())
 		{
 			return;
 		}
 
 		// Don't prioritize during Barracuda Trials
-		if (client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL) != 0)
+		if (state.isInTrial())
 		{
 			return;
 		}
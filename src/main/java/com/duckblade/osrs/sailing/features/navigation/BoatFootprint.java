@@ -0,0 +1,183 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.WorldEntityConfig;
+
+/**
+ * A boat's bounds rotated to each orientation (jau, 2048 per turn), built once per orientation on first use
+ * so drawing a footprint only projects four cached corners, and collision tests read the rotated centre from a table.
+ * Shared between every boat with the same bounds. Client thread only.
+ */
+public final class BoatFootprint
+{
+
+	private static final int ORIENTATIONS = 2048;
+
+	private static final double[] SIN = new double[ORIENTATIONS];
+	private static final double[] COS = new double[ORIENTATIONS];
+
+	static
+	{
+		for (int i = 0; i < ORIENTATIONS; i++)
+		{
+			double angle = i * Math.PI / 1024;
+			SIN[i] = Math.sin(angle);
+			COS[i] = Math.cos(angle);
+		}
+	}
+
+	private static final float[] ZERO_Z = new float[4];
+
+	// only a handful of boat sizes exist, a list beats hashing a key per lookup
+	private static final List<BoatFootprint> CACHE = new ArrayList<>();
+
+	private final int boundsX;
+	private final int boundsY;
+	private final int width;
+	private final int height;
+
+	// unrotated, relative to the boat's origin
+	private final float[] cornersX;
+	private final float[] cornersY;
+
+	private final float[][] rotatedX = new float[ORIENTATIONS][];
+	private final float[][] rotatedY = new float[ORIENTATIONS][];
+
+	private final int[] canvasX = new int[4];
+	private final int[] canvasY = new int[4];
+
+	private BoatFootprint(int boundsX, int boundsY, int width, int height)
+	{
+		this.boundsX = boundsX;
+		this.boundsY = boundsY;
+		this.width = width;
+		this.height = height;
+
+		int halfWidth = width / 2;
+		int halfHeight = height / 2;
+		cornersX = new float[]{
+			boundsX + halfWidth,
+			boundsX + halfWidth,
+			boundsX - halfWidth,
+			boundsX - halfWidth
+		};
+		cornersY = new float[]{
+			boundsY - halfHeight,
+			boundsY + halfHeight,
+			boundsY + halfHeight,
+			boundsY - halfHeight
+		};
+	}
+
+	public static BoatFootprint of(WorldEntityConfig wec)
+	{
+		return of(wec.getBoundsX(), wec.getBoundsY(), wec.getBoundsWidth(), wec.getBoundsHeight());
+	}
+
+	public static BoatFootprint of(int boundsX, int boundsY, int width, int height)
+	{
+		for (int i = 0; i < CACHE.size(); i++)
+		{
+			BoatFootprint footprint = CACHE.get(i);
+			if (footprint.boundsX == boundsX && footprint.boundsY == boundsY && footprint.width == width && footprint.height == height)
+			{
+				return footprint;
+			}
+		}
+
+		BoatFootprint footprint = new BoatFootprint(boundsX, boundsY, width, height);
+		CACHE.add(footprint);
+		return footprint;
+	}
+
+	public static double sin(int orientation)
+	{
+		return SIN[orientation & 2047];
+	}
+
+	public static double cos(int orientation)
+	{
+		return COS[orientation & 2047];
+	}
+
+	public double getHalfWidth()
+	{
+		return width / 2.;
+	}
+
+	public double getHalfHeight()
+	{
+		return height / 2.;
+	}
+
+	// the centre of the bounds relative to the boat's origin, which it is offset from and rotates around
+	public double getCentreX(int orientation)
+	{
+		return boundsX * cos(orientation) + boundsY * sin(orientation);
+	}
+
+	public double getCentreY(int orientation)
+	{
+		return boundsY * cos(orientation) - boundsX * sin(orientation);
+	}
+
+	public float[] getCornersX(int orientation)
+	{
+		int o = orientation & 2047;
+		if (rotatedX[o] == null)
+		{
+			rotate(o);
+		}
+		return rotatedX[o];
+	}
+
+	public float[] getCornersY(int orientation)
+	{
+		int o = orientation & 2047;
+		if (rotatedY[o] == null)
+		{
+			rotate(o);
+		}
+		return rotatedY[o];
+	}
+
+	// outlines the footprint with the boat's origin at local (x, y) in the top level world view
+	public void render(Client client, Graphics2D g, int x, int y, int orientation)
+	{
+		Perspective.modelToCanvas(
+			client,
+			client.getTopLevelWorldView(),
+			4, // end
+			x, // x3dCenter
+			y, // y3dCenter
+			0, // z3dCenter
+			0, // rotate, already applied
+			getCornersX(orientation), // x3d
+			getCornersY(orientation), // y3d
+			ZERO_Z, // z3d
+			canvasX, // x2d
+			canvasY // y2d
+		);
+
+		g.drawPolygon(canvasX, canvasY, 4);
+	}
+
+	private void rotate(int o)
+	{
+		double sin = SIN[o];
+		double cos = COS[o];
+		float[] xs = new float[4];
+		float[] ys = new float[4];
+		for (int i = 0; i < 4; i++)
+		{
+			xs[i] = (float) (cornersX[i] * cos + cornersY[i] * sin);
+			ys[i] = (float) (cornersY[i] * cos - cornersX[i] * sin);
+		}
+		rotatedX[o] = xs;
+		rotatedY[o] = ys;
+	}
+}
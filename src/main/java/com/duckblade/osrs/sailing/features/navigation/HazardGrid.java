@@ -0,0 +1,197 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import com.duckblade.osrs.sailing.features.util.IntObjectMap;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spatial hash of hazard rectangles in world tiles, bucketed into 8x8 tile cells
+ * so a footprint only tests the hazards in the few cells it overlaps instead of every hazard loaded.
+ * Footprints are rotated rectangles in absolute local units (128 per tile). Not thread safe.
+ */
+final class HazardGrid
+{
+
+	static final int CELL_SHIFT = 3;
+
+	private static final Hazard[] EMPTY = new Hazard[0];
+
+	@RequiredArgsConstructor
+	@Getter
+	enum Kind
+	{
+		RAPIDS("dangerous rapids"),
+		WRECK("a shipwreck"),
+		LIGHTNING_CLOUD("a lightning cloud"),
+		;
+
+		private final String name;
+	}
+
+	@RequiredArgsConstructor
+	@Getter
+	static final class Hazard
+	{
+		private final Kind kind;
+		private final Object source;
+
+		// inclusive, world tiles
+		private final int minX;
+		private final int minY;
+		private final int maxX;
+		private final int maxY;
+	}
+
+	private final IntObjectMap<Hazard[]> cells = new IntObjectMap<>(256);
+	private int size;
+
+	public int size()
+	{
+		return size;
+	}
+
+	public void add(Hazard hazard)
+	{
+		for (int cx = hazard.minX >> CELL_SHIFT; cx <= hazard.maxX >> CELL_SHIFT; cx++)
+		{
+			for (int cy = hazard.minY >> CELL_SHIFT; cy <= hazard.maxY >> CELL_SHIFT; cy++)
+			{
+				int key = key(cx, cy);
+				Hazard[] existing = cells.get(key);
+				if (existing == null)
+				{
+					existing = EMPTY;
+				}
+
+				Hazard[] updated = Arrays.copyOf(existing, existing.length + 1);
+				updated[existing.length] = hazard;
+				cells.put(key, updated);
+			}
+		}
+		size++;
+	}
+
+	public void remove(Hazard hazard)
+	{
+		boolean removed = false;
+		for (int cx = hazard.minX >> CELL_SHIFT; cx <= hazard.maxX >> CELL_SHIFT; cx++)
+		{
+			for (int cy = hazard.minY >> CELL_SHIFT; cy <= hazard.maxY >> CELL_SHIFT; cy++)
+			{
+				int key = key(cx, cy);
+				Hazard[] existing = cells.get(key);
+				int ix = existing != null ? indexOf(existing, hazard) : -1;
+				if (ix < 0)
+				{
+					continue;
+				}
+
+				removed = true;
+				if (existing.length == 1)
+				{
+					cells.remove(key);
+					continue;
+				}
+
+				Hazard[] updated = new Hazard[existing.length - 1];
+				System.arraycopy(existing, 0, updated, 0, ix);
+				System.arraycopy(existing, ix + 1, updated, ix, updated.length - ix);
+				cells.put(key, updated);
+			}
+		}
+
+		if (removed)
+		{
+			size--;
+		}
+	}
+
+	public void clear()
+	{
+		cells.clear();
+		size = 0;
+	}
+
+	/**
+	 * First hazard accepted by filter that overlaps the rectangle centred on (x, y)
+	 * with the given half extents, rotated by the angle whose cos/sin are given,
+	 * or null if there is none.
+	 */
+	public Hazard find(double x, double y, double halfWidth, double halfHeight, double cos, double sin, Predicate<Hazard> filter)
+	{
+		if (size == 0)
+		{
+			return null;
+		}
+
+		// axis aligned extents of the rotated rectangle
+		double extentX = Math.abs(cos) * halfWidth + Math.abs(sin) * halfHeight;
+		double extentY = Math.abs(sin) * halfWidth + Math.abs(cos) * halfHeight;
+
+		int minCellX = (int) Math.floor((x - extentX) / 128) >> CELL_SHIFT;
+		int maxCellX = (int) Math.floor((x + extentX) / 128) >> CELL_SHIFT;
+		int minCellY = (int) Math.floor((y - extentY) / 128) >> CELL_SHIFT;
+		int maxCellY = (int) Math.floor((y + extentY) / 128) >> CELL_SHIFT;
+
+		for (int cx = minCellX; cx <= maxCellX; cx++)
+		{
+			for (int cy = minCellY; cy <= maxCellY; cy++)
+			{
+				Hazard[] hazards = cells.get(key(cx, cy));
+				if (hazards == null)
+				{
+					continue;
+				}
+
+				for (Hazard hazard : hazards)
+				{
+					if (intersects(x, y, halfWidth, halfHeight, cos, sin, extentX, extentY, hazard) && filter.test(hazard))
+					{
+						return hazard;
+					}
+				}
+			}
+		}
+
+		return null;
+	}
+
+	// separating axis test between the rotated footprint and the hazard's tiles, touching edges don't count
+	static boolean intersects(double x, double y, double halfWidth, double halfHeight, double cos, double sin, double extentX, double extentY, Hazard hazard)
+	{
+		double hazardHalfWidth = (hazard.maxX - hazard.minX + 1) * 64.;
+		double hazardHalfHeight = (hazard.maxY - hazard.minY + 1) * 64.;
+		double dx = hazard.minX * 128. + hazardHalfWidth - x;
+		double dy = hazard.minY * 128. + hazardHalfHeight - y;
+
+		if (Math.abs(dx) >= extentX + hazardHalfWidth || Math.abs(dy) >= extentY + hazardHalfHeight)
+		{
+			return false;
+		}
+
+		// the footprint's own axes, local x maps to (cos, -sin) and local y to (sin, cos)
+		double alongWidth = Math.abs(dx * cos - dy * sin);
+		double alongHeight = Math.abs(dx * sin + dy * cos);
+		return alongWidth < halfWidth + hazardHalfWidth * Math.abs(cos) + hazardHalfHeight * Math.abs(sin) &&
+			alongHeight < halfHeight + hazardHalfWidth * Math.abs(sin) + hazardHalfHeight * Math.abs(cos);
+	}
+
+	private static int indexOf(Hazard[] hazards, Hazard hazard)
+	{
+		for (int i = 0; i < hazards.length; i++)
+		{
+			if (hazards[i] == hazard)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int key(int cellX, int cellY)
+	{
+		return (cellX << 16) | (cellY & 0xFFFF);
+	}
+}
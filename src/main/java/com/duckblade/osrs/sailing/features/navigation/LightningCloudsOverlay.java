@@ -1,8 +1,7 @@
 package com.duckblade.osrs.sailing.features.navigation;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
@@ -12,7 +11,6 @@ import java.util.HashSet;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import net.runelite.api.Client;
 import net.runelite.api.NPC;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
@@ -35,18 +33,16 @@ public class LightningCloudsOverlay
 		AnimationID.SAILING_LIGHTNING_CLOUD_ATTACK
 	);
 
-	private final Client client;
-	private final SailingConfig config;
+	private final SailingState sailingState;
 
 	private final Set<NPC> clouds = new HashSet<>();
 
 	private Color cloudColor;
 
 	@Inject
-	public LightningCloudsOverlay(Client client, SailingConfig config, BoatTracker boatTracker)
+	public LightningCloudsOverlay(SailingState sailingState)
 	{
-		this.client = client;
-		this.config = config;
+		this.sailingState = sailingState;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -84,7 +80,7 @@ public class LightningCloudsOverlay
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!SailingUtil.isSailing(client) || !config.highlightLightningCloudStrikes())
+		if (!sailingState.getSnapshot().isSailing())
 		{
 			return null;
 		}
@@ -1,14 +1,12 @@
 package com.duckblade.osrs.sailing.features.navigation;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
-import net.runelite.api.Client;
 import net.runelite.api.events.GameTick;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.client.Notifier;
 import net.runelite.client.config.Notification;
 import net.runelite.client.eventbus.Subscribe;
@@ -18,7 +16,7 @@ import net.runelite.client.eventbus.Subscribe;
 public class LowHPNotification implements PluginLifecycleComponent
 {
 
-	private final Client client;
+	private final SailingState sailingState;
 	private final Notifier notifier;
 
 	private Notification notification;
@@ -43,14 +41,14 @@ public class LowHPNotification implements PluginLifecycleComponent
 	@Subscribe
 	public void onGameTick(GameTick e)
 	{
-		if (!SailingUtil.isSailing(client))
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		if (!state.isSailing())
 		{
 			hasNotified = false;
 			return;
 		}
 
-		int currentHP = getBoatHP();
-
+		int currentHP = state.getBoatHp();
 		if (currentHP < 0)
 		{
 			hasNotified = false;
@@ -70,15 +68,4 @@ public class LowHPNotification implements PluginLifecycleComponent
 			hasNotified = false;
 		}
 	}
-
-	private int getBoatHP()
-	{
-		int hp = client.getVarbitValue(VarbitID.SAILING_SIDEPANEL_BOAT_HP);
-		if (hp >= 0)
-		{
-			return hp;
-		}
-
-		return -1;
-	}
 }
@@ -0,0 +1,362 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import com.duckblade.osrs.sailing.SailingPlugin;
+import com.duckblade.osrs.sailing.features.util.IntObjectMap;
+import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.CollisionData;
+import net.runelite.api.CollisionDataFlag;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.Point;
+import net.runelite.api.WorldView;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Which plane 0 tiles a boat can sail on, learned from the collision data of every top-level scene loaded while sailing.
+ * Sea tiles are blocked for walking at the floor level, land isn't, and sea tiles that also block objects are hazards.
+ * Regions are kept in a {@link WaterMapFile} across sessions, only regions changed this session are held in memory.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class NavigableWaterMap
+	implements PluginLifecycleComponent
+{
+
+	static final File WATER_MAP_FILE = new File(SailingPlugin.SAILING_DIR, "water.dat");
+
+	// collision maps fill the tiles along the scene edge with every flag
+	private static final int SCENE_EDGE = 0xFFFFFF;
+
+	private static final WaterRegion UNKNOWN = new WaterRegion();
+
+	private final Client client;
+	private final ClientThread clientThread;
+	private final ScheduledExecutorService executor;
+	private final GameObjectRouter gameObjectRouter;
+
+	// regions changed this session, newer than what's in the file
+	private final IntObjectMap<WaterRegion> regions = new IntObjectMap<>();
+
+	// copies being modified by the current scan or rapids spawns, published together
+	private final IntObjectMap<WaterRegion> pending = new IntObjectMap<>();
+
+	private WaterMapFile file;
+	private boolean active;
+	private boolean wasSailing;
+
+	// bumped whenever any tile changes, routes planned against an older revision are stale
+	@Getter
+	private int revision;
+
+	@Override
+	public void startUp()
+	{
+		active = true;
+		gameObjectRouter.register(this, RapidsOverlay.RAPIDS_IDS, this::onRapidsSpawned, o -> {});
+		executor.execute(() ->
+		{
+			try
+			{
+				if (!SailingPlugin.SAILING_DIR.exists() && !SailingPlugin.SAILING_DIR.mkdirs())
+				{
+					log.warn("Unable to create sailing directory at {}", SailingPlugin.SAILING_DIR.getAbsolutePath());
+					return;
+				}
+
+				WaterMapFile opened = WaterMapFile.open(WATER_MAP_FILE);
+				log.debug("opened water map with {} regions", opened.getSortedCount() + opened.getAppendedCount());
+				clientThread.invokeLater(() ->
+				{
+					if (!active)
+					{
+						close(opened);
+						return;
+					}
+
+					// anything learned while the file was opening
+					for (int slot = 0; slot < regions.capacity(); slot++)
+					{
+						if (regions.valueAt(slot) != null)
+						{
+							append(opened, regions.keyAt(slot), regions.valueAt(slot));
+						}
+					}
+
+					file = opened;
+					revision++;
+				});
+			}
+			catch (IOException e)
+			{
+				log.warn("Failed to open water map {}, explored water won't be kept", WATER_MAP_FILE, e);
+			}
+		});
+	}
+
+	@Override
+	public void shutDown()
+	{
+		active = false;
+		regions.clear();
+		pending.clear();
+		wasSailing = false;
+
+		if (file != null)
+		{
+			close(file);
+			file = null;
+		}
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged e)
+	{
+		if (e.getGameState() == GameState.LOGGED_IN && SailingUtil.isSailing(client))
+		{
+			scan(client.getTopLevelWorldView());
+		}
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick e)
+	{
+		// the scene was already loaded when we set sail
+		boolean sailing = SailingUtil.isSailing(client);
+		if (sailing && !wasSailing)
+		{
+			scan(client.getTopLevelWorldView());
+		}
+		wasSailing = sailing;
+
+		publish();
+	}
+
+	/**
+	 * An immutable view of the regions known right now, safe to hand to another thread.
+	 */
+	WaterGrid snapshot()
+	{
+		IntObjectMap<WaterRegion> copy = new IntObjectMap<>(regions.size());
+		for (int slot = 0; slot < regions.capacity(); slot++)
+		{
+			WaterRegion region = regions.valueAt(slot);
+			if (region != null)
+			{
+				copy.put(regions.keyAt(slot), region);
+			}
+		}
+
+		WaterMapFile file = this.file;
+		return new WaterGrid()
+		{
+			// searches move between neighbouring tiles, so the last region is usually the next one too
+			private int lastRegionId = -1;
+			private int lastOffset = -1;
+
+			@Override
+			public boolean isNavigable(int x, int y)
+			{
+				int regionId = WaterRegion.regionId(x, y);
+				WaterRegion region = copy.get(regionId);
+				if (region != null)
+				{
+					return region.isNavigable(x, y);
+				}
+
+				if (file == null)
+				{
+					return true;
+				}
+
+				if (regionId != lastRegionId)
+				{
+					lastRegionId = regionId;
+					lastOffset = file.find(regionId);
+				}
+				return lastOffset == -1 || file.isNavigable(lastOffset, x, y);
+			}
+		};
+	}
+
+	private void scan(WorldView wv)
+	{
+		if (wv == null || wv.isInstance())
+		{
+			return;
+		}
+
+		CollisionData[] maps = wv.getCollisionMaps();
+		if (maps == null || maps[0] == null)
+		{
+			return;
+		}
+
+		long start = System.nanoTime();
+		int[][] flags = maps[0].getFlags();
+		int baseX = wv.getBaseX();
+		int baseY = wv.getBaseY();
+
+		// state before this scan, read from the file at most once per region
+		IntObjectMap<WaterRegion> before = new IntObjectMap<>();
+		for (int sx = 0; sx < wv.getSizeX(); sx++)
+		{
+			for (int sy = 0; sy < wv.getSizeY(); sy++)
+			{
+				int f = flags[sx][sy];
+				if (f == SCENE_EDGE)
+				{
+					continue;
+				}
+
+				int x = baseX + sx;
+				int y = baseY + sy;
+				boolean water = (f & CollisionDataFlag.BLOCK_MOVEMENT_FLOOR) != 0;
+				boolean blocked = (f & CollisionDataFlag.BLOCK_MOVEMENT_OBJECT) != 0;
+				int regionId = WaterRegion.regionId(x, y);
+				WaterRegion region = before.get(regionId);
+				if (region == null)
+				{
+					region = current(regionId);
+					before.put(regionId, region != null ? region : UNKNOWN);
+				}
+
+				if (region == null || !region.isKnown(x, y) || region.isNavigable(x, y) != (water && !blocked) || region.isHazard(x, y) != (water && blocked))
+				{
+					editable(x, y).set(x, y, water && !blocked, water && blocked);
+				}
+			}
+		}
+
+		int changed = publish();
+		log.debug("scanned scene at {},{} updating {} water regions in {}us", baseX, baseY, changed, (System.nanoTime() - start) / 1000);
+	}
+
+	private void onRapidsSpawned(GameObject o)
+	{
+		WorldView wv = o.getWorldView();
+		if (!wv.isTopLevel() || wv.isInstance() || !SailingUtil.isSailing(client))
+		{
+			return;
+		}
+
+		Point min = o.getSceneMinLocation();
+		Point max = o.getSceneMaxLocation();
+		for (int sx = min.getX(); sx <= max.getX(); sx++)
+		{
+			for (int sy = min.getY(); sy <= max.getY(); sy++)
+			{
+				int x = wv.getBaseX() + sx;
+				int y = wv.getBaseY() + sy;
+				WaterRegion region = current(WaterRegion.regionId(x, y));
+				if (region == null || !region.isRapids(x, y))
+				{
+					editable(x, y).setRapids(x, y);
+				}
+			}
+		}
+	}
+
+	private WaterRegion current(int regionId)
+	{
+		WaterRegion region = pending.get(regionId);
+		if (region == null)
+		{
+			region = regions.get(regionId);
+		}
+		if (region == null && file != null)
+		{
+			region = file.read(regionId);
+		}
+		return region;
+	}
+
+	// regions are copied on first change so snapshots taken earlier keep their contents
+	private WaterRegion editable(int x, int y)
+	{
+		int regionId = WaterRegion.regionId(x, y);
+		WaterRegion region = pending.get(regionId);
+		if (region == null)
+		{
+			WaterRegion current = current(regionId);
+			region = current != null ? current.copy() : new WaterRegion();
+			pending.put(regionId, region);
+		}
+		return region;
+	}
+
+	private int publish()
+	{
+		int count = pending.size();
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		WaterMapFile file = this.file;
+		for (int slot = 0; slot < pending.capacity(); slot++)
+		{
+			WaterRegion region = pending.valueAt(slot);
+			if (region == null)
+			{
+				continue;
+			}
+
+			int regionId = pending.keyAt(slot);
+			regions.put(regionId, region);
+			if (file != null)
+			{
+				append(file, regionId, region);
+			}
+		}
+
+		pending.clear();
+		revision++;
+		return count;
+	}
+
+	// file writes go through the executor, in order
+	private void append(WaterMapFile file, int regionId, WaterRegion region)
+	{
+		executor.execute(() ->
+		{
+			try
+			{
+				file.append(regionId, region);
+			}
+			catch (IOException e)
+			{
+				log.warn("Failed to write water region {}", regionId, e);
+			}
+		});
+	}
+
+	private void close(WaterMapFile file)
+	{
+		executor.execute(() ->
+		{
+			try
+			{
+				file.close();
+			}
+			catch (IOException e)
+			{
+				log.warn("Failed to close water map", e);
+			}
+		});
+	}
+}
@@ -1,8 +1,9 @@
 package com.duckblade.osrs.sailing.features.navigation;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.BoatKinematics;
+import com.duckblade.osrs.sailing.features.util.BoatMotion;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.model.Boat;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import java.awt.Color;
@@ -17,10 +18,7 @@ import net.runelite.api.GameObject;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.WorldEntity;
-import net.runelite.api.WorldView;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.events.GameTick;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -34,24 +32,21 @@ public class NavigationOverlay
 	implements PluginLifecycleComponent
 {
 
-	private final BoatTracker boatTracker;
 	private final Client client;
+	private final SailingState sailingState;
+	private final BoatKinematics boatKinematics;
 
 	private SailingConfig.NavigationOverlayMode mode;
 	private Color colour;
 	private boolean speedEnabled;
 	private boolean headingEnabled;
 
-	private int sceneBaseX = -1;
-	private int sceneBaseY = -1;
-	private LocalPoint lastPoint;
-	private int speed;
-
 	@Inject
-	public NavigationOverlay(BoatTracker boatTracker, Client client)
+	public NavigationOverlay(Client client, SailingState sailingState, BoatKinematics boatKinematics)
 	{
-		this.boatTracker = boatTracker;
 		this.client = client;
+		this.sailingState = sailingState;
+		this.boatKinematics = boatKinematics;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -65,55 +60,14 @@ public class NavigationOverlay
 		speedEnabled = config.navigationOverlaySpeed();
 		headingEnabled = config.navigationOverlayHeading();
 
-		// always on for speed tracking, mode checked in config
-		return true;
-	}
-
-	@Subscribe
-	public void onGameTick(GameTick e)
-	{
-		if (!SailingUtil.isSailing(client))
-		{
-			lastPoint = null;
-			return;
-		}
-
-		checkSceneBase();
-
-		Boat boat = boatTracker.getBoat();
-		if (boat == null)
-		{
-			lastPoint = null;
-			return;
-		}
-
-		WorldEntity we = boat.getWorldEntity();
-		LocalPoint lp = we.getTargetLocation();
-
-		if (!lp.equals(lastPoint))
-		{
-			if (lastPoint != null)
-			{
-				double trueSpeed = (float) Math.hypot(
-					(lastPoint.getX() - lp.getX()),
-					(lastPoint.getY() - lp.getY())
-				);
-				speed = roundToQuarterTile(trueSpeed) / 32;
-			}
-			lastPoint = lp;
-		}
-		else
-		{
-			speed = 0;
-		}
+		return mode != SailingConfig.NavigationOverlayMode.OFF && (speedEnabled || headingEnabled);
 	}
 
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!SailingUtil.isSailing(client) ||
-			mode == SailingConfig.NavigationOverlayMode.OFF ||
-			(!speedEnabled && !headingEnabled))
+		Boat boat = sailingState.getSnapshot().getBoat();
+		if (boat == null)
 		{
 			return null;
 		}
@@ -125,7 +79,6 @@ public class NavigationOverlay
 		}
 
 		String text = "";
-		Boat boat = boatTracker.getBoat();
 		if (headingEnabled)
 		{
 			text += "Heading: " + jauToDirectionString(boat.getWorldEntity().getTargetOrientation());
@@ -136,60 +89,20 @@ public class NavigationOverlay
 		}
 		if (speedEnabled)
 		{
-			text += "Speed: " + speed;
+			// in quarter tiles per tick, averaged over the last few ticks by BoatKinematics
+			BoatMotion motion = boatKinematics.getMotion(boat);
+			text += "Speed: " + (motion != null ? Math.round(motion.getSpeed() / (Perspective.LOCAL_TILE_SIZE / 4.)) : 0);
 		}
 
-		Point textTarget = getRenderPoint();
+		Point textTarget = getRenderPoint(boat);
 		g.setFont(FontManager.getRunescapeBoldFont().deriveFont(24f));
 		renderCenteredMultilineText(g, text, textTarget, colour);
 
 		return null;
 	}
 
-	private void checkSceneBase()
-	{
-		WorldView tlwv = client.getTopLevelWorldView();
-		int baseX = tlwv.getScene().getBaseX();
-		int baseY = tlwv.getScene().getBaseY();
-
-		if (baseX == sceneBaseX && baseY == sceneBaseY)
-		{
-			return;
-		}
-
-		if (lastPoint != null)
-		{
-			int xAdjust = baseX - sceneBaseX;
-			int yAdjust = baseY - sceneBaseY;
-			// reshift lastPoint to where it would be in the new scene
-			lastPoint = new LocalPoint(
-				lastPoint.getX() - (xAdjust * Perspective.LOCAL_TILE_SIZE),
-				lastPoint.getY() - (yAdjust * Perspective.LOCAL_TILE_SIZE),
-				tlwv
-			);
-		}
-
-		sceneBaseX = client.getTopLevelWorldView().getScene().getBaseX();
-		sceneBaseY = client.getTopLevelWorldView().getScene().getBaseY();
-	}
-
-	private static int roundToQuarterTile(double trueSpeed)
-	{
-		int quarterTileFloor = ((int) trueSpeed) & ~0x1F;
-		int quarterTileCeil = quarterTileFloor + 0x20;
-		log.trace("{} = {} {}", trueSpeed, quarterTileFloor, quarterTileCeil);
-
-		if (quarterTileCeil - trueSpeed < trueSpeed - quarterTileFloor)
-		{
-			return quarterTileCeil;
-		}
-
-		return quarterTileFloor;
-	}
-
-	private Point getRenderPoint()
+	private Point getRenderPoint(Boat boat)
 	{
-		Boat boat = boatTracker.getBoat();
 		WorldEntity we = boat.getWorldEntity();
 		GameObject sailPattern = boat.getSailPattern();
 
@@ -1,17 +1,20 @@
 package com.duckblade.osrs.sailing.features.navigation;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.ProjectionCache;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SceneBuckets;
 import com.duckblade.osrs.sailing.model.Boat;
 import com.duckblade.osrs.sailing.model.HelmTier;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.util.HashSet;
+import java.awt.Polygon;
 import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
@@ -19,8 +22,6 @@ import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.ObjectComposition;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.client.eventbus.Subscribe;
@@ -35,7 +36,7 @@ public class RapidsOverlay
 	implements PluginLifecycleComponent
 {
 
-	private static final Set<Integer> RAPIDS_IDS = ImmutableSet.of(
+	static final Set<Integer> RAPIDS_IDS = ImmutableSet.of(
 		ObjectID.SAILING_RAPIDS,
 		ObjectID.SAILING_RAPIDS_STRONG,
 		ObjectID.SAILING_RAPIDS_POWERFUL,
@@ -112,28 +113,30 @@ public class RapidsOverlay
 		ObjectID.SAILING_CHARTING_RAPIDS_WEISS_MELT
 	);
 
-	private final Map<Integer, HelmTier> MIN_HELM_TIER_BY_RAPID_TYPE = ImmutableMap.<Integer, HelmTier>builder()
+	private static final Map<Integer, HelmTier> MIN_HELM_TIER_BY_RAPID_TYPE = ImmutableMap.<Integer, HelmTier>builder()
 		.put(ObjectID.SAILING_RAPIDS, HelmTier.IRON)
 		.put(ObjectID.SAILING_RAPIDS_STRONG, HelmTier.MITHRIL)
 		.put(ObjectID.SAILING_RAPIDS_POWERFUL, HelmTier.RUNE)
 		.build();
 
 	private final Client client;
-	private final SailingConfig config;
-	private final BoatTracker boatTracker;
+	private final SailingState sailingState;
+	private final GameObjectRouter gameObjectRouter;
+	private final ProjectionCache projectionCache;
 
-	private final Set<GameObject> rapids = new HashSet<>();
+	private final SceneBuckets<GameObject> rapids = new SceneBuckets<>(GameObject::getWorldLocation);
 
 	private Color safeRapidsColour;
 	private Color dangerousRapidsColour;
 	private Color unknownRapidsColour;
 
 	@Inject
-	public RapidsOverlay(Client client, SailingConfig config, BoatTracker boatTracker)
+	public RapidsOverlay(Client client, SailingState sailingState, GameObjectRouter gameObjectRouter, ProjectionCache projectionCache)
 	{
 		this.client = client;
-		this.config = config;
-		this.boatTracker = boatTracker;
+		this.sailingState = sailingState;
+		this.gameObjectRouter = gameObjectRouter;
+		this.projectionCache = projectionCache;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -148,25 +151,15 @@ public class RapidsOverlay
 		return config.highlightRapids();
 	}
 
-	public void shutDown()
-	{
-		rapids.clear();
-	}
-
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
+	@Override
+	public void startUp()
 	{
-		GameObject o = e.getGameObject();
-		if (RAPIDS_IDS.contains(o.getId()))
-		{
-			rapids.add(o);
-		}
+		gameObjectRouter.register(this, RAPIDS_IDS, rapids::add, rapids::remove);
 	}
 
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
+	public void shutDown()
 	{
-		rapids.remove(e.getGameObject());
+		rapids.clear();
 	}
 
 	@Subscribe
@@ -181,33 +174,42 @@ public class RapidsOverlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		if (!SailingUtil.isSailing(client) || !config.highlightRapids())
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		if (!state.isSailing())
 		{
 			return null;
 		}
 
-		for (GameObject rapid : rapids)
+		projectionCache.forEachVisible(rapids, 2, rapid ->
 		{
 			ObjectComposition def = SailingUtil.getTransformedObject(client, rapid);
 			if (def != null)
 			{
-				Color colour = getHighlightColour(def.getId());
-				OverlayUtil.renderTileOverlay(graphics, rapid, "", colour);
+				Polygon poly = projectionCache.getTilePoly(rapid);
+				if (poly != null)
+				{
+					OverlayUtil.renderPolygon(graphics, poly, getHighlightColour(def.getId(), state.getBoat()));
+				}
 			}
-		}
+		});
 
 		return null;
 	}
 
-	private Color getHighlightColour(int objId)
+	// null for charting rapids and rapids whose requirement isn't known
+	static HelmTier getMinHelmTier(int objId)
+	{
+		return MIN_HELM_TIER_BY_RAPID_TYPE.get(objId);
+	}
+
+	private Color getHighlightColour(int objId, Boat boat)
 	{
-		HelmTier minTier = MIN_HELM_TIER_BY_RAPID_TYPE.get(objId);
+		HelmTier minTier = getMinHelmTier(objId);
 		if (minTier == null)
 		{
 			return unknownRapidsColour;
 		}
 
-		Boat boat = boatTracker.getBoat();
 		if (boat == null)
 		{
 			return unknownRapidsColour;
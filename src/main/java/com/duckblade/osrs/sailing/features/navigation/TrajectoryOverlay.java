@@ -0,0 +1,374 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.salvaging.SalvagingHighlight;
+import com.duckblade.osrs.sailing.features.util.BoatKinematics;
+import com.duckblade.osrs.sailing.features.util.BoatMotion;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.model.HelmTier;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.NPC;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Perspective;
+import net.runelite.api.Point;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.WorldViewUnloaded;
+import net.runelite.api.gameval.NpcID;
+import net.runelite.client.Notifier;
+import net.runelite.client.config.Notification;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPosition;
+
+/**
+ * Predicts the boat's footprint over the next few ticks from its {@link BoatMotion},
+ * holding speed and turn rate constant, and draws each one like the true tile indicator.
+ * The footprints are tested against a {@link HazardGrid} of rapids the helm can't handle,
+ * shipwreck salvage areas and lightning clouds, notifying before the boat runs into one.
+ */
+@Singleton
+public class TrajectoryOverlay
+	extends Overlay
+	implements PluginLifecycleComponent
+{
+
+	private static final int MAX_TICKS = 10;
+
+	// strikes land around the cloud, not just under it
+	private static final int CLOUD_CLEARANCE = 1;
+
+	private static final double JAU_TO_RAD = Math.PI / 1024;
+
+	private final Client client;
+	private final SailingState sailingState;
+	private final BoatKinematics boatKinematics;
+	private final GameObjectRouter gameObjectRouter;
+	private final Notifier notifier;
+
+	private final HazardGrid hazards = new HazardGrid();
+	// by game object or npc
+	private final Map<Object, HazardGrid.Hazard> tracked = new HashMap<>();
+	private final Set<NPC> clouds = new HashSet<>();
+	private final Predicate<HazardGrid.Hazard> isDangerous = this::isDangerous;
+
+	private boolean drawPath;
+	private int ticks;
+	private Color colour;
+	private Color hazardColour;
+	private Notification notification;
+
+	// absolute local units and jau, index 0 is the boat's current target
+	private final int[] xs = new int[MAX_TICKS + 1];
+	private final int[] ys = new int[MAX_TICKS + 1];
+	private final int[] orientations = new int[MAX_TICKS + 1];
+	private int count;
+	// first step inside a hazard, -1 for none
+	private int hazardStep = -1;
+
+	private HelmTier helmTier;
+	private boolean hasNotified;
+
+	@Inject
+	public TrajectoryOverlay(
+		Client client,
+		SailingState sailingState,
+		BoatKinematics boatKinematics,
+		GameObjectRouter gameObjectRouter,
+		Notifier notifier
+	)
+	{
+		this.client = client;
+		this.sailingState = sailingState;
+		this.boatKinematics = boatKinematics;
+		this.gameObjectRouter = gameObjectRouter;
+		this.notifier = notifier;
+
+		setPosition(OverlayPosition.DYNAMIC);
+		setLayer(OverlayLayer.ABOVE_SCENE);
+	}
+
+	@Override
+	public boolean isEnabled(SailingConfig config)
+	{
+		drawPath = config.navigationTrajectory();
+		ticks = Math.max(1, Math.min(MAX_TICKS, config.navigationTrajectoryTicks()));
+		colour = config.navigationTrajectoryColour();
+		hazardColour = config.navigationTrajectoryHazardColour();
+		notification = config.navigationTrajectoryHazardNotification();
+		return drawPath || notification.isEnabled();
+	}
+
+	@Override
+	public void startUp()
+	{
+		gameObjectRouter.register(this, RapidsOverlay.RAPIDS_IDS, this::addRapids, this::removeHazard);
+		gameObjectRouter.register(this, SalvagingHighlight.SALVAGE_LEVEL_REQ.keySet(), this::addWreck, this::removeHazard);
+		gameObjectRouter.register(this, SalvagingHighlight.STUMP_LEVEL_REQ.keySet(), this::addWreck, this::removeHazard);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		hazards.clear();
+		tracked.clear();
+		clouds.clear();
+		count = 0;
+		hazardStep = -1;
+		hasNotified = false;
+	}
+
+	@Subscribe
+	public void onNpcSpawned(NpcSpawned e)
+	{
+		if (e.getNpc().getId() == NpcID.SAILING_SEA_STORMY_CLOUD)
+		{
+			clouds.add(e.getNpc());
+		}
+	}
+
+	@Subscribe
+	public void onNpcDespawned(NpcDespawned e)
+	{
+		if (clouds.remove(e.getNpc()))
+		{
+			removeHazard(e.getNpc());
+		}
+	}
+
+	@Subscribe
+	public void onWorldViewUnloaded(WorldViewUnloaded e)
+	{
+		if (e.getWorldView().isTopLevel())
+		{
+			// objects respawn with the new scene, clouds are re-added on the next tick
+			hazards.clear();
+			tracked.clear();
+		}
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick e)
+	{
+		count = 0;
+		hazardStep = -1;
+
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		Boat boat = state.isSailing() ? state.getBoat() : null;
+		BoatMotion motion = boatKinematics.getMotion(boat);
+		if (motion == null || motion.size() == 0)
+		{
+			hasNotified = false;
+			return;
+		}
+
+		updateClouds();
+		helmTier = boat.getHelmTier();
+		HazardGrid.Hazard hazard = predict(BoatFootprint.of(boat.getWorldEntity().getConfig()), motion);
+
+		if (hazard == null)
+		{
+			hasNotified = false;
+		}
+		else if (!hasNotified)
+		{
+			// already inside it is too late to be useful
+			if (hazardStep > 0 && notification.isEnabled())
+			{
+				notifier.notify(notification, "Your boat is heading into " + hazard.getKind().getName() + "!");
+			}
+			hasNotified = true;
+		}
+	}
+
+	@Override
+	public Dimension render(Graphics2D g)
+	{
+		Boat boat = sailingState.getSnapshot().getBoat();
+		if (!drawPath || count <= 1 || boat == null)
+		{
+			return null;
+		}
+
+		WorldView tlwv = client.getTopLevelWorldView();
+		int baseX = tlwv.getScene().getBaseX() * Perspective.LOCAL_TILE_SIZE;
+		int baseY = tlwv.getScene().getBaseY() * Perspective.LOCAL_TILE_SIZE;
+		BoatFootprint footprint = BoatFootprint.of(boat.getWorldEntity().getConfig());
+
+		for (int step = 1; step < count; step++)
+		{
+			g.setColor(hazardStep >= 0 && step >= hazardStep ? hazardColour : colour);
+			footprint.render(client, g, xs[step] - baseX, ys[step] - baseY, orientations[step]);
+		}
+
+		return null;
+	}
+
+	// fills the footprint buffers and returns the first hazard the path runs into
+	private HazardGrid.Hazard predict(BoatFootprint footprint, BoatMotion motion)
+	{
+		double x = motion.getX(0);
+		double y = motion.getY(0);
+		double angle = motion.getOrientation(0);
+		double turnRate = motion.getTurnRate();
+
+		// boats travel along their orientation, unless reversing
+		double speed = motion.getSpeed();
+		double rad = angle * JAU_TO_RAD;
+		if (motion.getVelocityX() * -Math.sin(rad) + motion.getVelocityY() * -Math.cos(rad) < 0)
+		{
+			speed = -speed;
+		}
+
+		int steps = speed == 0 && turnRate == 0 ? 0 : ticks;
+		HazardGrid.Hazard hazard = null;
+		for (int step = 0; step <= steps; step++)
+		{
+			if (step > 0)
+			{
+				angle += turnRate;
+				rad = angle * JAU_TO_RAD;
+				x -= Math.sin(rad) * speed;
+				y -= Math.cos(rad) * speed;
+			}
+
+			xs[step] = (int) Math.round(x);
+			ys[step] = (int) Math.round(y);
+			orientations[step] = (int) Math.round(angle) & 2047;
+
+			if (hazard == null)
+			{
+				hazard = findHazard(footprint, xs[step], ys[step], orientations[step]);
+				if (hazard != null)
+				{
+					hazardStep = step;
+				}
+			}
+		}
+
+		count = steps + 1;
+		return hazard;
+	}
+
+	private HazardGrid.Hazard findHazard(BoatFootprint footprint, int x, int y, int orientation)
+	{
+		return hazards.find(
+			x + footprint.getCentreX(orientation),
+			y + footprint.getCentreY(orientation),
+			footprint.getHalfWidth(),
+			footprint.getHalfHeight(),
+			BoatFootprint.cos(orientation),
+			BoatFootprint.sin(orientation),
+			isDangerous
+		);
+	}
+
+	private boolean isDangerous(HazardGrid.Hazard hazard)
+	{
+		if (hazard.getKind() != HazardGrid.Kind.RAPIDS)
+		{
+			return true;
+		}
+
+		// rapids can transform, so check the current variant
+		ObjectComposition def = SailingUtil.getTransformedObject(client, (GameObject) hazard.getSource());
+		HelmTier minTier = def != null ? RapidsOverlay.getMinHelmTier(def.getId()) : null;
+		return minTier != null && helmTier != null && helmTier.ordinal() < minTier.ordinal();
+	}
+
+	private void addRapids(GameObject o)
+	{
+		WorldView wv = o.getWorldView();
+		if (!wv.isTopLevel())
+		{
+			return;
+		}
+
+		Point min = o.getSceneMinLocation();
+		Point max = o.getSceneMaxLocation();
+		addHazard(new HazardGrid.Hazard(
+			HazardGrid.Kind.RAPIDS,
+			o,
+			wv.getBaseX() + min.getX(),
+			wv.getBaseY() + min.getY(),
+			wv.getBaseX() + max.getX(),
+			wv.getBaseY() + max.getY()
+		));
+	}
+
+	// the salvageable area, centred on the wreck like SalvagingHighlight draws it
+	private void addWreck(GameObject o)
+	{
+		WorldView wv = o.getWorldView();
+		if (!wv.isTopLevel())
+		{
+			return;
+		}
+
+		LocalPoint lp = o.getLocalLocation();
+		int x = wv.getBaseX() + lp.getSceneX();
+		int y = wv.getBaseY() + lp.getSceneY();
+		int radius = SalvagingHighlight.SIZE_SALVAGEABLE_AREA / 2;
+		addHazard(new HazardGrid.Hazard(HazardGrid.Kind.WRECK, o, x - radius, y - radius, x + radius, y + radius));
+	}
+
+	// clouds drift, so move their hazards along with them
+	private void updateClouds()
+	{
+		for (NPC cloud : clouds)
+		{
+			WorldPoint wp = cloud.getWorldLocation();
+			HazardGrid.Hazard hazard = tracked.get(cloud);
+			if (hazard != null && hazard.getMinX() == wp.getX() - CLOUD_CLEARANCE && hazard.getMinY() == wp.getY() - CLOUD_CLEARANCE)
+			{
+				continue;
+			}
+
+			removeHazard(cloud);
+			addHazard(new HazardGrid.Hazard(
+				HazardGrid.Kind.LIGHTNING_CLOUD,
+				cloud,
+				wp.getX() - CLOUD_CLEARANCE,
+				wp.getY() - CLOUD_CLEARANCE,
+				wp.getX() + CLOUD_CLEARANCE,
+				wp.getY() + CLOUD_CLEARANCE
+			));
+		}
+	}
+
+	private void addHazard(HazardGrid.Hazard hazard)
+	{
+		removeHazard(hazard.getSource());
+		tracked.put(hazard.getSource(), hazard);
+		hazards.add(hazard);
+	}
+
+	private void removeHazard(Object source)
+	{
+		HazardGrid.Hazard hazard = tracked.remove(source);
+		if (hazard != null)
+		{
+			hazards.remove(hazard);
+		}
+	}
+}
@@ -1,18 +1,15 @@
 package com.duckblade.osrs.sailing.features.navigation;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.BoatTracker;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.duckblade.osrs.sailing.model.Boat;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.inject.Inject;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.awt.Polygon;
 import net.runelite.api.Client;
 import net.runelite.api.Constants;
-import net.runelite.api.Perspective;
 import net.runelite.api.WorldEntity;
 import net.runelite.api.WorldEntityConfig;
 import net.runelite.api.coords.LocalPoint;
@@ -26,7 +23,7 @@ public class TrueTileIndicator
 {
 
 	private final Client client;
-	private final BoatTracker boatTracker;
+	private final SailingState sailingState;
 
 	private SailingConfig.TrueTileMode mode;
 	private Color indicatorColor;
@@ -41,10 +38,10 @@ public class TrueTileIndicator
 	}
 
 	@Inject
-	public TrueTileIndicator(Client client, BoatTracker boatTracker)
+	public TrueTileIndicator(Client client, SailingState sailingState)
 	{
 		this.client = client;
-		this.boatTracker = boatTracker;
+		this.sailingState = sailingState;
 
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		setPosition(OverlayPosition.DYNAMIC);
@@ -53,7 +50,8 @@ public class TrueTileIndicator
 	@Override
 	public Dimension render(Graphics2D g)
 	{
-		if (!SailingUtil.isSailing(client))
+		Boat boat = sailingState.getSnapshot().getBoat();
+		if (boat == null)
 		{
 			return null;
 		}
@@ -66,7 +64,6 @@ public class TrueTileIndicator
 
 		g.setColor(indicatorColor);
 
-		Boat boat = boatTracker.getBoat();
 		WorldEntity we = boat.getWorldEntity();
 
 		renderBoatArea(client, g, we.getConfig(), we.getTargetLocation(), we.getTargetOrientation());
@@ -77,48 +74,6 @@ public class TrueTileIndicator
 	// public static so it can be used in SailingDebugRouteOverlay
 	public static void renderBoatArea(Client client, Graphics2D g, WorldEntityConfig wec, LocalPoint lp, int angle)
 	{
-		int boatHalfWidth = wec.getBoundsWidth() / 2;
-		int boatHalfHeight = wec.getBoundsHeight() / 2;
-
-		float[] localCoordsX = new float[]{
-			wec.getBoundsX() + boatHalfWidth,
-			wec.getBoundsX() + boatHalfWidth,
-			wec.getBoundsX() - boatHalfWidth,
-			wec.getBoundsX() - boatHalfWidth
-		};
-
-		float[] localCoordsY = new float[]{
-			wec.getBoundsY() - boatHalfHeight,
-			wec.getBoundsY() + boatHalfHeight,
-			wec.getBoundsY() + boatHalfHeight,
-			wec.getBoundsY() - boatHalfHeight
-		};
-
-		float[] localCoordsZ = new float[]{0, 0, 0, 0};
-
-		int[] canvasXs = new int[4];
-		int[] canvasYs = new int[4];
-
-		Perspective.modelToCanvas(
-			client,
-			client.getTopLevelWorldView(),
-			localCoordsX.length, // end
-			lp.getX(), // x3dCenter
-			lp.getY(), // y3dCenter
-			0, // z3dCenter
-			angle, // rotate
-			localCoordsX, // x3d
-			localCoordsY, // y3d
-			localCoordsZ, // z3d
-			canvasXs, // x2d
-			canvasYs // y2d
-		);
-
-		Polygon canvasPoly = new Polygon();
-		canvasPoly.addPoint(canvasXs[0], canvasYs[0]);
-		canvasPoly.addPoint(canvasXs[1], canvasYs[1]);
-		canvasPoly.addPoint(canvasXs[2], canvasYs[2]);
-		canvasPoly.addPoint(canvasXs[3], canvasYs[3]);
-		g.draw(canvasPoly);
+		BoatFootprint.of(wec).render(client, g, lp.getX(), lp.getY(), angle);
 	}
 }
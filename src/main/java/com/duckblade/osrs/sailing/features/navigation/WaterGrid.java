@@ -0,0 +1,8 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+// plane 0 tile navigability as seen by the pathfinder
+@FunctionalInterface
+interface WaterGrid
+{
+	boolean isNavigable(int x, int y);
+}
@@ -0,0 +1,322 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk store of {@link WaterRegion}s, read through a memory mapping so lookups don't copy regions onto the heap.
+ * <p>
+ * A header of {@link #MAGIC}, {@link #VERSION} and the sorted record count, then fixed-size records of
+ * region id followed by the region's planes. The first sortedCount records are unique and sorted by region id,
+ * any records after them were appended since the last compaction and replace earlier records for the same region.
+ * The mapping only covers what was on disk when the file was opened, regions appended later are served from memory
+ * by the caller until the next session.
+ */
+@Slf4j
+final class WaterMapFile
+	implements Closeable
+{
+
+	static final int MAGIC = 0x53574d50; // SWMP
+	static final int VERSION = 1;
+
+	static final int HEADER_BYTES = 16;
+	static final int RECORD_BYTES = Integer.BYTES + WaterRegion.BYTES;
+
+	// compact on open once appended records make up this much of the file
+	private static final int COMPACT_MIN_APPENDED = 32;
+
+	private final FileChannel channel;
+	private final ByteBuffer map;
+
+	@Getter
+	private final int sortedCount;
+	@Getter
+	private final int appendedCount;
+
+	private long end;
+
+	private WaterMapFile(FileChannel channel, ByteBuffer map, int sortedCount, int appendedCount, long end)
+	{
+		this.channel = channel;
+		this.map = map;
+		this.sortedCount = sortedCount;
+		this.appendedCount = appendedCount;
+		this.end = end;
+	}
+
+	/**
+	 * Opens the file, creating it if it doesn't exist or was written by a different version,
+	 * and compacting it first if enough records have been appended since it was last compacted.
+	 */
+	static WaterMapFile open(File file) throws IOException
+	{
+		if (file.exists() && !isCurrentVersion(file))
+		{
+			// the map is rebuilt from play, so older formats are dropped rather than migrated
+			log.info("Discarding water map {} from an older version", file);
+			Files.delete(file.toPath());
+		}
+
+		if (!file.exists())
+		{
+			create(file);
+		}
+		else
+		{
+			int[] counts = counts(file);
+			if (counts[1] >= COMPACT_MIN_APPENDED && counts[1] * 4 >= counts[0])
+			{
+				try
+				{
+					compact(file);
+				}
+				catch (IOException e)
+				{
+					// e.g. still mapped by a previous plugin start on windows, try again next time
+					log.warn("Failed to compact water map {}", file, e);
+				}
+			}
+		}
+
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try
+		{
+			long size = channel.size();
+			int sorted = readHeader(channel);
+			int appended = (int) ((size - HEADER_BYTES) / RECORD_BYTES) - sorted;
+			long end = HEADER_BYTES + (long) (sorted + appended) * RECORD_BYTES;
+			MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+			return new WaterMapFile(channel, map, sorted, appended, end);
+		}
+		catch (IOException | RuntimeException e)
+		{
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * The offset of the region's planes in the mapping, or -1 if it isn't in the file.
+	 */
+	int find(int regionId)
+	{
+		// newest appended record wins
+		for (int i = sortedCount + appendedCount - 1; i >= sortedCount; i--)
+		{
+			if (map.getInt(recordOffset(i)) == regionId)
+			{
+				return recordOffset(i) + Integer.BYTES;
+			}
+		}
+
+		int lo = 0;
+		int hi = sortedCount - 1;
+		while (lo <= hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			int id = map.getInt(recordOffset(mid));
+			if (id < regionId)
+			{
+				lo = mid + 1;
+			}
+			else if (id > regionId)
+			{
+				hi = mid - 1;
+			}
+			else
+			{
+				return recordOffset(mid) + Integer.BYTES;
+			}
+		}
+		return -1;
+	}
+
+	WaterRegion read(int regionId)
+	{
+		int offset = find(regionId);
+		return offset != -1 ? WaterRegion.read(map, offset) : null;
+	}
+
+	boolean isNavigable(int offset, int x, int y)
+	{
+		return WaterRegion.isNavigable(map, offset, x, y);
+	}
+
+	synchronized void append(int regionId, WaterRegion region) throws IOException
+	{
+		ByteBuffer buf = ByteBuffer.allocate(RECORD_BYTES);
+		buf.putInt(regionId);
+		region.write(buf);
+		buf.flip();
+		while (buf.hasRemaining())
+		{
+			end += channel.write(buf, end);
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		channel.close();
+	}
+
+	/**
+	 * Merges appended records into the sorted section, keeping the newest record for each region.
+	 * Streams records between files, so only the appended records' ids are held in memory.
+	 */
+	static void compact(File file) throws IOException
+	{
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			 FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+		{
+			int sorted = readHeader(in);
+			int total = (int) ((in.size() - HEADER_BYTES) / RECORD_BYTES);
+
+			// appended records as (region id, record index), sorted so the newest record for a region ends each run
+			long[] appended = new long[total - sorted];
+			ByteBuffer id = ByteBuffer.allocate(Integer.BYTES);
+			for (int i = sorted; i < total; i++)
+			{
+				appended[i - sorted] = (long) readInt(in, id, recordOffset(i)) << 32 | i;
+			}
+			Arrays.sort(appended);
+
+			int appendedCount = 0;
+			for (int i = 0; i < appended.length; i++)
+			{
+				if (i == appended.length - 1 || (appended[i] >> 32) != (appended[i + 1] >> 32))
+				{
+					appended[appendedCount++] = appended[i];
+				}
+			}
+
+			long pos = HEADER_BYTES;
+			int written = 0;
+			int a = 0;
+			for (int s = 0; s < sorted || a < appendedCount; )
+			{
+				int sortedId = s < sorted ? readInt(in, id, recordOffset(s)) : Integer.MAX_VALUE;
+				int appendedId = a < appendedCount ? (int) (appended[a] >> 32) : Integer.MAX_VALUE;
+
+				int record;
+				if (a < appendedCount && appendedId <= sortedId)
+				{
+					record = (int) appended[a++];
+					if (appendedId == sortedId)
+					{
+						s++;
+					}
+				}
+				else
+				{
+					record = s++;
+				}
+
+				pos += transfer(in, recordOffset(record), out, pos);
+				written++;
+			}
+
+			writeHeader(out, written);
+			out.force(true);
+		}
+
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static void create(File file) throws IOException
+	{
+		try (FileChannel out = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))
+		{
+			writeHeader(out, 0);
+		}
+	}
+
+	private static boolean isCurrentVersion(File file) throws IOException
+	{
+		try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			if (in.read(header, 0) < HEADER_BYTES)
+			{
+				return false;
+			}
+			return header.getInt(0) == MAGIC && (header.getShort(4) & 0xFFFF) == VERSION;
+		}
+	}
+
+	// sorted and appended record counts
+	private static int[] counts(File file) throws IOException
+	{
+		try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			int sorted = readHeader(in);
+			int total = (int) ((in.size() - HEADER_BYTES) / RECORD_BYTES);
+			return new int[]{sorted, total - sorted};
+		}
+	}
+
+	private static int readHeader(FileChannel in) throws IOException
+	{
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		if (in.read(header, 0) < HEADER_BYTES || header.getInt(0) != MAGIC)
+		{
+			throw new IOException("not a water map");
+		}
+		return header.getInt(8);
+	}
+
+	private static void writeHeader(FileChannel out, int sortedCount) throws IOException
+	{
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		header.putInt(MAGIC);
+		header.putShort((short) VERSION);
+		header.putShort((short) 0);
+		header.putInt(sortedCount);
+		header.putInt(0);
+		header.flip();
+		while (header.hasRemaining())
+		{
+			out.write(header, header.position());
+		}
+	}
+
+	private static int readInt(FileChannel in, ByteBuffer buf, long pos) throws IOException
+	{
+		buf.clear();
+		while (buf.hasRemaining())
+		{
+			if (in.read(buf, pos + buf.position()) < 0)
+			{
+				throw new IOException("unexpected end of water map");
+			}
+		}
+		return buf.getInt(0);
+	}
+
+	private static long transfer(FileChannel in, long from, FileChannel out, long to) throws IOException
+	{
+		long done = 0;
+		while (done < RECORD_BYTES)
+		{
+			done += in.transferTo(from + done, RECORD_BYTES - done, out.position(to + done));
+		}
+		return done;
+	}
+
+	private static int recordOffset(int index)
+	{
+		return HEADER_BYTES + index * RECORD_BYTES;
+	}
+}
@@ -0,0 +1,249 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * 8-connected A* over a {@link WaterGrid}, searching a window around the start and goal.
+ * Corners can't be cut, and when the goal can't be reached (e.g. it's on land) the path ends
+ * at the reached tile closest to it. The tile path is reduced to straight legs between waypoints.
+ */
+final class WaterPathfinder
+{
+
+	// how far a path may stray outside the start/goal bounding box
+	static final int MARGIN = 48;
+	static final int MAX_SPAN = 768;
+
+	private static final int MAX_EXPANSIONS = 250_000;
+
+	private static final int STRAIGHT = 10;
+	private static final int DIAGONAL = 14;
+
+	private static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+	private static final int[] DY = {0, 0, 1, -1, 1, -1, 1, -1};
+
+	private WaterPathfinder()
+	{
+	}
+
+	/**
+	 * @return waypoints after the start, ending at the goal or the closest reachable tile to it,
+	 * or null if the two points are too far apart to search
+	 */
+	static List<WorldPoint> findPath(WaterGrid grid, WorldPoint start, WorldPoint goal)
+	{
+		int sx = start.getX();
+		int sy = start.getY();
+		int gx = goal.getX();
+		int gy = goal.getY();
+
+		int minX = Math.min(sx, gx) - MARGIN;
+		int minY = Math.min(sy, gy) - MARGIN;
+		int w = Math.abs(sx - gx) + 2 * MARGIN + 1;
+		int h = Math.abs(sy - gy) + 2 * MARGIN + 1;
+		if (w > MAX_SPAN || h > MAX_SPAN)
+		{
+			return null;
+		}
+
+		int size = w * h;
+		int[] cost = new int[size];
+		int[] parent = new int[size];
+		boolean[] closed = new boolean[size];
+		Arrays.fill(cost, Integer.MAX_VALUE);
+
+		int startNode = (sy - minY) * w + (sx - minX);
+		int goalNode = (gy - minY) * w + (gx - minX);
+		cost[startNode] = 0;
+		parent[startNode] = -1;
+
+		Heap open = new Heap();
+		open.push(startNode, heuristic(sx, sy, gx, gy));
+
+		int best = startNode;
+		int bestH = heuristic(sx, sy, gx, gy);
+		int expansions = 0;
+		while (open.size > 0 && expansions++ < MAX_EXPANSIONS)
+		{
+			int node = open.pop();
+			if (closed[node])
+			{
+				continue;
+			}
+			closed[node] = true;
+
+			int x = node % w;
+			int y = node / w;
+			int hx = heuristic(x + minX, y + minY, gx, gy);
+			if (hx < bestH)
+			{
+				best = node;
+				bestH = hx;
+			}
+			if (node == goalNode)
+			{
+				break;
+			}
+
+			for (int d = 0; d < DX.length; d++)
+			{
+				int nx = x + DX[d];
+				int ny = y + DY[d];
+				if (nx < 0 || ny < 0 || nx >= w || ny >= h || !grid.isNavigable(nx + minX, ny + minY))
+				{
+					continue;
+				}
+
+				boolean diagonal = d >= 4;
+				if (diagonal && (!grid.isNavigable(nx + minX, y + minY) || !grid.isNavigable(x + minX, ny + minY)))
+				{
+					continue;
+				}
+
+				int next = ny * w + nx;
+				int nextCost = cost[node] + (diagonal ? DIAGONAL : STRAIGHT);
+				if (!closed[next] && nextCost < cost[next])
+				{
+					cost[next] = nextCost;
+					parent[next] = node;
+					open.push(next, nextCost + heuristic(nx + minX, ny + minY, gx, gy));
+				}
+			}
+		}
+
+		// walk back to the start, then trim the tile path to legs with a clear line between them
+		int length = 0;
+		for (int n = best; n != startNode; n = parent[n])
+		{
+			length++;
+		}
+		int[] tiles = new int[length + 1];
+		for (int n = best, i = length; i >= 0; n = parent[n], i--)
+		{
+			tiles[i] = n;
+		}
+
+		List<WorldPoint> waypoints = new ArrayList<>();
+		int anchor = 0;
+		while (anchor < length)
+		{
+			int reach = anchor + 1;
+			while (reach < length && clearLine(grid, tiles[anchor], tiles[reach + 1], w, minX, minY))
+			{
+				reach++;
+			}
+
+			waypoints.add(new WorldPoint(tiles[reach] % w + minX, tiles[reach] / w + minY, start.getPlane()));
+			anchor = reach;
+		}
+		return waypoints;
+	}
+
+	// octile distance in the same units as the move costs
+	private static int heuristic(int x, int y, int gx, int gy)
+	{
+		int dx = Math.abs(x - gx);
+		int dy = Math.abs(y - gy);
+		return STRAIGHT * Math.max(dx, dy) + (DIAGONAL - STRAIGHT) * Math.min(dx, dy);
+	}
+
+	// bresenham between two nodes, every tile on the line must be navigable
+	private static boolean clearLine(WaterGrid grid, int from, int to, int w, int minX, int minY)
+	{
+		int x = from % w + minX;
+		int y = from / w + minY;
+		int x1 = to % w + minX;
+		int y1 = to / w + minY;
+		int dx = Math.abs(x1 - x);
+		int dy = -Math.abs(y1 - y);
+		int stepX = x < x1 ? 1 : -1;
+		int stepY = y < y1 ? 1 : -1;
+		int err = dx + dy;
+		while (x != x1 || y != y1)
+		{
+			int e2 = 2 * err;
+			if (e2 >= dy)
+			{
+				err += dy;
+				x += stepX;
+			}
+			if (e2 <= dx)
+			{
+				err += dx;
+				y += stepY;
+			}
+
+			if (!grid.isNavigable(x, y))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// binary min-heap of nodes by f-score, stale entries are skipped by the closed check
+	private static final class Heap
+	{
+		private int[] nodes = new int[256];
+		private int[] keys = new int[256];
+		private int size;
+
+		void push(int node, int key)
+		{
+			if (size == nodes.length)
+			{
+				nodes = Arrays.copyOf(nodes, size * 2);
+				keys = Arrays.copyOf(keys, size * 2);
+			}
+
+			int i = size++;
+			while (i > 0)
+			{
+				int p = (i - 1) >>> 1;
+				if (keys[p] <= key)
+				{
+					break;
+				}
+				nodes[i] = nodes[p];
+				keys[i] = keys[p];
+				i = p;
+			}
+			nodes[i] = node;
+			keys[i] = key;
+		}
+
+		int pop()
+		{
+			int top = nodes[0];
+			int node = nodes[--size];
+			int key = keys[size];
+
+			int i = 0;
+			while (true)
+			{
+				int c = 2 * i + 1;
+				if (c >= size)
+				{
+					break;
+				}
+				if (c + 1 < size && keys[c + 1] < keys[c])
+				{
+					c++;
+				}
+				if (keys[c] >= key)
+				{
+					break;
+				}
+				nodes[i] = nodes[c];
+				keys[i] = keys[c];
+				i = c;
+			}
+			nodes[i] = node;
+			keys[i] = key;
+			return top;
+		}
+	}
+}
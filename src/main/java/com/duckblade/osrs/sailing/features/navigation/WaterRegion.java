@@ -0,0 +1,156 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Navigability of one 64x64 map region on plane 0, one bit per tile in each of four planes:
+ * whether the tile has been seen, whether a boat can sail on it, rapids, and hazards (obstacles standing in water).
+ * Tiles that haven't been seen yet are treated as navigable so routes through unexplored sea stay straight.
+ * Instances are not modified once they've been handed to a {@link NavigableWaterMap}.
+ */
+final class WaterRegion
+{
+
+	static final int SIZE = 64;
+	static final int WORDS = SIZE * SIZE / Long.SIZE;
+
+	// serialized planes in this order, see WaterMapFile
+	static final int PLANE_KNOWN = 0;
+	static final int PLANE_NAVIGABLE = 1;
+	static final int PLANE_RAPIDS = 2;
+	static final int PLANE_HAZARD = 3;
+	static final int PLANES = 4;
+	static final int BYTES = PLANES * WORDS * Long.BYTES;
+
+	private final long[][] planes;
+
+	WaterRegion()
+	{
+		this(new long[PLANES][WORDS]);
+	}
+
+	private WaterRegion(long[][] planes)
+	{
+		this.planes = planes;
+	}
+
+	// matches WorldPoint#getRegionID
+	static int regionId(int x, int y)
+	{
+		return (x >> 6) << 8 | (y >> 6);
+	}
+
+	static int bit(int x, int y)
+	{
+		return (y & (SIZE - 1)) << 6 | (x & (SIZE - 1));
+	}
+
+	boolean isNavigable(int x, int y)
+	{
+		int bit = bit(x, y);
+		long mask = 1L << bit;
+		return (planes[PLANE_KNOWN][bit >>> 6] & mask) == 0 || (planes[PLANE_NAVIGABLE][bit >>> 6] & mask) != 0;
+	}
+
+	boolean isKnown(int x, int y)
+	{
+		return get(PLANE_KNOWN, x, y);
+	}
+
+	boolean isRapids(int x, int y)
+	{
+		return get(PLANE_RAPIDS, x, y);
+	}
+
+	boolean isHazard(int x, int y)
+	{
+		return get(PLANE_HAZARD, x, y);
+	}
+
+	// returns true if the tile changed
+	boolean set(int x, int y, boolean navigable, boolean hazard)
+	{
+		boolean changed = put(PLANE_KNOWN, x, y, true);
+		changed |= put(PLANE_NAVIGABLE, x, y, navigable);
+		changed |= put(PLANE_HAZARD, x, y, hazard);
+		return changed;
+	}
+
+	boolean setRapids(int x, int y)
+	{
+		return put(PLANE_RAPIDS, x, y, true);
+	}
+
+	WaterRegion copy()
+	{
+		long[][] copy = new long[PLANES][];
+		for (int p = 0; p < PLANES; p++)
+		{
+			copy[p] = planes[p].clone();
+		}
+		return new WaterRegion(copy);
+	}
+
+	void write(ByteBuffer out)
+	{
+		for (long[] plane : planes)
+		{
+			for (long word : plane)
+			{
+				out.putLong(word);
+			}
+		}
+	}
+
+	static WaterRegion read(ByteBuffer in, int offset)
+	{
+		long[][] planes = new long[PLANES][WORDS];
+		for (int p = 0; p < PLANES; p++)
+		{
+			for (int w = 0; w < WORDS; w++)
+			{
+				planes[p][w] = in.getLong(offset + (p * WORDS + w) * Long.BYTES);
+			}
+		}
+		return new WaterRegion(planes);
+	}
+
+	// reads a single tile's navigability from a serialized region without copying it
+	static boolean isNavigable(ByteBuffer in, int offset, int x, int y)
+	{
+		int bit = bit(x, y);
+		long mask = 1L << bit;
+		long known = in.getLong(offset + (PLANE_KNOWN * WORDS + (bit >>> 6)) * Long.BYTES);
+		long navigable = in.getLong(offset + (PLANE_NAVIGABLE * WORDS + (bit >>> 6)) * Long.BYTES);
+		return (known & mask) == 0 || (navigable & mask) != 0;
+	}
+
+	private boolean get(int plane, int x, int y)
+	{
+		int bit = bit(x, y);
+		return (planes[plane][bit >>> 6] & (1L << bit)) != 0;
+	}
+
+	private boolean put(int plane, int x, int y, boolean value)
+	{
+		int bit = bit(x, y);
+		long[] words = planes[plane];
+		long before = words[bit >>> 6];
+		long after = value ? before | (1L << bit) : before & ~(1L << bit);
+		words[bit >>> 6] = after;
+		return before != after;
+	}
+
+	@Override
+	public boolean equals(Object o)
+	{
+		return o instanceof WaterRegion && Arrays.deepEquals(planes, ((WaterRegion) o).planes);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Arrays.deepHashCode(planes);
+	}
+}
@@ -0,0 +1,30 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.ui.overlay.worldmap.WorldMapPoint;
+
+public class WaterRouteWorldMapPoint extends WorldMapPoint
+{
+
+	private static final BufferedImage DOT = dot();
+
+	public WaterRouteWorldMapPoint(WorldPoint worldPoint)
+	{
+		super(worldPoint, DOT);
+	}
+
+	private static BufferedImage dot()
+	{
+		BufferedImage image = new BufferedImage(6, 6, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		g.setColor(Color.ORANGE);
+		g.fillOval(0, 0, 6, 6);
+		g.dispose();
+		return image;
+	}
+}
@@ -0,0 +1,239 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.overlay.worldmap.WorldMapPointManager;
+
+/**
+ * Routes from the boat to destinations that overlays are pointing at, around land the {@link NavigableWaterMap} knows about.
+ * Overlays ask for {@link #nextWaypoint} each frame; paths are searched on the executor and kept up to date
+ * as the boat moves, only searching again when the boat leaves the current leg or the water map changes.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class WaterRouter
+	implements PluginLifecycleComponent
+{
+
+	// routes nobody has asked for in this many ticks are dropped
+	private static final int EXPIRE_TICKS = 5;
+
+	// a waypoint counts as reached within this many tiles
+	private static final int ARRIVE_DISTANCE = 3;
+
+	// how far off the current leg the boat can drift before searching again
+	private static final int REPLAN_DEVIATION = 6;
+
+	private static final int MAP_DOT_SPACING = 6;
+
+	private final Client client;
+	private final ClientThread clientThread;
+	private final ScheduledExecutorService executor;
+	private final WorldMapPointManager worldMapPointManager;
+	private final NavigableWaterMap waterMap;
+	private final SailingState sailingState;
+
+	private final Map<WorldPoint, Route> routes = new HashMap<>();
+
+	private boolean active;
+	private boolean showOnWorldMap;
+
+	private static class Route
+	{
+		int lastRequested;
+		boolean searching;
+
+		// null until the first search completes
+		List<WorldPoint> waypoints;
+		int next;
+		WorldPoint legStart;
+		int revision;
+	}
+
+	@Override
+	public boolean isEnabled(SailingConfig config)
+	{
+		showOnWorldMap = config.navigationWaterRouteWorldMap();
+		return config.navigationWaterRouting();
+	}
+
+	@Override
+	public void startUp()
+	{
+		active = true;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		active = false;
+		routes.clear();
+		worldMapPointManager.removeIf(p -> p instanceof WaterRouteWorldMapPoint);
+	}
+
+	/**
+	 * Where to point the boat to get to the destination,
+	 * which is the destination itself until a route has been found or when routing is off.
+	 */
+	public WorldPoint nextWaypoint(WorldPoint destination)
+	{
+		if (!active || destination == null || !sailingState.getSnapshot().isSailing())
+		{
+			return destination;
+		}
+
+		Route route = routes.computeIfAbsent(destination, k -> new Route());
+		route.lastRequested = client.getTickCount();
+		if (route.waypoints == null || route.next >= route.waypoints.size())
+		{
+			return destination;
+		}
+		return route.waypoints.get(route.next);
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick e)
+	{
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		WorldPoint boat = state.getTopLevelWorldPoint();
+		if (!state.isSailing() || boat == null)
+		{
+			if (!routes.isEmpty())
+			{
+				routes.clear();
+				updateWorldMap();
+			}
+			return;
+		}
+
+		boolean removed = false;
+		for (Iterator<Map.Entry<WorldPoint, Route>> it = routes.entrySet().iterator(); it.hasNext(); )
+		{
+			Map.Entry<WorldPoint, Route> entry = it.next();
+			Route route = entry.getValue();
+			if (client.getTickCount() - route.lastRequested > EXPIRE_TICKS)
+			{
+				it.remove();
+				removed |= route.waypoints != null;
+				continue;
+			}
+
+			if (route.searching)
+			{
+				continue;
+			}
+
+			if (route.waypoints == null || route.revision != waterMap.getRevision() || !advance(route, boat))
+			{
+				search(entry.getKey(), route, boat);
+			}
+		}
+
+		if (removed)
+		{
+			updateWorldMap();
+		}
+	}
+
+	// moves past reached waypoints, false if the boat has left the route
+	private static boolean advance(Route route, WorldPoint boat)
+	{
+		List<WorldPoint> waypoints = route.waypoints;
+		while (route.next < waypoints.size() - 1 && waypoints.get(route.next).distanceTo2D(boat) <= ARRIVE_DISTANCE)
+		{
+			route.legStart = waypoints.get(route.next);
+			route.next++;
+		}
+
+		return route.next >= waypoints.size() ||
+			distanceToSegment(boat, route.legStart, waypoints.get(route.next)) <= REPLAN_DEVIATION;
+	}
+
+	private void search(WorldPoint destination, Route route, WorldPoint boat)
+	{
+		route.searching = true;
+		WaterGrid grid = waterMap.snapshot();
+		int revision = waterMap.getRevision();
+		executor.execute(() ->
+		{
+			long start = System.nanoTime();
+			List<WorldPoint> path = WaterPathfinder.findPath(grid, boat, destination);
+			log.debug("water route {} -> {} found {} waypoints in {}us", boat, destination, path != null ? path.size() : -1, (System.nanoTime() - start) / 1000);
+
+			clientThread.invokeLater(() ->
+			{
+				route.searching = false;
+				if (routes.get(destination) != route)
+				{
+					return;
+				}
+
+				// too far to search, point straight at it and try again once the water map changes
+				route.waypoints = path != null ? path : List.of(destination);
+				route.next = 0;
+				route.legStart = boat;
+				route.revision = revision;
+				updateWorldMap();
+			});
+		});
+	}
+
+	private void updateWorldMap()
+	{
+		worldMapPointManager.removeIf(p -> p instanceof WaterRouteWorldMapPoint);
+		if (!showOnWorldMap)
+		{
+			return;
+		}
+
+		for (Route route : routes.values())
+		{
+			if (route.waypoints == null)
+			{
+				continue;
+			}
+
+			WorldPoint from = route.legStart;
+			for (int i = route.next; i < route.waypoints.size(); i++)
+			{
+				WorldPoint to = route.waypoints.get(i);
+				int steps = Math.max(1, from.distanceTo2D(to) / MAP_DOT_SPACING);
+				for (int s = 1; s <= steps; s++)
+				{
+					worldMapPointManager.add(new WaterRouteWorldMapPoint(new WorldPoint(
+						from.getX() + (to.getX() - from.getX()) * s / steps,
+						from.getY() + (to.getY() - from.getY()) * s / steps,
+						to.getPlane()
+					)));
+				}
+				from = to;
+			}
+		}
+	}
+
+	private static double distanceToSegment(WorldPoint p, WorldPoint a, WorldPoint b)
+	{
+		double dx = b.getX() - a.getX();
+		double dy = b.getY() - a.getY();
+		double len2 = dx * dx + dy * dy;
+		double t = len2 == 0 ? 0 : ((p.getX() - a.getX()) * dx + (p.getY() - a.getY()) * dy) / len2;
+		t = Math.max(0, Math.min(1, t));
+		return Math.hypot(p.getX() - (a.getX() + t * dx), p.getY() - (a.getY() + t * dy));
+	}
+}
@@ -1,25 +1,23 @@
 package com.duckblade.osrs.sailing.features.salvaging;
 
 import com.duckblade.osrs.sailing.SailingConfig;
-import com.duckblade.osrs.sailing.features.util.SailingUtil;
+import com.duckblade.osrs.sailing.features.util.ProjectionCache;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.features.util.SceneBuckets;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
 import com.google.common.collect.ImmutableMap;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
-import net.runelite.api.Perspective;
 import net.runelite.api.Skill;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.client.eventbus.Subscribe;
@@ -35,9 +33,9 @@ public class SalvagingHighlight
 	implements PluginLifecycleComponent
 {
 
-	private static final int SIZE_SALVAGEABLE_AREA = 15;
+	public static final int SIZE_SALVAGEABLE_AREA = 15;
 
-	private static final Map<Integer, Integer> SALVAGE_LEVEL_REQ = ImmutableMap.<Integer, Integer>builder()
+	public static final Map<Integer, Integer> SALVAGE_LEVEL_REQ = ImmutableMap.<Integer, Integer>builder()
 		.put(ObjectID.SAILING_SMALL_SHIPWRECK, 15)
 		.put(ObjectID.SAILING_FISHERMAN_SHIPWRECK, 26)
 		.put(ObjectID.SAILING_BARRACUDA_SHIPWRECK, 35)
@@ -48,7 +46,7 @@ public class SalvagingHighlight
 		.put(ObjectID.SAILING_MERCHANT_SHIPWRECK, 87)
 		.build();
 
-	private static final Map<Integer, Integer> STUMP_LEVEL_REQ = ImmutableMap.<Integer, Integer>builder()
+	public static final Map<Integer, Integer> STUMP_LEVEL_REQ = ImmutableMap.<Integer, Integer>builder()
 		.put(ObjectID.SAILING_SMALL_SHIPWRECK_STUMP, 15)
 		.put(ObjectID.SAILING_FISHERMAN_SHIPWRECK_STUMP, 26)
 		.put(ObjectID.SAILING_BARRACUDA_SHIPWRECK_STUMP, 35)
@@ -60,9 +58,12 @@ public class SalvagingHighlight
 		.build();
 
 	private final Client client;
+	private final SailingState sailingState;
+	private final GameObjectRouter gameObjectRouter;
+	private final ProjectionCache projectionCache;
 
-	private final Set<GameObject> wrecks = new HashSet<>();
-	private final Set<GameObject> stumps = new HashSet<>();
+	private final SceneBuckets<GameObject> wrecks = new SceneBuckets<>(GameObject::getWorldLocation);
+	private final SceneBuckets<GameObject> stumps = new SceneBuckets<>(GameObject::getWorldLocation);
 
 	private boolean activeWrecks;
 	private Color activeColour;
@@ -72,9 +73,12 @@ public class SalvagingHighlight
 	private Color highLevelColour;
 
 	@Inject
-	public SalvagingHighlight(Client client)
+	public SalvagingHighlight(Client client, SailingState sailingState, GameObjectRouter gameObjectRouter, ProjectionCache projectionCache)
 	{
 		this.client = client;
+		this.sailingState = sailingState;
+		this.gameObjectRouter = gameObjectRouter;
+		this.projectionCache = projectionCache;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -93,6 +97,13 @@ public class SalvagingHighlight
 		return activeWrecks || inactiveWrecks || highLevelWrecks;
 	}
 
+	@Override
+	public void startUp()
+	{
+		gameObjectRouter.register(this, SALVAGE_LEVEL_REQ.keySet(), wrecks::add, wrecks::remove);
+		gameObjectRouter.register(this, STUMP_LEVEL_REQ.keySet(), stumps::add, stumps::remove);
+	}
+
 	@Override
 	public void shutDown()
 	{
@@ -103,62 +114,44 @@ public class SalvagingHighlight
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		if (!SailingUtil.isSailing(client))
+		if (!sailingState.getSnapshot().isSailing())
 		{
 			return null;
 		}
 
 		int sailingLevel = client.getBoostedSkillLevel(Skill.SAILING);
 
-		for (GameObject wreck : wrecks)
+		// the area reaches half its size past the wreck
+		int margin = SIZE_SALVAGEABLE_AREA / 2 + 1;
+		projectionCache.forEachVisible(wrecks, margin, wreck ->
 		{
 			boolean hasReq = sailingLevel >= SALVAGE_LEVEL_REQ.get(wreck.getId());
 			if ((hasReq && activeWrecks) || (!hasReq && highLevelWrecks))
 			{
 				renderWreck(graphics, wreck, hasReq ? activeColour : highLevelColour);
 			}
-		}
-		for (GameObject wreck : stumps)
+		});
+		projectionCache.forEachVisible(stumps, margin, wreck ->
 		{
 			boolean hasReq = sailingLevel >= STUMP_LEVEL_REQ.get(wreck.getId());
 			if ((hasReq && inactiveWrecks) || (!hasReq && highLevelWrecks))
 			{
 				renderWreck(graphics, wreck, hasReq ? inactiveColour : highLevelColour);
 			}
-		}
+		});
 
 		return null;
 	}
 
 	private void renderWreck(Graphics2D graphics, GameObject wreck, Color colour)
 	{
-		Polygon poly = Perspective.getCanvasTileAreaPoly(client, wreck.getLocalLocation(), SIZE_SALVAGEABLE_AREA);
+		Polygon poly = projectionCache.getTileAreaPoly(wreck.getLocalLocation(), SIZE_SALVAGEABLE_AREA);
 		if (poly != null)
 		{
 			OverlayUtil.renderPolygon(graphics, poly, colour);
 		}
 	}
 
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
-	{
-		if (SALVAGE_LEVEL_REQ.containsKey(e.getGameObject().getId()))
-		{
-			wrecks.add(e.getGameObject());
-		}
-		else if (STUMP_LEVEL_REQ.containsKey(e.getGameObject().getId()))
-		{
-			stumps.add(e.getGameObject());
-		}
-	}
-
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
-	{
-		wrecks.remove(e.getGameObject());
-		stumps.remove(e.getGameObject());
-	}
-
 	@Subscribe
 	public void onWorldViewUnloaded(WorldViewUnloaded e)
 	{
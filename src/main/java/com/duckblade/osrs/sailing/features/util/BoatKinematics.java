@@ -0,0 +1,101 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Samples every tracked boat once per tick into a {@link BoatMotion},
+ * shared by anything that needs speed/heading/turn rate instead of each tracking positions itself.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BoatKinematics
+	implements PluginLifecycleComponent
+{
+
+	private final Client client;
+	private final BoatTracker boatTracker;
+
+	// keyed by boat world view id
+	private final IntObjectMap<BoatMotion> motions = new IntObjectMap<>();
+
+	@Override
+	public void shutDown()
+	{
+		motions.clear();
+	}
+
+	// null until the boat has been sampled
+	public BoatMotion getMotion(Boat boat)
+	{
+		return boat != null ? motions.get(boat.getWorldViewId()) : null;
+	}
+
+	public BoatMotion getMotion()
+	{
+		return getMotion(boatTracker.getBoat());
+	}
+
+	// after SailingState refreshes, before consumers handle the tick
+	@Subscribe(priority = 98)
+	public void onGameTick(GameTick e)
+	{
+		WorldView tlwv = client.getTopLevelWorldView();
+		if (tlwv == null)
+		{
+			return;
+		}
+
+		// scene base in local units, so samples stay comparable across scene loads
+		int baseX = tlwv.getScene().getBaseX() * Perspective.LOCAL_TILE_SIZE;
+		int baseY = tlwv.getScene().getBaseY() * Perspective.LOCAL_TILE_SIZE;
+		int tick = client.getTickCount();
+
+		for (Boat boat : boatTracker.getBoats())
+		{
+			WorldEntity we = boat.getWorldEntity();
+			LocalPoint lp = we.getTargetLocation();
+			if (lp == null)
+			{
+				continue;
+			}
+
+			BoatMotion motion = motions.get(boat.getWorldViewId());
+			if (motion == null)
+			{
+				motion = new BoatMotion();
+				motions.put(boat.getWorldViewId(), motion);
+			}
+			motion.add(tick, baseX + lp.getX(), baseY + lp.getY(), we.getTargetOrientation());
+		}
+
+		// drop boats that despawned, collected first since removing shifts slots
+		if (motions.size() > boatTracker.getBoats().size())
+		{
+			int[] stale = new int[motions.size()];
+			int count = 0;
+			for (int slot = 0; slot < motions.capacity(); slot++)
+			{
+				if (motions.valueAt(slot) != null && boatTracker.getBoat(motions.keyAt(slot)) == null)
+				{
+					stale[count++] = motions.keyAt(slot);
+				}
+			}
+
+			for (int i = 0; i < count; i++)
+			{
+				motions.remove(stale[i]);
+			}
+		}
+	}
+}
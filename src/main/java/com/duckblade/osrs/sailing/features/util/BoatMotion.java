@@ -0,0 +1,188 @@
+package com.duckblade.osrs.sailing.features.util;
+
+/**
+ * Ring buffer of per-tick (tick, x, y, orientation) samples for one boat, with the derived speed,
+ * acceleration, turn rate and smoothed heading updated as each sample is added so readers only load fields.
+ * Positions are absolute local units (128 per tile) so they survive scene base changes,
+ * orientations are jau (2048 per turn). Not thread safe, used from the client thread.
+ */
+public final class BoatMotion
+{
+
+	public static final int CAPACITY = 16;
+
+	// speed and turn rate are averaged over up to this many ticks
+	static final int WINDOW = 4;
+
+	// a gap or jump larger than this is a teleport/relog, not movement
+	static final int MAX_TICK_GAP = 5;
+	static final int MAX_STEP = 16 * 128;
+
+	private static final double HEADING_ALPHA = 0.5;
+	private static final double JAU_TO_RAD = Math.PI * 2 / 2048;
+
+	private final int[] ticks = new int[CAPACITY];
+	private final int[] xs = new int[CAPACITY];
+	private final int[] ys = new int[CAPACITY];
+	private final int[] orientations = new int[CAPACITY];
+
+	// index of the newest sample
+	private int head = -1;
+	private int size;
+
+	// local units per tick
+	private double velocityX;
+	private double velocityY;
+	private double speed;
+	private double acceleration;
+	// jau per tick, positive is anticlockwise
+	private double turnRate;
+
+	private double headingSin;
+	private double headingCos;
+	private int heading;
+
+	public void add(int tick, int x, int y, int orientation)
+	{
+		if (size > 0)
+		{
+			int newest = head;
+			if (tick == ticks[newest])
+			{
+				// resampled on the same tick, keep the latest values
+				size--;
+				head = (head + CAPACITY - 1) % CAPACITY;
+			}
+			else if (tick < ticks[newest] || tick - ticks[newest] > MAX_TICK_GAP ||
+				Math.abs(x - xs[newest]) > MAX_STEP || Math.abs(y - ys[newest]) > MAX_STEP)
+			{
+				clear();
+			}
+		}
+
+		head = (head + 1) % CAPACITY;
+		ticks[head] = tick;
+		xs[head] = x;
+		ys[head] = y;
+		orientations[head] = orientation & 2047;
+		size = Math.min(size + 1, CAPACITY);
+
+		update();
+	}
+
+	public void clear()
+	{
+		head = -1;
+		size = 0;
+		velocityX = velocityY = speed = acceleration = turnRate = 0;
+		headingSin = headingCos = 0;
+		heading = 0;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	// age 0 is the newest sample
+	public int getTick(int age)
+	{
+		return ticks[index(age)];
+	}
+
+	public int getX(int age)
+	{
+		return xs[index(age)];
+	}
+
+	public int getY(int age)
+	{
+		return ys[index(age)];
+	}
+
+	public int getOrientation(int age)
+	{
+		return orientations[index(age)];
+	}
+
+	public double getVelocityX()
+	{
+		return velocityX;
+	}
+
+	public double getVelocityY()
+	{
+		return velocityY;
+	}
+
+	// local units per tick
+	public double getSpeed()
+	{
+		return speed;
+	}
+
+	// local units per tick per tick
+	public double getAcceleration()
+	{
+		return acceleration;
+	}
+
+	public double getTurnRate()
+	{
+		return turnRate;
+	}
+
+	// exponentially smoothed orientation, in jau
+	public int getHeading()
+	{
+		return heading;
+	}
+
+	private int index(int age)
+	{
+		if (age < 0 || age >= size)
+		{
+			throw new IndexOutOfBoundsException("age " + age + " of " + size);
+		}
+		return (head - age + CAPACITY) % CAPACITY;
+	}
+
+	private void update()
+	{
+		double angle = orientations[head] * JAU_TO_RAD;
+		if (size == 1)
+		{
+			headingSin = Math.sin(angle);
+			headingCos = Math.cos(angle);
+		}
+		else
+		{
+			// averaged as a unit vector so 2047 -> 0 doesn't swing the heading the long way round
+			headingSin += HEADING_ALPHA * (Math.sin(angle) - headingSin);
+			headingCos += HEADING_ALPHA * (Math.cos(angle) - headingCos);
+		}
+		heading = (int) Math.round(Math.atan2(headingSin, headingCos) / JAU_TO_RAD) & 2047;
+
+		double previousSpeed = speed;
+		int previousTick = size > 1 ? ticks[index(1)] : ticks[head];
+		if (size == 1)
+		{
+			velocityX = velocityY = speed = acceleration = turnRate = 0;
+			return;
+		}
+
+		int oldest = index(Math.min(WINDOW, size - 1));
+		int dt = ticks[head] - ticks[oldest];
+		velocityX = (double) (xs[head] - xs[oldest]) / dt;
+		velocityY = (double) (ys[head] - ys[oldest]) / dt;
+		speed = Math.hypot(velocityX, velocityY);
+		acceleration = (speed - previousSpeed) / (ticks[head] - previousTick);
+		turnRate = (double) angleBetween(orientations[oldest], orientations[head]) / dt;
+	}
+
+	// signed shortest rotation from a to b, in jau
+	static int angleBetween(int a, int b)
+	{
+		return ((b - a + 1024) & 2047) - 1024;
+	}
+}
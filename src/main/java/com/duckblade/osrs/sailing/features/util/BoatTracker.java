@@ -1,12 +1,11 @@
 package com.duckblade.osrs.sailing.features.util;
 
 import com.duckblade.osrs.sailing.model.Boat;
-import com.duckblade.osrs.sailing.model.CargoHoldTier;
-import com.duckblade.osrs.sailing.model.HelmTier;
-import com.duckblade.osrs.sailing.model.HullTier;
-import com.duckblade.osrs.sailing.model.SailTier;
-import com.duckblade.osrs.sailing.model.SalvagingHookTier;
+import com.duckblade.osrs.sailing.model.FacilityIndex;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
 import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import javax.inject.Inject;
@@ -17,8 +16,6 @@ import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.WorldEntity;
 import net.runelite.api.WorldView;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.WorldEntityDespawned;
 import net.runelite.api.events.WorldEntitySpawned;
 import net.runelite.client.eventbus.Subscribe;
@@ -32,6 +29,13 @@ public class BoatTracker
 
 	private final Map<Integer, Boat> trackedBoats = new HashMap<>();
 	private final Client client;
+	private final GameObjectRouter gameObjectRouter;
+
+	@Override
+	public void startUp()
+	{
+		gameObjectRouter.register(this, FacilityIndex.getObjectIds(), this::onFacilitySpawned, this::onFacilityDespawned);
+	}
 
 	public void shutDown()
 	{
@@ -59,85 +63,25 @@ public class BoatTracker
 		}
 	}
 
-	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned e)
+	private void onFacilitySpawned(GameObject o)
 	{
-		GameObject o = e.getGameObject();
 		Boat boat = getBoat(o.getWorldView().getId());
-		if (boat == null)
+		FacilityIndex.Facility facility = FacilityIndex.get(o.getId());
+		if (boat == null || facility == null)
 		{
 			return;
 		}
 
-		if (HullTier.fromGameObjectId(o.getId()) != null)
-		{
-			boat.setHull(o);
-			log.trace("found hull {}={}+{} for boat in wv {}", o.getId(), boat.getHullTier(), boat.getSizeClass(), boat.getWorldViewId());
-		}
-		if (Boat.SAIL_PATTERN_IDS.contains(o.getId()))
-		{
-			boat.setSailPattern(o);
-			log.trace("found sail pattern {} for boat in wv {}", o.getId(), boat.getWorldViewId());
-		}
-		if (SailTier.fromGameObjectId(o.getId()) != null)
-		{
-			boat.setSailMast(o);
-			log.trace("found sail mast {}={} for boat in wv {}", o.getId(), boat.getSailMastTier(), boat.getWorldViewId());
-		}
-		if (HelmTier.fromGameObjectId(o.getId()) != null)
-		{
-			boat.setHelm(o);
-			log.trace("found helm {}={} for boat in wv {}", o.getId(), boat.getHelmTier(), boat.getWorldViewId());
-		}
-		if (SalvagingHookTier.fromGameObjectId(o.getId()) != null && boat.getSalvagingHooks().add(o))
-		{
-			log.trace("found salvaging hook {}={} for boat in wv {}", o.getId(), SalvagingHookTier.fromGameObjectId(o.getId()), boat.getWorldViewId());
-		}
-		if (CargoHoldTier.fromGameObjectId(o.getId()) != null)
-		{
-			boat.setCargoHold(o);
-			log.trace("found cargo hold {}={} for boat in wv {}", o.getId(), boat.getCargoHoldTier(), boat.getWorldViewId());
-		}
+		boat.setFacility(facility.getKind(), o);
+		log.trace("found {} {}={} for boat in wv {}", facility.getKind(), o.getId(), facility.getTier(), boat.getWorldViewId());
 	}
 
-	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned e)
+	private void onFacilityDespawned(GameObject o)
 	{
-		GameObject o = e.getGameObject();
 		Boat boat = getBoat(o.getWorldView().getId());
-		if (boat == null)
+		if (boat != null && boat.removeFacility(o))
 		{
-			return;
-		}
-
-		if (boat.getHull() == o)
-		{
-			boat.setHull(null);
-			log.trace("unsetting hull for boat in wv {}", boat.getWorldViewId());
-		}
-		if (boat.getSailPattern() == o)
-		{
-			boat.setSailPattern(null);
-			log.trace("unsetting sail pattern for boat in wv {}", boat.getWorldViewId());
-		}
-		if (boat.getSailMast() == o)
-		{
-			boat.setSailMast(null);
-			log.trace("unsetting sail mast for boat in wv {}", boat.getWorldViewId());
-		}
-		if (boat.getHelm() == o)
-		{
-			boat.setHelm(null);
-			log.trace("unsetting helm for boat in wv {}", boat.getWorldViewId());
-		}
-		if (boat.getSalvagingHooks().remove(o))
-		{
-			log.trace("unsetting salvaging hook for boat in wv {}", boat.getWorldViewId());
-		}
-		if (boat.getCargoHold() == o)
-		{
-			boat.setCargoHold(null);
-			log.trace("unsetting cargo hold for boat in wv {}", boat.getWorldViewId());
+			log.trace("unsetting {} for boat in wv {}", o.getId(), boat.getWorldViewId());
 		}
 	}
 
@@ -146,6 +90,11 @@ public class BoatTracker
 		return getBoat(client.getLocalPlayer().getWorldView().getId());
 	}
 
+	public Collection<Boat> getBoats()
+	{
+		return Collections.unmodifiableCollection(trackedBoats.values());
+	}
+
 	public Boat getBoat(int wvId)
 	{
 		if (wvId == WorldView.TOPLEVEL)
@@ -0,0 +1,182 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressed map from primitive int keys to non-null values,
+ * for lookups on hot paths (object ids, packed coordinates) that shouldn't box their keys.
+ * Not thread safe.
+ */
+public final class IntObjectMap<V>
+{
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int[] keys;
+	private Object[] values;
+	private int size;
+
+	public IntObjectMap()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntObjectMap(int expectedSize)
+	{
+		int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, expectedSize * 2 - 1)) << 1;
+		keys = new int[capacity];
+		values = new Object[capacity];
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V get(int key)
+	{
+		int mask = keys.length - 1;
+		for (int i = slot(key, mask); values[i] != null; i = (i + 1) & mask)
+		{
+			if (keys[i] == key)
+			{
+				return (V) values[i];
+			}
+		}
+
+		return null;
+	}
+
+	public boolean containsKey(int key)
+	{
+		return get(key) != null;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V put(int key, V value)
+	{
+		if (value == null)
+		{
+			return remove(key);
+		}
+
+		int mask = keys.length - 1;
+		int i = slot(key, mask);
+		for (; values[i] != null; i = (i + 1) & mask)
+		{
+			if (keys[i] == key)
+			{
+				V prev = (V) values[i];
+				values[i] = value;
+				return prev;
+			}
+		}
+
+		keys[i] = key;
+		values[i] = value;
+		if (++size * 2 > keys.length)
+		{
+			resize(keys.length << 1);
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V remove(int key)
+	{
+		int mask = keys.length - 1;
+		int i = slot(key, mask);
+		for (; values[i] != null; i = (i + 1) & mask)
+		{
+			if (keys[i] == key)
+			{
+				break;
+			}
+		}
+
+		if (values[i] == null)
+		{
+			return null;
+		}
+
+		V prev = (V) values[i];
+		values[i] = null;
+		size--;
+
+		// shift back any entries that probed past the removed slot
+		for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask)
+		{
+			int home = slot(keys[j], mask);
+			if (((j - home) & mask) >= ((j - i) & mask))
+			{
+				keys[i] = keys[j];
+				values[i] = values[j];
+				values[j] = null;
+				i = j;
+			}
+		}
+
+		return prev;
+	}
+
+	public void clear()
+	{
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	// allocation-free iteration, skip slots where valueAt returns null
+	public int capacity()
+	{
+		return keys.length;
+	}
+
+	public int keyAt(int slot)
+	{
+		return keys[slot];
+	}
+
+	@SuppressWarnings("unchecked")
+	public V valueAt(int slot)
+	{
+		return (V) values[slot];
+	}
+
+	private void resize(int capacity)
+	{
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new int[capacity];
+		values = new Object[capacity];
+
+		int mask = capacity - 1;
+		for (int j = 0; j < oldKeys.length; j++)
+		{
+			if (oldValues[j] == null)
+			{
+				continue;
+			}
+
+			int i = slot(oldKeys[j], mask);
+			while (values[i] != null)
+			{
+				i = (i + 1) & mask;
+			}
+			keys[i] = oldKeys[j];
+			values[i] = oldValues[j];
+		}
+	}
+
+	// package-private for tests to build colliding keys
+	static int slot(int key, int mask)
+	{
+		int h = key * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+}
@@ -0,0 +1,240 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import java.awt.Polygon;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.Perspective;
+import net.runelite.api.Point;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Canvas polygons for tile areas in the top level world view, reused across frames until the camera,
+ * viewport or scene changes, so overlays highlighting objects that never move don't re-project them every frame.
+ * Returned polygons are shared and must not be modified.
+ * Also tracks the rectangle of tiles on screen, recomputed on the same changes,
+ * for overlays to only visit the {@link SceneBuckets} cells inside it. Client thread only.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class ProjectionCache
+	implements PluginLifecycleComponent
+{
+
+	// marks areas that projected off screen, the map can't hold nulls
+	private static final Polygon OFFSCREEN = new Polygon();
+
+	private static final int MAX_SIZE = 31;
+
+	// tiles sampled for the visible bounds, which are then widened by a step to cover the gaps
+	private static final int VIEW_STEP = 4;
+
+	private final Client client;
+
+	// keyed by packed (x, y, size, plane), see key()
+	private final IntObjectMap<Polygon> polygons = new IntObjectMap<>(256);
+
+	private double cameraX;
+	private double cameraY;
+	private double cameraZ;
+	private double cameraPitch;
+	private double cameraYaw;
+	private int scale;
+	private int viewportX;
+	private int viewportY;
+	private int viewportWidth;
+	private int viewportHeight;
+	private int baseX;
+	private int baseY;
+	private int plane;
+
+	// world tiles, inclusive
+	private boolean viewStale = true;
+	private int viewMinX;
+	private int viewMinY;
+	private int viewMaxX;
+	private int viewMaxY;
+
+	@Override
+	public void shutDown()
+	{
+		polygons.clear();
+		viewStale = true;
+	}
+
+	@Subscribe
+	public void onBeforeRender(BeforeRender e)
+	{
+		WorldView tlwv = client.getTopLevelWorldView();
+		if (tlwv == null)
+		{
+			polygons.clear();
+			viewStale = true;
+			return;
+		}
+
+		if (client.getCameraFpX() == cameraX &&
+			client.getCameraFpY() == cameraY &&
+			client.getCameraFpZ() == cameraZ &&
+			client.getCameraFpPitch() == cameraPitch &&
+			client.getCameraFpYaw() == cameraYaw &&
+			client.getScale() == scale &&
+			client.getViewportXOffset() == viewportX &&
+			client.getViewportYOffset() == viewportY &&
+			client.getViewportWidth() == viewportWidth &&
+			client.getViewportHeight() == viewportHeight &&
+			tlwv.getBaseX() == baseX &&
+			tlwv.getBaseY() == baseY &&
+			tlwv.getPlane() == plane)
+		{
+			return;
+		}
+
+		cameraX = client.getCameraFpX();
+		cameraY = client.getCameraFpY();
+		cameraZ = client.getCameraFpZ();
+		cameraPitch = client.getCameraFpPitch();
+		cameraYaw = client.getCameraFpYaw();
+		scale = client.getScale();
+		viewportX = client.getViewportXOffset();
+		viewportY = client.getViewportYOffset();
+		viewportWidth = client.getViewportWidth();
+		viewportHeight = client.getViewportHeight();
+		baseX = tlwv.getBaseX();
+		baseY = tlwv.getBaseY();
+		plane = tlwv.getPlane();
+		polygons.clear();
+		viewStale = true;
+	}
+
+	/**
+	 * Visits the items of buckets that may be on screen, margin is in tiles
+	 * for anything drawn beyond the tile it's bucketed by.
+	 */
+	public <T> void forEachVisible(SceneBuckets<T> buckets, int margin, Consumer<T> consumer)
+	{
+		if (buckets.isEmpty())
+		{
+			return;
+		}
+
+		if (viewStale)
+		{
+			updateViewBounds();
+		}
+
+		if (viewMinX <= viewMaxX)
+		{
+			buckets.forEach(viewMinX - margin, viewMinY - margin, viewMaxX + margin, viewMaxY + margin, consumer);
+		}
+	}
+
+	// equivalent to Perspective.getCanvasTileAreaPoly(client, lp, size)
+	public Polygon getTileAreaPoly(LocalPoint lp, int size)
+	{
+		return getTileAreaPoly(lp, size, size, client.getTopLevelWorldView().getPlane());
+	}
+
+	// equivalent to o.getCanvasTilePoly()
+	public Polygon getTilePoly(GameObject o)
+	{
+		Point min = o.getSceneMinLocation();
+		Point max = o.getSceneMaxLocation();
+		return getTileAreaPoly(o.getLocalLocation(), max.getX() - min.getX() + 1, max.getY() - min.getY() + 1, o.getPlane());
+	}
+
+	public Polygon getTileAreaPoly(LocalPoint lp, int sizeX, int sizeY, int plane)
+	{
+		int key = key(lp, sizeX, sizeY, plane);
+		if (key < 0)
+		{
+			return Perspective.getCanvasTileAreaPoly(client, lp, sizeX, sizeY, plane, 0);
+		}
+
+		Polygon poly = polygons.get(key);
+		if (poly == null)
+		{
+			poly = Perspective.getCanvasTileAreaPoly(client, lp, sizeX, sizeY, plane, 0);
+			polygons.put(key, poly != null ? poly : OFFSCREEN);
+		}
+		return poly != OFFSCREEN ? poly : null;
+	}
+
+	// projects a coarse grid of scene tiles and keeps the rectangle around those landing in the viewport
+	private void updateViewBounds()
+	{
+		viewStale = false;
+		viewMinX = viewMinY = Integer.MAX_VALUE;
+		viewMaxX = viewMaxY = Integer.MIN_VALUE;
+
+		WorldView tlwv = client.getTopLevelWorldView();
+		if (tlwv == null)
+		{
+			return;
+		}
+
+		int left = client.getViewportXOffset();
+		int top = client.getViewportYOffset();
+		int right = left + client.getViewportWidth();
+		int bottom = top + client.getViewportHeight();
+		int sizeX = tlwv.getSizeX();
+		int sizeY = tlwv.getSizeY();
+
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int maxY = Integer.MIN_VALUE;
+		for (int x = VIEW_STEP / 2; x < sizeX; x += VIEW_STEP)
+		{
+			for (int y = VIEW_STEP / 2; y < sizeY; y += VIEW_STEP)
+			{
+				LocalPoint lp = new LocalPoint(x * Perspective.LOCAL_TILE_SIZE + 64, y * Perspective.LOCAL_TILE_SIZE + 64, tlwv);
+				Point p = Perspective.localToCanvas(client, lp, tlwv.getPlane());
+				if (p != null && p.getX() >= left && p.getX() < right && p.getY() >= top && p.getY() < bottom)
+				{
+					minX = Math.min(minX, x);
+					minY = Math.min(minY, y);
+					maxX = Math.max(maxX, x);
+					maxY = Math.max(maxY, y);
+				}
+			}
+		}
+
+		// zoomed in far enough to fall between samples, so don't cull at all
+		if (minX > maxX)
+		{
+			minX = minY = 0;
+			maxX = sizeX - 1;
+			maxY = sizeY - 1;
+		}
+
+		viewMinX = tlwv.getBaseX() + Math.max(0, minX - VIEW_STEP);
+		viewMinY = tlwv.getBaseY() + Math.max(0, minY - VIEW_STEP);
+		viewMaxX = tlwv.getBaseX() + Math.min(sizeX - 1, maxX + VIEW_STEP);
+		viewMaxY = tlwv.getBaseY() + Math.min(sizeY - 1, maxY + VIEW_STEP);
+	}
+
+	// -1 for areas that can't be packed, which are projected without caching
+	private int key(LocalPoint lp, int sizeX, int sizeY, int plane)
+	{
+		int x = lp.getX();
+		int y = lp.getY();
+		// object locations sit on tile centres or, for even sizes, tile edges
+		if (lp.getWorldView() != client.getTopLevelWorldView().getId() ||
+			((x | y) & 63) != 0 || x < 0 || y < 0 || x >= 512 << 6 || y >= 512 << 6 ||
+			sizeX < 1 || sizeY < 1 || sizeX > MAX_SIZE || sizeY > MAX_SIZE ||
+			plane < 0 || plane > 3)
+		{
+			return -1;
+		}
+
+		return (x >> 6) | (y >> 6) << 9 | sizeX << 18 | sizeY << 23 | plane << 28;
+	}
+}
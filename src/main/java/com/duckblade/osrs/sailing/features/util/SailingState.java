@@ -0,0 +1,145 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import com.duckblade.osrs.sailing.model.Boat;
+import com.duckblade.osrs.sailing.module.PluginLifecycleComponent;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Player;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.Subscribe;
+
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class SailingState
+	implements PluginLifecycleComponent
+{
+
+	@Value
+	public static class Snapshot
+	{
+		public static final Snapshot EMPTY = new Snapshot(false, WorldView.TOPLEVEL, null, null, null, 0, false, false, -1, 0);
+
+		boolean sailing;
+		int worldViewId;
+		LocalPoint topLevelLocalPoint;
+		WorldPoint topLevelWorldPoint;
+		Boat boat;
+		int facilityLockedIn;
+		boolean inTrial;
+		// inTrial as of the last tick, not refreshed by VarbitChanged, for handlers sensitive to event ordering
+		boolean tickInTrial;
+		int boatHp;
+		int moveMode;
+	}
+
+	private final Client client;
+	private final ClientThread clientThread;
+	private final BoatTracker boatTracker;
+
+	// rebuilt once per tick, before other components' tick handlers,
+	// so everything reading it in the same tick/frame sees the same state.
+	// the varbit fields are also refreshed as they change, for menu handlers running between ticks,
+	// except tickInTrial
+	@Getter
+	private Snapshot snapshot = Snapshot.EMPTY;
+
+	@Override
+	public void startUp()
+	{
+		clientThread.invokeLater(this::update);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		snapshot = Snapshot.EMPTY;
+	}
+
+	@Subscribe(priority = 100)
+	public void onGameTick(GameTick e)
+	{
+		update();
+	}
+
+	@Subscribe(priority = 100)
+	public void onVarbitChanged(VarbitChanged e)
+	{
+		switch (e.getVarbitId())
+		{
+			case VarbitID.SAILING_BOAT_FACILITY_LOCKEDIN:
+			case VarbitID.SAILING_BT_IN_TRIAL:
+			case VarbitID.SAILING_SIDEPANEL_BOAT_HP:
+			case VarbitID.SAILING_SIDEPANEL_BOAT_MOVE_MODE:
+				if (snapshot != Snapshot.EMPTY)
+				{
+					Snapshot s = snapshot;
+					snapshot = snapshot(s.isSailing(), s.getWorldViewId(), s.getTopLevelLocalPoint(), s.getTopLevelWorldPoint(), s.getBoat(), s.isTickInTrial());
+				}
+				break;
+		}
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged e)
+	{
+		if (e.getGameState() == GameState.LOGIN_SCREEN || e.getGameState() == GameState.HOPPING)
+		{
+			snapshot = Snapshot.EMPTY;
+		}
+	}
+
+	private void update()
+	{
+		Player player = client.getLocalPlayer();
+		if (player == null || client.getGameState() != GameState.LOGGED_IN)
+		{
+			snapshot = Snapshot.EMPTY;
+			return;
+		}
+
+		WorldView wv = player.getWorldView();
+		boolean sailing = !wv.isTopLevel();
+
+		LocalPoint topLevelLocal = player.getLocalLocation();
+		if (sailing)
+		{
+			WorldEntity we = client.getTopLevelWorldView().worldEntities().byIndex(wv.getId());
+			topLevelLocal = we != null ? we.transformToMainWorld(topLevelLocal) : null;
+		}
+		WorldPoint topLevelWorld = topLevelLocal != null ? WorldPoint.fromLocal(client, topLevelLocal) : null;
+
+		snapshot = snapshot(sailing, wv.getId(), topLevelLocal, topLevelWorld, sailing ? boatTracker.getBoat(wv.getId()) : null,
+			client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL) != 0);
+	}
+
+	private Snapshot snapshot(boolean sailing, int worldViewId, LocalPoint topLevelLocal, WorldPoint topLevelWorld, Boat boat, boolean tickInTrial)
+	{
+		return new Snapshot(
+			sailing,
+			worldViewId,
+			topLevelLocal,
+			topLevelWorld,
+			boat,
+			client.getVarbitValue(VarbitID.SAILING_BOAT_FACILITY_LOCKEDIN),
+			client.getVarbitValue(VarbitID.SAILING_BT_IN_TRIAL) != 0,
+			tickInTrial,
+			client.getVarbitValue(VarbitID.SAILING_SIDEPANEL_BOAT_HP),
+			client.getVarbitValue(VarbitID.SAILING_SIDEPANEL_BOAT_MOVE_MODE)
+		);
+	}
+}
@@ -0,0 +1,164 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Tracked objects bucketed by the 8x8 world tile cell they stand on,
+ * so an overlay can iterate just the cells inside the visible area instead of everything it tracks.
+ * Items are located once when added and are expected not to move. Not thread safe.
+ */
+public final class SceneBuckets<T>
+{
+
+	static final int CELL_SHIFT = 3;
+
+	private static final Object[] EMPTY = new Object[0];
+
+	private final Function<T, WorldPoint> locator;
+
+	private final IntObjectMap<Object[]> cells = new IntObjectMap<>(64);
+	// cell key of every item, for removal
+	private final Map<T, Integer> keys = new HashMap<>();
+
+	public SceneBuckets(Function<T, WorldPoint> locator)
+	{
+		this.locator = locator;
+	}
+
+	public int size()
+	{
+		return keys.size();
+	}
+
+	public boolean isEmpty()
+	{
+		return keys.isEmpty();
+	}
+
+	public void add(T item)
+	{
+		WorldPoint wp = locator.apply(item);
+		if (wp == null)
+		{
+			return;
+		}
+
+		remove(item);
+
+		int key = key(wp.getX() >> CELL_SHIFT, wp.getY() >> CELL_SHIFT);
+		Object[] existing = cells.get(key);
+		if (existing == null)
+		{
+			existing = EMPTY;
+		}
+
+		Object[] updated = Arrays.copyOf(existing, existing.length + 1);
+		updated[existing.length] = item;
+		cells.put(key, updated);
+		keys.put(item, key);
+	}
+
+	public boolean remove(T item)
+	{
+		Integer key = keys.remove(item);
+		if (key == null)
+		{
+			return false;
+		}
+
+		Object[] existing = cells.get(key);
+		if (existing.length == 1)
+		{
+			cells.remove(key);
+			return true;
+		}
+
+		int ix = 0;
+		while (existing[ix] != item)
+		{
+			ix++;
+		}
+
+		Object[] updated = new Object[existing.length - 1];
+		System.arraycopy(existing, 0, updated, 0, ix);
+		System.arraycopy(existing, ix + 1, updated, ix, updated.length - ix);
+		cells.put(key, updated);
+		return true;
+	}
+
+	public void clear()
+	{
+		cells.clear();
+		keys.clear();
+	}
+
+	public void forEach(Consumer<T> consumer)
+	{
+		forEach(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, consumer);
+	}
+
+	/**
+	 * Every item in a cell overlapping the inclusive world tile rectangle,
+	 * which can include items up to a cell outside of it.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(int minX, int minY, int maxX, int maxY, Consumer<T> consumer)
+	{
+		int minCellX = minX >> CELL_SHIFT;
+		int minCellY = minY >> CELL_SHIFT;
+		int maxCellX = maxX >> CELL_SHIFT;
+		int maxCellY = maxY >> CELL_SHIFT;
+
+		// walking the occupied cells is cheaper than probing a mostly empty rectangle
+		if ((long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) > cells.size())
+		{
+			for (int slot = 0; slot < cells.capacity(); slot++)
+			{
+				Object[] items = cells.valueAt(slot);
+				if (items == null)
+				{
+					continue;
+				}
+
+				int key = cells.keyAt(slot);
+				int cellX = key >> 16;
+				int cellY = (short) key;
+				if (cellX >= minCellX && cellX <= maxCellX && cellY >= minCellY && cellY <= maxCellY)
+				{
+					for (Object item : items)
+					{
+						consumer.accept((T) item);
+					}
+				}
+			}
+			return;
+		}
+
+		for (int cellX = minCellX; cellX <= maxCellX; cellX++)
+		{
+			for (int cellY = minCellY; cellY <= maxCellY; cellY++)
+			{
+				Object[] items = cells.get(key(cellX, cellY));
+				if (items == null)
+				{
+					continue;
+				}
+
+				for (Object item : items)
+				{
+					consumer.accept((T) item);
+				}
+			}
+		}
+	}
+
+	private static int key(int cellX, int cellY)
+	{
+		return (cellX << 16) | (cellY & 0xFFFF);
+	}
+}
@@ -1,19 +1,15 @@
 package com.duckblade.osrs.sailing.model;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import com.google.common.collect.ImmutableSet;
-import lombok.AccessLevel;
-import lombok.Data;
+import java.util.Arrays;
+import java.util.function.Consumer;
 import lombok.Getter;
-import lombok.Setter;
+import lombok.RequiredArgsConstructor;
 import net.runelite.api.GameObject;
 import net.runelite.api.WorldEntity;
 import net.runelite.api.gameval.ObjectID;
 
-@Data
+@RequiredArgsConstructor
 public class Boat
 {
 	public static final ImmutableSet<Integer> SAIL_PATTERN_IDS = ImmutableSet.of(
@@ -49,64 +45,161 @@ public class Boat
 		ObjectID.SAILING_BOAT_SAIL_KANDARIN_3X8_RED
 	);
 
+	private static final int KINDS = FacilityKind.values().length;
+
 	@Getter
 	private final int worldViewId;
+
+	@Getter
 	private final WorldEntity worldEntity;
 
-	GameObject hull;
-	GameObject sailPattern;
-	GameObject sailMast;
-	GameObject helm;
-	GameObject cargoHold;
+	// one slot per kind, except salvaging hooks which live in hooks[]
+	private final GameObject[] facilities = new GameObject[KINDS];
 
-	@Setter(AccessLevel.NONE)
-	Set<GameObject> salvagingHooks = new HashSet<>();
+	private GameObject[] hooks = new GameObject[2];
+	private int hookCount;
+
+	// facility lookups are cached against the object id they were resolved for,
+	// objects can transform without respawning e.g. helms have a different idle vs in-use id
+	private final FacilityIndex.Facility[] resolved = new FacilityIndex.Facility[KINDS];
+	private final int[] resolvedIds = new int[KINDS];
+	private FacilityIndex.Facility[] resolvedHooks = new FacilityIndex.Facility[2];
+	private int[] resolvedHookIds = new int[2];
+
+	public void setFacility(FacilityKind kind, GameObject o)
+	{
+		if (kind == FacilityKind.SALVAGING_HOOK)
+		{
+			addSalvagingHook(o);
+		}
+		else
+		{
+			facilities[kind.ordinal()] = o;
+		}
+	}
+
+	// returns whether the object was a facility of this boat
+	public boolean removeFacility(GameObject o)
+	{
+		for (int i = 0; i < KINDS; i++)
+		{
+			if (facilities[i] == o)
+			{
+				facilities[i] = null;
+				resolved[i] = null;
+				return true;
+			}
+		}
+
+		for (int i = 0; i < hookCount; i++)
+		{
+			if (hooks[i] == o)
+			{
+				// keep hooks packed, order doesn't matter
+				hookCount--;
+				hooks[i] = hooks[hookCount];
+				resolvedHooks[i] = resolvedHooks[hookCount];
+				resolvedHookIds[i] = resolvedHookIds[hookCount];
+				hooks[hookCount] = null;
+				resolvedHooks[hookCount] = null;
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public GameObject getFacility(FacilityKind kind)
+	{
+		return facilities[kind.ordinal()];
+	}
+
+	public GameObject getHull()
+	{
+		return facilities[FacilityKind.HULL.ordinal()];
+	}
+
+	public GameObject getSailPattern()
+	{
+		return facilities[FacilityKind.SAIL_PATTERN.ordinal()];
+	}
+
+	public GameObject getSailMast()
+	{
+		return facilities[FacilityKind.SAIL_MAST.ordinal()];
+	}
+
+	public GameObject getHelm()
+	{
+		return facilities[FacilityKind.HELM.ordinal()];
+	}
+
+	public GameObject getCargoHold()
+	{
+		return facilities[FacilityKind.CARGO_HOLD.ordinal()];
+	}
+
+	public int getSalvagingHookCount()
+	{
+		return hookCount;
+	}
+
+	public GameObject getSalvagingHook(int index)
+	{
+		return hooks[index];
+	}
 
-	// these are intentionally not cached in case the object is transformed without respawning
-	// e.g. helms have a different idle vs in-use id
 	public HullTier getHullTier()
 	{
-		return hull != null ? HullTier.fromGameObjectId(hull.getId()) : null;
+		return tier(FacilityIndex.TierKind.HULL);
 	}
 
 	public SailTier getSailMastTier()
 	{
-		return sailMast != null ? SailTier.fromGameObjectId(sailMast.getId()) : null;
+		return tier(FacilityIndex.TierKind.SAIL_MAST);
 	}
 
 	public HelmTier getHelmTier()
 	{
-		return helm != null ? HelmTier.fromGameObjectId(helm.getId()) : null;
+		return tier(FacilityIndex.TierKind.HELM);
 	}
 
-	public List<SalvagingHookTier> getSalvagingHookTiers()
+	public CargoHoldTier getCargoHoldTier()
 	{
-		return salvagingHooks.stream()
-			.mapToInt(GameObject::getId)
-			.mapToObj(SalvagingHookTier::fromGameObjectId)
-			.collect(Collectors.toList());
+		return tier(FacilityIndex.TierKind.CARGO_HOLD);
 	}
 
-	public CargoHoldTier getCargoHoldTier()
+	public SalvagingHookTier getSalvagingHookTier(int index)
 	{
-		return cargoHold != null ? CargoHoldTier.fromGameObjectId(cargoHold.getId()) : null;
+		int id = hooks[index].getId();
+		if (resolvedHooks[index] == null || resolvedHookIds[index] != id)
+		{
+			resolvedHooks[index] = FacilityIndex.get(id);
+			resolvedHookIds[index] = id;
+		}
+		return resolvedHooks[index] != null ? resolvedHooks[index].getTier(FacilityIndex.TierKind.SALVAGING_HOOK) : null;
 	}
 
 	public SizeClass getSizeClass()
 	{
-		return hull != null ? SizeClass.fromGameObjectId(hull.getId()) : null;
+		FacilityIndex.Facility hull = resolve(FacilityKind.HULL);
+		return hull != null ? hull.getSizeClass() : null;
 	}
 
-	public Set<GameObject> getAllFacilities()
+	// visits every present facility, hooks included
+	public void forEachFacility(Consumer<GameObject> consumer)
 	{
-		Set<GameObject> facilities = new HashSet<>();
-		facilities.add(hull);
-		facilities.add(sailPattern);
-		facilities.add(sailMast);
-		facilities.add(helm);
-		facilities.addAll(salvagingHooks);
-		facilities.add(cargoHold);
-		return facilities;
+		for (GameObject o : facilities)
+		{
+			if (o != null)
+			{
+				consumer.accept(o);
+			}
+		}
+		for (int i = 0; i < hookCount; i++)
+		{
+			consumer.accept(hooks[i]);
+		}
 	}
 
 	public int getCargoCapacity()
@@ -133,18 +226,67 @@ public class Boat
 
 	public String getDebugString()
 	{
-		return String.format(
-			"Id: %d, Hull: %s, Sail Pattern: %s, Sail Mast: %s, Helm: %s, Hook: %s, Cargo: %s",
-			worldViewId,
-			getHullTier(),
-			getSailPattern().getId(),
-			getSailMastTier(),
-			getHelmTier(),
-			getSalvagingHookTiers()
-				.stream()
-				.map(SalvagingHookTier::toString)
-				.collect(Collectors.joining(", ", "[", "]")),
-			getCargoHoldTier()
-		);
+		GameObject sailPattern = getSailPattern();
+		StringBuilder sb = new StringBuilder()
+			.append("Id: ").append(worldViewId)
+			.append(", Hull: ").append(getHullTier())
+			.append(", Sail Pattern: ").append(sailPattern != null ? sailPattern.getId() : null)
+			.append(", Sail Mast: ").append(getSailMastTier())
+			.append(", Helm: ").append(getHelmTier())
+			.append(", Hook: [");
+		for (int i = 0; i < hookCount; i++)
+		{
+			if (i > 0)
+			{
+				sb.append(", ");
+			}
+			sb.append(getSalvagingHookTier(i));
+		}
+		return sb.append("], Cargo: ").append(getCargoHoldTier()).toString();
+	}
+
+	private void addSalvagingHook(GameObject o)
+	{
+		for (int i = 0; i < hookCount; i++)
+		{
+			if (hooks[i] == o)
+			{
+				return;
+			}
+		}
+
+		if (hookCount == hooks.length)
+		{
+			hooks = Arrays.copyOf(hooks, hookCount * 2);
+			resolvedHooks = Arrays.copyOf(resolvedHooks, hookCount * 2);
+			resolvedHookIds = Arrays.copyOf(resolvedHookIds, hookCount * 2);
+		}
+		hooks[hookCount] = o;
+		resolvedHooks[hookCount] = null;
+		hookCount++;
+	}
+
+	private <T extends Enum<T>> T tier(FacilityIndex.TierKind<T> kind)
+	{
+		FacilityIndex.Facility facility = resolve(kind.getKind());
+		return facility != null ? facility.getTier(kind) : null;
+	}
+
+	private FacilityIndex.Facility resolve(FacilityKind kind)
+	{
+		int k = kind.ordinal();
+		GameObject o = facilities[k];
+		if (o == null)
+		{
+			return null;
+		}
+
+		int id = o.getId();
+		if (resolved[k] == null || resolvedIds[k] != id)
+		{
+			resolved[k] = FacilityIndex.get(id);
+			resolvedIds[k] = id;
+		}
+		return resolved[k];
 	}
 }
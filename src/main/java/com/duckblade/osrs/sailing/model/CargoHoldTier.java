@@ -151,18 +151,7 @@ public enum CargoHoldTier
 
 	public static CargoHoldTier fromGameObjectId(int id)
 	{
-		for (CargoHoldTier tier : values())
-		{
-			for (int objectId : tier.getGameObjectIds())
-			{
-				if (objectId == id)
-				{
-					return tier;
-				}
-			}
-		}
-
-		return null;
+		return FacilityIndex.tier(id, FacilityIndex.TierKind.CARGO_HOLD);
 	}
 
 	public int getCapacity(SizeClass sizeClass)
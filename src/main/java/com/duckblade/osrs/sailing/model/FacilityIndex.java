@@ -0,0 +1,137 @@
+package com.duckblade.osrs.sailing.model;
+
+import com.duckblade.osrs.sailing.features.util.IntObjectMap;
+import com.google.common.base.Preconditions;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Object id to facility lookup for every boat facility, built once from the tier enums
+ * so spawn handlers and {@link Boat} accessors don't scan each enum's id arrays.
+ */
+public final class FacilityIndex
+{
+
+	/**
+	 * A facility kind paired with its tier enum. Ids are registered and read back through the same key,
+	 * so a kind can't be mapped to the wrong tier type without a compile error.
+	 */
+	@Value
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class TierKind<T extends Enum<T>>
+	{
+		public static final TierKind<HullTier> HULL = new TierKind<>(FacilityKind.HULL, HullTier.class);
+		public static final TierKind<SailTier> SAIL_MAST = new TierKind<>(FacilityKind.SAIL_MAST, SailTier.class);
+		public static final TierKind<HelmTier> HELM = new TierKind<>(FacilityKind.HELM, HelmTier.class);
+		public static final TierKind<SalvagingHookTier> SALVAGING_HOOK = new TierKind<>(FacilityKind.SALVAGING_HOOK, SalvagingHookTier.class);
+		public static final TierKind<CargoHoldTier> CARGO_HOLD = new TierKind<>(FacilityKind.CARGO_HOLD, CargoHoldTier.class);
+
+		FacilityKind kind;
+		Class<T> type;
+	}
+
+	@Value
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class Facility
+	{
+		FacilityKind kind;
+		Enum<?> tier; // null for sail patterns
+		SizeClass sizeClass; // only known from hulls
+
+		// null if this facility is of a different kind
+		public <T extends Enum<T>> T getTier(TierKind<T> tierKind)
+		{
+			return kind == tierKind.getKind() ? tierKind.getType().cast(tier) : null;
+		}
+	}
+
+	private static final IntObjectMap<Facility> FACILITIES = new IntObjectMap<>(256);
+	private static final int[] OBJECT_IDS;
+
+	static
+	{
+		IntObjectMap<SizeClass> sizeClasses = new IntObjectMap<>();
+		for (SizeClass sizeClass : SizeClass.values())
+		{
+			for (int id : sizeClass.getGameObjectIds())
+			{
+				sizeClasses.put(id, sizeClass);
+			}
+		}
+
+		for (HullTier tier : HullTier.values())
+		{
+			for (int id : tier.getGameObjectIds())
+			{
+				add(id, facility(TierKind.HULL, tier, sizeClasses.get(id)));
+			}
+		}
+		for (int id : Boat.SAIL_PATTERN_IDS)
+		{
+			add(id, new Facility(FacilityKind.SAIL_PATTERN, null, null));
+		}
+		addAll(TierKind.SAIL_MAST, SailTier.values(), SailTier::getGameObjectIds);
+		addAll(TierKind.HELM, HelmTier.values(), HelmTier::getGameObjectIds);
+		addAll(TierKind.SALVAGING_HOOK, SalvagingHookTier.values(), SalvagingHookTier::getGameObjectIds);
+		addAll(TierKind.CARGO_HOLD, CargoHoldTier.values(), CargoHoldTier::getGameObjectIds);
+
+		OBJECT_IDS = new int[FACILITIES.size()];
+		for (int slot = 0, i = 0; slot < FACILITIES.capacity(); slot++)
+		{
+			if (FACILITIES.valueAt(slot) != null)
+			{
+				OBJECT_IDS[i++] = FACILITIES.keyAt(slot);
+			}
+		}
+	}
+
+	private FacilityIndex()
+	{
+	}
+
+	public static Facility get(int objectId)
+	{
+		return FACILITIES.get(objectId);
+	}
+
+	public static int[] getObjectIds()
+	{
+		return OBJECT_IDS.clone();
+	}
+
+	public static SizeClass sizeClass(int objectId)
+	{
+		Facility facility = FACILITIES.get(objectId);
+		return facility != null ? facility.getSizeClass() : null;
+	}
+
+	static <T extends Enum<T>> T tier(int objectId, TierKind<T> kind)
+	{
+		Facility facility = FACILITIES.get(objectId);
+		return facility != null ? facility.getTier(kind) : null;
+	}
+
+	private static <T extends Enum<T>> void addAll(TierKind<T> kind, T[] tiers, Function<T, int[]> ids)
+	{
+		for (T tier : tiers)
+		{
+			for (int id : ids.apply(tier))
+			{
+				add(id, facility(kind, tier, null));
+			}
+		}
+	}
+
+	private static <T extends Enum<T>> Facility facility(TierKind<T> kind, T tier, SizeClass sizeClass)
+	{
+		return new Facility(kind.getKind(), tier, sizeClass);
+	}
+
+	private static void add(int objectId, Facility facility)
+	{
+		Facility prev = FACILITIES.put(objectId, facility);
+		Preconditions.checkState(prev == null, "object %s is both %s and %s", objectId, prev, facility);
+	}
+}
@@ -0,0 +1,14 @@
+package com.duckblade.osrs.sailing.model;
+
+public enum FacilityKind
+{
+
+	HULL,
+	SAIL_PATTERN,
+	SAIL_MAST,
+	HELM,
+	SALVAGING_HOOK,
+	CARGO_HOLD,
+	;
+
+}
@@ -64,18 +64,7 @@ public enum HullTier
 
 	public static HullTier fromGameObjectId(int id)
 	{
-		for (HullTier tier : values())
-		{
-			for (int objectId : tier.getGameObjectIds())
-			{
-				if (objectId == id)
-				{
-					return tier;
-				}
-			}
-		}
-
-		return null;
+		return FacilityIndex.tier(id, FacilityIndex.TierKind.HULL);
 	}
 
 }
@@ -102,18 +102,7 @@ public enum SailTier
 
 	public static SailTier fromGameObjectId(int id)
 	{
-		for (SailTier tier : values())
-		{
-			for (int objectId : tier.getGameObjectIds())
-			{
-				if (objectId == id)
-				{
-					return tier;
-				}
-			}
-		}
-
-		return null;
+		return FacilityIndex.tier(id, FacilityIndex.TierKind.SAIL_MAST);
 	}
 
 	public int getSpeedBoostDuration(SizeClass sizeClass)
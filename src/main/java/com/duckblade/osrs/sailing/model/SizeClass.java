@@ -47,18 +47,7 @@ public enum SizeClass
 	private final int[] gameObjectIds;
 	public static SizeClass fromGameObjectId(int id)
 	{
-		for (SizeClass tier : values())
-		{
-			for (int objectId : tier.getGameObjectIds())
-			{
-				if (objectId == id)
-				{
-					return tier;
-				}
-			}
-		}
-
-		return null;
+		return FacilityIndex.sizeClass(id);
 	}
 
 }
@@ -1,7 +1,11 @@
 package com.duckblade.osrs.sailing.module;
 
 import com.duckblade.osrs.sailing.SailingConfig;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
@@ -33,24 +37,35 @@ public class ComponentManager
 	private final OverlayManager overlayManager;
 	private final InfoBoxManager infoBoxManager;
 	private final GameEventManager gameEventManager;
-	private final SailingConfig config;
+	private final GameObjectRouter gameObjectRouter;
+	private final ComponentProfiler profiler;
+	private final ConfigKeyRecorder configKeyRecorder;
 	private final Set<PluginLifecycleComponent> components;
 
 	private final Map<PluginLifecycleComponent, Boolean> states = new HashMap<>();
 
+	// config keys each component read during its last isEnabled, and the inverse
+	private final Map<PluginLifecycleComponent, Set<String>> configDependencies = new HashMap<>();
+	private final Map<String, Set<PluginLifecycleComponent>> configDependents = new HashMap<>();
+
 	public void onPluginStart()
 	{
 		eventBus.register(this);
+		eventBus.register(gameObjectRouter);
 		components.forEach(c -> states.put(c, false));
-		revalidateComponentStates();
+		configKeyRecorder.refresh();
+		revalidateComponentStates(components);
 	}
 
 	public void onPluginStop()
 	{
 		eventBus.unregister(this);
+		eventBus.unregister(gameObjectRouter);
 		components.stream()
 			.filter(states::get)
 			.forEach(this::tryShutDown);
+		configDependencies.clear();
+		configDependents.clear();
 	}
 
 	@Subscribe
@@ -61,14 +76,34 @@ public class ComponentManager
 			return;
 		}
 
-		revalidateComponentStates();
+		if (e.getKey() == null)
+		{
+			configKeyRecorder.refresh();
+			revalidateComponentStates(components);
+			return;
+		}
+
+		if (!configKeyRecorder.isConfigKey(e.getKey()))
+		{
+			return;
+		}
+
+		configKeyRecorder.refresh();
+
+		// keys no component read can't change any component's state
+		Set<PluginLifecycleComponent> dependents = configDependents.get(e.getKey());
+		if (dependents != null)
+		{
+			// copied, re-evaluation updates the index
+			revalidateComponentStates(new ArrayList<>(dependents));
+		}
 	}
 
-	private void revalidateComponentStates()
+	private void revalidateComponentStates(Collection<PluginLifecycleComponent> targets)
 	{
-		components.forEach(c ->
+		targets.forEach(c ->
 		{
-			boolean shouldBeEnabled = c.isEnabled(config);
+			boolean shouldBeEnabled = evaluate(c);
 			boolean isEnabled = states.get(c);
 			if (shouldBeEnabled == isEnabled)
 			{
@@ -86,6 +121,29 @@ public class ComponentManager
 		});
 	}
 
+	private boolean evaluate(PluginLifecycleComponent component)
+	{
+		Set<String> readKeys = new HashSet<>();
+		boolean enabled = configKeyRecorder.isEnabled(component, readKeys);
+
+		Set<String> previous = configDependencies.put(component, readKeys);
+		for (String key : previous != null ? previous : Collections.<String>emptySet())
+		{
+			Set<PluginLifecycleComponent> dependents = configDependents.get(key);
+			dependents.remove(component);
+			if (dependents.isEmpty())
+			{
+				configDependents.remove(key);
+			}
+		}
+		for (String key : readKeys)
+		{
+			configDependents.computeIfAbsent(key, k -> new HashSet<>()).add(component);
+		}
+
+		return enabled;
+	}
+
 	private void tryStartUp(PluginLifecycleComponent component)
 	{
 		if (states.get(component))
@@ -100,12 +158,21 @@ public class ComponentManager
 
 		try
 		{
+			long start = System.nanoTime();
 			component.startUp();
+			profiler.recordStartUp(component, System.nanoTime() - start);
 
-			eventBus.register(component);
+			if (profiler.isEnabled())
+			{
+				profiler.register(component);
+			}
+			else
+			{
+				eventBus.register(component);
+			}
 			if (component instanceof Overlay)
 			{
-				overlayManager.add((Overlay) component);
+				overlayManager.add(profiler.wrap(component, (Overlay) component));
 			}
 			if (component instanceof InfoBox)
 			{
@@ -113,10 +180,13 @@ public class ComponentManager
 			}
 
 			gameEventManager.simulateGameEvents(component);
+			gameObjectRouter.simulateGameEvents(component);
 			states.put(component, true);
 		}
 		catch (Throwable e)
 		{
+			profiler.unregister(component);
+			gameObjectRouter.unregister(component);
 			log.error("Failed to start Sailing component [{}]", component.getClass().getName(), e);
 		}
 	}
@@ -124,9 +194,11 @@ public class ComponentManager
 	private void tryShutDown(PluginLifecycleComponent component)
 	{
 		eventBus.unregister(component);
+		profiler.unregister(component);
+		gameObjectRouter.unregister(component);
 		if (component instanceof Overlay)
 		{
-			overlayManager.remove((Overlay) component);
+			overlayManager.remove(profiler.unwrap((Overlay) component));
 		}
 		if (component instanceof InfoBox)
 		{
@@ -145,7 +217,9 @@ public class ComponentManager
 
 		try
 		{
+			long start = System.nanoTime();
 			component.shutDown();
+			profiler.recordShutDown(component, System.nanoTime() - start);
 		}
 		catch (Throwable e)
 		{
@@ -0,0 +1,63 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Timings recorded by the {@link ComponentProfiler} for a single component.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ComponentProfile
+{
+
+	private final String name;
+
+	private final LatencyHistogram startUp = new LatencyHistogram();
+	private final LatencyHistogram shutDown = new LatencyHistogram();
+	private final LatencyHistogram render = new LatencyHistogram();
+
+	// all event handlers combined, and split by event type
+	private final LatencyHistogram handlers = new LatencyHistogram();
+	private final Map<Class<?>, LatencyHistogram> handlersByEvent = new LinkedHashMap<>();
+
+	private long eventsReceived;
+	private long eventsDropped;
+
+	// histograms are created when handlers are registered, not per sample
+	LatencyHistogram handlerHistogram(Class<?> eventType)
+	{
+		return handlersByEvent.computeIfAbsent(eventType, k -> new LatencyHistogram());
+	}
+
+	void recordEvent(LatencyHistogram histogram, long nanos, boolean handled)
+	{
+		eventsReceived++;
+		if (!handled)
+		{
+			eventsDropped++;
+		}
+
+		histogram.record(nanos);
+		handlers.record(nanos);
+	}
+
+	public Map<Class<?>, LatencyHistogram> getHandlersByEvent()
+	{
+		return Collections.unmodifiableMap(handlersByEvent);
+	}
+
+	public void reset()
+	{
+		startUp.reset();
+		shutDown.reset();
+		render.reset();
+		handlers.reset();
+		handlersByEvent.values().forEach(LatencyHistogram::reset);
+		eventsReceived = 0;
+		eventsDropped = 0;
+	}
+}
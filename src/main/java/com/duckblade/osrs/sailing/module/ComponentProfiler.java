@@ -0,0 +1,167 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.google.common.base.Throwables;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.overlay.Overlay;
+
+/**
+ * Records time spent in each component's event handlers, render, startUp and shutDown.
+ * Only active in developer mode, otherwise the {@link ComponentManager} registers components directly
+ * and none of this is on the hot path.
+ */
+@Slf4j
+@Singleton
+public class ComponentProfiler
+{
+
+	private final EventBus eventBus;
+
+	@Getter
+	private final boolean enabled;
+
+	// read from the debug plugin's overlay
+	private final Map<PluginLifecycleComponent, ComponentProfile> profiles = new ConcurrentHashMap<>();
+
+	private final Map<PluginLifecycleComponent, List<EventBus.Subscriber>> subscribers = new HashMap<>();
+	private final Map<Overlay, ProfiledOverlay> overlays = new HashMap<>();
+
+	@Inject
+	public ComponentProfiler(EventBus eventBus, @Named("developerMode") boolean developerMode)
+	{
+		this.eventBus = eventBus;
+		this.enabled = developerMode;
+	}
+
+	public ComponentProfile getProfile(PluginLifecycleComponent component)
+	{
+		return profiles.computeIfAbsent(component, c -> new ComponentProfile(c.getClass().getSimpleName()));
+	}
+
+	public Collection<ComponentProfile> getProfiles()
+	{
+		return Collections.unmodifiableCollection(profiles.values());
+	}
+
+	public void reset()
+	{
+		profiles.values().forEach(ComponentProfile::reset);
+	}
+
+	void recordStartUp(PluginLifecycleComponent component, long nanos)
+	{
+		if (enabled)
+		{
+			getProfile(component).getStartUp().record(nanos);
+		}
+	}
+
+	void recordShutDown(PluginLifecycleComponent component, long nanos)
+	{
+		if (enabled)
+		{
+			getProfile(component).getShutDown().record(nanos);
+		}
+	}
+
+	// equivalent to eventBus.register(component), with each @Subscribe method timed
+	void register(PluginLifecycleComponent component)
+	{
+		ComponentProfile profile = getProfile(component);
+		List<EventBus.Subscriber> subs = new ArrayList<>();
+		try
+		{
+			for (Class<?> clazz = component.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass())
+			{
+				for (Method method : clazz.getDeclaredMethods())
+				{
+					Subscribe sub = method.getAnnotation(Subscribe.class);
+					if (sub == null || method.getParameterCount() != 1)
+					{
+						continue;
+					}
+
+					subs.add(subscribe(component, profile, method, method.getParameterTypes()[0], sub.priority()));
+				}
+			}
+		}
+		catch (IllegalAccessException e)
+		{
+			log.warn("Failed to profile Sailing component [{}], registering without timings", component.getClass().getName(), e);
+			subs.forEach(eventBus::unregister);
+			eventBus.register(component);
+			return;
+		}
+
+		subscribers.put(component, subs);
+	}
+
+	void unregister(PluginLifecycleComponent component)
+	{
+		List<EventBus.Subscriber> subs = subscribers.remove(component);
+		if (subs != null)
+		{
+			subs.forEach(eventBus::unregister);
+		}
+	}
+
+	Overlay wrap(PluginLifecycleComponent component, Overlay overlay)
+	{
+		if (!enabled || !ProfiledOverlay.canWrap(overlay))
+		{
+			return overlay;
+		}
+
+		return overlays.computeIfAbsent(overlay, o -> new ProfiledOverlay(o, getProfile(component)));
+	}
+
+	// the instance that was given to the OverlayManager for this overlay
+	Overlay unwrap(Overlay overlay)
+	{
+		ProfiledOverlay wrapper = overlays.remove(overlay);
+		return wrapper != null ? wrapper : overlay;
+	}
+
+	private <T> EventBus.Subscriber subscribe(Object component, ComponentProfile profile, Method method, Class<T> eventType, float priority)
+		throws IllegalAccessException
+	{
+		method.setAccessible(true);
+		MethodHandle handle = MethodHandles.lookup().unreflect(method).bindTo(component);
+		LatencyHistogram histogram = profile.handlerHistogram(eventType);
+
+		return eventBus.register(eventType, event ->
+		{
+			boolean handled = false;
+			long start = System.nanoTime();
+			try
+			{
+				handle.invoke(event);
+				handled = true;
+			}
+			catch (Throwable t)
+			{
+				Throwables.throwIfUnchecked(t);
+				throw new RuntimeException(t);
+			}
+			finally
+			{
+				profile.recordEvent(histogram, System.nanoTime() - start, handled);
+			}
+		}, priority);
+	}
+}
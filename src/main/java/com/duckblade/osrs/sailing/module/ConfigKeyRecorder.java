@@ -0,0 +1,116 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.SailingConfig;
+import com.duckblade.osrs.sailing.SailingConfigSnapshot;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import net.runelite.client.config.ConfigItem;
+
+/**
+ * Hands components an immutable {@link SailingConfigSnapshot} in
+ * {@link PluginLifecycleComponent#isEnabled(SailingConfig)},
+ * recording which config keys each one reads
+ * so the {@link ComponentManager} only re-evaluates components whose inputs actually changed.
+ */
+@Singleton
+class ConfigKeyRecorder implements InvocationHandler
+{
+
+	private final SailingConfig config;
+	private final SailingConfig recordingConfig;
+	private final ImmutableMap<Method, String> keysByMethod;
+	private final ImmutableSet<String> configKeys;
+
+	@Getter
+	private SailingConfigSnapshot snapshot;
+
+	private Set<String> recording;
+
+	@Inject
+	ConfigKeyRecorder(SailingConfig config)
+	{
+		this.config = config;
+		this.recordingConfig = (SailingConfig) Proxy.newProxyInstance(
+			SailingConfig.class.getClassLoader(),
+			new Class<?>[]{SailingConfig.class},
+			this
+		);
+
+		ImmutableMap.Builder<Method, String> keys = ImmutableMap.builder();
+		for (Method m : SailingConfig.class.getMethods())
+		{
+			ConfigItem item = m.getAnnotation(ConfigItem.class);
+			if (item != null)
+			{
+				keys.put(m, item.keyName());
+			}
+		}
+		this.keysByMethod = keys.build();
+		this.configKeys = ImmutableSet.copyOf(keysByMethod.values());
+	}
+
+	// false for keys that aren't config items, e.g. rsprofile data stored in the same group
+	boolean isConfigKey(String key)
+	{
+		return configKeys.contains(key);
+	}
+
+	void refresh()
+	{
+		snapshot = SailingConfigSnapshot.of(config);
+	}
+
+	// evaluates isEnabled against the current snapshot, adding every key it reads to readKeys
+	boolean isEnabled(PluginLifecycleComponent component, Set<String> readKeys)
+	{
+		recording = readKeys;
+		try
+		{
+			return component.isEnabled(recordingConfig);
+		}
+		finally
+		{
+			recording = null;
+		}
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+	{
+		if (method.getDeclaringClass() == Object.class)
+		{
+			switch (method.getName())
+			{
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				default:
+					return "ConfigKeyRecorder(" + snapshot + ")";
+			}
+		}
+
+		String key = keysByMethod.get(method);
+		if (key != null && recording != null)
+		{
+			recording.add(key);
+		}
+
+		try
+		{
+			return method.invoke(snapshot, args);
+		}
+		catch (InvocationTargetException e)
+		{
+			throw e.getCause();
+		}
+	}
+}
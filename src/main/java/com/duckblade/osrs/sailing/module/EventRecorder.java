@@ -0,0 +1,295 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.SailingPlugin;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Actor;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.Item;
+import net.runelite.api.NPC;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.CommandExecuted;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.OverheadTextChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.events.WorldEntityDespawned;
+import net.runelite.api.events.WorldEntitySpawned;
+import net.runelite.api.gameval.InterfaceID;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Developer-mode recorder for the events the plugin's trackers consume,
+ * toggled with ::sailingrecord and written to {@link #RECORDINGS_DIR} for offline replay.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class EventRecorder
+	implements PluginLifecycleComponent
+{
+
+	public static final File RECORDINGS_DIR = new File(SailingPlugin.SAILING_DIR, "recordings");
+
+	// widgets read by trackers instead of being delivered as events, sampled each tick
+	private static final int[] TRACKED_WIDGETS = {
+		InterfaceID.SailingBtHud.BT_TRACKER_PROGRESS,
+	};
+
+	private final Client client;
+	private final SailingState sailingState;
+
+	private final Map<Integer, String> lastWidgetText = new HashMap<>();
+
+	private EventRecording.Writer writer;
+
+	@Override
+	public void shutDown()
+	{
+		stop();
+	}
+
+	@Subscribe
+	public void onCommandExecuted(CommandExecuted e)
+	{
+		if (!e.getCommand().equals("sailingrecord"))
+		{
+			return;
+		}
+
+		if (writer != null)
+		{
+			stop();
+		}
+		else
+		{
+			start();
+		}
+	}
+
+	// after SailingState refreshes, before trackers handle the tick
+	@Subscribe(priority = 99)
+	public void onGameTick(GameTick e)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		SailingState.Snapshot state = sailingState.getSnapshot();
+		WorldPoint wp = state.getTopLevelWorldPoint();
+		if (wp != null)
+		{
+			writer.tick(client.getTickCount(), state.getWorldViewId(), wp.getX(), wp.getY(), wp.getPlane());
+		}
+		else
+		{
+			writer.tick(client.getTickCount(), state.getWorldViewId(), -1, -1, -1);
+		}
+
+		for (int componentId : TRACKED_WIDGETS)
+		{
+			Widget w = client.getWidget(componentId);
+			String text = w != null && !w.isHidden() ? w.getText() : null;
+			if (!Objects.equals(text, lastWidgetText.get(componentId)))
+			{
+				lastWidgetText.put(componentId, text);
+				writer.widgetText(componentId, text);
+			}
+		}
+	}
+
+	@Subscribe
+	public void onVarbitChanged(VarbitChanged e)
+	{
+		if (writer != null)
+		{
+			writer.varbit(e.getVarpId(), e.getVarbitId(), e.getValue());
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned e)
+	{
+		if (writer != null)
+		{
+			GameObject o = e.getGameObject();
+			WorldPoint wp = o.getWorldLocation();
+			writer.objectSpawned(o.getId(), o.getWorldView().getId(), wp.getX(), wp.getY(), wp.getPlane());
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned e)
+	{
+		if (writer != null)
+		{
+			GameObject o = e.getGameObject();
+			WorldPoint wp = o.getWorldLocation();
+			writer.objectDespawned(o.getId(), o.getWorldView().getId(), wp.getX(), wp.getY(), wp.getPlane());
+		}
+	}
+
+	@Subscribe
+	public void onWorldEntitySpawned(WorldEntitySpawned e)
+	{
+		if (writer != null)
+		{
+			WorldEntity we = e.getWorldEntity();
+			writer.worldEntitySpawned(we.getWorldView().getId(), we.getConfig().getId());
+		}
+	}
+
+	@Subscribe
+	public void onWorldEntityDespawned(WorldEntityDespawned e)
+	{
+		if (writer != null)
+		{
+			writer.worldEntityDespawned(e.getWorldEntity().getWorldView().getId());
+		}
+	}
+
+	@Subscribe
+	public void onItemContainerChanged(ItemContainerChanged e)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		Item[] items = e.getItemContainer().getItems();
+		int[] ids = new int[items.length];
+		int[] quantities = new int[items.length];
+		for (int i = 0; i < items.length; i++)
+		{
+			ids[i] = items[i] != null ? items[i].getId() : -1;
+			quantities[i] = items[i] != null ? items[i].getQuantity() : 0;
+		}
+		writer.itemContainer(e.getContainerId(), ids, quantities);
+	}
+
+	@Subscribe
+	public void onChatMessage(ChatMessage e)
+	{
+		if (writer != null)
+		{
+			writer.chat(e.getType().name(), e.getName(), e.getMessage(), e.getSender());
+		}
+	}
+
+	@Subscribe
+	public void onOverheadTextChanged(OverheadTextChanged e)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		Actor actor = e.getActor();
+		int worldViewId = actor.getWorldView() != null ? actor.getWorldView().getId() : -1;
+		if (actor == client.getLocalPlayer())
+		{
+			writer.overheadText(EventRecording.ACTOR_LOCAL_PLAYER, -1, worldViewId, e.getOverheadText());
+		}
+		else if (actor instanceof NPC)
+		{
+			writer.overheadText(EventRecording.ACTOR_NPC, ((NPC) actor).getId(), worldViewId, e.getOverheadText());
+		}
+		else
+		{
+			writer.overheadText(EventRecording.ACTOR_OTHER, -1, worldViewId, e.getOverheadText());
+		}
+	}
+
+	@Subscribe
+	public void onInteractingChanged(InteractingChanged e)
+	{
+		// trackers only follow what the local player interacts with
+		if (writer == null || e.getSource() != client.getLocalPlayer())
+		{
+			return;
+		}
+
+		Actor target = e.getTarget();
+		if (target == null)
+		{
+			writer.interacting(EventRecording.ACTOR_NONE, -1, -1, -1, -1, -1);
+		}
+		else if (target instanceof NPC)
+		{
+			WorldPoint wp = target.getWorldLocation();
+			writer.interacting(EventRecording.ACTOR_NPC, ((NPC) target).getId(), target.getWorldView().getId(), wp.getX(), wp.getY(), wp.getPlane());
+		}
+		else
+		{
+			writer.interacting(EventRecording.ACTOR_OTHER, -1, -1, -1, -1, -1);
+		}
+	}
+
+	private void start()
+	{
+		if (!RECORDINGS_DIR.exists() && !RECORDINGS_DIR.mkdirs())
+		{
+			log.warn("Unable to create recordings directory at {}", RECORDINGS_DIR.getAbsolutePath());
+			return;
+		}
+
+		File file = new File(RECORDINGS_DIR, System.currentTimeMillis() + ".srec.gz");
+		try
+		{
+			writer = new EventRecording.Writer(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(file))));
+			lastWidgetText.clear();
+			chat("Recording sailing events to " + file.getAbsolutePath());
+		}
+		catch (IOException ex)
+		{
+			log.warn("Failed to start event recording at {}", file, ex);
+		}
+	}
+
+	private void stop()
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		try
+		{
+			writer.close();
+			chat("Stopped recording sailing events.");
+		}
+		catch (IOException ex)
+		{
+			log.warn("Failed to close event recording", ex);
+		}
+		finally
+		{
+			writer = null;
+		}
+	}
+
+	private void chat(String message)
+	{
+		client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", message, null);
+	}
+}
@@ -0,0 +1,363 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Compact binary format for the event streams captured by the {@link EventRecorder},
+ * replayed offline by the test harness.
+ * A header of {@link #MAGIC} and {@link #VERSION}, then one type byte and its fixed payload per record until EOF.
+ * Callers supply buffering/compression around the underlying streams.
+ */
+public final class EventRecording
+{
+
+	public static final int MAGIC = 0x53524543; // SREC
+	public static final int VERSION = 2;
+
+	static final byte TICK = 1;
+	static final byte VARBIT = 2;
+	static final byte OBJECT_SPAWNED = 3;
+	static final byte OBJECT_DESPAWNED = 4;
+	static final byte ITEM_CONTAINER = 5;
+	static final byte CHAT = 6;
+	static final byte OVERHEAD_TEXT = 7;
+	static final byte WIDGET_TEXT = 8;
+	static final byte WORLD_ENTITY_SPAWNED = 9;
+	static final byte WORLD_ENTITY_DESPAWNED = 10;
+	static final byte INTERACTING = 11; // since version 2
+
+	// actor kinds for overhead text and interaction targets
+	public static final byte ACTOR_LOCAL_PLAYER = 0;
+	public static final byte ACTOR_NPC = 1;
+	public static final byte ACTOR_OTHER = 2;
+	public static final byte ACTOR_NONE = 3;
+
+	private EventRecording()
+	{
+	}
+
+	public interface Handler
+	{
+		// top-level location is -1,-1,-1 when unknown
+		void tick(int tickCount, int worldViewId, int x, int y, int plane);
+
+		void varbit(int varpId, int varbitId, int value);
+
+		void objectSpawned(int objectId, int worldViewId, int x, int y, int plane);
+
+		void objectDespawned(int objectId, int worldViewId, int x, int y, int plane);
+
+		// ids and quantities are parallel arrays, -1 ids are empty slots
+		void itemContainer(int containerId, int[] itemIds, int[] quantities);
+
+		void chat(String type, String name, String message, String sender);
+
+		void overheadText(byte actorKind, int npcId, int worldViewId, String text);
+
+		void widgetText(int componentId, String text);
+
+		void worldEntitySpawned(int worldViewId, int configId);
+
+		void worldEntityDespawned(int worldViewId);
+
+		// the local player's new interaction target, location is the npc's or -1,-1,-1 for other kinds
+		void interacting(byte targetKind, int npcId, int worldViewId, int x, int y, int plane);
+	}
+
+	public static class Writer implements Handler, Closeable
+	{
+
+		private final DataOutputStream out;
+
+		public Writer(OutputStream out) throws IOException
+		{
+			this.out = new DataOutputStream(out);
+			this.out.writeInt(MAGIC);
+			this.out.writeShort(VERSION);
+		}
+
+		@Override
+		public void tick(int tickCount, int worldViewId, int x, int y, int plane)
+		{
+			write(TICK, tickCount, worldViewId, x, y, plane);
+		}
+
+		@Override
+		public void varbit(int varpId, int varbitId, int value)
+		{
+			write(VARBIT, varpId, varbitId, value);
+		}
+
+		@Override
+		public void objectSpawned(int objectId, int worldViewId, int x, int y, int plane)
+		{
+			write(OBJECT_SPAWNED, objectId, worldViewId, x, y, plane);
+		}
+
+		@Override
+		public void objectDespawned(int objectId, int worldViewId, int x, int y, int plane)
+		{
+			write(OBJECT_DESPAWNED, objectId, worldViewId, x, y, plane);
+		}
+
+		@Override
+		public void itemContainer(int containerId, int[] itemIds, int[] quantities)
+		{
+			try
+			{
+				out.writeByte(ITEM_CONTAINER);
+				out.writeInt(containerId);
+				out.writeShort(itemIds.length);
+				for (int i = 0; i < itemIds.length; i++)
+				{
+					out.writeInt(itemIds[i]);
+					out.writeInt(quantities[i]);
+				}
+			}
+			catch (IOException e)
+			{
+				throw new RecordingException(e);
+			}
+		}
+
+		@Override
+		public void chat(String type, String name, String message, String sender)
+		{
+			try
+			{
+				out.writeByte(CHAT);
+				out.writeUTF(type);
+				out.writeUTF(nonNull(name));
+				out.writeUTF(nonNull(message));
+				out.writeUTF(nonNull(sender));
+			}
+			catch (IOException e)
+			{
+				throw new RecordingException(e);
+			}
+		}
+
+		@Override
+		public void overheadText(byte actorKind, int npcId, int worldViewId, String text)
+		{
+			try
+			{
+				out.writeByte(OVERHEAD_TEXT);
+				out.writeByte(actorKind);
+				out.writeInt(npcId);
+				out.writeInt(worldViewId);
+				out.writeUTF(nonNull(text));
+			}
+			catch (IOException e)
+			{
+				throw new RecordingException(e);
+			}
+		}
+
+		@Override
+		public void widgetText(int componentId, String text)
+		{
+			try
+			{
+				out.writeByte(WIDGET_TEXT);
+				out.writeInt(componentId);
+				out.writeUTF(nonNull(text));
+			}
+			catch (IOException e)
+			{
+				throw new RecordingException(e);
+			}
+		}
+
+		@Override
+		public void worldEntitySpawned(int worldViewId, int configId)
+		{
+			write(WORLD_ENTITY_SPAWNED, worldViewId, configId);
+		}
+
+		@Override
+		public void worldEntityDespawned(int worldViewId)
+		{
+			write(WORLD_ENTITY_DESPAWNED, worldViewId);
+		}
+
+		@Override
+		public void interacting(byte targetKind, int npcId, int worldViewId, int x, int y, int plane)
+		{
+			try
+			{
+				out.writeByte(INTERACTING);
+				out.writeByte(targetKind);
+				out.writeInt(npcId);
+				out.writeInt(worldViewId);
+				out.writeInt(x);
+				out.writeInt(y);
+				out.writeInt(plane);
+			}
+			catch (IOException e)
+			{
+				throw new RecordingException(e);
+			}
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			out.close();
+		}
+
+		private void write(byte type, int... values)
+		{
+			try
+			{
+				out.writeByte(type);
+				for (int v : values)
+				{
+					out.writeInt(v);
+				}
+			}
+			catch (IOException e)
+			{
+				throw new RecordingException(e);
+			}
+		}
+
+		private static String nonNull(String s)
+		{
+			return s != null ? s : "";
+		}
+	}
+
+	public static class Reader implements Closeable
+	{
+
+		private final DataInputStream in;
+
+		public Reader(InputStream in) throws IOException
+		{
+			this.in = new DataInputStream(in);
+			if (this.in.readInt() != MAGIC)
+			{
+				throw new IOException("not a sailing event recording");
+			}
+
+			int version = this.in.readUnsignedShort();
+			// older versions are a subset of the current record types
+			if (version < 1 || version > VERSION)
+			{
+				throw new IOException("unsupported recording version " + version);
+			}
+		}
+
+		// dispatches every remaining record to the handler, returns the number of records read
+		public int readAll(Handler handler) throws IOException
+		{
+			int records = 0;
+			while (readNext(handler))
+			{
+				records++;
+			}
+			return records;
+		}
+
+		public boolean readNext(Handler handler) throws IOException
+		{
+			int type = in.read();
+			if (type == -1)
+			{
+				return false;
+			}
+
+			try
+			{
+				switch (type)
+				{
+					case TICK:
+						handler.tick(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+						break;
+
+					case VARBIT:
+						handler.varbit(in.readInt(), in.readInt(), in.readInt());
+						break;
+
+					case OBJECT_SPAWNED:
+						handler.objectSpawned(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+						break;
+
+					case OBJECT_DESPAWNED:
+						handler.objectDespawned(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+						break;
+
+					case ITEM_CONTAINER:
+					{
+						int containerId = in.readInt();
+						int size = in.readUnsignedShort();
+						int[] ids = new int[size];
+						int[] quantities = new int[size];
+						for (int i = 0; i < size; i++)
+						{
+							ids[i] = in.readInt();
+							quantities[i] = in.readInt();
+						}
+						handler.itemContainer(containerId, ids, quantities);
+						break;
+					}
+
+					case CHAT:
+						handler.chat(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF());
+						break;
+
+					case OVERHEAD_TEXT:
+						handler.overheadText(in.readByte(), in.readInt(), in.readInt(), in.readUTF());
+						break;
+
+					case WIDGET_TEXT:
+						handler.widgetText(in.readInt(), in.readUTF());
+						break;
+
+					case WORLD_ENTITY_SPAWNED:
+						handler.worldEntitySpawned(in.readInt(), in.readInt());
+						break;
+
+					case WORLD_ENTITY_DESPAWNED:
+						handler.worldEntityDespawned(in.readInt());
+						break;
+
+					case INTERACTING:
+						handler.interacting(in.readByte(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+						break;
+
+					default:
+						throw new IOException("unknown record type " + type);
+				}
+			}
+			catch (EOFException e)
+			{
+				// recordings cut off mid-write (e.g. client crash) keep everything before the partial record
+				return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			in.close();
+		}
+	}
+
+	public static class RecordingException extends RuntimeException
+	{
+		RecordingException(IOException cause)
+		{
+			super(cause);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.features.util.IntObjectMap;
+import com.google.common.primitives.Ints;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.GameObject;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.util.GameEventManager;
+
+/**
+ * Single subscriber for game object spawns/despawns,
+ * which dispatches each event only to the components that registered for its object id
+ * instead of every component filtering every spawn in the scene.
+ * Components register in {@link PluginLifecycleComponent#startUp()},
+ * and are unregistered automatically by the {@link ComponentManager} when they shut down.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class GameObjectRouter
+{
+
+	private static final Route[] NO_ROUTES = new Route[0];
+
+	private final GameEventManager gameEventManager;
+	private final ComponentProfiler profiler;
+
+	private final IntObjectMap<Route[]> routes = new IntObjectMap<>(512);
+
+	public void register(PluginLifecycleComponent owner, Collection<Integer> objectIds, Consumer<GameObject> onSpawned, Consumer<GameObject> onDespawned)
+	{
+		register(owner, Ints.toArray(objectIds), onSpawned, onDespawned);
+	}
+
+	public void register(PluginLifecycleComponent owner, int[] objectIds, Consumer<GameObject> onSpawned, Consumer<GameObject> onDespawned)
+	{
+		Route route = profiler.isEnabled()
+			? new Route(owner, onSpawned, onDespawned, profiler.getProfile(owner))
+			: new Route(owner, onSpawned, onDespawned, null);
+		for (int id : objectIds)
+		{
+			Route[] existing = routes.get(id);
+			if (existing == null)
+			{
+				existing = NO_ROUTES;
+			}
+
+			Route[] updated = Arrays.copyOf(existing, existing.length + 1);
+			updated[existing.length] = route;
+			routes.put(id, updated);
+		}
+	}
+
+	public void unregister(PluginLifecycleComponent owner)
+	{
+		// collect first, removals shift entries between slots
+		int[] affected = new int[routes.size()];
+		int count = 0;
+		for (int slot = 0; slot < routes.capacity(); slot++)
+		{
+			Route[] existing = routes.valueAt(slot);
+			if (existing != null && hasOwner(existing, owner))
+			{
+				affected[count++] = routes.keyAt(slot);
+			}
+		}
+
+		for (int i = 0; i < count; i++)
+		{
+			removeOwner(affected[i], owner);
+		}
+	}
+
+	// replays existing scene objects to a newly started component's routes
+	public void simulateGameEvents(PluginLifecycleComponent owner)
+	{
+		gameEventManager.simulateGameEvents(new Replay(owner));
+	}
+
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned e)
+	{
+		dispatch(e.getGameObject(), null, true);
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned e)
+	{
+		dispatch(e.getGameObject(), null, false);
+	}
+
+	private void dispatch(GameObject o, PluginLifecycleComponent onlyOwner, boolean spawned)
+	{
+		Route[] targets = routes.get(o.getId());
+		if (targets == null)
+		{
+			return;
+		}
+
+		for (Route route : targets)
+		{
+			if (onlyOwner != null && route.owner != onlyOwner)
+			{
+				continue;
+			}
+
+			Consumer<GameObject> handler = spawned ? route.onSpawned : route.onDespawned;
+			if (handler == null)
+			{
+				continue;
+			}
+
+			boolean handled = false;
+			long start = route.profile != null ? System.nanoTime() : 0;
+			try
+			{
+				handler.accept(o);
+				handled = true;
+			}
+			catch (Exception ex)
+			{
+				log.warn("Sailing component [{}] failed to handle object {}", route.owner.getClass().getName(), o.getId(), ex);
+			}
+			finally
+			{
+				if (route.profile != null)
+				{
+					route.profile.recordEvent(spawned ? route.spawnedTimes : route.despawnedTimes, System.nanoTime() - start, handled);
+				}
+			}
+		}
+	}
+
+	private static boolean hasOwner(Route[] existing, PluginLifecycleComponent owner)
+	{
+		for (Route route : existing)
+		{
+			if (route.owner == owner)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void removeOwner(int objectId, PluginLifecycleComponent owner)
+	{
+		Route[] existing = routes.get(objectId);
+		int kept = 0;
+		for (Route route : existing)
+		{
+			if (route.owner != owner)
+			{
+				kept++;
+			}
+		}
+
+		if (kept == 0)
+		{
+			routes.remove(objectId);
+			return;
+		}
+
+		Route[] updated = new Route[kept];
+		int i = 0;
+		for (Route route : existing)
+		{
+			if (route.owner != owner)
+			{
+				updated[i++] = route;
+			}
+		}
+		routes.put(objectId, updated);
+	}
+
+	private static class Route
+	{
+		private final PluginLifecycleComponent owner;
+		private final Consumer<GameObject> onSpawned;
+		private final Consumer<GameObject> onDespawned;
+
+		// null unless profiling
+		private final ComponentProfile profile;
+		private final LatencyHistogram spawnedTimes;
+		private final LatencyHistogram despawnedTimes;
+
+		Route(PluginLifecycleComponent owner, Consumer<GameObject> onSpawned, Consumer<GameObject> onDespawned, ComponentProfile profile)
+		{
+			this.owner = owner;
+			this.onSpawned = onSpawned;
+			this.onDespawned = onDespawned;
+			this.profile = profile;
+			this.spawnedTimes = profile != null ? profile.handlerHistogram(GameObjectSpawned.class) : null;
+			this.despawnedTimes = profile != null ? profile.handlerHistogram(GameObjectDespawned.class) : null;
+		}
+	}
+
+	@RequiredArgsConstructor
+	public class Replay
+	{
+		private final PluginLifecycleComponent owner;
+
+		@Subscribe
+		public void onGameObjectSpawned(GameObjectSpawned e)
+		{
+			dispatch(e.getGameObject(), owner, true);
+		}
+	}
+}
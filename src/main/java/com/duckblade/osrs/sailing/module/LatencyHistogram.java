@@ -0,0 +1,98 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Fixed-bucket nanosecond histogram in the style of HdrHistogram,
+ * with 8 linear sub-buckets per power of two (~12% relative error).
+ * Recording never allocates. Not thread safe, written from the client thread.
+ */
+public final class LatencyHistogram
+{
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final long[] counts = new long[BUCKETS];
+
+	@Getter
+	private long count;
+
+	@Getter
+	private long totalNanos;
+
+	@Getter
+	private long maxNanos;
+
+	public void record(long nanos)
+	{
+		if (nanos < 0)
+		{
+			nanos = 0;
+		}
+
+		counts[indexOf(nanos)]++;
+		count++;
+		totalNanos += nanos;
+		if (nanos > maxNanos)
+		{
+			maxNanos = nanos;
+		}
+	}
+
+	// upper bound of the bucket containing the given percentile, capped at the max recorded value
+	public long percentile(double percentile)
+	{
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += counts[i];
+			if (seen >= target)
+			{
+				return Math.min(upperBound(i), maxNanos);
+			}
+		}
+
+		return maxNanos;
+	}
+
+	public void reset()
+	{
+		Arrays.fill(counts, 0);
+		count = 0;
+		totalNanos = 0;
+		maxNanos = 0;
+	}
+
+	static int indexOf(long value)
+	{
+		if (value < SUB_BUCKETS)
+		{
+			return (int) value;
+		}
+
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + sub;
+	}
+
+	static long upperBound(int index)
+	{
+		if (index < SUB_BUCKETS)
+		{
+			return index;
+		}
+
+		int shift = index / SUB_BUCKETS - 1;
+		long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+		return lower + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,56 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.WidgetItemOverlay;
+
+// times render() of a dynamic overlay, registered with the OverlayManager in its place
+class ProfiledOverlay extends Overlay
+{
+
+	private final Overlay delegate;
+	private final ComponentProfile profile;
+
+	ProfiledOverlay(Overlay delegate, ComponentProfile profile)
+	{
+		this.delegate = delegate;
+		this.profile = profile;
+
+		setPosition(delegate.getPosition());
+		setLayer(delegate.getLayer());
+		setPriority(delegate.getPriority());
+	}
+
+	// panels are positioned/snapped by their own identity and widget overlays are fed state by the renderer,
+	// so only plain dynamic overlays can be swapped for a wrapper
+	static boolean canWrap(Overlay overlay)
+	{
+		return overlay.getPosition() == OverlayPosition.DYNAMIC &&
+			overlay.getDrawHooks().isEmpty() &&
+			!(overlay instanceof OverlayPanel) &&
+			!(overlay instanceof WidgetItemOverlay);
+	}
+
+	@Override
+	public String getName()
+	{
+		return delegate.getName();
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		long start = System.nanoTime();
+		try
+		{
+			return delegate.render(graphics);
+		}
+		finally
+		{
+			profile.getRender().record(System.nanoTime() - start);
+		}
+	}
+}
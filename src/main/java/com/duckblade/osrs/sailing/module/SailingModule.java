@@ -9,7 +9,12 @@ import com.duckblade.osrs.sailing.features.barracudatrials.splits.BarracudaSplit
 import com.duckblade.osrs.sailing.features.barracudatrials.splits.BarracudaSplitsFileWriter;
 import com.duckblade.osrs.sailing.features.barracudatrials.splits.BarracudaSplitsOverlayPanel;
 import com.duckblade.osrs.sailing.features.barracudatrials.splits.BarracudaSplitsTracker;
+import com.duckblade.osrs.sailing.features.charting.ChartProgressCache;
+import com.duckblade.osrs.sailing.features.charting.ChartProgressPanelManager;
+import com.duckblade.osrs.sailing.features.charting.ChartingCompass;
+import com.duckblade.osrs.sailing.features.charting.ChartingRoutePlanner;
 import com.duckblade.osrs.sailing.features.charting.CurrentDuckTaskTracker;
+import com.duckblade.osrs.sailing.features.charting.MermaidItemOverlay;
 import com.duckblade.osrs.sailing.features.charting.MermaidTaskSolver;
 import com.duckblade.osrs.sailing.features.charting.SeaChartMapPointManager;
 import com.duckblade.osrs.sailing.features.charting.SeaChartOverlay;
@@ -29,9 +34,12 @@ import com.duckblade.osrs.sailing.features.mes.HideStopNavigatingDuringTrials;
 import com.duckblade.osrs.sailing.features.mes.PrioritizeCargoHold;
 import com.duckblade.osrs.sailing.features.navigation.LightningCloudsOverlay;
 import com.duckblade.osrs.sailing.features.navigation.LowHPNotification;
+import com.duckblade.osrs.sailing.features.navigation.NavigableWaterMap;
 import com.duckblade.osrs.sailing.features.navigation.NavigationOverlay;
 import com.duckblade.osrs.sailing.features.navigation.RapidsOverlay;
+import com.duckblade.osrs.sailing.features.navigation.TrajectoryOverlay;
 import com.duckblade.osrs.sailing.features.navigation.TrueTileIndicator;
+import com.duckblade.osrs.sailing.features.navigation.WaterRouter;
 import com.duckblade.osrs.sailing.features.oceanencounters.Castaway;
 import com.duckblade.osrs.sailing.features.oceanencounters.ClueCasket;
 import com.duckblade.osrs.sailing.features.oceanencounters.ClueTurtle;
@@ -41,7 +49,10 @@ import com.duckblade.osrs.sailing.features.oceanencounters.MysteriousGlow;
 import com.duckblade.osrs.sailing.features.oceanencounters.OceanMan;
 import com.duckblade.osrs.sailing.features.reversebeep.ReverseBeep;
 import com.duckblade.osrs.sailing.features.salvaging.SalvagingHighlight;
+import com.duckblade.osrs.sailing.features.util.BoatKinematics;
 import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.ProjectionCache;
+import com.duckblade.osrs.sailing.features.util.SailingState;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
@@ -69,9 +80,14 @@ public class SailingModule extends AbstractModule
 		BarracudaSplitsChatMessage barracudaSplitsChatMessage,
 		BarracudaSplitsOverlayPanel barracudaSplitsOverlayPanel,
 		BarracudaSplitsFileWriter barracudaSplitsFileWriter,
+		BoatKinematics boatKinematics,
 		BoatTracker boatTracker,
 		CargoHoldTracker cargoHoldTracker,
 		Castaway castaway,
+		ChartProgressCache chartProgressCache,
+		ChartProgressPanelManager chartProgressPanelManager,
+		ChartingCompass chartingCompass,
+		ChartingRoutePlanner chartingRoutePlanner,
 		ClueCasket clueCasket,
 		ClueTurtle clueTurtle,
 		CourierTaskLedgerOverlay courierTaskLedgerOverlay,
@@ -81,6 +97,7 @@ public class SailingModule extends AbstractModule
 		CrystalExtractorHighlight crystalExtractorHighlight,
 		CurrentDuckTaskTracker currentDuckTaskTracker,
 		DeprioSailsOffHelm deprioSailsOffHelm,
+		EventRecorder eventRecorder,
 		GiantClam giantClam,
 		HidePortalTransitions hidePortalTransitions,
 		HideStopNavigatingDuringTrials hideStopNavigatingDuringTrials,
@@ -90,13 +107,17 @@ public class SailingModule extends AbstractModule
 		LostShipment lostShipment,
 		LowHPNotification lowHPNotification,
 		LuffOverlay luffOverlay,
+		MermaidItemOverlay mermaidItemOverlay,
 		MermaidTaskSolver mermaidTaskSolver,
 		MysteriousGlow mysteriousGlow,
+		NavigableWaterMap navigableWaterMap,
 		NavigationOverlay navigationOverlay,
 		OceanMan oceanMan,
 		PrioritizeCargoHold prioritizeCargoHold,
+		ProjectionCache projectionCache,
 		RapidsOverlay rapidsOverlay,
 		ReverseBeep reverseBeep,
+		SailingState sailingState,
 		SalvagingHighlight salvagingHighlight,
 		SeaChartMapPointManager seaChartMapPointManager,
 		SeaChartOverlay seaChartOverlay,
@@ -104,7 +125,9 @@ public class SailingModule extends AbstractModule
 		SeaChartTaskIndex seaChartTaskIndex,
 		SpeedBoostInfoBox speedBoostInfoBox,
 		TemporTantrumHelper temporTantrumHelper,
+		TrajectoryOverlay trajectoryOverlay,
 		TrueTileIndicator trueTileIndicator,
+		WaterRouter waterRouter,
 		WeatherTaskTracker weatherTaskTracker
 	)
 	{
@@ -113,9 +136,14 @@ public class SailingModule extends AbstractModule
 			.add(barracudaSplitsChatMessage)
 			.add(barracudaSplitsOverlayPanel)
 			.add(barracudaSplitsFileWriter)
+			.add(boatKinematics)
 			.add(boatTracker)
 			.add(cargoHoldTracker)
 			.add(castaway)
+			.add(chartProgressCache)
+			.add(chartProgressPanelManager)
+			.add(chartingCompass)
+			.add(chartingRoutePlanner)
 			.add(clueCasket)
 			.add(clueTurtle)
 			.add(courierTaskLedgerOverlay)
@@ -134,13 +162,17 @@ public class SailingModule extends AbstractModule
 			.add(lostShipment)
 			.add(lowHPNotification)
 			.add(luffOverlay)
+			.add(mermaidItemOverlay)
 			.add(mermaidTaskSolver)
 			.add(mysteriousGlow)
+			.add(navigableWaterMap)
 			.add(navigationOverlay)
 			.add(oceanMan)
 			.add(prioritizeCargoHold)
+			.add(projectionCache)
 			.add(rapidsOverlay)
 			.add(reverseBeep)
+			.add(sailingState)
 			.add(salvagingHighlight)
 			.add(seaChartOverlay)
 			.add(seaChartMapPointManager)
@@ -148,13 +180,15 @@ public class SailingModule extends AbstractModule
 			.add(seaChartTaskIndex)
 			.add(speedBoostInfoBox)
 			.add(temporTantrumHelper)
+			.add(trajectoryOverlay)
 			.add(trueTileIndicator)
+			.add(waterRouter)
 			.add(weatherTaskTracker);
 
 		// features still in development
-		//noinspection StatementWithEmptyBody
 		if (developerMode)
 		{
+			builder.add(eventRecorder);
 		}
 
 		return builder.build();
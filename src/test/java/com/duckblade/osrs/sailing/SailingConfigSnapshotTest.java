@@ -0,0 +1,32 @@
+package com.duckblade.osrs.sailing;
+
+import java.lang.reflect.Method;
+import net.runelite.client.config.ConfigItem;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SailingConfigSnapshotTest
+{
+
+	@Test
+	public void ensureSnapshotCoversAllConfigItems()
+	{
+		for (Method m : SailingConfig.class.getMethods())
+		{
+			if (!m.isAnnotationPresent(ConfigItem.class))
+			{
+				continue;
+			}
+
+			// the interface defaults would otherwise silently shadow the user's value
+			try
+			{
+				SailingConfigSnapshot.class.getDeclaredMethod(m.getName());
+			}
+			catch (NoSuchMethodException e)
+			{
+				Assert.fail(String.format("SailingConfigSnapshot is missing %s, rerun generateConfigSnapshot", m.getName()));
+			}
+		}
+	}
+}
@@ -80,4 +80,14 @@ public interface SailingDebugConfig extends Config
 		return false;
 	}
 
+	@ConfigItem(
+		keyName = "profilerOverlayDefaultOn",
+		name = "Component Profiler Default On",
+		description = "requires developer mode, also toggleable with ::sailingprof overlay"
+	)
+	default boolean profilerOverlayDefaultOn()
+	{
+		return false;
+	}
+
 }
@@ -0,0 +1,169 @@
+package com.duckblade.osrs.sailing.debugplugin.features;
+
+import com.duckblade.osrs.sailing.debugplugin.SailingDebugConfig;
+import com.duckblade.osrs.sailing.debugplugin.module.DebugLifecycleComponent;
+import com.duckblade.osrs.sailing.module.ComponentProfile;
+import com.duckblade.osrs.sailing.module.ComponentProfiler;
+import com.duckblade.osrs.sailing.module.LatencyHistogram;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.events.CommandExecuted;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+
+@Slf4j
+@Singleton
+public class ComponentProfilerOverlayPanel
+	extends OverlayPanel
+	implements DebugLifecycleComponent
+{
+
+	private static final int MAX_LINES = 15;
+
+	private static final Comparator<ComponentProfile> SLOWEST_FIRST = Comparator.<ComponentProfile>comparingLong(
+		p -> p.getHandlers().getTotalNanos() + p.getRender().getTotalNanos()).reversed();
+
+	private final Client client;
+	private final ComponentProfiler profiler;
+
+	private boolean active;
+
+	@Inject
+	public ComponentProfilerOverlayPanel(Client client, ComponentProfiler profiler, SailingDebugConfig config)
+	{
+		this.client = client;
+		this.profiler = profiler;
+		active = config.profilerOverlayDefaultOn();
+
+		setPreferredPosition(OverlayPosition.TOP_RIGHT);
+		setLayer(OverlayLayer.ALWAYS_ON_TOP);
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		if (!active || !profiler.isEnabled())
+		{
+			return null;
+		}
+
+		getPanelComponent().setPreferredSize(new Dimension(260, 0));
+		getPanelComponent().getChildren()
+			.add(TitleComponent.builder()
+				.text("Handlers / render p50/p99 (us)")
+				.build());
+
+		List<ComponentProfile> profiles = sortedProfiles();
+		for (ComponentProfile profile : profiles.subList(0, Math.min(MAX_LINES, profiles.size())))
+		{
+			getPanelComponent().getChildren()
+				.add(LineComponent.builder()
+					.left(profile.getName())
+					.right(formatPercentiles(profile.getHandlers()) + " " + formatPercentiles(profile.getRender()))
+					.build());
+		}
+
+		return super.render(graphics);
+	}
+
+	@Subscribe
+	public void onCommandExecuted(CommandExecuted e)
+	{
+		if (!e.getCommand().equals("sailingprof"))
+		{
+			return;
+		}
+
+		String arg = e.getArguments().length > 0 ? e.getArguments()[0] : "";
+		switch (arg)
+		{
+			case "overlay":
+				active = !active;
+				return;
+
+			case "reset":
+				profiler.reset();
+				chat("Sailing profiles reset.");
+				return;
+
+			default:
+				dump();
+		}
+	}
+
+	private void dump()
+	{
+		if (!profiler.isEnabled())
+		{
+			chat("Sailing profiling is only enabled in developer mode.");
+			return;
+		}
+
+		List<ComponentProfile> profiles = sortedProfiles();
+		StringBuilder sb = new StringBuilder("Sailing component profiles (p50/p99 us):");
+		for (ComponentProfile profile : profiles)
+		{
+			sb.append(String.format("%n%-32s events %d (dropped %d) handlers %s render %s startUp %s shutDown %s",
+				profile.getName(),
+				profile.getEventsReceived(),
+				profile.getEventsDropped(),
+				formatPercentiles(profile.getHandlers()),
+				formatPercentiles(profile.getRender()),
+				formatPercentiles(profile.getStartUp()),
+				formatPercentiles(profile.getShutDown())
+			));
+
+			for (Map.Entry<Class<?>, LatencyHistogram> handler : profile.getHandlersByEvent().entrySet())
+			{
+				if (handler.getValue().getCount() == 0)
+				{
+					continue;
+				}
+
+				sb.append(String.format("%n    %-28s x%d %s",
+					handler.getKey().getSimpleName(),
+					handler.getValue().getCount(),
+					formatPercentiles(handler.getValue())
+				));
+			}
+		}
+		log.info(sb.toString());
+		chat("Dumped " + profiles.size() + " Sailing component profiles to the client log.");
+	}
+
+	private List<ComponentProfile> sortedProfiles()
+	{
+		return profiler.getProfiles()
+			.stream()
+			.sorted(SLOWEST_FIRST)
+			.collect(Collectors.toList());
+	}
+
+	private void chat(String message)
+	{
+		client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", message, null);
+	}
+
+	private static String formatPercentiles(LatencyHistogram histogram)
+	{
+		if (histogram.getCount() == 0)
+		{
+			return "-";
+		}
+
+		return histogram.percentile(50) / 1000 + "/" + histogram.percentile(99) / 1000;
+	}
+}
@@ -5,7 +5,6 @@ import com.duckblade.osrs.sailing.debugplugin.module.DebugLifecycleComponent;
 import com.duckblade.osrs.sailing.features.util.BoatTracker;
 import com.duckblade.osrs.sailing.features.util.SailingUtil;
 import com.duckblade.osrs.sailing.model.Boat;
-import com.duckblade.osrs.sailing.model.SalvagingHookTier;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
@@ -62,9 +61,9 @@ public class FacilitiesOverlay
 		renderFacility(graphics, Color.CYAN, "sailMast", boat.getSailMast(), boat.getSailMastTier());
 		renderFacility(graphics, Color.ORANGE, "helm", boat.getHelm(), boat.getHelmTier());
 		renderFacility(graphics, Color.GREEN, "cargo", boat.getCargoHold(), boat.getCargoHoldTier());
-		for (GameObject hook : boat.getSalvagingHooks())
+		for (int i = 0; i < boat.getSalvagingHookCount(); i++)
 		{
-			renderFacility(graphics, Color.RED, "hook", hook, SalvagingHookTier.fromGameObjectId(hook.getId()));
+			renderFacility(graphics, Color.RED, "hook", boat.getSalvagingHook(i), boat.getSalvagingHookTier(i));
 		}
 
 		return null;
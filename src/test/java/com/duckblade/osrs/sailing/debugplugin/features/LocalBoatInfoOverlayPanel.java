@@ -4,10 +4,10 @@ import com.duckblade.osrs.sailing.debugplugin.SailingDebugConfig;
 import com.duckblade.osrs.sailing.debugplugin.module.DebugLifecycleComponent;
 import com.duckblade.osrs.sailing.features.util.BoatTracker;
 import com.duckblade.osrs.sailing.model.Boat;
-import com.duckblade.osrs.sailing.model.SalvagingHookTier;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -86,10 +86,9 @@ public class LocalBoatInfoOverlayPanel
 		getPanelComponent().getChildren()
 			.add(LineComponent.builder()
 				.left("Hook")
-				.right(boat
-					.getSalvagingHookTiers()
-					.stream()
-					.map(SalvagingHookTier::toString)
+				.right(IntStream.range(0, boat.getSalvagingHookCount())
+					.mapToObj(boat::getSalvagingHookTier)
+					.map(String::valueOf)
 					.collect(Collectors.joining(", ", "[", "]")))
 				.build());
 
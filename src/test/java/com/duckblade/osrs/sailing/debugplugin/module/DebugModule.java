@@ -2,6 +2,7 @@ package com.duckblade.osrs.sailing.debugplugin.module;
 
 import com.duckblade.osrs.sailing.debugplugin.SailingDebugConfig;
 import com.duckblade.osrs.sailing.debugplugin.features.BoatInfoOverlay;
+import com.duckblade.osrs.sailing.debugplugin.features.ComponentProfilerOverlayPanel;
 import com.duckblade.osrs.sailing.debugplugin.features.CourierTaskOverlayPanel;
 import com.duckblade.osrs.sailing.debugplugin.features.CrewmateInfoOverlay;
 import com.duckblade.osrs.sailing.debugplugin.features.FacilitiesOverlay;
@@ -28,6 +29,7 @@ public class DebugModule extends AbstractModule
 	@Provides
 	Set<DebugLifecycleComponent> lifecycleComponents(
 		BoatInfoOverlay boatInfoOverlay,
+		ComponentProfilerOverlayPanel componentProfilerOverlayPanel,
 		CourierTaskOverlayPanel courierTaskOverlayPanel,
 		CrewmateInfoOverlay crewmateInfoOverlay,
 		FacilitiesOverlay facilitiesOverlay,
@@ -37,6 +39,7 @@ public class DebugModule extends AbstractModule
 	{
 		var builder = ImmutableSet.<DebugLifecycleComponent>builder()
 			.add(boatInfoOverlay)
+			.add(componentProfilerOverlayPanel)
 			.add(courierTaskOverlayPanel)
 			.add(crewmateInfoOverlay)
 			.add(facilitiesOverlay)
@@ -0,0 +1,142 @@
+package com.duckblade.osrs.sailing.features.barracudatrials.splits;
+
+import com.duckblade.osrs.sailing.features.barracudatrials.BarracudaDifficulty;
+import com.duckblade.osrs.sailing.features.barracudatrials.BarracudaTrial;
+import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.module.ComponentProfiler;
+import com.duckblade.osrs.sailing.module.EventRecording;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
+import com.duckblade.osrs.sailing.replay.EventReplayer;
+import com.duckblade.osrs.sailing.replay.StubClient;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.gameval.InterfaceID;
+import net.runelite.api.gameval.VarPlayerID;
+import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.eventbus.EventBus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+@Slf4j
+public class BarracudaSplitsTrackerReplayTest
+{
+
+	private static final int BOAT_WORLD_VIEW = 5;
+
+	private StubClient client;
+	private EventBus eventBus;
+
+	private final List<BarracudaSplit> splits = new ArrayList<>();
+	private final List<BarracudaSplitsComplete> completions = new ArrayList<>();
+
+	@Before
+	public void setUp()
+	{
+		client = new StubClient();
+		eventBus = new EventBus();
+
+		GameObjectRouter router = new GameObjectRouter(null, new ComponentProfiler(eventBus, false));
+		BoatTracker boatTracker = new BoatTracker(client.getClient(), router);
+		SailingState sailingState = new SailingState(client.getClient(), null, boatTracker);
+		BarracudaSplitsTracker tracker = new BarracudaSplitsTracker(client.getClient(), eventBus, sailingState);
+
+		eventBus.register(sailingState);
+		eventBus.register(tracker);
+		eventBus.register(BarracudaSplit.class, splits::add, 0);
+		eventBus.register(BarracudaSplitsComplete.class, completions::add, 0);
+	}
+
+	@Test
+	public void temporTantrumSharkRun() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			tick(w, 1);
+
+			w.varbit(BarracudaTrial.TEMPOR_TANTRUM.getKcVarp(), -1, 4);
+			w.varbit(0, VarbitID.SAILING_BT_IN_TRIAL, BarracudaDifficulty.SHARK.getInTrialVarbValue());
+			tick(w, 2);
+
+			w.varbit(VarPlayerID.SAILING_BT_TIME_START, -1, 12345);
+			tick(w, 3);
+
+			w.widgetText(InterfaceID.SailingBtHud.BT_TRACKER_PROGRESS, "0/2");
+			for (int t = 4; t < 10; t++)
+			{
+				tick(w, t);
+			}
+
+			w.widgetText(InterfaceID.SailingBtHud.BT_TRACKER_PROGRESS, "1/2");
+			for (int t = 10; t < 20; t++)
+			{
+				tick(w, t);
+			}
+
+			// the final step is only reported once the trial ends
+			w.widgetText(InterfaceID.SailingBtHud.BT_TRACKER_PROGRESS, "2/2");
+			tick(w, 20);
+
+			w.varbit(BarracudaTrial.TEMPOR_TANTRUM.getKcVarp(), -1, 5);
+			w.varbit(0, VarbitID.SAILING_BT_IN_TRIAL, 0);
+			tick(w, 21);
+		}
+
+		EventReplayer.Result result = new EventReplayer(client, eventBus).replay(new ByteArrayInputStream(bytes.toByteArray()));
+		log.debug("replayed {} records at {} records/s", result.getRecords(), (long) result.recordsPerSecond());
+
+		Assert.assertEquals(
+			Arrays.asList(new BarracudaSplit("Lap 1", 7)),
+			splits
+		);
+
+		Assert.assertEquals(1, completions.size());
+		BarracudaSplitsComplete complete = completions.get(0);
+		Assert.assertEquals(BarracudaTrial.TEMPOR_TANTRUM, complete.getTrial());
+		Assert.assertEquals(BarracudaDifficulty.SHARK, complete.getDifficulty());
+		Assert.assertEquals(4, complete.getKc());
+		Assert.assertEquals(
+			Arrays.asList(new BarracudaSplit("Lap 1", 7), new BarracudaSplit("Lap 2", 18)),
+			complete.getSplits()
+		);
+	}
+
+	@Test
+	public void abandonedRunPostsNothing() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			tick(w, 1);
+
+			w.varbit(BarracudaTrial.TEMPOR_TANTRUM.getKcVarp(), -1, 4);
+			w.varbit(0, VarbitID.SAILING_BT_IN_TRIAL, BarracudaDifficulty.SHARK.getInTrialVarbValue());
+			tick(w, 2);
+
+			w.varbit(VarPlayerID.SAILING_BT_TIME_START, -1, 12345);
+			tick(w, 3);
+
+			// leaving without completing doesn't bump kc
+			w.varbit(0, VarbitID.SAILING_BT_IN_TRIAL, 0);
+			tick(w, 4);
+		}
+
+		new EventReplayer(client, eventBus).replay(new ByteArrayInputStream(bytes.toByteArray()));
+
+		Assert.assertTrue(splits.isEmpty());
+		Assert.assertTrue(completions.isEmpty());
+	}
+
+	private static void tick(EventRecording.Writer w, int tickCount)
+	{
+		// on a boat inside tempor tantrum's area
+		w.tick(tickCount, BOAT_WORLD_VIEW, 3000, 2800, 0);
+	}
+}
@@ -0,0 +1,71 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChartProgressAggregatesTest
+{
+
+	@Test
+	public void totalsCoverEveryTask()
+	{
+		ChartProgressAggregates progress = new ChartProgressAggregates();
+
+		int byType = 0;
+		for (SeaChartTaskType type : SeaChartTaskType.values())
+		{
+			byType += progress.getTotal(type);
+		}
+
+		int byRegion = 0;
+		for (SeaChartRegion region : SeaChartRegion.values())
+		{
+			Assert.assertTrue(region + " has no tasks", progress.getTotal(region) > 0);
+			byRegion += progress.getTotal(region);
+		}
+
+		Assert.assertEquals(SeaChartTask.values().length, byType);
+		Assert.assertEquals(SeaChartTask.values().length, byRegion);
+	}
+
+	@Test
+	public void appliesChanges()
+	{
+		ChartProgressAggregates progress = new ChartProgressAggregates();
+		SeaChartTask task = SeaChartTask.TASK_0;
+
+		Assert.assertTrue(progress.update(task, false, true));
+		Assert.assertEquals(1, progress.getAvailable());
+		Assert.assertEquals(1, progress.getAvailable(task.getType()));
+		Assert.assertEquals(1, progress.getAvailable(task.getRegion()));
+
+		// completing it moves it from available to charted
+		Assert.assertTrue(progress.update(task, true, true));
+		Assert.assertEquals(0, progress.getAvailable(task.getRegion()));
+		Assert.assertEquals(1, progress.getComplete(task.getRegion()));
+		Assert.assertEquals(1, progress.getComplete(task.getType()));
+
+		// repeated state is a no-op
+		Assert.assertFalse(progress.update(task, true, true));
+		Assert.assertEquals(1, progress.getComplete());
+
+		progress.update(task, false, false);
+		Assert.assertEquals(0, progress.getComplete(task.getRegion()));
+		Assert.assertEquals(0, progress.getAvailable(task.getRegion()));
+	}
+
+	@Test
+	public void copiesAreIndependent()
+	{
+		ChartProgressAggregates progress = new ChartProgressAggregates();
+		progress.update(SeaChartTask.TASK_0, true, true);
+
+		ChartProgressAggregates copy = progress.copy();
+		progress.update(SeaChartTask.TASK_0, false, true);
+		progress.update(SeaChartTask.TASK_1, true, true);
+
+		Assert.assertEquals(1, copy.getComplete());
+		Assert.assertEquals(1, copy.getComplete(SeaChartTask.TASK_0.getRegion()));
+		Assert.assertEquals(0, copy.getAvailable());
+	}
+}
@@ -0,0 +1,88 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChartingRouteSolverTest
+{
+
+	@Test
+	public void improvesLineToOptimalOrder()
+	{
+		int[][] dist = line(0, 5, 1, 4, 2, 3);
+		int[] order = {5, 1, 4, 2, 3};
+
+		Assert.assertTrue(ChartingRouteSolver.improve(order, dist, Long.MAX_VALUE));
+		Assert.assertArrayEquals(new int[]{2, 4, 5, 3, 1}, order);
+		Assert.assertEquals(5, ChartingRouteSolver.cost(order, dist));
+	}
+
+	@Test
+	public void improvesFromMovedStart()
+	{
+		// planned 1, 2, 3 from x=0, but stop 3 was done first, leaving the boat at x=30
+		int[][] dist = line(0, 10, 20, 30);
+		int[] order = {1, 2};
+
+		Assert.assertFalse(ChartingRouteSolver.improve(order.clone(), dist, Long.MAX_VALUE));
+
+		int[][] moved = ChartingRouteSolver.withStart(dist, new int[]{0, 20, 10, 0});
+		Assert.assertTrue(ChartingRouteSolver.improve(order, moved, Long.MAX_VALUE));
+		Assert.assertArrayEquals(new int[]{2, 1}, order);
+		Assert.assertEquals(20, ChartingRouteSolver.cost(order, moved));
+
+		// the original matrix is left alone
+		Assert.assertEquals(10, dist[0][1]);
+		Assert.assertEquals(20, moved[1][0]);
+	}
+
+	@Test
+	public void improvedOrderIsPermutationAndNoWorseThanNearestNeighbour()
+	{
+		Random random = new Random(1234);
+		for (int round = 0; round < 200; round++)
+		{
+			int n = 2 + random.nextInt(30);
+			int[] xs = new int[n];
+			int[] ys = new int[n];
+			for (int i = 0; i < n; i++)
+			{
+				xs[i] = random.nextInt(400);
+				ys[i] = random.nextInt(400);
+			}
+			int[][] dist = chebyshev(xs, ys);
+
+			int[] order = ChartingRouteSolver.nearestNeighbour(dist);
+			int initial = ChartingRouteSolver.cost(order, dist);
+			ChartingRouteSolver.improve(order, dist, Long.MAX_VALUE);
+
+			int[] sorted = order.clone();
+			Arrays.sort(sorted);
+			for (int i = 0; i < sorted.length; i++)
+			{
+				Assert.assertEquals(i + 1, sorted[i]);
+			}
+			Assert.assertTrue(ChartingRouteSolver.cost(order, dist) <= initial);
+		}
+	}
+
+	private static int[][] line(int... xs)
+	{
+		return chebyshev(xs, new int[xs.length]);
+	}
+
+	private static int[][] chebyshev(int[] xs, int[] ys)
+	{
+		int[][] dist = new int[xs.length][xs.length];
+		for (int i = 0; i < xs.length; i++)
+		{
+			for (int j = 0; j < xs.length; j++)
+			{
+				dist[i][j] = Math.max(Math.abs(xs[i] - xs[j]), Math.abs(ys[i] - ys[j]));
+			}
+		}
+		return dist;
+	}
+}
@@ -0,0 +1,113 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.module.ComponentProfiler;
+import com.duckblade.osrs.sailing.module.EventRecording;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
+import com.duckblade.osrs.sailing.replay.EventReplayer;
+import com.duckblade.osrs.sailing.replay.RecordingWorldMapPointManager;
+import com.duckblade.osrs.sailing.replay.StubClient;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.eventbus.EventBus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CurrentDuckTaskTrackerReplayTest
+{
+
+	private static final int BOAT_WORLD_VIEW = 5;
+
+	private static final String MSG_DUCK_BEGIN = "You release your current duck and he begins tracking the currents...";
+
+	// lumbridge basin's fairy ring duck, TASK_3, ends at 3033,3152
+	private static final int DUCK_X = 3082;
+	private static final int DUCK_Y = 3201;
+
+	private StubClient client;
+	private EventBus eventBus;
+	private RecordingWorldMapPointManager worldMapPoints;
+
+	@Before
+	public void setUp()
+	{
+		client = new StubClient();
+		eventBus = new EventBus();
+		worldMapPoints = new RecordingWorldMapPointManager();
+
+		GameObjectRouter router = new GameObjectRouter(null, new ComponentProfiler(eventBus, false));
+		BoatTracker boatTracker = new BoatTracker(client.getClient(), router);
+		SailingState sailingState = new SailingState(client.getClient(), null, boatTracker);
+		SeaChartTaskIndex taskIndex = new SeaChartTaskIndex();
+		taskIndex.startUp();
+		CurrentDuckTaskTracker tracker = new CurrentDuckTaskTracker(client.getClient(), null, null, worldMapPoints, taskIndex, boatTracker, sailingState, null, null);
+
+		eventBus.register(sailingState);
+		eventBus.register(tracker);
+	}
+
+	@Test
+	public void duckRunsToItsDestination() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			w.worldEntitySpawned(BOAT_WORLD_VIEW, 0);
+			tick(w, 1, DUCK_X + 3, DUCK_Y - 2);
+			w.chat("GAMEMESSAGE", "", MSG_DUCK_BEGIN, "");
+			tick(w, 2, DUCK_X + 3, DUCK_Y - 2);
+			tick(w, 3, DUCK_X + 1, DUCK_Y - 6);
+		}
+		replay(bytes);
+
+		Assert.assertEquals(Collections.singletonList("Current Duck Destination @ 3033,3152,0"), worldMapPoints.describe());
+
+		bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			tick(w, 80, 3034, 3153);
+			w.varbit(0, VarbitID.SAILING_CHARTING_CURRENT_DUCK_FAIRY_RING_COMPLETE, 1);
+			tick(w, 81, 3034, 3153);
+		}
+		replay(bytes);
+
+		Assert.assertTrue(worldMapPoints.describe().isEmpty());
+	}
+
+	@Test
+	public void ignoresDucksAwayFromAnyTask() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			w.worldEntitySpawned(BOAT_WORLD_VIEW, 0);
+			// well out of range of every duck
+			tick(w, 1, 3200, 3400);
+			w.chat("GAMEMESSAGE", "", MSG_DUCK_BEGIN, "");
+			tick(w, 2, 3200, 3400);
+
+			// ashore, the message isn't from a duck task
+			w.tick(3, -1, DUCK_X, DUCK_Y, 0);
+			w.chat("GAMEMESSAGE", "", MSG_DUCK_BEGIN, "");
+			w.tick(4, -1, DUCK_X, DUCK_Y, 0);
+		}
+		replay(bytes);
+
+		Assert.assertTrue(worldMapPoints.describe().isEmpty());
+	}
+
+	private void replay(ByteArrayOutputStream bytes) throws IOException
+	{
+		new EventReplayer(client, eventBus).replay(new ByteArrayInputStream(bytes.toByteArray()));
+	}
+
+	private static void tick(EventRecording.Writer w, int tickCount, int x, int y)
+	{
+		w.tick(tickCount, BOAT_WORLD_VIEW, x, y, 0);
+	}
+}
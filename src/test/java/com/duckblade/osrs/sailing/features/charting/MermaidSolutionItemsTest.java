@@ -0,0 +1,91 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MermaidSolutionItemsTest
+{
+
+	private static final int PIE_DISH = 1;
+	private static final int POT_OF_FLOUR = 2;
+	private static final int NOTED_POT_OF_FLOUR = 3;
+	private static final int COINS = 4;
+
+	private static final Map<Integer, String> NAMES = ImmutableMap.of(
+		PIE_DISH, "Pie dish",
+		POT_OF_FLOUR, "Pot of flour",
+		NOTED_POT_OF_FLOUR, "Pot of flour",
+		COINS, "Coins"
+	);
+
+	private final Map<Integer, Integer> lookups = new HashMap<>();
+
+	private MermaidSolutionItems items()
+	{
+		return new MermaidSolutionItems(
+			ImmutableMap.of("Pie dish", 1, "Pot of flour", 3),
+			id ->
+			{
+				lookups.merge(id, 1, Integer::sum);
+				return NAMES.getOrDefault(id, "Unknown");
+			}
+		);
+	}
+
+	@Test
+	public void countsFromScratch()
+	{
+		MermaidSolutionItems items = items();
+		items.reset(new int[]{PIE_DISH, POT_OF_FLOUR, -1, NOTED_POT_OF_FLOUR}, new int[]{1, 1, 0, 1});
+
+		Assert.assertEquals(0, items.getMissing(0));
+		Assert.assertEquals(2, items.getHeld(1));
+		Assert.assertEquals(1, items.getMissing(1));
+		Assert.assertFalse(items.isMissing(PIE_DISH));
+		Assert.assertTrue(items.isMissing(POT_OF_FLOUR));
+		Assert.assertFalse(items.isRequired(COINS));
+	}
+
+	@Test
+	public void appliesChangedSlots()
+	{
+		MermaidSolutionItems items = items();
+		int[] ids = {PIE_DISH, -1, COINS};
+		int[] quantities = {1, 0, 100};
+		items.reset(ids, quantities);
+
+		// flour picked up into the empty slot, pie dish dropped
+		int[] newIds = {-1, POT_OF_FLOUR, COINS};
+		int[] newQuantities = {0, 3, 100};
+		items.update(ids, quantities, newIds, newQuantities);
+
+		Assert.assertEquals(0, items.getHeld(0));
+		Assert.assertEquals(3, items.getHeld(1));
+		Assert.assertTrue(items.isMissing(PIE_DISH));
+		Assert.assertFalse(items.isMissing(POT_OF_FLOUR));
+
+		// the container shrinking removes what was in the dropped slots
+		items.update(newIds, newQuantities, new int[]{-1}, new int[]{0});
+		Assert.assertEquals(0, items.getHeld(1));
+	}
+
+	@Test
+	public void resolvesEachItemNameOnce()
+	{
+		MermaidSolutionItems items = items();
+		int[] ids = {PIE_DISH, COINS, COINS};
+		int[] quantities = {1, 5, 5};
+		for (int i = 0; i < 10; i++)
+		{
+			items.reset(ids, quantities);
+			items.isRequired(PIE_DISH);
+			items.isRequired(COINS);
+		}
+
+		Assert.assertEquals(Integer.valueOf(1), lookups.get(PIE_DISH));
+		Assert.assertEquals(Integer.valueOf(1), lookups.get(COINS));
+	}
+}
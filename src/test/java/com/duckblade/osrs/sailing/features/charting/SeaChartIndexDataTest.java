@@ -0,0 +1,73 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SeaChartIndexDataTest
+{
+
+	// fails when SeaChartTask was edited without rerunning GenerateSeaChartTasks
+	@Test
+	public void resourceMatchesTasks() throws IOException
+	{
+		SeaChartIndexData expected = SeaChartIndexData.build(SeaChartTask.values());
+		SeaChartIndexData actual;
+		try (InputStream in = SeaChartIndexData.class.getResourceAsStream(SeaChartIndexData.RESOURCE))
+		{
+			Assert.assertNotNull(in);
+			actual = SeaChartIndexData.read(in);
+		}
+
+		Assert.assertNotNull(actual);
+		Assert.assertEquals(expected.taskCount, actual.taskCount);
+		Assert.assertEquals(expected.taskHash, actual.taskHash);
+		Assert.assertArrayEquals(expected.objectKeys, actual.objectKeys);
+		Assert.assertArrayEquals(expected.objectStart, actual.objectStart);
+		Assert.assertArrayEquals(expected.objectTasks, actual.objectTasks);
+		Assert.assertArrayEquals(expected.npcKeys, actual.npcKeys);
+		Assert.assertArrayEquals(expected.npcStart, actual.npcStart);
+		Assert.assertArrayEquals(expected.npcTasks, actual.npcTasks);
+		Assert.assertEquals(expected.cellShift, actual.cellShift);
+		Assert.assertEquals(expected.minX, actual.minX);
+		Assert.assertEquals(expected.minY, actual.minY);
+		Assert.assertEquals(expected.cellsX, actual.cellsX);
+		Assert.assertEquals(expected.cellsY, actual.cellsY);
+		Assert.assertArrayEquals(expected.cellStart, actual.cellStart);
+		Assert.assertArrayEquals(expected.cellTasks, actual.cellTasks);
+		Assert.assertArrayEquals(expected.cellXs, actual.cellXs);
+		Assert.assertArrayEquals(expected.cellYs, actual.cellYs);
+	}
+
+	@Test
+	public void otherVersionIsIgnored() throws IOException
+	{
+		byte[] header = ByteBuffer.allocate(16)
+			.putInt(SeaChartIndexData.MAGIC)
+			.putInt(SeaChartIndexData.VERSION + 1)
+			.putInt(SeaChartTask.values().length)
+			.putInt(SeaChartIndexData.hash(SeaChartTask.values()))
+			.array();
+
+		Assert.assertNull(SeaChartIndexData.read(new ByteArrayInputStream(header)));
+	}
+
+	// e.g. a task moved or changed object without the task count changing
+	@Test
+	public void otherTaskHashIsIgnored() throws IOException
+	{
+		byte[] bytes;
+		try (InputStream in = SeaChartIndexData.class.getResourceAsStream(SeaChartIndexData.RESOURCE))
+		{
+			Assert.assertNotNull(in);
+			bytes = in.readAllBytes();
+		}
+
+		ByteBuffer buf = ByteBuffer.wrap(bytes);
+		buf.putInt(12, buf.getInt(12) + 1);
+		Assert.assertNull(SeaChartIndexData.read(new ByteArrayInputStream(bytes)));
+	}
+}
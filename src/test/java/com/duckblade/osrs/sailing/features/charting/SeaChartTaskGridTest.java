@@ -0,0 +1,111 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.Predicate;
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SeaChartTaskGridTest
+{
+
+	private static final SeaChartTaskGrid GRID = new SeaChartTaskGrid(SeaChartTask.values());
+
+	@Test
+	public void exactLookupFindsEveryTask()
+	{
+		for (SeaChartTask task : SeaChartTask.values())
+		{
+			WorldPoint wp = task.getLocation();
+			if (wp == null)
+			{
+				continue;
+			}
+
+			SeaChartTask found = GRID.get(wp.getX(), wp.getY());
+			Assert.assertNotNull(task.name(), found);
+			Assert.assertEquals(wp, found.getLocation());
+		}
+
+		Assert.assertNull(GRID.get(0, 0));
+		Assert.assertNull(GRID.get(Integer.MAX_VALUE, Integer.MIN_VALUE));
+	}
+
+	@Test
+	public void nearestMatchesBruteForce()
+	{
+		Random random = new Random(1234);
+		SeaChartTask[] located = Arrays.stream(SeaChartTask.values())
+			.filter(t -> t.getLocation() != null)
+			.toArray(SeaChartTask[]::new);
+
+		for (int i = 0; i < 5000; i++)
+		{
+			// around real tasks so most queries have something in range
+			WorldPoint base = located[random.nextInt(located.length)].getLocation();
+			int x = base.getX() + random.nextInt(41) - 20;
+			int y = base.getY() + random.nextInt(41) - 20;
+			int distance = random.nextInt(16);
+			Predicate<SeaChartTask> filter = random.nextBoolean() ? null : t -> t.getType() == SeaChartTaskType.CURRENT_DUCK;
+
+			SeaChartTask[] expected = Arrays.stream(located)
+				.filter(t -> Math.abs(t.getLocation().getX() - x) <= distance && Math.abs(t.getLocation().getY() - y) <= distance)
+				.filter(t -> filter == null || filter.test(t))
+				.sorted(Comparator.<SeaChartTask>comparingInt(t -> distanceSq(t, x, y)).thenComparingInt(Enum::ordinal))
+				.toArray(SeaChartTask[]::new);
+
+			Assert.assertEquals(expected.length > 0 ? expected[0] : null, GRID.nearest(x, y, distance, filter));
+
+			SeaChartTask[] out = new SeaChartTask[3];
+			int found = GRID.nearest(x, y, distance, filter, out);
+			Assert.assertArrayEquals(Arrays.copyOf(expected, Math.min(3, expected.length)), Arrays.copyOf(out, found));
+		}
+	}
+
+	@Test
+	public void nearestWithinMatchesBruteForce()
+	{
+		Random random = new Random(5678);
+		SeaChartTask[] located = Arrays.stream(SeaChartTask.values())
+			.filter(t -> t.getLocation() != null)
+			.toArray(SeaChartTask[]::new);
+
+		for (int i = 0; i < 2000; i++)
+		{
+			WorldPoint base = located[random.nextInt(located.length)].getLocation();
+			int x = base.getX() + random.nextInt(401) - 200;
+			int y = base.getY() + random.nextInt(401) - 200;
+			// sparse matches and a small first square, so most hits land in a square's corner first
+			SeaChartTaskType type = SeaChartTaskType.values()[random.nextInt(SeaChartTaskType.values().length)];
+			Predicate<SeaChartTask> filter = t -> t.getType() == type;
+
+			SeaChartTask expected = Arrays.stream(located)
+				.filter(filter)
+				.min(Comparator.<SeaChartTask>comparingInt(t -> distanceSq(t, x, y)).thenComparingInt(Enum::ordinal))
+				.orElse(null);
+
+			Assert.assertEquals(expected, GRID.nearestWithin(x, y, 2, 8192, filter));
+		}
+
+		Assert.assertNull(GRID.nearestWithin(3000, 3000, 2, 8192, t -> false));
+	}
+
+	@Test
+	public void emptyGridFindsNothing()
+	{
+		SeaChartTaskGrid empty = new SeaChartTaskGrid(new SeaChartTask[0]);
+		Assert.assertEquals(0, empty.size());
+		Assert.assertNull(empty.get(3000, 3000));
+		Assert.assertNull(empty.nearest(3000, 3000, 10, null));
+		Assert.assertNull(empty.nearestWithin(3000, 3000, 64, 4096, null));
+		Assert.assertEquals(0, empty.nearest(3000, 3000, 10, null, new SeaChartTask[4]));
+	}
+
+	private static int distanceSq(SeaChartTask t, int x, int y)
+	{
+		int dx = t.getLocation().getX() - x, dy = t.getLocation().getY() - y;
+		return dx * dx + dy * dy;
+	}
+}
@@ -0,0 +1,126 @@
+package com.duckblade.osrs.sailing.features.charting;
+
+import com.duckblade.osrs.sailing.module.EventRecording;
+import com.duckblade.osrs.sailing.replay.EventReplayer;
+import com.duckblade.osrs.sailing.replay.RecordingWorldMapPointManager;
+import com.duckblade.osrs.sailing.replay.StubClient;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import net.runelite.api.gameval.InventoryID;
+import net.runelite.api.gameval.ItemID;
+import net.runelite.api.gameval.NpcID;
+import net.runelite.client.eventbus.EventBus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WeatherTaskTrackerReplayTest
+{
+
+	// rimmington strait troll, TASK_42
+	private static final int TROLL_X = 2912;
+	private static final int TROLL_Y = 3213;
+
+	private StubClient client;
+	private EventBus eventBus;
+	private RecordingWorldMapPointManager worldMapPoints;
+	private WeatherTaskTracker tracker;
+
+	@Before
+	public void setUp()
+	{
+		client = new StubClient();
+		eventBus = new EventBus();
+		worldMapPoints = new RecordingWorldMapPointManager();
+
+		SeaChartTaskIndex taskIndex = new SeaChartTaskIndex();
+		taskIndex.startUp();
+		tracker = new WeatherTaskTracker(client.getClient(), null, worldMapPoints, taskIndex, null, null);
+
+		eventBus.register(tracker);
+	}
+
+	@Test
+	public void fullTaskRoundTrip() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			w.tick(1, -1, TROLL_X + 2, TROLL_Y, 0);
+			w.interacting(EventRecording.ACTOR_NPC, NpcID.SAILING_CHARTING_WEATHER_TROLL, -1, TROLL_X, TROLL_Y, 0);
+			w.tick(2, -1, TROLL_X + 2, TROLL_Y, 0);
+			w.interacting(EventRecording.ACTOR_NONE, -1, -1, -1, -1, -1);
+			w.itemContainer(InventoryID.INV, new int[]{ItemID.SAILING_CHARTING_WEATHER_STATION_EMPTY, -1}, new int[]{1, 0});
+			w.tick(3, -1, TROLL_X + 2, TROLL_Y, 0);
+		}
+		replay(bytes);
+
+		Assert.assertEquals(SeaChartTask.TASK_42, tracker.getActiveTask());
+		Assert.assertFalse(tracker.isTaskComplete());
+		Assert.assertEquals(Collections.singletonList("Use device here @ 2840,3315,0"), worldMapPoints.describe());
+
+		bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			w.tick(50, -1, 2840, 3315, 0);
+			w.itemContainer(InventoryID.INV, new int[]{ItemID.SAILING_CHARTING_WEATHER_STATION_FULL, -1}, new int[]{1, 0});
+			w.tick(51, -1, 2840, 3315, 0);
+		}
+		replay(bytes);
+
+		Assert.assertEquals(SeaChartTask.TASK_42, tracker.getActiveTask());
+		Assert.assertTrue(tracker.isTaskComplete());
+		Assert.assertEquals(Collections.singletonList("Return device here @ 2912,3213,0"), worldMapPoints.describe());
+
+		bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			w.interacting(EventRecording.ACTOR_NPC, NpcID.SAILING_CHARTING_WEATHER_TROLL, -1, TROLL_X, TROLL_Y, 0);
+			w.itemContainer(InventoryID.INV, new int[]{-1, -1}, new int[]{0, 0});
+			w.tick(100, -1, TROLL_X + 2, TROLL_Y, 0);
+		}
+		replay(bytes);
+
+		Assert.assertNull(tracker.getActiveTask());
+		Assert.assertFalse(tracker.isTaskComplete());
+		Assert.assertTrue(worldMapPoints.describe().isEmpty());
+	}
+
+	@Test
+	public void deviceWithoutTalkingToTrollIsIgnored() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			w.tick(1, -1, TROLL_X + 2, TROLL_Y, 0);
+			// another player, not the troll
+			w.interacting(EventRecording.ACTOR_OTHER, -1, -1, -1, -1, -1);
+			w.itemContainer(InventoryID.INV, new int[]{ItemID.SAILING_CHARTING_WEATHER_STATION_EMPTY}, new int[]{1});
+			w.tick(2, -1, TROLL_X + 2, TROLL_Y, 0);
+		}
+		replay(bytes);
+
+		Assert.assertNull(tracker.getActiveTask());
+		Assert.assertTrue(worldMapPoints.describe().isEmpty());
+
+		// talking to the troll while already holding the device doesn't start a task either
+		bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			w.interacting(EventRecording.ACTOR_NPC, NpcID.SAILING_CHARTING_WEATHER_TROLL, -1, TROLL_X, TROLL_Y, 0);
+			w.itemContainer(InventoryID.INV, new int[]{-1, ItemID.SAILING_CHARTING_WEATHER_STATION_EMPTY}, new int[]{0, 1});
+			w.tick(3, -1, TROLL_X + 2, TROLL_Y, 0);
+		}
+		replay(bytes);
+
+		Assert.assertNull(tracker.getActiveTask());
+		Assert.assertTrue(worldMapPoints.describe().isEmpty());
+	}
+
+	private void replay(ByteArrayOutputStream bytes) throws IOException
+	{
+		new EventReplayer(client, eventBus).replay(new ByteArrayInputStream(bytes.toByteArray()));
+	}
+}
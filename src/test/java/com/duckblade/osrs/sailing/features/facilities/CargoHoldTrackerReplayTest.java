@@ -0,0 +1,131 @@
+package com.duckblade.osrs.sailing.features.facilities;
+
+import com.duckblade.osrs.sailing.features.courier.CourierTaskTracker;
+import com.duckblade.osrs.sailing.features.util.BoatTracker;
+import com.duckblade.osrs.sailing.features.util.SailingState;
+import com.duckblade.osrs.sailing.module.ComponentProfiler;
+import com.duckblade.osrs.sailing.module.EventRecording;
+import com.duckblade.osrs.sailing.module.GameObjectRouter;
+import com.duckblade.osrs.sailing.replay.EventReplayer;
+import com.duckblade.osrs.sailing.replay.StubClient;
+import com.google.common.collect.ImmutableMultiset;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import net.runelite.api.gameval.InventoryID;
+import net.runelite.api.gameval.ItemID;
+import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CargoHoldTrackerReplayTest
+{
+
+	private static final int BOAT_WORLD_VIEW = 5;
+	private static final int OTHER_BOAT_WORLD_VIEW = 7;
+
+	private static final String MSG_CREWMATE_SALVAGES = "Managed to hook some salvage! I'll put it in the cargo hold.";
+
+	private static final int SALVAGE = ItemID.SAILING_SMALL_SHIPWRECK_SALVAGE;
+	private static final int DEVICE = ItemID.SAILING_CHARTING_WEATHER_STATION_EMPTY;
+	private static final int STACKABLE = ItemID.SAILING_CHARTING_CURRENT_DUCK;
+
+	private StubClient client;
+	private EventBus eventBus;
+	private CargoHoldTracker tracker;
+
+	@Before
+	public void setUp()
+	{
+		client = new StubClient();
+		client.setStackable(STACKABLE);
+		eventBus = new EventBus();
+
+		GameObjectRouter router = new GameObjectRouter(null, new ComponentProfiler(eventBus, false));
+		BoatTracker boatTracker = new BoatTracker(client.getClient(), router);
+		SailingState sailingState = new SailingState(client.getClient(), null, boatTracker);
+		CourierTaskTracker courierTaskTracker = new CourierTaskTracker(client.getClient(), router);
+		// not logged in to a profile, so persisting the hold is a no-op
+		ConfigManager configManager = StubClient.uninitialized(ConfigManager.class);
+		tracker = new CargoHoldTracker(client.getClient(), configManager, sailingState, courierTaskTracker);
+
+		eventBus.register(sailingState);
+		eventBus.register(tracker);
+	}
+
+	@Test
+	public void readsHoldAndCountsCrewSalvage() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			w.varbit(0, VarbitID.SAILING_LAST_PERSONAL_BOAT_BOARDED, 1);
+			tick(w, 1);
+
+			w.itemContainer(
+				InventoryID.SAILING_BOAT_1_CARGOHOLD,
+				new int[]{SALVAGE, -1, SALVAGE, DEVICE, STACKABLE},
+				new int[]{1, 0, 1, 1, 40}
+			);
+			tick(w, 2);
+
+			w.overheadText(EventRecording.ACTOR_NPC, 1, BOAT_WORLD_VIEW, MSG_CREWMATE_SALVAGES);
+			tick(w, 3);
+
+			// someone else's crew
+			w.overheadText(EventRecording.ACTOR_NPC, 1, OTHER_BOAT_WORLD_VIEW, MSG_CREWMATE_SALVAGES);
+			w.overheadText(EventRecording.ACTOR_NPC, 1, BOAT_WORLD_VIEW, MSG_CREWMATE_SALVAGES);
+			tick(w, 4);
+		}
+		replay(bytes);
+
+		Assert.assertEquals(
+			ImmutableMultiset.<Integer>builder()
+				.addCopies(SALVAGE, 4)
+				.add(DEVICE)
+				.add(STACKABLE)
+				.build(),
+			tracker.getCargoHold(0)
+		);
+	}
+
+	@Test
+	public void holdsAreKeptPerBoat() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer w = new EventRecording.Writer(bytes))
+		{
+			w.varbit(0, VarbitID.SAILING_LAST_PERSONAL_BOAT_BOARDED, 1);
+			tick(w, 1);
+			w.itemContainer(InventoryID.SAILING_BOAT_1_CARGOHOLD, new int[]{SALVAGE, SALVAGE}, new int[]{1, 1});
+			tick(w, 2);
+
+			w.varbit(0, VarbitID.SAILING_LAST_PERSONAL_BOAT_BOARDED, 2);
+			tick(w, 3);
+			w.itemContainer(InventoryID.SAILING_BOAT_2_CARGOHOLD, new int[]{DEVICE}, new int[]{1});
+			w.overheadText(EventRecording.ACTOR_NPC, 1, BOAT_WORLD_VIEW, MSG_CREWMATE_SALVAGES);
+			tick(w, 4);
+
+			// emptied out, the next read replaces everything tracked
+			w.itemContainer(InventoryID.SAILING_BOAT_2_CARGOHOLD, new int[]{-1, -1}, new int[]{0, 0});
+			tick(w, 5);
+		}
+		replay(bytes);
+
+		Assert.assertEquals(ImmutableMultiset.of(SALVAGE, SALVAGE), tracker.getCargoHold(0));
+		Assert.assertEquals(ImmutableMultiset.of(), tracker.getCargoHold(1));
+	}
+
+	private void replay(ByteArrayOutputStream bytes) throws IOException
+	{
+		new EventReplayer(client, eventBus).replay(new ByteArrayInputStream(bytes.toByteArray()));
+	}
+
+	private static void tick(EventRecording.Writer w, int tickCount)
+	{
+		w.tick(tickCount, BOAT_WORLD_VIEW, 3000, 3000, 0);
+	}
+}
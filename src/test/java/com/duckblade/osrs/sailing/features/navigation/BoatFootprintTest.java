@@ -0,0 +1,67 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoatFootprintTest
+{
+
+	@Test
+	public void sharedPerBounds()
+	{
+		BoatFootprint footprint = BoatFootprint.of(0, 64, 256, 640);
+		Assert.assertSame(footprint, BoatFootprint.of(0, 64, 256, 640));
+		Assert.assertNotSame(footprint, BoatFootprint.of(0, 64, 384, 1024));
+	}
+
+	@Test
+	public void unrotatedCorners()
+	{
+		BoatFootprint footprint = BoatFootprint.of(16, 64, 256, 640);
+
+		assertCorners(
+			new float[]{144, 144, -112, -112},
+			new float[]{-256, 384, 384, -256},
+			footprint,
+			0
+		);
+	}
+
+	@Test
+	public void rotatesCorners()
+	{
+		BoatFootprint footprint = BoatFootprint.of(16, 64, 256, 640);
+
+		// a quarter turn, x' = y and y' = -x
+		assertCorners(
+			new float[]{-256, 384, 384, -256},
+			new float[]{-144, -144, 112, 112},
+			footprint,
+			512
+		);
+
+		// orientations wrap
+		Assert.assertSame(footprint.getCornersX(512), footprint.getCornersX(512 + 2048));
+	}
+
+	@Test
+	public void centreRotatesWithBoat()
+	{
+		BoatFootprint footprint = BoatFootprint.of(0, 64, 256, 640);
+
+		Assert.assertEquals(0, footprint.getCentreX(0), 1e-9);
+		Assert.assertEquals(64, footprint.getCentreY(0), 1e-9);
+		Assert.assertEquals(64, footprint.getCentreX(512), 1e-9);
+		Assert.assertEquals(0, footprint.getCentreY(512), 1e-9);
+		Assert.assertEquals(0, footprint.getCentreX(1024), 1e-9);
+		Assert.assertEquals(-64, footprint.getCentreY(1024), 1e-9);
+		Assert.assertEquals(128, footprint.getHalfWidth(), 1e-9);
+		Assert.assertEquals(320, footprint.getHalfHeight(), 1e-9);
+	}
+
+	private static void assertCorners(float[] expectedX, float[] expectedY, BoatFootprint footprint, int orientation)
+	{
+		Assert.assertArrayEquals(expectedX, footprint.getCornersX(orientation), 1e-3f);
+		Assert.assertArrayEquals(expectedY, footprint.getCornersY(orientation), 1e-3f);
+	}
+}
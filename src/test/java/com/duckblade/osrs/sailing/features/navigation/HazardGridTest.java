@@ -0,0 +1,96 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HazardGridTest
+{
+
+	private static final double SIN_45 = Math.sqrt(0.5);
+
+	@Test
+	public void findsOverlappingHazard()
+	{
+		HazardGrid grid = new HazardGrid();
+		HazardGrid.Hazard rapids = hazard(HazardGrid.Kind.RAPIDS, 100, 100, 101, 101);
+		grid.add(rapids);
+
+		// 3x1 tile footprint centred on tile 99, reaching into tile 100
+		Assert.assertSame(rapids, grid.find(tile(99), tile(100), 192, 64, 1, 0, h -> true));
+		// one tile further away it only touches the edge
+		Assert.assertNull(grid.find(tile(98), tile(100), 192, 64, 1, 0, h -> true));
+	}
+
+	@Test
+	public void appliesFilter()
+	{
+		HazardGrid grid = new HazardGrid();
+		grid.add(hazard(HazardGrid.Kind.WRECK, 10, 10, 24, 24));
+
+		Assert.assertNotNull(grid.find(tile(17), tile(17), 64, 64, 1, 0, h -> h.getKind() == HazardGrid.Kind.WRECK));
+		Assert.assertNull(grid.find(tile(17), tile(17), 64, 64, 1, 0, h -> h.getKind() == HazardGrid.Kind.RAPIDS));
+	}
+
+	@Test
+	public void rotatedFootprint()
+	{
+		HazardGrid grid = new HazardGrid();
+		HazardGrid.Hazard cloud = hazard(HazardGrid.Kind.LIGHTNING_CLOUD, 104, 100, 104, 100);
+		grid.add(cloud);
+
+		// a long thin footprint pointing along x reaches it, turned a quarter it doesn't
+		Assert.assertSame(cloud, grid.find(tile(100), tile(100), 5 * 128, 64, 1, 0, h -> true));
+		Assert.assertNull(grid.find(tile(100), tile(100), 5 * 128, 64, 0, 1, h -> true));
+
+		// at 45 degrees its axis aligned bounds overlap, but the footprint itself misses
+		Assert.assertNull(grid.find(tile(100), tile(100), 5 * 128, 64, SIN_45, SIN_45, h -> true));
+		grid.add(hazard(HazardGrid.Kind.LIGHTNING_CLOUD, 103, 97, 103, 97));
+		Assert.assertNotNull(grid.find(tile(100), tile(100), 5 * 128, 64, SIN_45, SIN_45, h -> true));
+	}
+
+	@Test
+	public void spansCells()
+	{
+		HazardGrid grid = new HazardGrid();
+		HazardGrid.Hazard wreck = hazard(HazardGrid.Kind.WRECK, 3, 3, 17, 17);
+		grid.add(wreck);
+
+		// found from every cell it covers
+		Assert.assertSame(wreck, grid.find(tile(3), tile(3), 32, 32, 1, 0, h -> true));
+		Assert.assertSame(wreck, grid.find(tile(12), tile(12), 32, 32, 1, 0, h -> true));
+		Assert.assertSame(wreck, grid.find(tile(17), tile(17), 32, 32, 1, 0, h -> true));
+		Assert.assertEquals(1, grid.size());
+
+		grid.remove(wreck);
+		Assert.assertEquals(0, grid.size());
+		Assert.assertNull(grid.find(tile(12), tile(12), 32, 32, 1, 0, h -> true));
+	}
+
+	@Test
+	public void removesOnlyGivenHazard()
+	{
+		HazardGrid grid = new HazardGrid();
+		HazardGrid.Hazard a = hazard(HazardGrid.Kind.RAPIDS, 50, 50, 50, 50);
+		HazardGrid.Hazard b = hazard(HazardGrid.Kind.RAPIDS, 50, 50, 50, 50);
+		grid.add(a);
+		grid.add(b);
+
+		grid.remove(a);
+		Assert.assertSame(b, grid.find(tile(50), tile(50), 32, 32, 1, 0, h -> true));
+
+		// removing twice is a no-op
+		grid.remove(a);
+		Assert.assertEquals(1, grid.size());
+	}
+
+	private static HazardGrid.Hazard hazard(HazardGrid.Kind kind, int minX, int minY, int maxX, int maxY)
+	{
+		return new HazardGrid.Hazard(kind, new Object(), minX, minY, maxX, maxY);
+	}
+
+	// centre of a tile in absolute local units
+	private static double tile(int tile)
+	{
+		return tile * 128 + 64;
+	}
+}
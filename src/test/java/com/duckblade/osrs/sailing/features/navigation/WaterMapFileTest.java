@@ -0,0 +1,211 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WaterMapFileTest
+{
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void appendedRegionsReadBackAfterReopen() throws IOException
+	{
+		File f = folder.newFile("water.dat");
+		Assert.assertTrue(f.delete());
+		Random random = new Random(1);
+		Map<Integer, WaterRegion> expected = new HashMap<>();
+
+		try (WaterMapFile file = WaterMapFile.open(f))
+		{
+			for (int i = 0; i < 20; i++)
+			{
+				int regionId = randomRegionId(random);
+				WaterRegion region = randomRegion(random, regionId);
+				file.append(regionId, region);
+				expected.put(regionId, region);
+			}
+		}
+
+		try (WaterMapFile file = WaterMapFile.open(f))
+		{
+			assertContents(file, expected);
+			Assert.assertNull(file.read(0));
+		}
+	}
+
+	@Test
+	public void compactionKeepsNewestRecord() throws IOException
+	{
+		File f = folder.newFile("water.dat");
+		Assert.assertTrue(f.delete());
+		Random random = new Random(2);
+		Map<Integer, WaterRegion> expected = new HashMap<>();
+		int[] ids = new int[50];
+		for (int i = 0; i < ids.length; i++)
+		{
+			ids[i] = randomRegionId(random);
+		}
+
+		// three passes so most regions are overwritten, and compaction runs between them
+		for (int pass = 0; pass < 3; pass++)
+		{
+			try (WaterMapFile file = WaterMapFile.open(f))
+			{
+				assertContents(file, expected);
+				for (int id : ids)
+				{
+					if (random.nextBoolean())
+					{
+						WaterRegion region = randomRegion(random, id);
+						file.append(id, region);
+						expected.put(id, region);
+					}
+				}
+			}
+		}
+
+		long before = f.length();
+		WaterMapFile.compact(f);
+		Assert.assertTrue(f.length() < before);
+		Assert.assertEquals(WaterMapFile.HEADER_BYTES + (long) expected.size() * WaterMapFile.RECORD_BYTES, f.length());
+
+		try (WaterMapFile file = WaterMapFile.open(f))
+		{
+			Assert.assertEquals(expected.size(), file.getSortedCount());
+			Assert.assertEquals(0, file.getAppendedCount());
+			assertContents(file, expected);
+		}
+	}
+
+	@Test
+	public void partialRecordIsIgnoredAndOverwritten() throws IOException
+	{
+		File f = folder.newFile("water.dat");
+		Assert.assertTrue(f.delete());
+		Random random = new Random(3);
+		WaterRegion first = randomRegion(random, 100);
+		try (WaterMapFile file = WaterMapFile.open(f))
+		{
+			file.append(100, first);
+		}
+
+		// a write cut off part way through
+		try (RandomAccessFile raf = new RandomAccessFile(f, "rw"))
+		{
+			raf.setLength(raf.length() + WaterMapFile.RECORD_BYTES / 2);
+		}
+
+		WaterRegion second = randomRegion(random, 200);
+		try (WaterMapFile file = WaterMapFile.open(f))
+		{
+			Assert.assertEquals(1, file.getAppendedCount());
+			file.append(200, second);
+		}
+
+		try (WaterMapFile file = WaterMapFile.open(f))
+		{
+			Assert.assertEquals(first, file.read(100));
+			Assert.assertEquals(second, file.read(200));
+		}
+	}
+
+	@Test
+	public void otherVersionIsDiscarded() throws IOException
+	{
+		File f = folder.newFile("water.dat");
+		Assert.assertTrue(f.delete());
+		try (WaterMapFile file = WaterMapFile.open(f))
+		{
+			file.append(100, randomRegion(new Random(4), 100));
+		}
+
+		try (RandomAccessFile raf = new RandomAccessFile(f, "rw"))
+		{
+			raf.seek(4);
+			raf.writeShort(WaterMapFile.VERSION + 1);
+		}
+
+		try (WaterMapFile file = WaterMapFile.open(f))
+		{
+			Assert.assertEquals(0, file.getSortedCount() + file.getAppendedCount());
+			Assert.assertNull(file.read(100));
+		}
+	}
+
+	@Test
+	public void mappedLookupMatchesRegion() throws IOException
+	{
+		File f = folder.newFile("water.dat");
+		Assert.assertTrue(f.delete());
+		Random random = new Random(5);
+		int regionId = WaterRegion.regionId(3000, 3200);
+		WaterRegion region = randomRegion(random, regionId);
+		try (WaterMapFile file = WaterMapFile.open(f))
+		{
+			file.append(regionId, region);
+		}
+
+		try (WaterMapFile file = WaterMapFile.open(f))
+		{
+			int offset = file.find(regionId);
+			for (int x = 2944; x < 3008; x++)
+			{
+				for (int y = 3200; y < 3264; y++)
+				{
+					Assert.assertEquals(region.isNavigable(x, y), file.isNavigable(offset, x, y));
+				}
+			}
+		}
+	}
+
+	private static void assertContents(WaterMapFile file, Map<Integer, WaterRegion> expected)
+	{
+		for (Map.Entry<Integer, WaterRegion> e : expected.entrySet())
+		{
+			Assert.assertEquals(e.getValue(), file.read(e.getKey()));
+		}
+	}
+
+	private static int randomRegionId(Random random)
+	{
+		return (30 + random.nextInt(30)) << 8 | (30 + random.nextInt(30));
+	}
+
+	// a synthetic coastline, sea below a random height in each column, with some rocks and rapids
+	private static WaterRegion randomRegion(Random random, int regionId)
+	{
+		int baseX = (regionId >> 8) << 6;
+		int baseY = (regionId & 0xFF) << 6;
+		WaterRegion region = new WaterRegion();
+		for (int x = 0; x < WaterRegion.SIZE; x++)
+		{
+			int coast = random.nextInt(WaterRegion.SIZE);
+			for (int y = 0; y < WaterRegion.SIZE; y++)
+			{
+				if (random.nextInt(8) == 0)
+				{
+					continue; // unseen
+				}
+
+				boolean water = y < coast;
+				boolean rock = water && random.nextInt(20) == 0;
+				region.set(baseX + x, baseY + y, water && !rock, rock);
+				if (water && random.nextInt(30) == 0)
+				{
+					region.setRapids(baseX + x, baseY + y);
+				}
+			}
+		}
+		return region;
+	}
+}
@@ -0,0 +1,71 @@
+package com.duckblade.osrs.sailing.features.navigation;
+
+import java.util.List;
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WaterPathfinderTest
+{
+
+	@Test
+	public void openWaterIsOneLeg()
+	{
+		List<WorldPoint> path = WaterPathfinder.findPath((x, y) -> true, new WorldPoint(3000, 3000, 0), new WorldPoint(3040, 3025, 0));
+
+		Assert.assertEquals(List.of(new WorldPoint(3040, 3025, 0)), path);
+	}
+
+	@Test
+	public void routesAroundIsland()
+	{
+		// wall from y=2980 to 3020 at x=3020, open water past either end
+		WaterGrid grid = (x, y) -> x != 3020 || y < 2980 || y > 3020;
+		WorldPoint start = new WorldPoint(3000, 3000, 0);
+		WorldPoint goal = new WorldPoint(3040, 3000, 0);
+
+		List<WorldPoint> path = WaterPathfinder.findPath(grid, start, goal);
+
+		Assert.assertNotNull(path);
+		Assert.assertTrue(path.size() > 1);
+		Assert.assertEquals(goal, path.get(path.size() - 1));
+		WorldPoint first = path.get(0);
+		Assert.assertTrue(first.getY() < 2980 || first.getY() > 3020);
+		assertClear(grid, start, path);
+	}
+
+	@Test
+	public void unreachableGoalEndsAtClosestWater()
+	{
+		// land everywhere east of x=3010
+		WaterGrid grid = (x, y) -> x <= 3010;
+
+		List<WorldPoint> path = WaterPathfinder.findPath(grid, new WorldPoint(3000, 3000, 0), new WorldPoint(3030, 3000, 0));
+
+		Assert.assertNotNull(path);
+		Assert.assertEquals(new WorldPoint(3010, 3000, 0), path.get(path.size() - 1));
+	}
+
+	@Test
+	public void tooFarToSearch()
+	{
+		Assert.assertNull(WaterPathfinder.findPath((x, y) -> true, new WorldPoint(2000, 3000, 0), new WorldPoint(3000, 3000, 0)));
+	}
+
+	// every tile between consecutive waypoints is navigable
+	private static void assertClear(WaterGrid grid, WorldPoint start, List<WorldPoint> path)
+	{
+		WorldPoint from = start;
+		for (WorldPoint to : path)
+		{
+			int steps = from.distanceTo2D(to);
+			for (int s = 0; s <= steps; s++)
+			{
+				int x = from.getX() + Math.round((to.getX() - from.getX()) * (float) s / steps);
+				int y = from.getY() + Math.round((to.getY() - from.getY()) * (float) s / steps);
+				Assert.assertTrue(x + "," + y, grid.isNavigable(x, y));
+			}
+			from = to;
+		}
+	}
+}
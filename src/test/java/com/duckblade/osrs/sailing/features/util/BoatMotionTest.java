@@ -0,0 +1,109 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoatMotionTest
+{
+
+	@Test
+	public void steadySpeed()
+	{
+		BoatMotion motion = new BoatMotion();
+		for (int tick = 0; tick < 10; tick++)
+		{
+			motion.add(tick, 10000 + tick * 96, 20000, 0);
+		}
+
+		Assert.assertEquals(96, motion.getSpeed(), 1e-9);
+		Assert.assertEquals(96, motion.getVelocityX(), 1e-9);
+		Assert.assertEquals(0, motion.getVelocityY(), 1e-9);
+		Assert.assertEquals(0, motion.getAcceleration(), 1e-9);
+	}
+
+	@Test
+	public void averagesSubTileSpeed()
+	{
+		// alternating 1 and 2 quarter tiles per tick
+		BoatMotion motion = new BoatMotion();
+		int x = 0;
+		for (int tick = 0; tick <= BoatMotion.WINDOW * 2; tick++)
+		{
+			motion.add(tick, x, 0, 0);
+			x += tick % 2 == 0 ? 32 : 64;
+		}
+
+		Assert.assertEquals(48, motion.getSpeed(), 1e-9);
+	}
+
+	@Test
+	public void turnRateWrapsAround()
+	{
+		BoatMotion motion = new BoatMotion();
+		motion.add(0, 0, 0, 2000);
+		motion.add(1, 0, 0, 2032);
+		motion.add(2, 0, 0, 16);
+
+		// 2000 -> 16 is 64 jau anticlockwise, not 1984 the other way
+		Assert.assertEquals(32, motion.getTurnRate(), 1e-9);
+		Assert.assertEquals(-64, BoatMotion.angleBetween(16, 2000));
+	}
+
+	@Test
+	public void headingStaysNearWrap()
+	{
+		BoatMotion motion = new BoatMotion();
+		motion.add(0, 0, 0, 2047);
+		motion.add(1, 0, 0, 0);
+		motion.add(2, 0, 0, 1);
+
+		int heading = motion.getHeading();
+		Assert.assertTrue("heading " + heading, heading >= 2046 || heading <= 1);
+	}
+
+	@Test
+	public void sameTickReplacesSample()
+	{
+		BoatMotion motion = new BoatMotion();
+		motion.add(0, 0, 0, 0);
+		motion.add(1, 128, 0, 0);
+		motion.add(1, 256, 0, 0);
+
+		Assert.assertEquals(2, motion.size());
+		Assert.assertEquals(256, motion.getX(0));
+		Assert.assertEquals(256, motion.getSpeed(), 1e-9);
+	}
+
+	@Test
+	public void clearsOnGapOrJump()
+	{
+		BoatMotion motion = new BoatMotion();
+		motion.add(0, 0, 0, 0);
+		motion.add(1, 128, 0, 0);
+		motion.add(1 + BoatMotion.MAX_TICK_GAP + 1, 256, 0, 0);
+
+		Assert.assertEquals(1, motion.size());
+		Assert.assertEquals(0, motion.getSpeed(), 1e-9);
+
+		motion.add(8, 256 + BoatMotion.MAX_STEP + 1, 0, 0);
+		Assert.assertEquals(1, motion.size());
+	}
+
+	@Test
+	public void ringKeepsNewestSamples()
+	{
+		BoatMotion motion = new BoatMotion();
+		int count = BoatMotion.CAPACITY + 5;
+		for (int tick = 0; tick < count; tick++)
+		{
+			motion.add(tick, tick, 0, 0);
+		}
+
+		Assert.assertEquals(BoatMotion.CAPACITY, motion.size());
+		for (int age = 0; age < BoatMotion.CAPACITY; age++)
+		{
+			Assert.assertEquals(count - 1 - age, motion.getTick(age));
+			Assert.assertEquals(count - 1 - age, motion.getX(age));
+		}
+	}
+}
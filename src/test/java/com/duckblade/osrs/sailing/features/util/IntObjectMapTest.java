@@ -0,0 +1,169 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntObjectMapTest
+{
+
+	@Test
+	public void matchesHashMapUnderRandomOps()
+	{
+		Random random = new Random(1234);
+		IntObjectMap<String> map = new IntObjectMap<>();
+		Map<Integer, String> oracle = new HashMap<>();
+
+		for (int i = 0; i < 200_000; i++)
+		{
+			// a small key range so removes and overwrites hit existing keys, with some negatives
+			int key = random.nextInt(2048) - 512;
+			switch (random.nextInt(3))
+			{
+				case 0:
+				case 1:
+				{
+					String value = "v" + i;
+					Assert.assertEquals(oracle.put(key, value), map.put(key, value));
+					break;
+				}
+
+				default:
+					Assert.assertEquals(oracle.remove(key), map.remove(key));
+					break;
+			}
+
+			Assert.assertEquals(oracle.size(), map.size());
+			if (i % 1000 == 0)
+			{
+				assertSameContents(oracle, map);
+			}
+		}
+
+		assertSameContents(oracle, map);
+	}
+
+	@Test
+	public void collidingKeysSurviveRemoval()
+	{
+		IntObjectMap<Integer> map = new IntObjectMap<>();
+		int mask = map.capacity() - 1;
+		List<Integer> keys = keysWithSlot(0, mask, 5);
+
+		for (int key : keys)
+		{
+			map.put(key, key);
+		}
+
+		// removing from the front and middle of the probe chain must shift the rest back into reach
+		Assert.assertEquals(keys.get(0), map.remove(keys.get(0)));
+		Assert.assertEquals(keys.get(2), map.remove(keys.get(2)));
+		Assert.assertNull(map.get(keys.get(0)));
+		Assert.assertNull(map.get(keys.get(2)));
+		Assert.assertEquals(keys.get(1), map.get(keys.get(1)));
+		Assert.assertEquals(keys.get(3), map.get(keys.get(3)));
+		Assert.assertEquals(keys.get(4), map.get(keys.get(4)));
+		Assert.assertEquals(3, map.size());
+	}
+
+	@Test
+	public void probesWrapAroundTheTableEnd()
+	{
+		IntObjectMap<Integer> map = new IntObjectMap<>();
+		int mask = map.capacity() - 1;
+		List<Integer> last = keysWithSlot(mask, mask, 3);
+		List<Integer> first = keysWithSlot(0, mask, 1);
+
+		// the last slot's chain wraps into slots 0 and 1, pushing slot 0's own key to 2
+		for (int key : last)
+		{
+			map.put(key, key);
+		}
+		map.put(first.get(0), first.get(0));
+
+		Assert.assertEquals(last.get(0), map.remove(last.get(0)));
+		Assert.assertEquals(last.get(1), map.get(last.get(1)));
+		Assert.assertEquals(last.get(2), map.get(last.get(2)));
+		Assert.assertEquals(first.get(0), map.get(first.get(0)));
+
+		// shifting back across the table end again
+		Assert.assertEquals(last.get(1), map.remove(last.get(1)));
+		Assert.assertEquals(last.get(2), map.get(last.get(2)));
+		Assert.assertEquals(first.get(0), map.get(first.get(0)));
+		Assert.assertEquals(2, map.size());
+	}
+
+	@Test
+	public void growsPastInitialCapacity()
+	{
+		IntObjectMap<Integer> map = new IntObjectMap<>();
+		int initialCapacity = map.capacity();
+
+		for (int i = 0; i < 10_000; i++)
+		{
+			map.put(i * 31, i);
+		}
+
+		Assert.assertTrue(map.capacity() > initialCapacity);
+		Assert.assertEquals(10_000, map.size());
+		for (int i = 0; i < 10_000; i++)
+		{
+			Assert.assertEquals(Integer.valueOf(i), map.get(i * 31));
+		}
+		Assert.assertNull(map.get(-31));
+	}
+
+	@Test
+	public void nullValuesRemove()
+	{
+		IntObjectMap<String> map = new IntObjectMap<>();
+		map.put(0, "zero");
+		map.put(Integer.MIN_VALUE, "min");
+
+		Assert.assertEquals("zero", map.put(0, null));
+		Assert.assertFalse(map.containsKey(0));
+		Assert.assertTrue(map.containsKey(Integer.MIN_VALUE));
+		Assert.assertEquals(1, map.size());
+
+		map.clear();
+		Assert.assertTrue(map.isEmpty());
+		Assert.assertNull(map.get(Integer.MIN_VALUE));
+	}
+
+	private static List<Integer> keysWithSlot(int slot, int mask, int count)
+	{
+		List<Integer> keys = new ArrayList<>();
+		for (int key = 1; keys.size() < count; key++)
+		{
+			if (IntObjectMap.slot(key, mask) == slot)
+			{
+				keys.add(key);
+			}
+		}
+		return keys;
+	}
+
+	private static void assertSameContents(Map<Integer, String> oracle, IntObjectMap<String> map)
+	{
+		int seen = 0;
+		for (int slot = 0; slot < map.capacity(); slot++)
+		{
+			String value = map.valueAt(slot);
+			if (value != null)
+			{
+				Assert.assertEquals(oracle.get(map.keyAt(slot)), value);
+				seen++;
+			}
+		}
+		Assert.assertEquals(oracle.size(), seen);
+
+		for (Map.Entry<Integer, String> e : oracle.entrySet())
+		{
+			Assert.assertEquals(e.getValue(), map.get(e.getKey()));
+		}
+	}
+}
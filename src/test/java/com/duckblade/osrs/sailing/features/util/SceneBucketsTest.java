@@ -0,0 +1,94 @@
+package com.duckblade.osrs.sailing.features.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SceneBucketsTest
+{
+
+	@Test
+	public void visitsOnlyNearbyCells()
+	{
+		SceneBuckets<WorldPoint> buckets = new SceneBuckets<>(wp -> wp);
+		WorldPoint near = new WorldPoint(3205, 3210, 0);
+		WorldPoint sameCell = new WorldPoint(3207, 3215, 0);
+		WorldPoint far = new WorldPoint(3300, 3210, 0);
+		buckets.add(near);
+		buckets.add(sameCell);
+		buckets.add(far);
+
+		List<WorldPoint> visited = collect(buckets, 3200, 3208, 3206, 3212);
+		Assert.assertEquals(2, visited.size());
+		Assert.assertTrue(visited.contains(near));
+		// in a visited cell, though outside the rectangle itself
+		Assert.assertTrue(visited.contains(sameCell));
+
+		Assert.assertEquals(List.of(far), collect(buckets, 3290, 3200, 3310, 3220));
+		Assert.assertEquals(3, collect(buckets, 0, 0, 10000, 10000).size());
+	}
+
+	@Test
+	public void removesItems()
+	{
+		SceneBuckets<WorldPoint> buckets = new SceneBuckets<>(wp -> wp);
+		WorldPoint a = new WorldPoint(100, 100, 0);
+		WorldPoint b = new WorldPoint(101, 101, 0);
+		buckets.add(a);
+		buckets.add(b);
+
+		Assert.assertTrue(buckets.remove(a));
+		Assert.assertFalse(buckets.remove(a));
+		Assert.assertEquals(List.of(b), collect(buckets, 96, 96, 103, 103));
+
+		buckets.remove(b);
+		Assert.assertTrue(buckets.isEmpty());
+		Assert.assertTrue(collect(buckets, 96, 96, 103, 103).isEmpty());
+	}
+
+	@Test
+	public void addingTwiceKeepsOne()
+	{
+		SceneBuckets<WorldPoint> buckets = new SceneBuckets<>(wp -> wp);
+		WorldPoint a = new WorldPoint(100, 100, 0);
+		buckets.add(a);
+		buckets.add(a);
+
+		Assert.assertEquals(1, buckets.size());
+		Assert.assertEquals(1, collect(buckets, 0, 0, 200, 200).size());
+	}
+
+	@Test
+	public void sparseAndDenseWalksAgree()
+	{
+		SceneBuckets<WorldPoint> buckets = new SceneBuckets<>(wp -> wp);
+		for (int i = 0; i < 50; i++)
+		{
+			buckets.add(new WorldPoint(2000 + i * 13, 3000 + (i * 29) % 200, 0));
+		}
+
+		// a small rectangle probes its cells, a huge one walks the occupied cells instead
+		List<WorldPoint> probed = collect(buckets, 2100, 3000, 2130, 3040);
+		List<WorldPoint> walked = new ArrayList<>();
+		buckets.forEach(wp ->
+		{
+			if (wp.getX() >> 3 >= 2100 >> 3 && wp.getX() >> 3 <= 2130 >> 3 && wp.getY() >> 3 >= 3000 >> 3 && wp.getY() >> 3 <= 3040 >> 3)
+			{
+				walked.add(wp);
+			}
+		});
+
+		Assert.assertFalse(probed.isEmpty());
+		Assert.assertEquals(walked.size(), probed.size());
+		Assert.assertTrue(probed.containsAll(walked));
+	}
+
+	private static List<WorldPoint> collect(SceneBuckets<WorldPoint> buckets, int minX, int minY, int maxX, int maxY)
+	{
+		List<WorldPoint> visited = new ArrayList<>();
+		buckets.forEach(minX, minY, maxX, maxY, visited::add);
+		return visited;
+	}
+}
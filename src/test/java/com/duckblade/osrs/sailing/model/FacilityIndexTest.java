@@ -0,0 +1,67 @@
+package com.duckblade.osrs.sailing.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FacilityIndexTest
+{
+
+	@Test
+	public void everyTierIdResolvesToItsTier()
+	{
+		for (HullTier tier : HullTier.values())
+		{
+			for (int id : tier.getGameObjectIds())
+			{
+				Assert.assertEquals(tier, HullTier.fromGameObjectId(id));
+				Assert.assertNotNull("hull " + id + " has no size class", SizeClass.fromGameObjectId(id));
+			}
+		}
+		for (SailTier tier : SailTier.values())
+		{
+			for (int id : tier.getGameObjectIds())
+			{
+				Assert.assertEquals(tier, SailTier.fromGameObjectId(id));
+			}
+		}
+		for (HelmTier tier : HelmTier.values())
+		{
+			for (int id : tier.getGameObjectIds())
+			{
+				Assert.assertEquals(tier, HelmTier.fromGameObjectId(id));
+			}
+		}
+		for (SalvagingHookTier tier : SalvagingHookTier.values())
+		{
+			for (int id : tier.getGameObjectIds())
+			{
+				Assert.assertEquals(tier, SalvagingHookTier.fromGameObjectId(id));
+			}
+		}
+		for (CargoHoldTier tier : CargoHoldTier.values())
+		{
+			for (int id : tier.getGameObjectIds())
+			{
+				Assert.assertEquals(tier, CargoHoldTier.fromGameObjectId(id));
+			}
+		}
+		for (int id : Boat.SAIL_PATTERN_IDS)
+		{
+			Assert.assertEquals(FacilityKind.SAIL_PATTERN, FacilityIndex.get(id).getKind());
+		}
+	}
+
+	@Test
+	public void kindsDontLeakAcrossEnums()
+	{
+		int hullId = HullTier.WOOD.getGameObjectIds()[0];
+		Assert.assertNull(SailTier.fromGameObjectId(hullId));
+		Assert.assertNull(CargoHoldTier.fromGameObjectId(hullId));
+		Assert.assertNull(HullTier.fromGameObjectId(-1));
+		Assert.assertNull(SizeClass.fromGameObjectId(SailTier.WOOD.getGameObjectIds()[0]));
+
+		FacilityIndex.Facility hull = FacilityIndex.get(hullId);
+		Assert.assertEquals(HullTier.WOOD, hull.getTier(FacilityIndex.TierKind.HULL));
+		Assert.assertNull(hull.getTier(FacilityIndex.TierKind.SAIL_MAST));
+	}
+}
@@ -0,0 +1,154 @@
+package com.duckblade.osrs.sailing.module;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EventRecordingTest
+{
+
+	private static final Consumer<EventRecording.Handler> SCRIPT = h ->
+	{
+		h.tick(1, -1, 3000, 2800, 0);
+		h.tick(2, 5, -1, -1, -1);
+		h.varbit(1234, 5678, 3);
+		h.varbit(1234, -1, 0x7fffffff);
+		h.objectSpawned(59000, 5, 3001, 2801, 0);
+		h.objectDespawned(59000, 5, 3001, 2801, 0);
+		h.itemContainer(963, new int[]{995, -1, 4151}, new int[]{1000, 0, 1});
+		h.chat("GAMEMESSAGE", "", "You sail away.", "");
+		h.overheadText(EventRecording.ACTOR_NPC, 15000, -1, "Ahoy!");
+		h.widgetText(123456, "1/3");
+		h.interacting(EventRecording.ACTOR_NPC, 15001, -1, 3002, 2802, 0);
+		h.interacting(EventRecording.ACTOR_NONE, -1, -1, -1, -1, -1);
+		h.worldEntitySpawned(5, 12);
+		h.worldEntityDespawned(5);
+	};
+
+	@Test
+	public void roundTripsEveryRecordType() throws IOException
+	{
+		List<String> expected = new ArrayList<>();
+		SCRIPT.accept(log(expected));
+
+		List<String> actual = new ArrayList<>();
+		try (EventRecording.Reader reader = new EventRecording.Reader(new ByteArrayInputStream(record())))
+		{
+			Assert.assertEquals(expected.size(), reader.readAll(log(actual)));
+		}
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test
+	public void truncatedRecordingKeepsCompleteRecords() throws IOException
+	{
+		byte[] full = record();
+		byte[] truncated = Arrays.copyOf(full, full.length - 2);
+
+		List<String> actual = new ArrayList<>();
+		try (EventRecording.Reader reader = new EventRecording.Reader(new ByteArrayInputStream(truncated)))
+		{
+			reader.readAll(log(actual));
+		}
+
+		List<String> expected = new ArrayList<>();
+		SCRIPT.accept(log(expected));
+		Assert.assertEquals(expected.subList(0, expected.size() - 1), actual);
+	}
+
+	@Test(expected = IOException.class)
+	public void rejectsForeignStreams() throws IOException
+	{
+		new EventRecording.Reader(new ByteArrayInputStream(new byte[]{0x1f, (byte) 0x8b, 0, 0, 0, 0}));
+	}
+
+	private static byte[] record() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EventRecording.Writer writer = new EventRecording.Writer(bytes))
+		{
+			SCRIPT.accept(writer);
+		}
+		return bytes.toByteArray();
+	}
+
+	// flattens each record to a string so streams can be compared directly
+	private static EventRecording.Handler log(List<String> out)
+	{
+		return new EventRecording.Handler()
+		{
+			@Override
+			public void tick(int tickCount, int worldViewId, int x, int y, int plane)
+			{
+				out.add("tick " + tickCount + " " + worldViewId + " " + x + " " + y + " " + plane);
+			}
+
+			@Override
+			public void varbit(int varpId, int varbitId, int value)
+			{
+				out.add("varbit " + varpId + " " + varbitId + " " + value);
+			}
+
+			@Override
+			public void objectSpawned(int objectId, int worldViewId, int x, int y, int plane)
+			{
+				out.add("objectSpawned " + objectId + " " + worldViewId + " " + x + " " + y + " " + plane);
+			}
+
+			@Override
+			public void objectDespawned(int objectId, int worldViewId, int x, int y, int plane)
+			{
+				out.add("objectDespawned " + objectId + " " + worldViewId + " " + x + " " + y + " " + plane);
+			}
+
+			@Override
+			public void itemContainer(int containerId, int[] itemIds, int[] quantities)
+			{
+				out.add("itemContainer " + containerId + " " + Arrays.toString(itemIds) + " " + Arrays.toString(quantities));
+			}
+
+			@Override
+			public void chat(String type, String name, String message, String sender)
+			{
+				out.add("chat " + type + " " + name + " " + message + " " + sender);
+			}
+
+			@Override
+			public void overheadText(byte actorKind, int npcId, int worldViewId, String text)
+			{
+				out.add("overheadText " + actorKind + " " + npcId + " " + worldViewId + " " + text);
+			}
+
+			@Override
+			public void widgetText(int componentId, String text)
+			{
+				out.add("widgetText " + componentId + " " + text);
+			}
+
+			@Override
+			public void worldEntitySpawned(int worldViewId, int configId)
+			{
+				out.add("worldEntitySpawned " + worldViewId + " " + configId);
+			}
+
+			@Override
+			public void worldEntityDespawned(int worldViewId)
+			{
+				out.add("worldEntityDespawned " + worldViewId);
+			}
+
+			@Override
+			public void interacting(byte targetKind, int npcId, int worldViewId, int x, int y, int plane)
+			{
+				out.add("interacting " + targetKind + " " + npcId + " " + worldViewId + " " + x + " " + y + " " + plane);
+			}
+		};
+	}
+}
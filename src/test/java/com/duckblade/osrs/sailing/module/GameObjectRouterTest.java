@@ -0,0 +1,131 @@
+package com.duckblade.osrs.sailing.module;
+
+import com.duckblade.osrs.sailing.replay.StubClient;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.api.GameObject;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.client.eventbus.EventBus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GameObjectRouterTest
+{
+
+	private final StubClient client = new StubClient();
+	private final PluginLifecycleComponent first = new PluginLifecycleComponent()
+	{
+	};
+	private final PluginLifecycleComponent second = new PluginLifecycleComponent()
+	{
+	};
+
+	private GameObjectRouter router;
+	private final List<String> handled = new ArrayList<>();
+
+	@Before
+	public void setUp()
+	{
+		router = new GameObjectRouter(null, new ComponentProfiler(new EventBus(), false));
+	}
+
+	@Test
+	public void dispatchesOnlyRegisteredIds()
+	{
+		router.register(first, new int[]{10, 11}, o -> handled.add("first+" + o.getId()), o -> handled.add("first-" + o.getId()));
+		router.register(second, Arrays.asList(11, 12), o -> handled.add("second+" + o.getId()), null);
+
+		spawn(10);
+		spawn(11);
+		spawn(12);
+		spawn(13);
+		despawn(11);
+		despawn(12);
+
+		Assert.assertEquals(
+			Arrays.asList("first+10", "first+11", "second+11", "second+12", "first-11"),
+			handled
+		);
+	}
+
+	@Test
+	public void unregisterRemovesOnlyThatOwner()
+	{
+		router.register(first, new int[]{10, 11}, o -> handled.add("first+" + o.getId()), null);
+		router.register(second, new int[]{11}, o -> handled.add("second+" + o.getId()), null);
+
+		router.unregister(first);
+		spawn(10);
+		spawn(11);
+		Assert.assertEquals(Collections.singletonList("second+11"), handled);
+
+		handled.clear();
+		router.unregister(second);
+		spawn(11);
+		Assert.assertTrue(handled.isEmpty());
+
+		// registering again after unregistering works as if fresh
+		router.register(first, new int[]{11}, o -> handled.add("first+" + o.getId()), null);
+		spawn(11);
+		Assert.assertEquals(Collections.singletonList("first+11"), handled);
+	}
+
+	@Test
+	public void unregisterAcrossManyIds()
+	{
+		// enough ids that unregistering shifts entries between slots mid-walk
+		int[] ids = new int[2000];
+		for (int i = 0; i < ids.length; i++)
+		{
+			ids[i] = 30000 + i * 7;
+		}
+
+		router.register(first, ids, o -> handled.add("first"), null);
+		router.register(second, Arrays.copyOf(ids, 1000), o -> handled.add("second"), null);
+		router.unregister(first);
+
+		for (int id : ids)
+		{
+			spawn(id);
+		}
+		Assert.assertEquals(Collections.nCopies(1000, "second"), handled);
+	}
+
+	@Test
+	public void failingHandlerDoesNotStopOthers()
+	{
+		router.register(first, new int[]{10}, o ->
+		{
+			throw new IllegalStateException("broken");
+		}, null);
+		router.register(second, new int[]{10}, o -> handled.add("second+" + o.getId()), null);
+
+		spawn(10);
+		Assert.assertEquals(Collections.singletonList("second+10"), handled);
+	}
+
+	private void spawn(int id)
+	{
+		GameObjectSpawned e = new GameObjectSpawned();
+		e.setGameObject(gameObject(id));
+		router.onGameObjectSpawned(e);
+	}
+
+	private void despawn(int id)
+	{
+		GameObjectDespawned e = new GameObjectDespawned();
+		e.setGameObject(gameObject(id));
+		router.onGameObjectDespawned(e);
+	}
+
+	private GameObject gameObject(int id)
+	{
+		return client.gameObject(id, WorldView.TOPLEVEL, new WorldPoint(3000, 3000, 0));
+	}
+}
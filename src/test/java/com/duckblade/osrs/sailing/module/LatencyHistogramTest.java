@@ -0,0 +1,123 @@
+package com.duckblade.osrs.sailing.module;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest
+{
+
+	@Test
+	public void smallValuesHaveExactBuckets()
+	{
+		for (int v = 0; v < 8; v++)
+		{
+			Assert.assertEquals(v, LatencyHistogram.indexOf(v));
+			Assert.assertEquals(v, LatencyHistogram.upperBound(v));
+		}
+
+		// the first sub-bucketed power of two is still one value wide
+		Assert.assertEquals(8, LatencyHistogram.indexOf(8));
+		Assert.assertEquals(15, LatencyHistogram.indexOf(15));
+		Assert.assertEquals(15, LatencyHistogram.upperBound(15));
+	}
+
+	@Test
+	public void powersOfTwoStartNewBuckets()
+	{
+		for (int p = 3; p < 63; p++)
+		{
+			long v = 1L << p;
+			int index = LatencyHistogram.indexOf(v);
+			Assert.assertEquals("2^" + p, LatencyHistogram.indexOf(v - 1) + 1, index);
+			Assert.assertEquals("2^" + p, v - 1, LatencyHistogram.upperBound(index - 1));
+			Assert.assertEquals("2^" + p, (p - 2) * 8, index);
+
+			// a power of two's bucket spans an eighth of it
+			Assert.assertEquals("2^" + p, v + (v >> 3) - 1, LatencyHistogram.upperBound(index));
+		}
+	}
+
+	@Test
+	public void bucketsContainTheirValues()
+	{
+		long[] values = {9, 16, 17, 100, 1000, 123_456, 1_000_000_007L, 1L << 40, (1L << 40) + 12345};
+		for (long v : values)
+		{
+			int index = LatencyHistogram.indexOf(v);
+			long upper = LatencyHistogram.upperBound(index);
+			long lower = LatencyHistogram.upperBound(index - 1) + 1;
+			Assert.assertTrue(v + " above its bucket", v <= upper);
+			Assert.assertTrue(v + " below its bucket", v >= lower);
+			Assert.assertTrue(v + " bucket too wide", (upper - lower + 1) * 8 <= lower);
+		}
+	}
+
+	@Test
+	public void maxValueFillsTheLastBucket()
+	{
+		int index = LatencyHistogram.indexOf(Long.MAX_VALUE);
+		Assert.assertEquals(487, index);
+		Assert.assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(index));
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(Long.MAX_VALUE);
+		Assert.assertEquals(Long.MAX_VALUE, histogram.percentile(50));
+	}
+
+	@Test
+	public void percentilesOfKnownDistribution()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		Assert.assertEquals(0, histogram.percentile(50));
+
+		for (int i = 0; i < 90; i++)
+		{
+			histogram.record(100);
+		}
+		for (int i = 0; i < 10; i++)
+		{
+			histogram.record(10_000);
+		}
+
+		// 100 falls in [96, 103]
+		Assert.assertEquals(103, histogram.percentile(0));
+		Assert.assertEquals(103, histogram.percentile(50));
+		Assert.assertEquals(103, histogram.percentile(90));
+		// capped at the max rather than the bucket's upper bound
+		Assert.assertEquals(10_000, histogram.percentile(91));
+		Assert.assertEquals(10_000, histogram.percentile(100));
+
+		Assert.assertEquals(100, histogram.getCount());
+		Assert.assertEquals(90 * 100 + 10 * 10_000, histogram.getTotalNanos());
+		Assert.assertEquals(10_000, histogram.getMaxNanos());
+	}
+
+	@Test
+	public void percentilesOfUniformRange()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int v = 1; v <= 1000; v++)
+		{
+			histogram.record(v);
+		}
+
+		// the 500th value falls in [480, 511]
+		Assert.assertEquals(511, histogram.percentile(50));
+		Assert.assertEquals(1, histogram.percentile(0.1));
+		Assert.assertEquals(1000, histogram.percentile(100));
+	}
+
+	@Test
+	public void negativeRecordsAsZeroAndResetClears()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+		Assert.assertEquals(1, histogram.getCount());
+		Assert.assertEquals(0, histogram.percentile(100));
+
+		histogram.reset();
+		Assert.assertEquals(0, histogram.getCount());
+		Assert.assertEquals(0, histogram.getMaxNanos());
+		Assert.assertEquals(0, histogram.percentile(99));
+	}
+}
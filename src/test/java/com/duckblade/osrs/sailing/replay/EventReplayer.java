@@ -0,0 +1,231 @@
+package com.duckblade.osrs.sailing.replay;
+
+import com.duckblade.osrs.sailing.module.EventRecording;
+import com.google.common.collect.ImmutableMap;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import net.runelite.api.Actor;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.GameObject;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.OverheadTextChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.events.WorldEntityDespawned;
+import net.runelite.api.events.WorldEntitySpawned;
+import net.runelite.client.eventbus.EventBus;
+
+/**
+ * Feeds an {@link EventRecording} into a {@link StubClient} and {@link EventBus},
+ * so components registered on the bus see the same state and events they did live.
+ */
+@RequiredArgsConstructor
+public class EventReplayer
+	implements EventRecording.Handler
+{
+
+	@Value
+	public static class Result
+	{
+		int records;
+		long nanos;
+
+		public double recordsPerSecond()
+		{
+			return nanos > 0 ? records * 1e9 / nanos : 0;
+		}
+	}
+
+	private final StubClient client;
+	private final EventBus eventBus;
+
+	// despawns must hand out the same instance as the matching spawn
+	private final Map<String, GameObject> gameObjects = new HashMap<>();
+
+	public Result replay(File recording) throws IOException
+	{
+		InputStream in = new BufferedInputStream(new FileInputStream(recording));
+		if (recording.getName().endsWith(".gz"))
+		{
+			in = new GZIPInputStream(in);
+		}
+
+		return replay(in);
+	}
+
+	public Result replay(InputStream in) throws IOException
+	{
+		try (EventRecording.Reader reader = new EventRecording.Reader(in))
+		{
+			long start = System.nanoTime();
+			int records = reader.readAll(this);
+			return new Result(records, System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public void tick(int tickCount, int worldViewId, int x, int y, int plane)
+	{
+		client.setTickCount(tickCount);
+		client.setWorldViewId(worldViewId);
+		client.setTopLevelLocation(x != -1 ? new WorldPoint(x, y, plane) : null);
+		eventBus.post(new GameTick());
+	}
+
+	@Override
+	public void varbit(int varpId, int varbitId, int value)
+	{
+		if (varbitId != -1)
+		{
+			client.setVarbit(varbitId, value);
+		}
+		else
+		{
+			client.setVarp(varpId, value);
+		}
+
+		VarbitChanged e = new VarbitChanged();
+		e.setVarpId(varpId);
+		e.setVarbitId(varbitId);
+		e.setValue(value);
+		eventBus.post(e);
+	}
+
+	@Override
+	public void objectSpawned(int objectId, int worldViewId, int x, int y, int plane)
+	{
+		GameObject o = gameObjects.computeIfAbsent(
+			objectKey(objectId, worldViewId, x, y, plane),
+			k -> client.gameObject(objectId, worldViewId, new WorldPoint(x, y, plane))
+		);
+
+		GameObjectSpawned e = new GameObjectSpawned();
+		e.setGameObject(o);
+		eventBus.post(e);
+	}
+
+	@Override
+	public void objectDespawned(int objectId, int worldViewId, int x, int y, int plane)
+	{
+		GameObject o = gameObjects.remove(objectKey(objectId, worldViewId, x, y, plane));
+		if (o == null)
+		{
+			// spawned before the recording started
+			o = client.gameObject(objectId, worldViewId, new WorldPoint(x, y, plane));
+		}
+
+		GameObjectDespawned e = new GameObjectDespawned();
+		e.setGameObject(o);
+		eventBus.post(e);
+	}
+
+	@Override
+	public void itemContainer(int containerId, int[] itemIds, int[] quantities)
+	{
+		Item[] items = new Item[itemIds.length];
+		for (int i = 0; i < items.length; i++)
+		{
+			items[i] = new Item(itemIds[i], quantities[i]);
+		}
+
+		ItemContainer container = client.setItemContainer(containerId, items);
+		eventBus.post(new ItemContainerChanged(containerId, container));
+	}
+
+	@Override
+	public void chat(String type, String name, String message, String sender)
+	{
+		eventBus.post(new ChatMessage(null, ChatMessageType.valueOf(type), name, message, sender, 0));
+	}
+
+	@Override
+	public void overheadText(byte actorKind, int npcId, int worldViewId, String text)
+	{
+		Actor actor;
+		switch (actorKind)
+		{
+			case EventRecording.ACTOR_LOCAL_PLAYER:
+				actor = client.getLocalPlayer();
+				break;
+
+			case EventRecording.ACTOR_NPC:
+				actor = client.npc(npcId, worldViewId);
+				break;
+
+			default:
+				actor = StubClient.stub(Actor.class, ImmutableMap.of());
+				break;
+		}
+
+		eventBus.post(new OverheadTextChanged(actor, text));
+	}
+
+	@Override
+	public void widgetText(int componentId, String text)
+	{
+		client.setWidgetText(componentId, text);
+	}
+
+	@Override
+	public void worldEntitySpawned(int worldViewId, int configId)
+	{
+		eventBus.post(new WorldEntitySpawned(client.spawnWorldEntity(worldViewId, configId)));
+	}
+
+	@Override
+	public void worldEntityDespawned(int worldViewId)
+	{
+		WorldEntity we = client.despawnWorldEntity(worldViewId);
+		if (we != null)
+		{
+			eventBus.post(new WorldEntityDespawned(we));
+		}
+	}
+
+	@Override
+	public void interacting(byte targetKind, int npcId, int worldViewId, int x, int y, int plane)
+	{
+		Actor target;
+		switch (targetKind)
+		{
+			case EventRecording.ACTOR_NPC:
+				target = client.npc(npcId, worldViewId, new WorldPoint(x, y, plane));
+				break;
+
+			case EventRecording.ACTOR_LOCAL_PLAYER:
+				target = client.getLocalPlayer();
+				break;
+
+			case EventRecording.ACTOR_NONE:
+				target = null;
+				break;
+
+			default:
+				target = StubClient.stub(Actor.class, ImmutableMap.of());
+				break;
+		}
+
+		eventBus.post(new InteractingChanged(client.getLocalPlayer(), target));
+	}
+
+	private static String objectKey(int objectId, int worldViewId, int x, int y, int plane)
+	{
+		return objectId + ":" + worldViewId + ":" + x + ":" + y + ":" + plane;
+	}
+}
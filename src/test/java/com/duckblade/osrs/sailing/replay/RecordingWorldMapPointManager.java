@@ -0,0 +1,48 @@
+package com.duckblade.osrs.sailing.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import net.runelite.client.ui.overlay.worldmap.WorldMapPoint;
+import net.runelite.client.ui.overlay.worldmap.WorldMapPointManager;
+
+/**
+ * {@link WorldMapPointManager} that also keeps the points it holds readable,
+ * for asserting on the map markers a tracker leaves behind.
+ */
+public class RecordingWorldMapPointManager
+	extends WorldMapPointManager
+{
+
+	private final List<WorldMapPoint> points = new ArrayList<>();
+
+	@Override
+	public void add(WorldMapPoint worldMapPoint)
+	{
+		super.add(worldMapPoint);
+		points.add(worldMapPoint);
+	}
+
+	@Override
+	public void remove(WorldMapPoint worldMapPoint)
+	{
+		super.remove(worldMapPoint);
+		points.remove(worldMapPoint);
+	}
+
+	@Override
+	public void removeIf(Predicate<WorldMapPoint> filter)
+	{
+		super.removeIf(filter);
+		points.removeIf(filter);
+	}
+
+	// "name @ x,y,plane" for each point, in the order added
+	public List<String> describe()
+	{
+		return points.stream()
+			.map(p -> p.getName() + " @ " + p.getWorldPoint().getX() + "," + p.getWorldPoint().getY() + "," + p.getWorldPoint().getPlane())
+			.collect(Collectors.toList());
+	}
+}
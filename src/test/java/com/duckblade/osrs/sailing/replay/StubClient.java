@@ -0,0 +1,318 @@
+package com.duckblade.osrs.sailing.replay;
+
+import com.google.common.collect.ImmutableMap;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.Setter;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.IndexedObjectSet;
+import net.runelite.api.Item;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.NPC;
+import net.runelite.api.Perspective;
+import net.runelite.api.Player;
+import net.runelite.api.WorldEntity;
+import net.runelite.api.WorldEntityConfig;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.widgets.Widget;
+
+/**
+ * Minimal {@link Client} backed by recorded state, answering only what the plugin's trackers read.
+ * Anything else returns zero/false/null.
+ */
+public class StubClient
+{
+
+	private final Map<Integer, Integer> varbits = new HashMap<>();
+	private final Map<Integer, Integer> varps = new HashMap<>();
+	private final Map<Integer, String> widgetText = new HashMap<>();
+	private final Map<Integer, ItemContainer> itemContainers = new HashMap<>();
+	private final Map<Integer, WorldView> worldViews = new HashMap<>();
+	private final Map<Integer, WorldEntity> worldEntities = new HashMap<>();
+	private final Set<Integer> stackableItems = new HashSet<>();
+
+	@Getter
+	private final Client client;
+
+	@Getter
+	private final Player localPlayer;
+
+	@Setter
+	private int tickCount;
+
+	@Setter
+	private int worldViewId = WorldView.TOPLEVEL;
+
+	@Setter
+	private WorldPoint topLevelLocation;
+
+	public StubClient()
+	{
+		localPlayer = stub(Player.class, ImmutableMap.of(
+			"getWorldView", args -> worldView(worldViewId),
+			"getLocalLocation", args -> topLevelLocalPoint(),
+			"getWorldLocation", args -> topLevelLocation,
+			"getName", args -> "Player"
+		));
+
+		client = stub(Client.class, new ImmutableMap.Builder<String, Function<Object[], Object>>()
+			.put("getGameState", args -> GameState.LOGGED_IN)
+			.put("getTickCount", args -> tickCount)
+			.put("getLocalPlayer", args -> localPlayer)
+			.put("getTopLevelWorldView", args -> worldView(WorldView.TOPLEVEL))
+			.put("getWorldView", args -> worldView((Integer) args[0]))
+			.put("getVarbitValue", args -> varbits.getOrDefault((Integer) args[args.length - 1], 0))
+			.put("getVarpValue", args -> varps.getOrDefault((Integer) args[0], 0))
+			.put("getWidget", args -> args.length == 1 ? widget((Integer) args[0]) : null)
+			.put("getItemContainer", args -> args[0] instanceof Integer ? itemContainers.get(args[0]) : null)
+			.put("getItemDefinition", args -> itemDefinition((Integer) args[0]))
+			.put("isClientThread", args -> true)
+			.build());
+	}
+
+	public void setVarbit(int varbitId, int value)
+	{
+		varbits.put(varbitId, value);
+	}
+
+	public void setVarp(int varpId, int value)
+	{
+		varps.put(varpId, value);
+	}
+
+	public void setStackable(int itemId)
+	{
+		stackableItems.add(itemId);
+	}
+
+	public void setWidgetText(int componentId, String text)
+	{
+		if (text == null || text.isEmpty())
+		{
+			widgetText.remove(componentId);
+		}
+		else
+		{
+			widgetText.put(componentId, text);
+		}
+	}
+
+	public ItemContainer setItemContainer(int containerId, Item[] items)
+	{
+		ItemContainer container = stub(ItemContainer.class, ImmutableMap.of(
+			"getId", args -> containerId,
+			"getItems", args -> items,
+			"size", args -> items.length,
+			"count", args -> countOf(items, (Integer) args[0]),
+			"contains", args -> countOf(items, (Integer) args[0]) > 0
+		));
+		itemContainers.put(containerId, container);
+		return container;
+	}
+
+	public WorldEntity spawnWorldEntity(int worldViewId, int configId)
+	{
+		WorldEntityConfig config = stub(WorldEntityConfig.class, ImmutableMap.of(
+			"getId", args -> configId
+		));
+		WorldEntity we = stub(WorldEntity.class, ImmutableMap.of(
+			"getWorldView", args -> worldView(worldViewId),
+			"getConfig", args -> config,
+			"getLocalLocation", args -> topLevelLocalPoint(),
+			"getTargetLocation", args -> topLevelLocalPoint(),
+			"transformToMainWorld", args -> topLevelLocalPoint()
+		));
+		worldEntities.put(worldViewId, we);
+		return we;
+	}
+
+	public WorldEntity despawnWorldEntity(int worldViewId)
+	{
+		return worldEntities.remove(worldViewId);
+	}
+
+	public GameObject gameObject(int objectId, int worldViewId, WorldPoint location)
+	{
+		return stub(GameObject.class, ImmutableMap.of(
+			"getId", args -> objectId,
+			"getWorldView", args -> worldView(worldViewId),
+			"getWorldLocation", args -> location,
+			"getLocalLocation", args -> localPoint(location, worldViewId),
+			"getPlane", args -> location.getPlane()
+		));
+	}
+
+	public NPC npc(int npcId, int worldViewId)
+	{
+		return npc(npcId, worldViewId, null);
+	}
+
+	public NPC npc(int npcId, int worldViewId, WorldPoint location)
+	{
+		return stub(NPC.class, ImmutableMap.of(
+			"getId", args -> npcId,
+			"getWorldView", args -> worldView(worldViewId),
+			"getWorldLocation", args -> location
+		));
+	}
+
+	private ItemComposition itemDefinition(int itemId)
+	{
+		return stub(ItemComposition.class, ImmutableMap.of(
+			"getId", args -> itemId,
+			"isStackable", args -> stackableItems.contains(itemId)
+		));
+	}
+
+	private WorldView worldView(int id)
+	{
+		return worldViews.computeIfAbsent(id, k -> stub(WorldView.class, ImmutableMap.of(
+			"getId", args -> id,
+			"isTopLevel", args -> id == WorldView.TOPLEVEL,
+			"getPlane", args -> topLevelLocation != null ? topLevelLocation.getPlane() : 0,
+			"worldEntities", args -> stub(IndexedObjectSet.class, ImmutableMap.of(
+				"byIndex", a -> worldEntities.get((Integer) a[0])
+			))
+		)));
+	}
+
+	private Widget widget(int componentId)
+	{
+		String text = widgetText.get(componentId);
+		if (text == null)
+		{
+			return null;
+		}
+
+		return stub(Widget.class, ImmutableMap.of(
+			"getId", args -> componentId,
+			"getText", args -> text
+		));
+	}
+
+	private LocalPoint topLevelLocalPoint()
+	{
+		return topLevelLocation != null ? localPoint(topLevelLocation, WorldView.TOPLEVEL) : null;
+	}
+
+	// worldviews are all based at 0,0 so local coordinates map straight back to world coordinates
+	private static LocalPoint localPoint(WorldPoint wp, int worldViewId)
+	{
+		return new LocalPoint(
+			(wp.getX() << Perspective.LOCAL_COORD_BITS) + Perspective.LOCAL_HALF_TILE_SIZE,
+			(wp.getY() << Perspective.LOCAL_COORD_BITS) + Perspective.LOCAL_HALF_TILE_SIZE,
+			worldViewId
+		);
+	}
+
+	private static int countOf(Item[] items, int itemId)
+	{
+		int count = 0;
+		for (Item item : items)
+		{
+			if (item != null && item.getId() == itemId)
+			{
+				count += item.getQuantity();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * An instance of a concrete client service without running its constructor,
+	 * for services whose methods reached by a replay do nothing without a logged in profile or loaded state,
+	 * such as {@code ConfigManager}'s rs profile configuration.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T uninitialized(Class<T> type)
+	{
+		try
+		{
+			Field f = sun.misc.Unsafe.class.getDeclaredField("theUnsafe");
+			f.setAccessible(true);
+			return (T) ((sun.misc.Unsafe) f.get(null)).allocateInstance(type);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException("unable to allocate " + type.getName(), e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers)
+	{
+		return (T) Proxy.newProxyInstance(
+			StubClient.class.getClassLoader(),
+			new Class<?>[]{type},
+			(proxy, method, args) ->
+			{
+				Object[] a = args != null ? args : new Object[0];
+				Function<Object[], Object> answer = answers.get(method.getName());
+				if (answer != null)
+				{
+					return answer.apply(a);
+				}
+
+				switch (method.getName())
+				{
+					case "equals":
+						return proxy == a[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "toString":
+						return "Stub" + type.getSimpleName();
+					default:
+						return defaultValue(method.getReturnType());
+				}
+			}
+		);
+	}
+
+	private static Object defaultValue(Class<?> type)
+	{
+		if (type == boolean.class)
+		{
+			return false;
+		}
+		if (type == int.class)
+		{
+			return 0;
+		}
+		if (type == long.class)
+		{
+			return 0L;
+		}
+		if (type == float.class)
+		{
+			return 0f;
+		}
+		if (type == double.class)
+		{
+			return 0d;
+		}
+		if (type == short.class)
+		{
+			return (short) 0;
+		}
+		if (type == byte.class)
+		{
+			return (byte) 0;
+		}
+		if (type == char.class)
+		{
+			return (char) 0;
+		}
+		return null;
+	}
+}